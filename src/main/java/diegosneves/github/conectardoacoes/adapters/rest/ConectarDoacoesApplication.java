@@ -2,8 +2,10 @@ package diegosneves.github.conectardoacoes.adapters.rest;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class ConectarDoacoesApplication {
 
     public static void main(String[] args) {
@@ -2,7 +2,9 @@ package diegosneves.github.conectardoacoes.adapters.rest.adapter;
 
 import diegosneves.github.conectardoacoes.adapters.rest.exception.ExternalApiFailureException;
 import diegosneves.github.conectardoacoes.adapters.rest.response.AddressApiResponse;
+import diegosneves.github.conectardoacoes.core.utils.LogGuard;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.event.Level;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
@@ -54,7 +56,7 @@ public class RetrieveAddressAdapter extends HttpAdapter {
                     .getForEntity(builder.toUriString(), AddressApiResponse.class);
             return response.getBody();
         } catch (RestClientException e) {
-            log.error(e.getLocalizedMessage(), e);
+            LogGuard.log(log, Level.ERROR, e.getClass().getName(), e.getLocalizedMessage(), e);
             throw new ExternalApiFailureException(ZIPCODE_RETRIEVAL_FAILURE, zipcode, e);
         }
     }
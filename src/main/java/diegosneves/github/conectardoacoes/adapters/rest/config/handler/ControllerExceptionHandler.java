@@ -2,8 +2,12 @@ package diegosneves.github.conectardoacoes.adapters.rest.config.handler;
 
 import diegosneves.github.conectardoacoes.adapters.rest.dto.ExceptionDTO;
 import diegosneves.github.conectardoacoes.adapters.rest.exception.CustomException;
+import diegosneves.github.conectardoacoes.core.utils.LogGuard;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -21,6 +25,13 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 @Slf4j
 public class ControllerExceptionHandler {
 
+    private final ErrorResponseCatalog errorResponseCatalog;
+
+    @Autowired
+    public ControllerExceptionHandler(ErrorResponseCatalog errorResponseCatalog) {
+        this.errorResponseCatalog = errorResponseCatalog;
+    }
+
     /**
      * Manipula exceções gerais e retorna uma resposta de erro apropriada.
      *
@@ -48,7 +59,7 @@ public class ControllerExceptionHandler {
     public ResponseEntity<ExceptionDTO> handleJSONFailures(HttpMessageNotReadableException exception) {
         String message = "Não foi possível processar o conteúdo da solicitação. Por favor, confira se os dados foram inseridos corretamente.";
         ExceptionDTO dto = new ExceptionDTO(message, HttpStatus.BAD_REQUEST.value());
-        log.error(exception.getMessage(), exception);
+        LogGuard.log(log, Level.ERROR, HttpMessageNotReadableException.class.getName(), exception.getMessage(), exception);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(dto);
     }
 
@@ -57,6 +68,9 @@ public class ControllerExceptionHandler {
      * para a {@link CustomException} usada na camada de serviço. Quando uma {@link CustomException} é lançada,
      * este método captura a exceção e a processa criando uma {@link ExceptionDTO}, e um
      * {@link ResponseEntity} com os detalhes de erro da exceção.
+     * <p>
+     * Quando a mensagem do erro não recebe parâmetros, o corpo já serializado pelo {@link ErrorResponseCatalog} é
+     * escrito diretamente na resposta, sem a criação de um novo {@link ExceptionDTO}.
      *
      * @param exception a instância de CustomException que foi lançada e precisa ser tratada. Este
      *                  parâmetro carrega detalhes essenciais sobre o que deu errado
@@ -70,9 +84,11 @@ public class ControllerExceptionHandler {
      *                         informações necessárias para o cliente ou os desenvolvedores identificarem o que deu errado durante a execução.
      */
     @ExceptionHandler(CustomException.class)
-    public ResponseEntity<ExceptionDTO> handleDonationEntityFailures(CustomException exception) {
-        ExceptionDTO dto = new ExceptionDTO(exception.getMessage(), exception.getErrorDetails().getStatusCodeValue());
-        return ResponseEntity.status(exception.getErrorDetails().getHttpStatusCode()).body(dto);
+    public ResponseEntity<?> handleDonationEntityFailures(CustomException exception) {
+        HttpStatus status = exception.getErrorDetails().getHttpStatusCode();
+        return this.errorResponseCatalog.findSerializedBody(exception)
+                .<ResponseEntity<?>>map(body -> ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(body))
+                .orElseGet(() -> ResponseEntity.status(status).body(new ExceptionDTO(exception.getMessage(), status.value())));
     }
 
 }
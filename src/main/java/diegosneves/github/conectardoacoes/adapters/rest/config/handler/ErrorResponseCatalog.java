@@ -0,0 +1,60 @@
+package diegosneves.github.conectardoacoes.adapters.rest.config.handler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import diegosneves.github.conectardoacoes.adapters.rest.dto.ExceptionDTO;
+import diegosneves.github.conectardoacoes.adapters.rest.enums.ExceptionDetails;
+import diegosneves.github.conectardoacoes.adapters.rest.exception.CustomException;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Catálogo dos corpos de resposta de erro já serializados em JSON, usado pelo {@link ControllerExceptionHandler}.
+ * <p>
+ * Para cada {@link ExceptionDetails} cuja mensagem não recebe parâmetros, o {@link ExceptionDTO} correspondente é
+ * serializado uma única vez, na criação do catálogo, com o mesmo {@link ObjectMapper} usado pela aplicação. Os bytes
+ * ficam em um array indexado pelo termo do erro, e podem ser escritos diretamente na resposta, sem criar um novo
+ * {@link ExceptionDTO} nem passar novamente pelo Jackson.
+ *
+ * @author diegoneves
+ * @see ExceptionDetails
+ * @since 1.3.0
+ */
+@Component
+public class ErrorResponseCatalog {
+
+    private final byte[][] bodiesByTerm;
+
+    public ErrorResponseCatalog(ObjectMapper objectMapper) throws JsonProcessingException {
+        int maxTerm = 0;
+        for (ExceptionDetails detail : ExceptionDetails.values()) {
+            maxTerm = Math.max(maxTerm, detail.getTerm());
+        }
+        this.bodiesByTerm = new byte[maxTerm + 1][];
+        for (ExceptionDetails detail : ExceptionDetails.values()) {
+            if (!detail.isParameterized()) {
+                ExceptionDTO dto = new ExceptionDTO(detail.formatErrorMessage(), detail.getStatusCodeValue());
+                this.bodiesByTerm[detail.getTerm()] = objectMapper.writeValueAsBytes(dto);
+            }
+        }
+    }
+
+    /**
+     * Recupera o corpo de resposta já serializado para a exceção informada.
+     * <p>
+     * O corpo só está disponível quando a mensagem do erro não recebe parâmetros, de modo que a mensagem da exceção é
+     * exatamente a mensagem pré-formatada do seu {@link ExceptionDetails}.
+     *
+     * @param exception a exceção a ser respondida.
+     * @return os bytes do corpo da resposta em JSON, ou um {@link Optional} vazio se o corpo precisar ser serializado.
+     */
+    public Optional<byte[]> findSerializedBody(CustomException exception) {
+        ExceptionDetails detail = exception.getErrorDetails();
+        if (detail == null || detail.isParameterized() || !detail.formatErrorMessage().equals(exception.getMessage())) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(this.bodiesByTerm[detail.getTerm()]);
+    }
+
+}
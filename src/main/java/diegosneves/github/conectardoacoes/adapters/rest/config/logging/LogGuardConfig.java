@@ -0,0 +1,54 @@
+package diegosneves.github.conectardoacoes.adapters.rest.config.logging;
+
+import diegosneves.github.conectardoacoes.core.utils.LogGuard;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Classe de configuração do {@link LogGuard}.
+ * <p>
+ * Aplica, uma única vez na inicialização do contexto, a janela de deduplicação e a taxa de amostragem definidas nas
+ * propriedades {@code log-guard.*}. O registro periódico dos resumos de ocorrências suprimidas é feito pelo agendador do
+ * Spring, a cada janela, para que os contadores de um local sejam publicados mesmo que ele não receba novos eventos.
+ *
+ * @author diegoneves
+ * @see LogGuard
+ * @since 1.3.0
+ */
+@Configuration
+public class LogGuardConfig {
+
+    private final Duration window;
+    private final int sampleRate;
+
+    public LogGuardConfig(@Value("${log-guard.window-seconds:60}") long windowSeconds,
+                          @Value("${log-guard.sample-rate:100}") int sampleRate) {
+        this.window = Duration.ofSeconds(windowSeconds);
+        this.sampleRate = sampleRate;
+    }
+
+    @PostConstruct
+    public void configure() {
+        LogGuard.configure(this.window, this.sampleRate);
+    }
+
+    /**
+     * Registra os resumos das janelas já encerradas.
+     */
+    @Scheduled(fixedDelayString = "${log-guard.window-seconds:60}", initialDelayString = "${log-guard.window-seconds:60}", timeUnit = TimeUnit.SECONDS)
+    public void flushSummaries() {
+        LogGuard.flushSummaries();
+    }
+
+    @PreDestroy
+    public void stop() {
+        LogGuard.flushSummaries();
+    }
+
+}
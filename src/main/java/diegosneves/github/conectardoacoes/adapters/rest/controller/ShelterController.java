@@ -1,10 +1,15 @@
 package diegosneves.github.conectardoacoes.adapters.rest.controller;
 
+import diegosneves.github.conectardoacoes.adapters.rest.enums.ExportFormat;
 import diegosneves.github.conectardoacoes.adapters.rest.exception.ShelterEntityFailuresException;
 import diegosneves.github.conectardoacoes.adapters.rest.request.ReceiveDonationRequest;
 import diegosneves.github.conectardoacoes.adapters.rest.request.ShelterCreationRequest;
+import diegosneves.github.conectardoacoes.adapters.rest.response.DonationPageResponse;
+import diegosneves.github.conectardoacoes.adapters.rest.response.DonationTicketResponse;
 import diegosneves.github.conectardoacoes.adapters.rest.response.ShelterCreatedResponse;
 import diegosneves.github.conectardoacoes.adapters.rest.response.ShelterInformationResponse;
+import diegosneves.github.conectardoacoes.adapters.rest.response.ShelterOnboardingResponse;
+import diegosneves.github.conectardoacoes.adapters.rest.response.ShelterPageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -18,7 +23,12 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 
 /**
@@ -38,6 +48,8 @@ import org.springframework.web.server.ResponseStatusException;
  */
 public interface ShelterController {
 
+    String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     /**
      * Método POST para a criação de um Abrigo.
      * <p>
@@ -61,8 +73,10 @@ public interface ShelterController {
      *      <li> {@code responsibleUser}: Um objeto representando o usuário responsável pelo abrigo.</li>
      * </ul>
      *
-     * @param request objeto {@link ShelterCreationRequest} que representa a solicitação de criação de
-     *                um abrigo que é mapeada do corpo da solicitação JSON.
+     * @param request        objeto {@link ShelterCreationRequest} que representa a solicitação de criação de
+     *                       um abrigo que é mapeada do corpo da solicitação JSON.
+     * @param idempotencyKey chave opcional enviada no cabeçalho {@code Idempotency-Key}. Repetições da solicitação com a
+     *                       mesma chave recebem a resposta da primeira execução, sem criar outro abrigo.
      * @return Retorna um {@link ResponseEntity} que encapsula a resposta da criação do abrigo. Esta
      * resposta inclui o status HTTP da operação, bem como um corpo que é uma representação JSON
      * do abrigo criado.
@@ -83,7 +97,39 @@ public interface ShelterController {
                     content = @Content(schema = @Schema(implementation = ShelterCreatedResponse.class))
             )
     })
-    ResponseEntity<ShelterCreatedResponse> createShelter(@RequestBody ShelterCreationRequest request);
+    ResponseEntity<ShelterCreatedResponse> createShelter(@RequestBody ShelterCreationRequest request,
+                                                         @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey);
+
+    /**
+     * Método POST para o cadastro de abrigos em lote.
+     * <p>
+     * Recebe uma lista de solicitações no mesmo formato de {@link #createShelter(ShelterCreationRequest, String)} e cria
+     * todos os abrigos válidos em uma única transação, com uma quantidade fixa de consultas e com as gravações agrupadas
+     * em lotes. Uma solicitação inválida não interrompe as demais: o resultado de cada solicitação é retornado na mesma
+     * ordem em que foram recebidas, com o abrigo criado ou com o motivo da recusa.
+     *
+     * @param requests       lista de objetos {@link ShelterCreationRequest} com as solicitações de criação de abrigo.
+     * @param idempotencyKey chave opcional enviada no cabeçalho {@code Idempotency-Key}. Repetições da solicitação com a
+     *                       mesma chave recebem a resposta da primeira execução, sem criar os abrigos novamente.
+     * @return Retorna um {@link ResponseEntity} com a quantidade de abrigos criados, de solicitações recusadas e o
+     * resultado de cada solicitação.
+     * @throws ShelterEntityFailuresException se a lista de solicitações for vazia ou maior que o limite permitido.
+     */
+    @PostMapping(value = "/create/bulk", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Criar Abrigos em lote",
+            description = "Este endpoint cria vários Abrigos de uma só vez e retorna o resultado de cada solicitação recebida",
+            tags = "Abrigos"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Cadastro em lote processado!",
+                    content = @Content(schema = @Schema(implementation = ShelterOnboardingResponse.class))
+            )
+    })
+    ResponseEntity<ShelterOnboardingResponse> createShelters(@RequestBody List<ShelterCreationRequest> requests,
+                                                             @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey);
 
     /**
      * Método POST para o recebimento de doações.
@@ -106,8 +152,10 @@ public interface ShelterController {
      *      <li> {@code donationDTOS}: Uma lista de objetos representando as doações recebidas.</li>
      * </ul>
      *
-     * @param request objeto {@link ReceiveDonationRequest} que representa a solicitação de recebimento de
-     *                uma doação que é mapeada do corpo da solicitação JSON.
+     * @param request        objeto {@link ReceiveDonationRequest} que representa a solicitação de recebimento de
+     *                       uma doação que é mapeada do corpo da solicitação JSON.
+     * @param idempotencyKey chave opcional enviada no cabeçalho {@code Idempotency-Key}. Repetições da solicitação com a
+     *                       mesma chave recebem a resposta da primeira execução, sem registrar as doações novamente.
      * @return Retorna um {@link ResponseEntity} que encapsula a resposta do recebimento da doação. Esta
      * resposta inclui o status HTTP da operação, bem como um corpo que é uma representação JSON
      * das doações recebidas.
@@ -128,7 +176,68 @@ public interface ShelterController {
                     content = @Content(schema = @Schema(implementation = ShelterInformationResponse.class))
             )
     })
-    ResponseEntity<ShelterInformationResponse> receiveDonation(@RequestBody ReceiveDonationRequest request);
+    ResponseEntity<ShelterInformationResponse> receiveDonation(@RequestBody ReceiveDonationRequest request,
+                                                               @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey);
+
+    /**
+     * Método POST para o recebimento assíncrono de doações.
+     * <p>
+     * Recebe o mesmo corpo de {@link #receiveDonation(ReceiveDonationRequest)}, valida a solicitação e a coloca em uma
+     * fila de recebimento, respondendo imediatamente com o status {@code 202} e um protocolo. As doações de um mesmo
+     * abrigo que estiverem na fila são agrupadas e registradas em lote. A situação do protocolo pode ser consultada em
+     * {@code /shelter/donation/tickets/{ticketId}}, informado também no cabeçalho {@code Location}.
+     * </p>
+     * <p>
+     * Quando a fila do abrigo está cheia, a solicitação é recusada com o status {@code 429} e deve ser reenviada
+     * posteriormente.
+     * </p>
+     *
+     * @param request objeto {@link ReceiveDonationRequest} com o e-mail do responsável e as doações recebidas.
+     * @return Retorna um {@link ResponseEntity} com o protocolo gerado, na situação {@code PENDING}.
+     * @throws ShelterEntityFailuresException se a solicitação for inválida ou se a fila estiver cheia.
+     */
+    @PostMapping(value = "/donation/async", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Registrar doações de forma assíncrona",
+            description = "Este endpoint recebe novas doações, as coloca em uma fila de registro e retorna um protocolo " +
+                    "para a consulta posterior da situação do registro",
+            tags = "Abrigos"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Doações recebidas e aguardando registro!",
+                    content = @Content(schema = @Schema(implementation = DonationTicketResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "429",
+                    description = "A fila de recebimento de doações está cheia."
+            )
+    })
+    ResponseEntity<DonationTicketResponse> receiveDonationAsync(@RequestBody ReceiveDonationRequest request);
+
+    /**
+     * Método GET para consultar a situação de um protocolo de doações recebidas de forma assíncrona.
+     *
+     * @param ticketId o protocolo retornado no recebimento das doações.
+     * @return Retorna um {@link ResponseEntity} com a situação atual do protocolo: {@code PENDING}, {@code COMPLETED}
+     * ou {@code FAILED}, acompanhada do motivo da falha.
+     * @throws ShelterEntityFailuresException se o protocolo não for encontrado.
+     */
+    @GetMapping(value = "/donation/tickets/{ticketId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Consultar protocolo de doações",
+            description = "Este endpoint retorna a situação do registro de doações recebidas de forma assíncrona",
+            tags = "Abrigos"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Protocolo encontrado com sucesso!",
+                    content = @Content(schema = @Schema(implementation = DonationTicketResponse.class))
+            )
+    })
+    ResponseEntity<DonationTicketResponse> findDonationTicket(@PathVariable("ticketId") String ticketId);
 
 
     /**
@@ -147,6 +256,10 @@ public interface ShelterController {
      * </ul>
      * </p>
      *
+     * @param userResponsibleEmail o email do usuário responsável pelo abrigo.
+     * @param includeDonations     indica se as doações devem ser incluídas na resposta. Quando {@code false}, o campo
+     *                             {@code donationDTOS} é omitido e as doações podem ser consultadas de forma paginada
+     *                             em {@code /shelter/{id}/donations}.
      * @return Retorna um {@link ResponseEntity} que encapsula a resposta do abrigo encontrado. Esta
      * resposta inclui o status HTTP da operação, bem como um corpo que é uma representação JSON
      * do abrigo.
@@ -170,7 +283,48 @@ public interface ShelterController {
                     content = @Content(schema = @Schema(implementation = ShelterInformationResponse.class))
             )
     })
-    ResponseEntity<ShelterInformationResponse> findShelterByUserResponsibleEmail(@PathVariable("userResponsibleEmail") String userResponsibleEmail);
+    ResponseEntity<ShelterInformationResponse> findShelterByUserResponsibleEmail(@PathVariable("userResponsibleEmail") String userResponsibleEmail,
+                                                                                 @RequestParam(value = "includeDonations", defaultValue = "true") boolean includeDonations);
+
+    /**
+     * Método GET para listar as doações de um abrigo de forma paginada.
+     * <p>
+     * A paginação é feita por chave (keyset): as doações são ordenadas pelo ID e cada página retorna um cursor opaco
+     * que deve ser enviado no parâmetro {@code cursor} para obter a página seguinte. Dessa forma, o custo de cada página
+     * é constante, independentemente da quantidade de doações do abrigo.
+     * </p>
+     * <p>
+     * O método retornará um objeto JSON com os seguintes campos:
+     * <ul>
+     *      <li> {@code donations}: Uma lista de objetos representando as doações da página.</li>
+     *      <li> {@code nextCursor}: O cursor da próxima página, ou {@code null} se esta for a última.</li>
+     * </ul>
+     * </p>
+     *
+     * @param id     o ID do abrigo.
+     * @param cursor o cursor retornado pela página anterior. Deve ser omitido na primeira página.
+     * @param size   a quantidade de doações por página.
+     * @return Retorna um {@link ResponseEntity} que encapsula a página de doações do abrigo.
+     * @throws ShelterEntityFailuresException se o ID do abrigo for inválido, se o abrigo não existir ou se o cursor
+     *                                        informado for inválido.
+     */
+    @GetMapping(value = "/{id}/donations", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Lista as doações de um abrigo",
+            description = "Este endpoint é responsável por listar as doações de um abrigo de forma paginada, " +
+                    "utilizando um cursor para obter as páginas seguintes por meio de uma requisição GET.",
+            tags = "Abrigos"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Doações encontradas com sucesso!",
+                    content = @Content(schema = @Schema(implementation = DonationPageResponse.class))
+            )
+    })
+    ResponseEntity<DonationPageResponse> findDonations(@PathVariable("id") String id,
+                                                       @RequestParam(value = "cursor", required = false) String cursor,
+                                                       @RequestParam(value = "size", required = false) Integer size);
 
     /**
      * Método GET para encontrar todos os abrigos cadastrados.
@@ -212,4 +366,72 @@ public interface ShelterController {
     })
     ResponseEntity<Page<ShelterInformationResponse>> findAll(Pageable pageable);
 
+    /**
+     * Método GET para percorrer todos os abrigos cadastrados com paginação por cursor.
+     * <p>
+     * Os abrigos são ordenados pelo ID. A primeira página é obtida sem o parâmetro {@code after}, e cada página retorna
+     * em {@code nextCursor} o valor a ser enviado em {@code after} para obter a página seguinte. Não há contagem do total
+     * de abrigos, e o tempo de resposta de cada página não depende da sua profundidade, o que torna este modo adequado
+     * para clientes que percorrem toda a listagem.
+     * </p>
+     * <p>
+     * O método retornará um objeto JSON com os seguintes campos:
+     * <ul>
+     *      <li> {@code shelters}: Uma lista de objetos com os mesmos campos retornados por {@link #findAll(Pageable)}.</li>
+     *      <li> {@code nextCursor}: O cursor da próxima página, ou {@code null} se esta for a última.</li>
+     * </ul>
+     * </p>
+     *
+     * @param after o cursor retornado pela página anterior. Deve ser omitido na primeira página.
+     * @param size  a quantidade de abrigos por página.
+     * @return Retorna um {@link ResponseEntity} que encapsula a página de abrigos.
+     * @throws ShelterEntityFailuresException se o cursor informado for inválido.
+     */
+    @GetMapping(value = "/seek", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Percorre os abrigos cadastrados com paginação por cursor",
+            description = "Este endpoint é responsável por listar os abrigos cadastrados ordenados pelo ID, utilizando " +
+                    "um cursor para obter as páginas seguintes, sem contagem do total de registros, por meio de uma requisição GET.",
+            tags = "Abrigos"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Abrigos encontrados com sucesso!",
+                    content = @Content(schema = @Schema(implementation = ShelterPageResponse.class))
+            )
+    })
+    ResponseEntity<ShelterPageResponse> findAllAfter(@RequestParam(value = "after", required = false) String after,
+                                                     @RequestParam(value = "size", required = false) Integer size);
+
+    /**
+     * Método GET para exportar todos os abrigos e as suas doações.
+     * <p>
+     * A resposta é escrita à medida que os abrigos são lidos do banco de dados, sem carregar todos os abrigos em memória.
+     * O formato é definido pelo parâmetro {@code format}:
+     * <ul>
+     *      <li> {@code NDJSON}: um objeto JSON por linha, com os mesmos campos de {@link ShelterInformationResponse}.</li>
+     *      <li> {@code CSV}: uma linha por doação, com o ID, o nome e o responsável do abrigo, a descrição e a quantidade
+     *      da doação.</li>
+     * </ul>
+     * </p>
+     *
+     * @param format o formato da exportação. Quando omitido, é utilizado {@code NDJSON}.
+     * @return Retorna um {@link ResponseEntity} com o corpo da exportação, escrito de forma contínua como anexo.
+     */
+    @GetMapping(value = "/export")
+    @Operation(
+            summary = "Exporta todos os abrigos e as suas doações",
+            description = "Este endpoint é responsável por exportar todos os abrigos cadastrados, com as suas doações, " +
+                    "nos formatos NDJSON ou CSV, por meio de uma requisição GET.",
+            tags = "Abrigos"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Exportação realizada com sucesso!"
+            )
+    })
+    ResponseEntity<StreamingResponseBody> exportShelters(@RequestParam(value = "format", defaultValue = "NDJSON") ExportFormat format);
+
 }
@@ -2,18 +2,35 @@ package diegosneves.github.conectardoacoes.adapters.rest.controller.imp;
 
 
 import diegosneves.github.conectardoacoes.adapters.rest.controller.ShelterController;
+import diegosneves.github.conectardoacoes.adapters.rest.enums.ExportFormat;
 import diegosneves.github.conectardoacoes.adapters.rest.exception.ShelterEntityFailuresException;
 import diegosneves.github.conectardoacoes.adapters.rest.request.ReceiveDonationRequest;
 import diegosneves.github.conectardoacoes.adapters.rest.request.ShelterCreationRequest;
+import diegosneves.github.conectardoacoes.adapters.rest.response.DonationPageResponse;
+import diegosneves.github.conectardoacoes.adapters.rest.response.DonationTicketResponse;
 import diegosneves.github.conectardoacoes.adapters.rest.response.ShelterCreatedResponse;
 import diegosneves.github.conectardoacoes.adapters.rest.response.ShelterInformationResponse;
+import diegosneves.github.conectardoacoes.adapters.rest.response.ShelterOnboardingResponse;
+import diegosneves.github.conectardoacoes.adapters.rest.response.ShelterPageResponse;
+import diegosneves.github.conectardoacoes.adapters.rest.service.DonationIntakeService;
+import diegosneves.github.conectardoacoes.adapters.rest.service.IdempotencyService;
 import diegosneves.github.conectardoacoes.adapters.rest.service.ShelterEntityService;
+import diegosneves.github.conectardoacoes.adapters.rest.service.ShelterExportService;
+import diegosneves.github.conectardoacoes.adapters.rest.service.ShelterOnboardingService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.util.List;
 
 /**
  * A classe {@link ShelterControllerImpl} implementa a interface {@link ShelterController} e serve como
@@ -34,34 +51,99 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/shelter")
 public class ShelterControllerImpl implements ShelterController {
 
+    public static final String EXPORT_FILE_NAME = "shelters.";
+    public static final String CREATE_SHELTER_OPERATION = "POST /shelter/create";
+    public static final String CREATE_SHELTERS_OPERATION = "POST /shelter/create/bulk";
+    public static final String RECEIVE_DONATION_OPERATION = "POST /shelter/donation";
+    public static final String DONATION_TICKET_PATH = "/shelter/donation/tickets/{ticketId}";
+
     private final ShelterEntityService shelterEntityService;
+    private final ShelterExportService shelterExportService;
+    private final DonationIntakeService donationIntakeService;
+    private final IdempotencyService idempotencyService;
+    private final ShelterOnboardingService shelterOnboardingService;
 
-    public ShelterControllerImpl(ShelterEntityService shelterEntityService) {
+    public ShelterControllerImpl(ShelterEntityService shelterEntityService, ShelterExportService shelterExportService,
+                                 DonationIntakeService donationIntakeService, IdempotencyService idempotencyService,
+                                 ShelterOnboardingService shelterOnboardingService) {
         this.shelterEntityService = shelterEntityService;
+        this.shelterExportService = shelterExportService;
+        this.donationIntakeService = donationIntakeService;
+        this.idempotencyService = idempotencyService;
+        this.shelterOnboardingService = shelterOnboardingService;
+    }
+
+    @Override
+    public ResponseEntity<ShelterCreatedResponse> createShelter(ShelterCreationRequest request, String idempotencyKey) {
+        return this.idempotencyService.execute(idempotencyKey, CREATE_SHELTER_OPERATION, request, ShelterCreatedResponse.class, () -> {
+            ShelterCreatedResponse response = this.shelterEntityService.createShelter(request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        });
+    }
+
+    @Override
+    public ResponseEntity<ShelterOnboardingResponse> createShelters(List<ShelterCreationRequest> requests, String idempotencyKey) {
+        return this.idempotencyService.execute(idempotencyKey, CREATE_SHELTERS_OPERATION, requests, ShelterOnboardingResponse.class, () -> {
+            ShelterOnboardingResponse response = this.shelterOnboardingService.createShelters(requests);
+            return ResponseEntity.status(HttpStatus.OK).body(response);
+        });
+    }
+
+    @Override
+    public ResponseEntity<ShelterInformationResponse> receiveDonation(ReceiveDonationRequest request, String idempotencyKey) {
+        return this.idempotencyService.execute(idempotencyKey, RECEIVE_DONATION_OPERATION, request, ShelterInformationResponse.class, () -> {
+            ShelterInformationResponse response = this.shelterEntityService.receiveDonation(request);
+            return ResponseEntity.status(HttpStatus.OK).body(response);
+        });
     }
 
     @Override
-    public ResponseEntity<ShelterCreatedResponse> createShelter(ShelterCreationRequest request) {
-        ShelterCreatedResponse response = this.shelterEntityService.createShelter(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    public ResponseEntity<DonationTicketResponse> receiveDonationAsync(ReceiveDonationRequest request) {
+        DonationTicketResponse ticket = this.donationIntakeService.enqueue(request);
+        URI ticketLocation = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path(DONATION_TICKET_PATH).buildAndExpand(ticket.getTicketId()).toUri();
+        return ResponseEntity.accepted().location(ticketLocation).body(ticket);
     }
 
     @Override
-    public ResponseEntity<ShelterInformationResponse> receiveDonation(ReceiveDonationRequest request) {
-        ShelterInformationResponse response = this.shelterEntityService.receiveDonation(request);
-        return ResponseEntity.status(HttpStatus.OK).body(response);
+    public ResponseEntity<DonationTicketResponse> findDonationTicket(String ticketId) {
+        DonationTicketResponse ticket = this.donationIntakeService.findTicket(ticketId);
+        return ResponseEntity.ok(ticket);
     }
 
     @Override
-    public ResponseEntity<ShelterInformationResponse> findShelterByUserResponsibleEmail(String userResponsibleEmail) {
+    public ResponseEntity<ShelterInformationResponse> findShelterByUserResponsibleEmail(String userResponsibleEmail, boolean includeDonations) {
         ShelterInformationResponse shelterRecoveryByUserResponsibleEmail =
-                shelterEntityService.findShelterByUserResponsibleEmail(userResponsibleEmail);
+                shelterEntityService.findShelterByUserResponsibleEmail(userResponsibleEmail, includeDonations);
         return ResponseEntity.ok(shelterRecoveryByUserResponsibleEmail);
     }
 
+    @Override
+    public ResponseEntity<DonationPageResponse> findDonations(String id, String cursor, Integer size) {
+        DonationPageResponse donations = this.shelterEntityService.findDonations(id, cursor, size);
+        return ResponseEntity.ok(donations);
+    }
+
     @Override
     public ResponseEntity<Page<ShelterInformationResponse>> findAll(Pageable pageable) {
         Page<ShelterInformationResponse> allPageableShelters = shelterEntityService.findAll(pageable);
         return ResponseEntity.ok(allPageableShelters);
     }
+
+    @Override
+    public ResponseEntity<ShelterPageResponse> findAllAfter(String after, Integer size) {
+        ShelterPageResponse shelters = this.shelterEntityService.findAllAfter(after, size);
+        return ResponseEntity.ok(shelters);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportShelters(ExportFormat format) {
+        StreamingResponseBody body = outputStream -> this.shelterExportService.exportShelters(format, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(EXPORT_FILE_NAME + format.getFileExtension()).build().toString())
+                .body(body);
+    }
+
 }
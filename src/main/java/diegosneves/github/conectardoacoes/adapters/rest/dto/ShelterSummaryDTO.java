@@ -0,0 +1,34 @@
+package diegosneves.github.conectardoacoes.adapters.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Projeção com os dados de um abrigo utilizados nas respostas de leitura, selecionados diretamente do banco de dados.
+ * <p>
+ * Contém apenas o ID e o nome do abrigo, e o nome e o e-mail do usuário responsável. É preenchida por uma expressão de
+ * construtor em uma consulta JPQL, de modo que nenhuma entidade é carregada no contexto de persistência: o endereço e as
+ * doações não são lidos, e não há cópia do estado para a verificação de alterações.
+ * <p>
+ * A ordem dos atributos define a ordem dos argumentos do construtor utilizado pelas consultas.
+ *
+ * @author diegoneves
+ * @see diegosneves.github.conectardoacoes.adapters.rest.repository.ShelterRepository#findShelterSummaryByResponsibleUserEmail(String)
+ * @since 1.3.0
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+public class ShelterSummaryDTO {
+
+    private String id;
+    private String shelterName;
+    private String responsibleName;
+    private String responsibleEmail;
+
+}
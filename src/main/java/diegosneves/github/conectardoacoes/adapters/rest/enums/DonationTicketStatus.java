@@ -0,0 +1,20 @@
+package diegosneves.github.conectardoacoes.adapters.rest.enums;
+
+/**
+ * A enumeração {@link DonationTicketStatus} representa a situação de um protocolo de doação recebido de forma assíncrona.
+ * <ul>
+ *     <li>{@code PENDING}: as doações estão na fila, aguardando o registro.</li>
+ *     <li>{@code COMPLETED}: as doações foram registradas no abrigo.</li>
+ *     <li>{@code FAILED}: não foi possível registrar as doações. O motivo é informado junto ao protocolo.</li>
+ * </ul>
+ *
+ * @author diegoneves
+ * @since 1.3.0
+ */
+public enum DonationTicketStatus {
+
+    PENDING,
+    COMPLETED,
+    FAILED
+
+}
@@ -3,13 +3,13 @@ package diegosneves.github.conectardoacoes.adapters.rest.enums;
 import diegosneves.github.conectardoacoes.adapters.rest.exception.DetailsFailureException;
 import org.springframework.http.HttpStatus;
 
-import java.util.Arrays;
-import java.util.Objects;
-
 /**
  * A classe {@link ExceptionDetails} é uma enumeração que define várias mensagens de exceções.
  * Cada mensagem corresponde a uma condição específica de validação ou erro
  * que pode ocorrer durante as operações.
+ * <p>
+ * O prefixo de cada termo e a mensagem completa dos erros sem parâmetros são montados uma única vez, na carga da
+ * enumeração, e a busca por termo é feita em um array indexado pelo próprio termo.
  *
  * @author diegoneves
  * @since 1.0.0
@@ -40,19 +40,34 @@ public enum ExceptionDetails {
     USER_CREATION_FAILURE_MESSAGE(31, "Ops! A criação do novo usuário não foi bem-sucedida. Por favor, certifique-se de que seus dados estão corretos e tente novamente.", HttpStatus.BAD_REQUEST),
     USER_PROFILE_VALIDATION_FAILURE(33, "A validação do Perfil do usuário fornecido falhou.", HttpStatus.BAD_REQUEST),
     REQUIRED_USER_ERROR_MESSAGE(35, "Um usuário válido é requerido para efetuar a persistência.", HttpStatus.BAD_REQUEST),
-    ZIPCODE_INVALID_FAILURE(37, "Falha ao tentar recuperar o endereço com o CEP fornecido. Por favor, verifique se o CEP está correto e tente novamente", HttpStatus.BAD_REQUEST);
+    ZIPCODE_INVALID_FAILURE(37, "Falha ao tentar recuperar o endereço com o CEP fornecido. Por favor, verifique se o CEP está correto e tente novamente", HttpStatus.BAD_REQUEST),
+    SHELTER_NOT_FOUND(39, "Não foi possível encontrar um abrigo com o ID %s .", HttpStatus.NOT_FOUND),
+    INVALID_PAGINATION_CURSOR(41, "O cursor de paginação informado é inválido. Utilize o cursor retornado pela página anterior.", HttpStatus.BAD_REQUEST),
+    DONATION_INTAKE_QUEUE_FULL(43, "A fila de recebimento de doações está cheia no momento. Por favor, aguarde alguns instantes e tente novamente.", HttpStatus.TOO_MANY_REQUESTS),
+    DONATION_TICKET_NOT_FOUND(45, "Não foi possível encontrar o protocolo de doação %s .", HttpStatus.NOT_FOUND),
+    IDEMPOTENT_REQUEST_IN_PROGRESS(47, "Uma requisição com a chave de idempotência %s ainda está em processamento. Por favor, aguarde alguns instantes e tente novamente.", HttpStatus.CONFLICT),
+    IDEMPOTENCY_KEY_REUSED(49, "A chave de idempotência %s já foi utilizada em uma requisição diferente. Por favor, gere uma nova chave para esta requisição.", HttpStatus.UNPROCESSABLE_ENTITY),
+    SHELTER_ONBOARDING_SIZE_INVALID(51, "O cadastro de abrigos em lote deve conter entre 1 e %s solicitações.", HttpStatus.BAD_REQUEST);
 
 
     public static final String EXCEPTION_PREFIX = "T%03dF - ";
 
+    private static final ExceptionDetails[] BY_TERM = indexByTerm();
+
     private final Integer term;
     private final String message;
     private final HttpStatus httpStatus;
+    private final String prefix;
+    private final String formattedMessage;
+    private final boolean parameterized;
 
     ExceptionDetails(Integer term, String message, HttpStatus httpStatus) {
         this.term = term;
         this.message = message;
         this.httpStatus = httpStatus;
+        this.prefix = String.format(EXCEPTION_PREFIX, term);
+        this.formattedMessage = this.prefix + message;
+        this.parameterized = message.indexOf('%') >= 0;
     }
 
 
@@ -63,7 +78,10 @@ public enum ExceptionDetails {
      * @return A mensagem após a formatação.
      */
     public String formatErrorMessage(String message) {
-        return String.format(EXCEPTION_PREFIX, this.term) + String.format(this.message, message);
+        if (!this.parameterized) {
+            return this.formattedMessage;
+        }
+        return this.prefix + String.format(this.message, message);
     }
 
     /**
@@ -77,7 +95,28 @@ public enum ExceptionDetails {
      * com o EXCEPTION_PREFIX seguido pela mensagem de erro original.
      */
     public String formatErrorMessage() {
-        return String.format(EXCEPTION_PREFIX, this.term) + this.message;
+        return this.formattedMessage;
+    }
+
+    /**
+     * Indica se a mensagem deste erro recebe parâmetros, ou seja, se o texto final depende do valor informado em
+     * {@link #formatErrorMessage(String)}.
+     *
+     * @return {@code true} se a mensagem possuir parâmetros de formatação.
+     * @since 1.3.0
+     */
+    public boolean isParameterized() {
+        return this.parameterized;
+    }
+
+    /**
+     * Retorna o termo que identifica o erro.
+     *
+     * @return O termo do erro.
+     * @since 1.3.0
+     */
+    public Integer getTerm() {
+        return this.term;
     }
 
 
@@ -102,8 +141,8 @@ public enum ExceptionDetails {
     /**
      * Obtem os detalhes da exceção pelo código correspondente.
      *
-     * <p> Este método percorre o enum ExceptionDetails, procura um elemento cujo campo 'term' seja igual
-     * ao código de entrada e retorna esse elemento. Se nenhum elemento for encontrado com o código
+     * <p> Este método consulta o array de detalhes indexado pelo campo 'term' e retorna o elemento cujo termo seja
+     * igual ao código de entrada. Se nenhum elemento for encontrado com o código
      * fornecido, uma nova exceção DetailsFailureException é lançada com código de erro 1.
      *
      * <h2> Exemplo de Uso </h2>
@@ -118,10 +157,28 @@ public enum ExceptionDetails {
      * @throws DetailsFailureException se nenhum detalhe de exceção correspondente for encontrado.
      */
     public static ExceptionDetails getExceptionDetails(Integer code) {
-        return Arrays.stream(ExceptionDetails.values())
-                .filter(detail -> Objects.equals(detail.term, code))
-                .findFirst()
-                .orElseThrow(() -> new DetailsFailureException(1));
+        ExceptionDetails detail = code == null || code < 0 || code >= BY_TERM.length ? null : BY_TERM[code];
+        if (detail == null) {
+            throw new DetailsFailureException(1);
+        }
+        return detail;
+    }
+
+    /**
+     * Monta o array usado por {@link #getExceptionDetails(Integer)}, em que cada elemento ocupa a posição do seu termo.
+     *
+     * @return o array de detalhes indexado pelo termo.
+     */
+    private static ExceptionDetails[] indexByTerm() {
+        int maxTerm = 0;
+        for (ExceptionDetails detail : values()) {
+            maxTerm = Math.max(maxTerm, detail.term);
+        }
+        ExceptionDetails[] byTerm = new ExceptionDetails[maxTerm + 1];
+        for (ExceptionDetails detail : values()) {
+            byTerm[detail.term] = detail;
+        }
+        return byTerm;
     }
 
 }
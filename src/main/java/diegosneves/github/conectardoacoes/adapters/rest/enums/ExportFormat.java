@@ -0,0 +1,32 @@
+package diegosneves.github.conectardoacoes.adapters.rest.enums;
+
+import lombok.Getter;
+
+/**
+ * A enumeração {@link ExportFormat} define os formatos disponíveis para a exportação dos abrigos e de suas doações.
+ * <p>
+ * Cada formato conhece o seu tipo de mídia e a extensão do arquivo gerado:
+ * <ul>
+ *     <li>{@code NDJSON}: um objeto JSON por linha, um por abrigo, com as suas doações.</li>
+ *     <li>{@code CSV}: uma linha por doação, repetindo os dados do abrigo. Abrigos sem doações geram uma única linha
+ *     com os campos da doação vazios.</li>
+ * </ul>
+ *
+ * @author diegoneves
+ * @since 1.3.0
+ */
+@Getter
+public enum ExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String fileExtension;
+
+    ExportFormat(String mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+}
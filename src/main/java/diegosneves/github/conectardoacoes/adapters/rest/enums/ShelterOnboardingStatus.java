@@ -0,0 +1,18 @@
+package diegosneves.github.conectardoacoes.adapters.rest.enums;
+
+/**
+ * A enumeração {@link ShelterOnboardingStatus} representa o resultado de cada solicitação de um cadastro de abrigos em lote.
+ * <ul>
+ *     <li>{@code CREATED}: o abrigo foi criado.</li>
+ *     <li>{@code FAILED}: o abrigo não foi criado. O motivo é informado junto ao resultado.</li>
+ * </ul>
+ *
+ * @author diegoneves
+ * @since 1.3.0
+ */
+public enum ShelterOnboardingStatus {
+
+    CREATED,
+    FAILED
+
+}
@@ -12,6 +12,10 @@ import diegosneves.github.conectardoacoes.adapters.rest.enums.ExceptionDetails;
  *
  * <p>A classe também fornece um método estático para obter detalhes excepcionais com base em termos de exceção {@code Integer}.
  *
+ * <p>As exceções cujo {@link ExceptionDetails} corresponde a um erro do cliente (status 4xx) são falhas esperadas, com ou
+ * sem causa. Quando o modo sem rastreamento de pilha do {@link StackTracePolicy} está habilitado, elas são criadas sem o
+ * rastreamento; as demais sempre o mantêm.
+ *
  * <p> É importante destacar que esta classe é abstrata e deve ser estendida para uso e para casos de exceção personalizados.
  *
  * @author diegoneves
@@ -31,7 +35,7 @@ public abstract class CustomException extends RuntimeException {
      * @param error o objeto {@link ExceptionDetails} que contém as informações detalhadas de erro
      */
     protected CustomException(ExceptionDetails error) {
-        super(error.formatErrorMessage());
+        super(error.formatErrorMessage(), null, true, StackTracePolicy.writableStackTrace(error));
         this.errorDetails = error;
     }
 
@@ -45,7 +49,7 @@ public abstract class CustomException extends RuntimeException {
      * @param error   O objeto {@link ExceptionDetails} que contém as informações detalhadas do erro.
      */
     protected CustomException(ExceptionDetails error, String message) {
-        super(error.formatErrorMessage(message));
+        super(error.formatErrorMessage(message), null, true, StackTracePolicy.writableStackTrace(error));
         this.errorDetails = error;
     }
 
@@ -62,7 +66,7 @@ public abstract class CustomException extends RuntimeException {
      * @param error o objeto {@link ExceptionDetails} que contém as informações mais detalhadas do erro.
      */
     protected CustomException(ExceptionDetails error, Throwable cause) {
-        super(error.formatErrorMessage(), cause);
+        super(error.formatErrorMessage(), cause, true, StackTracePolicy.writableStackTrace(error));
         this.errorDetails = error;
     }
 
@@ -83,7 +87,7 @@ public abstract class CustomException extends RuntimeException {
      * @param error   O objeto {@link ExceptionDetails} que contém as informações mais detalhadas do erro.
      */
     protected CustomException(ExceptionDetails error, String message, Throwable cause) {
-        super(error.formatErrorMessage(message), cause);
+        super(error.formatErrorMessage(message), cause, true, StackTracePolicy.writableStackTrace(error));
         this.errorDetails = error;
     }
 
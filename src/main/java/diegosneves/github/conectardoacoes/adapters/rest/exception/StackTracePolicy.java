@@ -0,0 +1,43 @@
+package diegosneves.github.conectardoacoes.adapters.rest.exception;
+
+import diegosneves.github.conectardoacoes.adapters.rest.enums.ExceptionDetails;
+import diegosneves.github.conectardoacoes.core.exception.ExpectedFailurePolicy;
+
+/**
+ * Define se as {@link CustomException} que representam falhas esperadas devem registrar o rastreamento de pilha.
+ * <p>
+ * Falhas esperadas são as exceções cujo {@link ExceptionDetails} corresponde a um erro do cliente (status 4xx), como
+ * um abrigo inexistente ou um ID inválido, com ou sem causa. Quando o modo sem rastreamento está habilitado, elas são
+ * criadas com {@code writableStackTrace = false}, evitando capturar toda a pilha de filtros do Spring MVC e do Spring
+ * Security. A causa continua registrada em {@link Throwable#getCause()}.
+ * <p>
+ * O modo vem desabilitado por padrão. Ele é lido uma única vez, a partir da propriedade de sistema
+ * {@value #STACKLESS_PROPERTY} (por exemplo, {@code -Dexceptions.stackless-expected-failures=true}), pelo
+ * {@link ExpectedFailurePolicy}, que aplica o mesmo modo às exceções de validação do núcleo da aplicação, e não pode ser
+ * alterado com a aplicação em execução.
+ *
+ * @author diegoneves
+ * @since 1.3.0
+ */
+final class StackTracePolicy {
+
+    public static final String STACKLESS_PROPERTY = ExpectedFailurePolicy.STACKLESS_PROPERTY;
+
+    private StackTracePolicy() {
+    }
+
+    /**
+     * Informa se a exceção criada com os detalhes fornecidos deve registrar o rastreamento de pilha.
+     *
+     * @param error o objeto {@link ExceptionDetails} da exceção.
+     * @return {@code false} apenas para erros do cliente (status 4xx) com o modo sem rastreamento habilitado.
+     */
+    static boolean writableStackTrace(ExceptionDetails error) {
+        return writableStackTrace(error, ExpectedFailurePolicy.isStackless());
+    }
+
+    static boolean writableStackTrace(ExceptionDetails error, boolean stacklessExpectedFailures) {
+        return !(stacklessExpectedFailures && error.getHttpStatusCode().is4xxClientError());
+    }
+
+}
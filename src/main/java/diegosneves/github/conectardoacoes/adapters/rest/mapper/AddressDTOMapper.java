@@ -0,0 +1,23 @@
+package diegosneves.github.conectardoacoes.adapters.rest.mapper;
+
+import diegosneves.github.conectardoacoes.adapters.rest.dto.AddressDTO;
+import diegosneves.github.conectardoacoes.adapters.rest.model.AddressEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+/**
+ * Mapeador de {@link AddressEntity} para {@link AddressDTO}, utilizado nas respostas de criação de abrigos.
+ * <p>
+ * A implementação é gerada em tempo de compilação pelo MapStruct, conforme {@link GeneratedMapperConfig}, e está disponível
+ * em {@link #INSTANCE}.
+ *
+ * @author diegoneves
+ * @see CollectionMapperStrategy
+ * @since 1.3.0
+ */
+@Mapper(config = GeneratedMapperConfig.class)
+public interface AddressDTOMapper extends CollectionMapperStrategy<AddressDTO, AddressEntity> {
+
+    AddressDTOMapper INSTANCE = Mappers.getMapper(AddressDTOMapper.class);
+
+}
@@ -34,7 +34,7 @@ public class AddressEntityMapper implements MapperStrategy<AddressEntity, Addres
      */
     @Override
     public AddressEntity mapFrom(Address source) {
-        ValidationUtils.validateNotNullOrEmpty(source, CLASS_MAPPING_FAILURE, ADDRESS_CLASS.getSimpleName(), AddressEntityFailuresException.class);
+        ValidationUtils.validateNotNullOrEmpty(source, CLASS_MAPPING_FAILURE, ADDRESS_CLASS.getSimpleName(), AddressEntityFailuresException::new);
         return BuilderMapper.mapTo(AddressEntity.class, source);
     }
 
@@ -4,6 +4,7 @@ import diegosneves.github.conectardoacoes.adapters.rest.exception.AddressEntityF
 import diegosneves.github.conectardoacoes.adapters.rest.model.AddressEntity;
 import diegosneves.github.conectardoacoes.core.domain.shelter.entity.value.Address;
 import diegosneves.github.conectardoacoes.core.exception.AddressCreationFailureException;
+import diegosneves.github.conectardoacoes.core.utils.LogGuard;
 import diegosneves.github.conectardoacoes.core.utils.ValidationUtils;
 import lombok.extern.slf4j.Slf4j;
 
@@ -43,12 +44,12 @@ public class AddressMapper implements MapperStrategy<Address, AddressEntity> {
      */
     @Override
     public Address mapFrom(AddressEntity source) {
-        ValidationUtils.validateNotNullOrEmpty(source, CLASS_MAPPING_FAILURE, ADDRESS_ENTITY_TYPE.getSimpleName(), AddressEntityFailuresException.class);
+        ValidationUtils.validateNotNullOrEmpty(source, CLASS_MAPPING_FAILURE, ADDRESS_ENTITY_TYPE.getSimpleName(), AddressEntityFailuresException::new);
         Address address;
         try {
             address = new Address(source.getId(), source.getStreet(), source.getNumber(), source.getNeighborhood(), source.getCity(), source.getState(), source.getZip());
         } catch (AddressCreationFailureException e) {
-            log.error(MAPPING_ERROR_LOG, e.getMessage(), e);
+            LogGuard.error(log, MAPPING_ERROR_LOG, e.getMessage(), e);
             throw new AddressEntityFailuresException(CLASS_MAPPING_FAILURE, ADDRESS_ENTITY_TYPE.getSimpleName(), e);
         }
         return address;
@@ -3,11 +3,21 @@ package diegosneves.github.conectardoacoes.adapters.rest.mapper;
 import diegosneves.github.conectardoacoes.adapters.rest.enums.ExceptionDetails;
 import diegosneves.github.conectardoacoes.adapters.rest.exception.ConstructorDefaultUndefinedException;
 import diegosneves.github.conectardoacoes.adapters.rest.exception.MapperFailureException;
+import diegosneves.github.conectardoacoes.core.utils.LogGuard;
 import diegosneves.github.conectardoacoes.core.utils.ValidationUtils;
 import lombok.extern.slf4j.Slf4j;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A classe {@link BuilderMapper} fornece métodos para mapear os campos de um objeto fonte
@@ -23,11 +33,29 @@ public class BuilderMapper {
     public static final String STRATEGY_CANNOT_BE_NULL = "O objeto MapperStrategy não pode ser nulo";
     public static final Integer CLASS_MAPPING_FAILURE = 4;
 
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /**
+     * Planos de mapeamento já montados, indexados pela classe de destino e, em seguida, pela classe de origem.
+     */
+    private static final ClassValue<Map<Class<?>, MappingPlan>> PLANS = new ClassValue<>() {
+        @Override
+        protected Map<Class<?>, MappingPlan> computeValue(Class<?> destinationClass) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     private BuilderMapper() {
     }
 
     /**
      * Mapeia os campos do objeto de origem para os campos da classe de destino.
+     * <p>
+     * Na primeira chamada para um par (classe de origem, classe de destino), é montado um {@link MappingPlan} com os
+     * {@link MethodHandle} do construtor e dos campos correspondentes entre as duas classes. O plano é mantido em cache,
+     * de modo que as chamadas seguintes apenas copiam os valores, sem novas buscas por reflexão.
      *
      * @param <T>              o tipo da classe de destino
      * @param destinationClass a classe a ser mapeada
@@ -37,71 +65,37 @@ public class BuilderMapper {
      * @throws MapperFailureException               se ocorrer um erro ao mapear os campos
      */
     public static <T> T mapTo(Class<T> destinationClass, Object source) throws ConstructorDefaultUndefinedException, MapperFailureException {
-
-        var destinationFields = destinationClass.getDeclaredFields();
+        Class<?> sourceClass = source == null ? Void.class : source.getClass();
+        Map<Class<?>, MappingPlan> plans = PLANS.get(destinationClass);
+        MappingPlan plan = plans.get(sourceClass);
+        if (plan == null) {
+            plan = plans.computeIfAbsent(sourceClass, key -> MappingPlan.create(destinationClass, key == Void.class ? null : key));
+        }
 
         T mappedInstance;
-
         try {
-            Constructor<?>[] constructors = destinationClass.getConstructors();
-            Constructor<?> defaultConstructor = null;
-            for (Constructor<?> constructor : constructors) {
-                if (constructor.getParameterCount() == 0) {
-                    defaultConstructor = constructor;
-                    break;
-                }
-            }
-            if (defaultConstructor != null) {
-                mappedInstance = (T) defaultConstructor.newInstance();
-            } else if (constructors.length > 0) {
-                Constructor<?> nextConstructor = constructors[0];
-
-                var params = nextConstructor.getParameters();
-                Object[] paramValues = new Object[params.length];
-
-                for (int i = 0; i < params.length; i++) {
-                    Field field = findFieldWithName(source, params[i].getName(), params[i].getType());
-                    if (field == null) {
-                        continue;
-                    }
-                    field.setAccessible(true);
-                    paramValues[i] = field.get(source);
-                }
-                mappedInstance = (T) nextConstructor.newInstance(paramValues);
-
-            } else {
-                log.error(ExceptionDetails.getExceptionDetails(CLASS_MAPPING_FAILURE).formatErrorMessage(destinationClass.getName()));
-                throw new ConstructorDefaultUndefinedException(CLASS_MAPPING_FAILURE, destinationClass.getName());
-            }
-
-        } catch (Exception e) {
-            log.error(ExceptionDetails.getExceptionDetails(CLASS_MAPPING_FAILURE).formatErrorMessage(destinationClass.getName()), e);
+            mappedInstance = destinationClass.cast(plan.instantiate(source));
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            LogGuard.error(log, ExceptionDetails.getExceptionDetails(CLASS_MAPPING_FAILURE).formatErrorMessage(destinationClass.getName()), e);
             throw new MapperFailureException(CLASS_MAPPING_FAILURE, destinationClass.getName(), e);
         }
-
-        for (Field field : destinationFields) {
-            field.setAccessible(true);
-            try {
-                var sourceField = source.getClass().getDeclaredField(field.getName());
-                sourceField.setAccessible(true);
-                field.set(mappedInstance, sourceField.get(source));
-            } catch (Exception ignored) {}
-        }
-
+        plan.copyFields(source, mappedInstance);
         return mappedInstance;
     }
 
     /**
-     * Método utilitário privado para encontrar e retornar um objeto {@link Field} de nome específico de uma instância de objeto fornecida (source).
+     * Método utilitário privado para encontrar e retornar um objeto {@link Field} de nome específico de uma classe de origem fornecida.
      * O objeto {@link Field} retornado é aquele cujo nome corresponde ao parâmetro de nome fornecido e é do tipo atribuível ao parâmetro de tipo fornecido (paramType).
      *
-     * @param source    A instância de objeto cujo campo está sendo procurado.
-     * @param name      O nome do campo que está sendo procurado.
-     * @param paramType O tipo de classe do campo que está sendo procurado.
+     * @param sourceClass A classe de origem cujo campo está sendo procurado.
+     * @param name        O nome do campo que está sendo procurado.
+     * @param paramType   O tipo de classe do campo que está sendo procurado.
      * @return Retorna um objeto Field se um campo correspondente for encontrado. Retorna null se nenhum campo correspondente for encontrado.
      */
-    private static Field findFieldWithName(Object source, String name, Class<?> paramType) {
-        for (Field field : source.getClass().getDeclaredFields()) {
+    private static Field findFieldWithName(Class<?> sourceClass, String name, Class<?> paramType) {
+        for (Field field : sourceClass.getDeclaredFields()) {
             if (field.getName().equalsIgnoreCase(name)) {
                 if (!field.getType().isAssignableFrom(paramType)) {
                     continue;
@@ -112,6 +106,153 @@ public class BuilderMapper {
         return null;
     }
 
+    /**
+     * Retorna o tipo informado, convertido para a sua classe empacotadora quando for um tipo primitivo.
+     */
+    private static Class<?> boxed(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    /**
+     * Retorna um {@link MethodHandle} que lê o campo informado, adaptado para a assinatura {@code (Object)Object}.
+     */
+    private static MethodHandle genericGetter(Field field) throws IllegalAccessException {
+        field.setAccessible(true);
+        return LOOKUP.unreflectGetter(field).asType(GETTER_TYPE);
+    }
+
+    /**
+     * Plano de mapeamento de uma classe de origem para uma classe de destino, montado uma única vez por par de classes.
+     * <p>
+     * Reproduz as regras do mapeamento por reflexão: a instância de destino é criada pelo construtor público sem
+     * parâmetros ou, na falta dele, pelo primeiro construtor público, cujos parâmetros são preenchidos com os campos da
+     * origem de mesmo nome (sem diferenciar maiúsculas de minúsculas) e tipo compatível. Em seguida, cada campo do
+     * destino recebe o valor do campo da origem de mesmo nome. Falhas na cópia de um campo são ignoradas.
+     */
+    private static final class MappingPlan {
+
+        private final String destinationName;
+        private final boolean publicConstructorDefined;
+        private final MethodHandle constructor;
+        private final MethodHandle[] constructorArgumentGetters;
+        private final MethodHandle[] fieldGetters;
+        private final MethodHandle[] fieldSetters;
+
+        private MappingPlan(String destinationName, boolean publicConstructorDefined, MethodHandle constructor,
+                            MethodHandle[] constructorArgumentGetters, MethodHandle[] fieldGetters, MethodHandle[] fieldSetters) {
+            this.destinationName = destinationName;
+            this.publicConstructorDefined = publicConstructorDefined;
+            this.constructor = constructor;
+            this.constructorArgumentGetters = constructorArgumentGetters;
+            this.fieldGetters = fieldGetters;
+            this.fieldSetters = fieldSetters;
+        }
+
+        /**
+         * Monta o plano de mapeamento entre as classes informadas.
+         *
+         * @param destinationClass a classe de destino.
+         * @param sourceClass      a classe de origem, ou {@code null} quando o objeto de origem é nulo.
+         * @return o plano de mapeamento. Se a classe de destino não tiver construtor público, o plano lança
+         * {@link ConstructorDefaultUndefinedException} ao ser executado. Se a origem for nula e o destino exigir
+         * argumentos no construtor, o plano lança {@link IllegalArgumentException}.
+         */
+        static MappingPlan create(Class<?> destinationClass, Class<?> sourceClass) {
+            MethodHandle constructor = null;
+            MethodHandle[] argumentGetters = null;
+            Constructor<?>[] constructors = destinationClass.getConstructors();
+            try {
+                Constructor<?> defaultConstructor = null;
+                for (Constructor<?> candidate : constructors) {
+                    if (candidate.getParameterCount() == 0) {
+                        defaultConstructor = candidate;
+                        break;
+                    }
+                }
+                if (defaultConstructor != null) {
+                    constructor = LOOKUP.unreflectConstructor(defaultConstructor).asType(MethodType.methodType(Object.class));
+                } else if (constructors.length > 0 && sourceClass != null) {
+                    Constructor<?> nextConstructor = constructors[0];
+                    Parameter[] params = nextConstructor.getParameters();
+                    argumentGetters = new MethodHandle[params.length];
+                    for (int i = 0; i < params.length; i++) {
+                        Field field = findFieldWithName(sourceClass, params[i].getName(), params[i].getType());
+                        argumentGetters[i] = field == null ? null : genericGetter(field);
+                    }
+                    constructor = LOOKUP.unreflectConstructor(nextConstructor)
+                            .asSpreader(Object[].class, params.length)
+                            .asType(MethodType.methodType(Object.class, Object[].class));
+                }
+            } catch (IllegalAccessException | RuntimeException e) {
+                LogGuard.error(log, ExceptionDetails.getExceptionDetails(CLASS_MAPPING_FAILURE).formatErrorMessage(destinationClass.getName()), e);
+                throw new MapperFailureException(CLASS_MAPPING_FAILURE, destinationClass.getName(), e);
+            }
+
+            List<MethodHandle> getters = new ArrayList<>();
+            List<MethodHandle> setters = new ArrayList<>();
+            if (sourceClass != null) {
+                for (Field destinationField : destinationClass.getDeclaredFields()) {
+                    addFieldCopy(destinationField, sourceClass, getters, setters);
+                }
+            }
+            return new MappingPlan(destinationClass.getName(), constructors.length > 0, constructor, argumentGetters,
+                    getters.toArray(new MethodHandle[0]), setters.toArray(new MethodHandle[0]));
+        }
+
+        /**
+         * Inclui no plano a cópia do campo de destino informado, caso a origem possua um campo de mesmo nome cujo valor
+         * possa ser atribuído a ele. Campos estáticos e finais não são copiados.
+         */
+        private static void addFieldCopy(Field destinationField, Class<?> sourceClass, List<MethodHandle> getters, List<MethodHandle> setters) {
+            int modifiers = destinationField.getModifiers();
+            if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers)) {
+                return;
+            }
+            try {
+                Field sourceField = sourceClass.getDeclaredField(destinationField.getName());
+                if (Modifier.isStatic(sourceField.getModifiers()) || !boxed(destinationField.getType()).isAssignableFrom(boxed(sourceField.getType()))) {
+                    return;
+                }
+                destinationField.setAccessible(true);
+                getters.add(genericGetter(sourceField));
+                setters.add(LOOKUP.unreflectSetter(destinationField).asType(SETTER_TYPE));
+            } catch (NoSuchFieldException | IllegalAccessException | RuntimeException ignored) {
+                // O campo não existe na origem ou não pode ser acessado, portanto não faz parte do plano.
+            }
+        }
+
+        Object instantiate(Object source) throws Throwable {
+            if (this.constructor == null) {
+                if (this.publicConstructorDefined) {
+                    throw new IllegalArgumentException(SOURCE_OBJECT_NULL_ERROR_MESSAGE);
+                }
+                throw new ConstructorDefaultUndefinedException(CLASS_MAPPING_FAILURE, this.destinationName);
+            }
+            if (this.constructorArgumentGetters == null) {
+                return (Object) this.constructor.invokeExact();
+            }
+            Object[] paramValues = new Object[this.constructorArgumentGetters.length];
+            for (int i = 0; i < paramValues.length; i++) {
+                MethodHandle getter = this.constructorArgumentGetters[i];
+                if (getter != null) {
+                    paramValues[i] = (Object) getter.invokeExact(source);
+                }
+            }
+            return (Object) this.constructor.invokeExact(paramValues);
+        }
+
+        void copyFields(Object source, Object destination) {
+            for (int i = 0; i < this.fieldGetters.length; i++) {
+                try {
+                    this.fieldSetters[i].invokeExact(destination, (Object) this.fieldGetters[i].invokeExact(source));
+                } catch (Throwable ignored) {
+                    // Mantém o comportamento do mapeamento por reflexão: valores que não podem ser atribuídos são ignorados.
+                }
+            }
+        }
+
+    }
+
     /**
      * Esta é uma função auxiliar genérica para converter (mapear) um objeto de origem em um destino desejado,
      * usando uma estratégia de mapeamento fornecida. Ele fornece utilidade na redução de código duplicado ao
@@ -135,8 +276,8 @@ public class BuilderMapper {
      * @see ValidationUtils
      */
     public static <T, E> T mapTo(MapperStrategy<T, E> strategy, E source) {
-        ValidationUtils.validateNotNullOrEmpty(strategy, STRATEGY_CANNOT_BE_NULL, IllegalArgumentException.class);
-        ValidationUtils.validateNotNullOrEmpty(source, SOURCE_OBJECT_NULL_ERROR_MESSAGE, IllegalArgumentException.class);
+        ValidationUtils.validateNotNullOrEmpty(strategy, STRATEGY_CANNOT_BE_NULL, IllegalArgumentException::new);
+        ValidationUtils.validateNotNullOrEmpty(source, SOURCE_OBJECT_NULL_ERROR_MESSAGE, IllegalArgumentException::new);
         return strategy.mapFrom(source);
     }
 
@@ -0,0 +1,27 @@
+package diegosneves.github.conectardoacoes.adapters.rest.mapper;
+
+import java.util.List;
+
+/**
+ * Extensão de {@link MapperStrategy} para os mapeadores gerados em tempo de compilação, que também convertem listas.
+ * <p>
+ * A implementação gerada para {@link #mapFromList(List)} cria a lista de destino já dimensionada com a quantidade de
+ * elementos da origem e converte cada elemento com {@link #mapFrom(Object)}.
+ *
+ * @param <T> o tipo da classe de destino
+ * @param <E> o tipo do objeto de origem
+ * @author diegoneves
+ * @see GeneratedMapperConfig
+ * @since 1.3.0
+ */
+public interface CollectionMapperStrategy<T, E> extends MapperStrategy<T, E> {
+
+    /**
+     * Converte cada elemento da lista de origem para a classe de destino, preservando a ordem.
+     *
+     * @param sources a lista de objetos de origem
+     * @return uma nova lista com os objetos convertidos, ou {@code null} se a lista de origem for nula
+     */
+    List<T> mapFromList(List<E> sources);
+
+}
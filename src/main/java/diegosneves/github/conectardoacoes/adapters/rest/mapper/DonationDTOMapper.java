@@ -0,0 +1,23 @@
+package diegosneves.github.conectardoacoes.adapters.rest.mapper;
+
+import diegosneves.github.conectardoacoes.adapters.rest.dto.DonationDTO;
+import diegosneves.github.conectardoacoes.adapters.rest.model.DonationEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+/**
+ * Mapeador de {@link DonationEntity} para {@link DonationDTO}, utilizado para expor as doações de um abrigo.
+ * <p>
+ * A implementação é gerada em tempo de compilação pelo MapStruct, conforme {@link GeneratedMapperConfig}, e está disponível
+ * em {@link #INSTANCE}.
+ *
+ * @author diegoneves
+ * @see CollectionMapperStrategy
+ * @since 1.3.0
+ */
+@Mapper(config = GeneratedMapperConfig.class)
+public interface DonationDTOMapper extends CollectionMapperStrategy<DonationDTO, DonationEntity> {
+
+    DonationDTOMapper INSTANCE = Mappers.getMapper(DonationDTOMapper.class);
+
+}
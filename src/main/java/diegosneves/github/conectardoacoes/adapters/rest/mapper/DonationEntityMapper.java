@@ -36,7 +36,7 @@ public class DonationEntityMapper implements MapperStrategy<DonationEntity, Dona
                 source,
                 CLASS_MAPPING_FAILURE,
                 DONATION_CLASS.getSimpleName(),
-                ShelterEntityFailuresException.class);
+                ShelterEntityFailuresException::new);
         return BuilderMapper.mapTo(DonationEntity.class, source);
     }
 }
@@ -4,6 +4,7 @@ import diegosneves.github.conectardoacoes.adapters.rest.exception.ShelterEntityF
 import diegosneves.github.conectardoacoes.adapters.rest.model.DonationEntity;
 import diegosneves.github.conectardoacoes.core.domain.shelter.entity.value.Donation;
 import diegosneves.github.conectardoacoes.core.exception.DonationRegisterFailureException;
+import diegosneves.github.conectardoacoes.core.utils.LogGuard;
 import diegosneves.github.conectardoacoes.core.utils.ValidationUtils;
 import lombok.extern.slf4j.Slf4j;
 
@@ -53,13 +54,13 @@ public class DonationMapper implements MapperStrategy<Donation, DonationEntity>
                 source,
                 CLASS_MAPPING_FAILURE,
                 DonationEntity.class.getSimpleName(),
-                ShelterEntityFailuresException.class);
+                ShelterEntityFailuresException::new);
 
         Donation donation;
         try {
             donation = new Donation(source.getId(), source.getDescription(), source.getAmount());
         } catch (DonationRegisterFailureException e) {
-            log.error(MAPPING_ERROR_LOG, e.getMessage(), e);
+            LogGuard.error(log, MAPPING_ERROR_LOG, e.getMessage(), e);
             throw new ShelterEntityFailuresException(CLASS_MAPPING_FAILURE, DonationEntity.class.getSimpleName(), e);
         }
         return donation;
@@ -0,0 +1,24 @@
+package diegosneves.github.conectardoacoes.adapters.rest.mapper;
+
+import org.mapstruct.Builder;
+import org.mapstruct.MapperConfig;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Configuração compartilhada pelos mapeadores gerados em tempo de compilação pelo processador de anotações do MapStruct.
+ * <p>
+ * As implementações são geradas a partir das interfaces anotadas com {@link org.mapstruct.Mapper} que referenciam esta
+ * configuração. O código gerado realiza chamadas diretas aos getters da origem e aos setters do destino, sem reflexão em
+ * tempo de execução.
+ * <p>
+ * Propriedades do destino sem correspondente na origem interrompem a compilação ({@link ReportingPolicy#ERROR}), de modo
+ * que uma alteração em uma entidade ou DTO não resulte silenciosamente em campos nulos. O uso dos builders do Lombok é
+ * desabilitado para que as instâncias sejam preenchidas pelos setters.
+ *
+ * @author diegoneves
+ * @see CollectionMapperStrategy
+ * @since 1.3.0
+ */
+@MapperConfig(unmappedTargetPolicy = ReportingPolicy.ERROR, builder = @Builder(disableBuilder = true))
+public interface GeneratedMapperConfig {
+}
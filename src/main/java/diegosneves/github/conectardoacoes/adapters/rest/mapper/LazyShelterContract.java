@@ -0,0 +1,157 @@
+package diegosneves.github.conectardoacoes.adapters.rest.mapper;
+
+import diegosneves.github.conectardoacoes.adapters.rest.exception.ShelterEntityFailuresException;
+import diegosneves.github.conectardoacoes.adapters.rest.model.DonationEntity;
+import diegosneves.github.conectardoacoes.adapters.rest.model.ShelterEntity;
+import diegosneves.github.conectardoacoes.core.domain.shelter.entity.Shelter;
+import diegosneves.github.conectardoacoes.core.domain.shelter.entity.ShelterContract;
+import diegosneves.github.conectardoacoes.core.domain.shelter.entity.value.Address;
+import diegosneves.github.conectardoacoes.core.domain.shelter.entity.value.Donation;
+import diegosneves.github.conectardoacoes.core.domain.user.entity.UserContract;
+import diegosneves.github.conectardoacoes.core.exception.ShelterCreationFailureException;
+import diegosneves.github.conectardoacoes.core.utils.LogGuard;
+import diegosneves.github.conectardoacoes.core.utils.ValidationUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static diegosneves.github.conectardoacoes.adapters.rest.mapper.MapperStrategy.CLASS_MAPPING_FAILURE;
+
+/**
+ * Implementação de {@link ShelterContract} que encapsula uma {@link ShelterEntity} gerenciada, utilizada nos caminhos
+ * de leitura.
+ * <p>
+ * O ID e o nome do abrigo são lidos diretamente da entidade. O endereço, o usuário responsável e as doações só são
+ * convertidos para os objetos de domínio no primeiro acesso, e o resultado é mantido para os acessos seguintes. Dessa
+ * forma, operações que precisam apenas do ID do abrigo não pagam pela conversão do grafo completo.
+ * <p>
+ * As alterações feitas pelos métodos do contrato são aplicadas somente a esta visão, e não à entidade encapsulada; elas
+ * são gravadas apenas quando o abrigo é persistido, assim como ocorre com um {@link Shelter}. Como as doações da
+ * entidade são carregadas sob demanda pelo JPA, o primeiro acesso a {@link #getDonations()} deve ocorrer enquanto o
+ * contexto de persistência que carregou a entidade estiver aberto.
+ *
+ * @author diegoneves
+ * @see ShelterMapper#mapLazily(ShelterEntity)
+ * @since 1.3.0
+ */
+@Slf4j
+public final class LazyShelterContract implements ShelterContract {
+
+    public static final String MAPPING_ERROR_LOG = "Ocorreu um erro durante a conversão tardia do objeto ShelterEntity para ShelterContract. Detalhes do erro: {}";
+
+    private final ShelterEntity source;
+    private String shelterName;
+    private Address address;
+    private UserContract responsibleUser;
+    private List<Donation> donations;
+
+    /**
+     * Cria a visão sobre a entidade informada, sem converter nenhuma de suas associações.
+     *
+     * @param source A entidade do abrigo a ser encapsulada. Não deve ser nula.
+     * @throws ShelterEntityFailuresException Se a entidade for nula.
+     */
+    public LazyShelterContract(ShelterEntity source) {
+        ValidationUtils.validateNotNullOrEmpty(source, CLASS_MAPPING_FAILURE, ShelterEntity.class.getSimpleName(), ShelterEntityFailuresException::new);
+        this.source = source;
+        this.shelterName = source.getShelterName();
+    }
+
+    @Override
+    public String getId() {
+        return this.source.getId();
+    }
+
+    @Override
+    public String getShelterName() {
+        return this.shelterName;
+    }
+
+    /**
+     * Retorna o endereço do abrigo, convertendo-o por meio do {@link AddressMapper} no primeiro acesso.
+     *
+     * @return o endereço do abrigo.
+     * @throws ShelterEntityFailuresException Se o endereço da entidade não puder ser convertido.
+     */
+    @Override
+    public Address getAddress() {
+        if (this.address == null) {
+            this.address = this.materialize(() -> MapperRegistry.get(AddressMapper.class).mapFrom(this.source.getAddress()), ShelterEntity.class);
+        }
+        return this.address;
+    }
+
+    /**
+     * Retorna o usuário responsável pelo abrigo, convertendo-o por meio do {@link UserMapper} no primeiro acesso.
+     *
+     * @return o usuário responsável pelo abrigo.
+     * @throws ShelterEntityFailuresException Se o usuário da entidade não puder ser convertido.
+     */
+    @Override
+    public UserContract getUser() {
+        if (this.responsibleUser == null) {
+            this.responsibleUser = this.materialize(() -> MapperRegistry.get(UserMapper.class).mapFrom(this.source.getResponsibleUser()), ShelterEntity.class);
+        }
+        return this.responsibleUser;
+    }
+
+    /**
+     * Retorna as doações do abrigo, convertendo as doações da entidade no primeiro acesso.
+     *
+     * @return a lista de doações do abrigo. Se não houver doações, retorna uma lista vazia.
+     * @throws ShelterEntityFailuresException Se alguma das doações da entidade não puder ser convertida.
+     */
+    @Override
+    public List<Donation> getDonations() {
+        if (this.donations == null) {
+            this.donations = this.materialize(this::mapDonations, Donation.class);
+        }
+        return this.donations;
+    }
+
+    @Override
+    public void changeShelterName(String shelterName) throws ShelterCreationFailureException {
+        ValidationUtils.validateNotNullOrEmpty(shelterName, Shelter.SHELTER_NAME_REQUIRED_ERROR, ShelterCreationFailureException::new);
+        this.shelterName = shelterName;
+    }
+
+    @Override
+    public void changeAddress(Address address) throws ShelterCreationFailureException {
+        ValidationUtils.validateNotNullOrEmpty(address, Shelter.ADDRESS_REQUIRED_ERROR, ShelterCreationFailureException::new);
+        this.address = address;
+    }
+
+    @Override
+    public void addDonation(Donation donation) throws ShelterCreationFailureException {
+        ValidationUtils.validateNotNullOrEmpty(donation, Shelter.DONATION_REQUIRED_ERROR, ShelterCreationFailureException::new);
+        this.getDonations().add(donation);
+    }
+
+    private List<Donation> mapDonations() {
+        List<DonationEntity> entities = ValidationUtils.ensureListIsNotNull(this.source.getDonations());
+        List<Donation> mapped = new ArrayList<>(entities.size());
+        for (DonationEntity donationEntity : entities) {
+            mapped.add(new Donation(donationEntity.getId(), donationEntity.getDescription(), donationEntity.getAmount()));
+        }
+        return mapped;
+    }
+
+    /**
+     * Executa a conversão de uma associação, traduzindo as falhas para {@link ShelterEntityFailuresException}, da mesma
+     * forma que o {@link ShelterMapper}.
+     *
+     * @param conversion  A conversão a ser executada.
+     * @param mappedClass A classe informada na mensagem de erro.
+     */
+    private <T> T materialize(Supplier<T> conversion, Class<?> mappedClass) {
+        try {
+            return conversion.get();
+        } catch (RuntimeException e) {
+            LogGuard.error(log, MAPPING_ERROR_LOG, e.getMessage(), e);
+            throw new ShelterEntityFailuresException(CLASS_MAPPING_FAILURE, mappedClass.getSimpleName(), e);
+        }
+    }
+
+}
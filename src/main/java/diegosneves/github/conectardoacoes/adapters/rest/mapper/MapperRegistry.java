@@ -0,0 +1,60 @@
+package diegosneves.github.conectardoacoes.adapters.rest.mapper;
+
+import java.util.Map;
+
+/**
+ * Registro das instâncias compartilhadas das implementações de {@link MapperStrategy}.
+ * <p>
+ * Os mapeadores não possuem estado, então uma única instância de cada um pode ser reutilizada por todos os repositórios,
+ * serviços e pelos próprios mapeadores que delegam o mapeamento de objetos aninhados. As instâncias são criadas uma única
+ * vez, na inicialização da classe, e consultadas pelo tipo do mapeador:
+ * <pre>
+ *     {@code
+ *     ShelterMapper mapper = MapperRegistry.get(ShelterMapper.class);
+ *     List<ShelterContract> shelters = mapper.mapFromAll(entities);
+ * }
+ * </pre>
+ *
+ * @author diegoneves
+ * @see MapperStrategy
+ * @since 1.3.0
+ */
+public final class MapperRegistry {
+
+    public static final String MAPPER_NOT_REGISTERED_ERROR = "Nenhuma instância registrada para o mapeador %s.";
+
+    private static final Map<Class<?>, MapperStrategy<?, ?>> MAPPERS = Map.ofEntries(
+            Map.entry(AddressMapper.class, new AddressMapper()),
+            Map.entry(AddressEntityMapper.class, new AddressEntityMapper()),
+            Map.entry(DonationMapper.class, new DonationMapper()),
+            Map.entry(DonationEntityMapper.class, new DonationEntityMapper()),
+            Map.entry(UserMapper.class, new UserMapper()),
+            Map.entry(UserEntityMapper.class, new UserEntityMapper()),
+            Map.entry(ShelterMapper.class, new ShelterMapper()),
+            Map.entry(ShelterEntityMapper.class, new ShelterEntityMapper()),
+            Map.entry(ShelterInformationResponseFromShelterEntityMapper.class, new ShelterInformationResponseFromShelterEntityMapper()),
+            Map.entry(AddressDTOMapper.class, AddressDTOMapper.INSTANCE),
+            Map.entry(DonationDTOMapper.class, DonationDTOMapper.INSTANCE),
+            Map.entry(UserEntityDTOMapper.class, UserEntityDTOMapper.INSTANCE),
+            Map.entry(UserEntityCreatedResponseMapper.class, UserEntityCreatedResponseMapper.INSTANCE));
+
+    private MapperRegistry() {
+    }
+
+    /**
+     * Retorna a instância compartilhada do mapeador do tipo informado.
+     *
+     * @param mapperType o tipo do mapeador
+     * @param <M>        o tipo do mapeador
+     * @return a instância compartilhada do mapeador
+     * @throws IllegalArgumentException se não houver instância registrada para o tipo informado
+     */
+    public static <M extends MapperStrategy<?, ?>> M get(Class<M> mapperType) {
+        MapperStrategy<?, ?> mapper = MAPPERS.get(mapperType);
+        if (mapper == null) {
+            throw new IllegalArgumentException(String.format(MAPPER_NOT_REGISTERED_ERROR, mapperType.getName()));
+        }
+        return mapperType.cast(mapper);
+    }
+
+}
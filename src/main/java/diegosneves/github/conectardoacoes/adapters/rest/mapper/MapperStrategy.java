@@ -1,5 +1,9 @@
 package diegosneves.github.conectardoacoes.adapters.rest.mapper;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * A interface {@link MapperStrategy} define uma estratégia para executar operações de mapeamento de objetos.
  *
@@ -21,4 +25,26 @@ public interface MapperStrategy<T, E> {
      */
     T mapFrom(E source);
 
+    /**
+     * Executa o mapeamento de cada objeto da coleção de origem, preservando a ordem de iteração.
+     * <p>
+     * A coleção é verificada uma única vez: se for nula ou vazia, uma lista vazia é retornada. Caso contrário, a lista de
+     * destino é criada já dimensionada com a quantidade de elementos e preenchida em um laço simples, sem a criação de
+     * streams ou referências de método por chamada. Cada elemento continua sujeito às validações de {@link #mapFrom(Object)}.
+     *
+     * @param sources a coleção de objetos de origem
+     * @return uma nova lista com os objetos de destino, ou uma lista vazia se a coleção de origem for nula ou vazia
+     * @since 1.3.0
+     */
+    default List<T> mapFromAll(Collection<E> sources) {
+        if (sources == null || sources.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<T> mapped = new ArrayList<>(sources.size());
+        for (E source : sources) {
+            mapped.add(this.mapFrom(source));
+        }
+        return mapped;
+    }
+
 }
@@ -10,10 +10,10 @@ import diegosneves.github.conectardoacoes.core.domain.shelter.entity.ShelterCont
 import diegosneves.github.conectardoacoes.core.domain.shelter.entity.value.Address;
 import diegosneves.github.conectardoacoes.core.domain.shelter.entity.value.Donation;
 import diegosneves.github.conectardoacoes.core.domain.user.entity.UserContract;
+import diegosneves.github.conectardoacoes.core.utils.LogGuard;
 import diegosneves.github.conectardoacoes.core.utils.ValidationUtils;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -49,19 +49,19 @@ public class ShelterEntityMapper implements MapperStrategy<ShelterEntity, Shelte
      */
     @Override
     public ShelterEntity mapFrom(ShelterContract source) {
-        ValidationUtils.validateNotNullOrEmpty(source, CLASS_MAPPING_FAILURE, SHELTER_CLASS.getSimpleName(), ShelterEntityFailuresException.class);
+        ValidationUtils.validateNotNullOrEmpty(source, CLASS_MAPPING_FAILURE, SHELTER_CLASS.getSimpleName(), ShelterEntityFailuresException::new);
         ShelterEntity shelterEntity;
 
         try {
             shelterEntity = ShelterEntity.builder()
                     .id(source.getId())
                     .shelterName(source.getShelterName())
-                    .address(new AddressEntityMapper().mapFrom(source.getAddress()))
-                    .responsibleUser(new UserEntityMapper().mapFrom(source.getUser()))
+                    .address(MapperRegistry.get(AddressEntityMapper.class).mapFrom(source.getAddress()))
+                    .responsibleUser(MapperRegistry.get(UserEntityMapper.class).mapFrom(source.getUser()))
                     .donations(getDonationEntities(source.getDonations()))
                     .build();
         } catch (RuntimeException e) {
-            log.error(MAPPING_ERROR_LOG, e.getMessage(), e);
+            LogGuard.error(log, MAPPING_ERROR_LOG, e.getMessage(), e);
             throw new ShelterEntityFailuresException(CLASS_MAPPING_FAILURE, SHELTER_CLASS.getSimpleName(), e);
         }
         return shelterEntity;
@@ -78,10 +78,7 @@ public class ShelterEntityMapper implements MapperStrategy<ShelterEntity, Shelte
      * @return uma lista de objetos {@link DonationEntity} resultante da conversão. Se a lista fornecida for nula ou vazia, retorna uma nova lista vazia.
      */
     private static List<DonationEntity> getDonationEntities(List<Donation> list) {
-        if (list == null || list.isEmpty()) {
-            return new ArrayList<>();
-        }
-        return list.stream().map(new DonationEntityMapper()::mapFrom).toList();
+        return MapperRegistry.get(DonationEntityMapper.class).mapFromAll(list);
     }
 
 }
@@ -47,8 +47,8 @@ public class ShelterInformationResponseFromShelterEntityMapper implements Mapper
      * </p>
      *
      * <p>
-     * A operação de mapeamento é facilitada com a ajuda da classe {@link BuilderMapper}.
-     * A classe {@link BuilderMapper} executa a operação de mapeamento de um objeto-fonte para um objeto-alvo de um tipo-fonte para um tipo-alvo.
+     * A operação de mapeamento é realizada pelo mapeador gerado {@link DonationDTOMapper}, que cria a lista de destino
+     * já dimensionada com a quantidade de doações.
      * </p>
      *
      * <p>
@@ -62,7 +62,7 @@ public class ShelterInformationResponseFromShelterEntityMapper implements Mapper
         if (donations == null || donations.isEmpty()) {
             return new ArrayList<>();
         }
-        return donations.stream().map(d -> BuilderMapper.mapTo(DonationDTO.class, d)).toList();
+        return DonationDTOMapper.INSTANCE.mapFromList(donations);
     }
 
 }
@@ -10,6 +10,7 @@ import diegosneves.github.conectardoacoes.core.domain.shelter.entity.value.Addre
 import diegosneves.github.conectardoacoes.core.domain.shelter.entity.value.Donation;
 import diegosneves.github.conectardoacoes.core.domain.user.entity.User;
 import diegosneves.github.conectardoacoes.core.exception.DonationRegisterFailureException;
+import diegosneves.github.conectardoacoes.core.utils.LogGuard;
 import diegosneves.github.conectardoacoes.core.utils.ValidationUtils;
 import lombok.extern.slf4j.Slf4j;
 
@@ -56,17 +57,17 @@ public class ShelterMapper implements MapperStrategy<ShelterContract, ShelterEnt
      */
     @Override
     public ShelterContract mapFrom(ShelterEntity source) {
-        ValidationUtils.validateNotNullOrEmpty(source, CLASS_MAPPING_FAILURE, SHELTER_ENTITY_CLASS.getSimpleName(), ShelterEntityFailuresException.class);
+        ValidationUtils.validateNotNullOrEmpty(source, CLASS_MAPPING_FAILURE, SHELTER_ENTITY_CLASS.getSimpleName(), ShelterEntityFailuresException::new);
 
         Shelter constructedShelter;
         try {
             constructedShelter = new Shelter(
                     source.getId(),
                     source.getShelterName(),
-                    new AddressMapper().mapFrom(source.getAddress()),
-                    new UserMapper().mapFrom(source.getResponsibleUser()));
+                    MapperRegistry.get(AddressMapper.class).mapFrom(source.getAddress()),
+                    MapperRegistry.get(UserMapper.class).mapFrom(source.getResponsibleUser()));
         } catch (RuntimeException e) {
-            log.error(MAPPING_ERROR_LOG, e.getMessage(), e);
+            LogGuard.error(log, MAPPING_ERROR_LOG, e.getMessage(), e);
             throw new ShelterEntityFailuresException(CLASS_MAPPING_FAILURE, SHELTER_ENTITY_CLASS.getSimpleName(), e);
         }
         this.mappedDonationsToShelter(source, constructedShelter);
@@ -74,6 +75,23 @@ public class ShelterMapper implements MapperStrategy<ShelterContract, ShelterEnt
     }
 
 
+    /**
+     * Cria um {@link ShelterContract} que encapsula a {@link ShelterEntity} informada, sem converter as suas associações.
+     * <p>
+     * Diferente de {@link #mapFrom(ShelterEntity)}, o endereço, o usuário responsável e as doações só são convertidos
+     * para os objetos de domínio no primeiro acesso a cada um deles. É indicado para os caminhos de leitura em que a
+     * entidade ainda está gerenciada e nem todas as associações são utilizadas.
+     *
+     * @param source A entidade {@link ShelterEntity} gerenciada. Não deve ser nula.
+     * @return Um {@link LazyShelterContract} que encapsula a entidade.
+     * @throws ShelterEntityFailuresException Se a entidade for nula.
+     * @see LazyShelterContract
+     * @since 1.3.0
+     */
+    public ShelterContract mapLazily(ShelterEntity source) {
+        return new LazyShelterContract(source);
+    }
+
     /**
      * Mapeia as doações de uma entidade de abrigo {@link ShelterEntity} para um abrigo construído {@link ShelterContract}. <p>
      * <p>
@@ -99,7 +117,7 @@ public class ShelterMapper implements MapperStrategy<ShelterContract, ShelterEnt
             try {
                 constructedShelter.addDonation(new Donation(donationEntity.getId(), donationEntity.getDescription(), donationEntity.getAmount()));
             } catch (DonationRegisterFailureException e) {
-                log.error(MAPPING_ERROR_LOG, e.getMessage(), e);
+                LogGuard.error(log, MAPPING_ERROR_LOG, e.getMessage(), e);
                 throw new ShelterEntityFailuresException(CLASS_MAPPING_FAILURE, Donation.class.getSimpleName(), e);
             }
         }
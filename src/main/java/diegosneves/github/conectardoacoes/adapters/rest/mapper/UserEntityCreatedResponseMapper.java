@@ -0,0 +1,23 @@
+package diegosneves.github.conectardoacoes.adapters.rest.mapper;
+
+import diegosneves.github.conectardoacoes.adapters.rest.response.UserEntityCreatedResponse;
+import diegosneves.github.conectardoacoes.adapters.rest.model.UserEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+/**
+ * Mapeador de {@link UserEntity} para {@link UserEntityCreatedResponse}, utilizado nas respostas de cadastro e consulta de usuários. A senha do usuário não é copiada.
+ * <p>
+ * A implementação é gerada em tempo de compilação pelo MapStruct, conforme {@link GeneratedMapperConfig}, e está disponível
+ * em {@link #INSTANCE}.
+ *
+ * @author diegoneves
+ * @see CollectionMapperStrategy
+ * @since 1.3.0
+ */
+@Mapper(config = GeneratedMapperConfig.class)
+public interface UserEntityCreatedResponseMapper extends CollectionMapperStrategy<UserEntityCreatedResponse, UserEntity> {
+
+    UserEntityCreatedResponseMapper INSTANCE = Mappers.getMapper(UserEntityCreatedResponseMapper.class);
+
+}
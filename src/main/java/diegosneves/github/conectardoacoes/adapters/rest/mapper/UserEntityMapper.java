@@ -6,6 +6,7 @@ import diegosneves.github.conectardoacoes.adapters.rest.exception.UserEntityFail
 import diegosneves.github.conectardoacoes.adapters.rest.model.UserEntity;
 import diegosneves.github.conectardoacoes.core.domain.user.entity.User;
 import diegosneves.github.conectardoacoes.core.domain.user.entity.UserContract;
+import diegosneves.github.conectardoacoes.core.utils.LogGuard;
 import diegosneves.github.conectardoacoes.core.utils.ValidationUtils;
 import lombok.extern.slf4j.Slf4j;
 
@@ -46,13 +47,13 @@ public class UserEntityMapper implements MapperStrategy<UserEntity, UserContract
      */
     @Override
     public UserEntity mapFrom(UserContract source) {
-        ValidationUtils.validateNotNullOrEmpty(source, CLASS_MAPPING_FAILURE, USER_CLASS.getSimpleName(), UserEntityFailuresException.class);
+        ValidationUtils.validateNotNullOrEmpty(source, CLASS_MAPPING_FAILURE, USER_CLASS.getSimpleName(), UserEntityFailuresException::new);
         UserEntity userEntity;
         try {
             userEntity = BuilderMapper.mapTo(UserEntity.class, source);
             userEntity.setUserProfile(Enum.valueOf(UserProfileType.class, source.getUserProfile().name()));
         } catch (RuntimeException e) {
-            log.error(MAPPING_ERROR_LOG, e.getMessage(), e);
+            LogGuard.error(log, MAPPING_ERROR_LOG, e.getMessage(), e);
             throw new UserEntityFailuresException(CLASS_MAPPING_FAILURE, USER_CLASS.getSimpleName(), e);
         }
         return userEntity;
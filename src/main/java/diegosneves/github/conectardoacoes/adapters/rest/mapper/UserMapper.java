@@ -8,6 +8,7 @@ import diegosneves.github.conectardoacoes.core.domain.user.entity.User;
 import diegosneves.github.conectardoacoes.core.domain.user.entity.UserContract;
 import diegosneves.github.conectardoacoes.core.domain.user.entity.value.UserProfile;
 import diegosneves.github.conectardoacoes.core.exception.UserCreationFailureException;
+import diegosneves.github.conectardoacoes.core.utils.LogGuard;
 import diegosneves.github.conectardoacoes.core.utils.ValidationUtils;
 import lombok.extern.slf4j.Slf4j;
 
@@ -54,7 +55,7 @@ public class UserMapper implements MapperStrategy<UserContract, UserEntity> {
                     Enum.valueOf(UserProfile.class, source.getUserProfile().name()),
                     source.getUserPassword());
         } catch (UserCreationFailureException e) {
-            log.error(MAPPING_ERROR_LOG, e.getMessage(), e);
+            LogGuard.error(log, MAPPING_ERROR_LOG, e.getMessage(), e);
             throw new UserEntityFailuresException(CLASS_MAPPING_FAILURE, USER_ENTITY_CLASS.getSimpleName(), e);
         }
         return mappedUser;
@@ -74,7 +75,7 @@ public class UserMapper implements MapperStrategy<UserContract, UserEntity> {
      * @see MapperFailureException
      */
     private <T> void validateData(T data) throws UserEntityFailuresException {
-        ValidationUtils.validateNotNullOrEmpty(data, CLASS_MAPPING_FAILURE, USER_ENTITY_CLASS.getSimpleName(), UserEntityFailuresException.class);
+        ValidationUtils.validateNotNullOrEmpty(data, CLASS_MAPPING_FAILURE, USER_ENTITY_CLASS.getSimpleName(), UserEntityFailuresException::new);
     }
 
 }
@@ -0,0 +1,85 @@
+package diegosneves.github.conectardoacoes.adapters.rest.migration;
+
+import diegosneves.github.conectardoacoes.adapters.rest.model.converter.UuidBinaryConverter;
+import diegosneves.github.conectardoacoes.adapters.rest.service.impl.ShelterInventoryServiceImpl;
+import diegosneves.github.conectardoacoes.core.utils.UuidUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inicializa, uma única vez, o estoque de doações ("shelter_inventory") dos abrigos que já possuíam doações antes da sua
+ * criação.
+ * <p>
+ * As doações de cada abrigo são agrupadas pela mesma chave usada ao receber novas doações,
+ * {@link ShelterInventoryServiceImpl#normalizeItemKey(String)}. A remoção de acentos depende da decomposição Unicode
+ * (NFD), que não tem equivalente em SQL, por isso a migração é escrita em Java. Abrigos que já possuem itens no estoque
+ * são ignorados.
+ * <p>
+ * Os abrigos são processados em blocos de {@value #CHUNK_SIZE}: as doações de cada bloco são lidas em uma única consulta
+ * e os itens resultantes são gravados em um único lote. A migração é executada pelo Flyway, após as migrações SQL da
+ * versão 5, tanto no MySQL quanto no H2.
+ *
+ * @author diegoneves
+ * @since 1.3.0
+ */
+@Slf4j
+public class V6__BackfillShelterInventory extends BaseJavaMigration {
+
+    public static final int CHUNK_SIZE = 500;
+
+    public static final String SELECT_SHELTERS_WITHOUT_INVENTORY = "SELECT DISTINCT sd.shelter_entity_id FROM shelters_donations sd "
+            + "WHERE NOT EXISTS (SELECT 1 FROM shelter_inventory i WHERE i.shelter_id = sd.shelter_entity_id)";
+    public static final String SELECT_DONATIONS_OF_SHELTERS = "SELECT sd.shelter_entity_id, d.description, d.amount FROM shelters_donations sd "
+            + "JOIN donations d ON d.id = sd.donations_id WHERE sd.shelter_entity_id IN (%s)";
+    public static final String INSERT_ITEM = "INSERT INTO shelter_inventory (id, shelter_id, item_key, description, amount) VALUES (?, ?, ?, ?, ?)";
+
+    public static final String INVENTORY_BACKFILL_LOG = "Estoque de doações inicializado para {} abrigos, com {} itens.";
+
+    @Override
+    public void migrate(Context context) {
+        backfill(new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true)));
+    }
+
+    /**
+     * Grava o estoque dos abrigos que possuem doações, mas ainda não possuem itens no estoque.
+     *
+     * @param jdbcTemplate O {@link JdbcTemplate} sobre a conexão da migração.
+     */
+    static void backfill(JdbcTemplate jdbcTemplate) {
+        List<byte[]> shelterIds = jdbcTemplate.query(SELECT_SHELTERS_WITHOUT_INVENTORY, (resultSet, rowNum) -> resultSet.getBytes(1));
+        int items = 0;
+        for (int start = 0; start < shelterIds.size(); start += CHUNK_SIZE) {
+            items += backfillChunk(jdbcTemplate, shelterIds.subList(start, Math.min(start + CHUNK_SIZE, shelterIds.size())));
+        }
+        log.info(INVENTORY_BACKFILL_LOG, shelterIds.size(), items);
+    }
+
+    private static int backfillChunk(JdbcTemplate jdbcTemplate, List<byte[]> shelterIds) {
+        Map<ByteBuffer, Map<String, Object[]>> inventories = new LinkedHashMap<>();
+        String sql = String.format(SELECT_DONATIONS_OF_SHELTERS, String.join(", ", Collections.nCopies(shelterIds.size(), "?")));
+        jdbcTemplate.query(sql, resultSet -> {
+            String description = resultSet.getString(2);
+            int amount = resultSet.getInt(3);
+            inventories.computeIfAbsent(ByteBuffer.wrap(resultSet.getBytes(1)), shelterId -> new LinkedHashMap<>())
+                    .merge(ShelterInventoryServiceImpl.normalizeItemKey(description), new Object[]{description.trim(), amount},
+                            (current, received) -> new Object[]{current[0], (int) current[1] + (int) received[1]});
+        }, shelterIds.toArray());
+
+        List<Object[]> rows = new ArrayList<>();
+        inventories.forEach((shelterId, items) -> items.forEach((itemKey, item) -> rows.add(new Object[]{
+                UuidBinaryConverter.toBytes(UuidUtils.generateTimeOrderedUuid()), shelterId.array(), itemKey, item[0], item[1]})));
+        jdbcTemplate.batchUpdate(INSERT_ITEM, rows);
+        return rows.size();
+    }
+
+}
@@ -1,5 +1,8 @@
 package diegosneves.github.conectardoacoes.adapters.rest.model;
 
+import diegosneves.github.conectardoacoes.adapters.rest.model.converter.UuidBinaryConverter;
+import diegosneves.github.conectardoacoes.adapters.rest.model.converter.UuidBinaryJavaType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
@@ -8,6 +11,9 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.JavaType;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 /**
  * Objeto de entidade {@link AddressEntity} que representa um objeto endereço no banco de dados mapeado para a tabela "address".
@@ -26,9 +32,12 @@ import lombok.Setter;
 @Builder
 @Getter
 @Setter
-public class AddressEntity {
+public class AddressEntity extends PersistableEntity {
 
     @Id
+    @JavaType(UuidBinaryJavaType.class)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(length = UuidBinaryConverter.BINARY_LENGTH)
     private String id;
     private String street;
     private String number;
@@ -1,5 +1,8 @@
 package diegosneves.github.conectardoacoes.adapters.rest.model;
 
+import diegosneves.github.conectardoacoes.adapters.rest.model.converter.UuidBinaryConverter;
+import diegosneves.github.conectardoacoes.adapters.rest.model.converter.UuidBinaryJavaType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
@@ -8,6 +11,9 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.JavaType;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 /**
  * Objeto de entidade {@link DonationEntity} que representa um objeto doação no banco de dados mapeado para a tabela "donations".
@@ -26,9 +32,12 @@ import lombok.Setter;
 @Builder
 @Getter
 @Setter
-public class DonationEntity {
+public class DonationEntity extends PersistableEntity {
 
     @Id
+    @JavaType(UuidBinaryJavaType.class)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(length = UuidBinaryConverter.BINARY_LENGTH)
     private String id;
     private String description;
     private Integer amount;
@@ -0,0 +1,49 @@
+package diegosneves.github.conectardoacoes.adapters.rest.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Objeto de entidade {@link IdempotencyRecordEntity} que representa a resposta registrada para uma chave de idempotência,
+ * mapeado para a tabela "idempotency_records".
+ * <p>
+ * Utilizada apenas quando a persistência das chaves de idempotência está habilitada, permitindo que uma requisição
+ * repetida seja respondida mesmo após o reinício da aplicação ou por outra instância. O registro é inserido no início do
+ * processamento, ainda sem {@code statusCode}, e a chave primária garante que apenas uma requisição reserve a chave.
+ * O instante da reserva, {@code reservedAt}, identifica a requisição que a detém: uma reserva não concluída dentro do
+ * prazo de concessão pode ser assumida por outra requisição, e apenas a detentora atual pode concluí-la ou liberá-la.
+ * <p>
+ * Anotado com Lombok, o que significa que os construtores, getters e setters são gerados automaticamente.
+ *
+ * @author diegoneves
+ * @since 1.3.0
+ */
+@Entity
+@Table(name = "idempotency_records", indexes = @Index(name = "idx_idempotency_records_created_at", columnList = "createdAt"))
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+@Setter
+public class IdempotencyRecordEntity extends PersistableEntity {
+
+    @Id
+    private String id;
+    private String fingerprint;
+    private Integer statusCode;
+    @Column(columnDefinition = "TEXT")
+    private String responseBody;
+    private Instant createdAt;
+    private Instant reservedAt;
+
+}
@@ -0,0 +1,47 @@
+package diegosneves.github.conectardoacoes.adapters.rest.model;
+
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Superclasse das entidades cujo ID é atribuído pela aplicação, que informa ao Spring Data se a entidade é nova.
+ * <p>
+ * Sem essa informação, o {@code save()} do Spring Data considera nova apenas a entidade com ID nulo e, como os IDs são
+ * gerados antes da persistência, executa um {@code merge}, que faz um {@code SELECT} antes de cada {@code INSERT}.
+ * <p>
+ * Como as entidades também são construídas a partir do domínio para atualizar registros existentes, uma entidade só é
+ * considerada nova quando marcada explicitamente por {@link #markNew()}, no momento da criação. Após ser persistida ou
+ * carregada do banco, a marcação é removida, de modo que um novo {@code save()} da mesma instância resulte em um
+ * {@code merge}.
+ *
+ * @author diegoneves
+ * @since 1.3.0
+ */
+@MappedSuperclass
+public abstract class PersistableEntity implements Persistable<String> {
+
+    @Transient
+    private boolean newEntity;
+
+    @Override
+    public boolean isNew() {
+        return this.newEntity;
+    }
+
+    /**
+     * Marca a entidade como nova, para que o {@code save()} do Spring Data a insira diretamente com {@code persist}.
+     */
+    public void markNew() {
+        this.newEntity = true;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markPersisted() {
+        this.newEntity = false;
+    }
+
+}
@@ -1,7 +1,12 @@
 package diegosneves.github.conectardoacoes.adapters.rest.model;
 
+import diegosneves.github.conectardoacoes.adapters.rest.model.converter.UuidBinaryConverter;
+import diegosneves.github.conectardoacoes.adapters.rest.model.converter.UuidBinaryJavaType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.JoinTable;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
@@ -10,6 +15,9 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.JavaType;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.util.List;
 
@@ -30,9 +38,12 @@ import java.util.List;
 @Getter
 @Setter
 @Builder
-public class ShelterEntity {
+public class ShelterEntity extends PersistableEntity {
 
     @Id
+    @JavaType(UuidBinaryJavaType.class)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(length = UuidBinaryConverter.BINARY_LENGTH)
     private String id;
     private String shelterName;
     @OneToOne
@@ -40,6 +51,9 @@ public class ShelterEntity {
     @OneToOne
     private UserEntity responsibleUser;
     @OneToMany
+    @JoinTable(name = "shelters_donations",
+            joinColumns = @JoinColumn(name = "shelter_entity_id"),
+            inverseJoinColumns = @JoinColumn(name = "donations_id"))
     private List<DonationEntity> donations;
 
 }
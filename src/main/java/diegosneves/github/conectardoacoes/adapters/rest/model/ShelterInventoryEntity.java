@@ -0,0 +1,56 @@
+package diegosneves.github.conectardoacoes.adapters.rest.model;
+
+import diegosneves.github.conectardoacoes.adapters.rest.model.converter.UuidBinaryConverter;
+import diegosneves.github.conectardoacoes.adapters.rest.model.converter.UuidBinaryJavaType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JavaType;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * Objeto de entidade {@link ShelterInventoryEntity} que representa um item do estoque de doações de um abrigo, mapeado para a tabela "shelter_inventory".
+ * <p>
+ * Cada linha guarda o total acumulado de um item para um abrigo. O item é identificado pela sua descrição normalizada
+ * ({@code itemKey}), de modo que doações como "Água" e " agua " somam no mesmo registro. A combinação
+ * {@code shelterId} + {@code itemKey} é única.
+ * <p>
+ * Os IDs são armazenados em {@code BINARY(16)}, como nas demais entidades, e {@code shelterId} referencia a tabela
+ * "shelters" por uma chave estrangeira com {@code ON DELETE CASCADE}: ao excluir um abrigo, o seu estoque é excluído junto.
+ * <p>
+ * Anotado com Lombok, o que significa que os construtores, getters e setters são gerados automaticamente.
+ *
+ * @author diegoneves
+ * @since 1.3.0
+ */
+@Entity
+@Table(name = "shelter_inventory", uniqueConstraints = @UniqueConstraint(columnNames = {"shelter_id", "item_key"}))
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+@Setter
+public class ShelterInventoryEntity {
+
+    @Id
+    @JavaType(UuidBinaryJavaType.class)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(length = UuidBinaryConverter.BINARY_LENGTH)
+    private String id;
+    @JavaType(UuidBinaryJavaType.class)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(length = UuidBinaryConverter.BINARY_LENGTH, nullable = false)
+    private String shelterId;
+    private String itemKey;
+    private String description;
+    private Integer amount;
+
+}
@@ -1,14 +1,21 @@
 package diegosneves.github.conectardoacoes.adapters.rest.model;
 
 import diegosneves.github.conectardoacoes.adapters.rest.enums.UserProfileType;
+import diegosneves.github.conectardoacoes.adapters.rest.model.converter.UuidBinaryConverter;
+import diegosneves.github.conectardoacoes.adapters.rest.model.converter.UuidBinaryJavaType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.JavaType;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 /**
  * Representa um usuário no sistema. Cada usuário tem um identificador único, nome de usuário,
@@ -29,7 +36,8 @@ import lombok.Setter;
  * <ul>
  *     <li>{@code userId} - O identificador único do usuário. Chave primária para a tabela do banco de dados.</li>
  *     <li>{@code userName} - O nome de usuário escolhido pelo usuário. Deve ser único.</li>
- *     <li>{@code email} - O endereço de email do usuário. Usado para comunicação e notificações.</li>
+ *     <li>{@code email} - O endereço de email do usuário. Usado para comunicação e notificações. É único, garantido pela
+ *     restrição {@link #EMAIL_UNIQUE_CONSTRAINT}.</li>
  *     <li>{@code userProfile} - O perfil do usuário que determina suas permissões e acessos.</li>
  *     <li>{@code userPassword} - A senha escolhida pelo usuário para acesso seguro ao sistema.</li>
  * </ul>
@@ -39,15 +47,20 @@ import lombok.Setter;
  *
  */
 @Entity
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = @UniqueConstraint(name = UserEntity.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email"))
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
 @Getter
 @Setter
-public class UserEntity {
+public class UserEntity extends PersistableEntity {
+
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_users_email";
 
     @Id
+    @JavaType(UuidBinaryJavaType.class)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(length = UuidBinaryConverter.BINARY_LENGTH)
     private String id;
     private String userName;
     private String email;
@@ -0,0 +1,88 @@
+package diegosneves.github.conectardoacoes.adapters.rest.model.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Conversor JPA que armazena os IDs das entidades, representados como {@link String} no formato canônico de UUID, em
+ * colunas binárias de 16 bytes.
+ * <p>
+ * A chave binária ocupa menos da metade do espaço da representação textual em cada índice de chave primária, chave
+ * estrangeira e tabela de junção. Como os bytes seguem a mesma ordem dos dígitos hexadecimais, a comparação binária
+ * preserva a ordenação dos IDs textuais em letras minúsculas, utilizada na paginação por cursor.
+ * <p>
+ * Uma {@link String} vazia, utilizada como limite inferior na primeira página da paginação por cursor, é convertida em
+ * um valor binário vazio, que antecede qualquer ID armazenado.
+ * <p>
+ * Como o Hibernate não aplica conversores a atributos {@link jakarta.persistence.Id}, as chaves primárias são mapeadas
+ * por {@link UuidBinaryJavaType}, que reutiliza os métodos {@link #toBytes(String)} e {@link #fromBytes(byte[])}.
+ *
+ * @author diegoneves
+ * @since 1.3.0
+ */
+@Converter
+public class UuidBinaryConverter implements AttributeConverter<String, byte[]> {
+
+    public static final int BINARY_LENGTH = 16;
+    public static final String INVALID_BINARY_LENGTH_MESSAGE = "O ID armazenado deve possuir %d bytes, mas possui %d.";
+
+    private static final byte[] EMPTY = new byte[0];
+
+    @Override
+    public byte[] convertToDatabaseColumn(String attribute) {
+        return toBytes(attribute);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] dbData) {
+        return fromBytes(dbData);
+    }
+
+    /**
+     * Converte o ID informado em sua representação binária de 16 bytes.
+     *
+     * @param id o ID no formato canônico de UUID, ou uma {@link String} vazia.
+     * @return os 16 bytes do ID, um valor vazio para uma {@link String} vazia, ou {@code null} se o ID for nulo.
+     * @throws IllegalArgumentException se o ID não estiver no formato de UUID.
+     */
+    public static byte[] toBytes(String id) throws IllegalArgumentException {
+        if (isNull(id)) {
+            return null;
+        }
+        if (id.isEmpty()) {
+            return EMPTY;
+        }
+        UUID uuid = UUID.fromString(id);
+        return ByteBuffer.allocate(BINARY_LENGTH)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    /**
+     * Converte a representação binária de um ID no formato canônico de UUID, em letras minúsculas.
+     *
+     * @param bytes os 16 bytes do ID.
+     * @return o ID no formato canônico, uma {@link String} vazia para um valor vazio, ou {@code null} se o valor for nulo.
+     * @throws IllegalArgumentException se o valor não possuir 16 bytes.
+     */
+    public static String fromBytes(byte[] bytes) throws IllegalArgumentException {
+        if (isNull(bytes)) {
+            return null;
+        }
+        if (bytes.length == 0) {
+            return "";
+        }
+        if (bytes.length != BINARY_LENGTH) {
+            throw new IllegalArgumentException(String.format(INVALID_BINARY_LENGTH_MESSAGE, BINARY_LENGTH, bytes.length));
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+
+}
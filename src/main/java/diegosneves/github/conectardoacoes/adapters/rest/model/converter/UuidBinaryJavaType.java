@@ -0,0 +1,71 @@
+package diegosneves.github.conectardoacoes.adapters.rest.model.converter;
+
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.AbstractClassJavaType;
+import org.hibernate.type.descriptor.java.ImmutableMutabilityPlan;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+import org.hibernate.type.descriptor.jdbc.JdbcTypeIndicators;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Descritor de tipo do Hibernate que mapeia os IDs das entidades, representados como {@link String} no formato
+ * canônico de UUID, para colunas {@code BINARY(16)}.
+ * <p>
+ * O Hibernate não aplica um {@link jakarta.persistence.AttributeConverter} a atributos anotados com
+ * {@link jakarta.persistence.Id}; por isso, as chaves primárias declaram este tipo com
+ * {@link org.hibernate.annotations.JavaType}. A conversão é a mesma de {@link UuidBinaryConverter}, de modo que
+ * consultas, parâmetros e chaves estrangeiras que referenciam a entidade continuam trabalhando com {@link String}.
+ *
+ * @author diegoneves
+ * @since 1.3.0
+ */
+public class UuidBinaryJavaType extends AbstractClassJavaType<String> {
+
+    public static final UuidBinaryJavaType INSTANCE = new UuidBinaryJavaType();
+
+    public UuidBinaryJavaType() {
+        super(String.class, ImmutableMutabilityPlan.instance());
+    }
+
+    @Override
+    public JdbcType getRecommendedJdbcType(JdbcTypeIndicators indicators) {
+        return indicators.getJdbcType(SqlTypes.BINARY);
+    }
+
+    @Override
+    public String fromString(CharSequence string) {
+        return isNull(string) ? null : string.toString();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <X> X unwrap(String value, Class<X> type, WrapperOptions options) {
+        if (isNull(value)) {
+            return null;
+        }
+        if (byte[].class.equals(type)) {
+            return (X) UuidBinaryConverter.toBytes(value);
+        }
+        if (String.class.equals(type)) {
+            return (X) value;
+        }
+        throw unknownUnwrap(type);
+    }
+
+    @Override
+    public <X> String wrap(X value, WrapperOptions options) {
+        if (isNull(value)) {
+            return null;
+        }
+        if (value instanceof byte[] bytes) {
+            return UuidBinaryConverter.fromBytes(bytes);
+        }
+        if (value instanceof String id) {
+            return id;
+        }
+        throw unknownWrap(value.getClass());
+    }
+
+}
@@ -1,9 +1,13 @@
 package diegosneves.github.conectardoacoes.adapters.rest.repository;
 
 import diegosneves.github.conectardoacoes.adapters.rest.model.DonationEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -40,4 +44,20 @@ public interface DonationRepository extends CrudRepository<DonationEntity, Strin
      */
     Optional<DonationEntity> findById(String id);
 
+    /**
+     * Busca as doações de um abrigo cujo ID seja maior que o ID informado, ordenadas pelo ID.
+     * <p>
+     * Este método implementa a paginação por chave (keyset): em vez de descartar as linhas das páginas anteriores com
+     * {@code OFFSET}, a consulta parte diretamente da última doação retornada. Nenhuma consulta de contagem é executada,
+     * pois o retorno é uma {@link List}. O {@link Pageable} recebido deve ser usado apenas para limitar a quantidade de linhas.
+     *
+     * @param shelterId O ID do abrigo cujas doações serão listadas.
+     * @param afterId   O ID da última doação já retornada. Para a primeira página, deve ser uma {@link String} vazia.
+     * @param pageable  O limite de linhas a serem retornadas.
+     * @return Uma lista com as doações seguintes ao ID informado, ordenadas pelo ID.
+     * @since 1.3.0
+     */
+    @Query("SELECT d FROM ShelterEntity s JOIN s.donations d WHERE s.id = :shelterId AND d.id > :afterId ORDER BY d.id ASC")
+    List<DonationEntity> findShelterDonationsAfter(@Param("shelterId") String shelterId, @Param("afterId") String afterId, Pageable pageable);
+
 }
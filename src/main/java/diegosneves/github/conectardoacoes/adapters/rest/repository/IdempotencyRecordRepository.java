@@ -0,0 +1,95 @@
+package diegosneves.github.conectardoacoes.adapters.rest.repository;
+
+import diegosneves.github.conectardoacoes.adapters.rest.model.IdempotencyRecordEntity;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * Definição da interface do repositório para as respostas registradas por chave de idempotência {@link IdempotencyRecordEntity}.
+ * Esta interface estende a interface CrudRepository do Spring Data JPA,
+ * o que torna disponível metódos básicos de CRUD (Create, Read, Update, Delete).
+ *
+ * @author diegoneves
+ * @see org.springframework.data.repository.CrudRepository
+ * @since 1.3.0
+ */
+@Repository
+public interface IdempotencyRecordRepository extends CrudRepository<IdempotencyRecordEntity, String> {
+
+    /**
+     * Remove, com um único comando, todos os registros criados antes do instante informado.
+     *
+     * @param expiration O instante a partir do qual os registros ainda são válidos.
+     * @return A quantidade de registros removidos.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecordEntity r WHERE r.createdAt < :expiration")
+    int deleteExpired(@Param("expiration") Instant expiration);
+
+    /**
+     * Remove o registro informado apenas se ele tiver sido criado antes do instante informado, liberando a chave para uma
+     * nova reserva sem afetar uma reserva válida feita por outra requisição.
+     *
+     * @param id         O ID do registro.
+     * @param expiration O instante a partir do qual os registros ainda são válidos.
+     * @return A quantidade de registros removidos: {@code 1} se o registro estava expirado, {@code 0} caso contrário.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecordEntity r WHERE r.id = :id AND r.createdAt < :expiration")
+    int deleteIfExpired(@Param("id") String id, @Param("expiration") Instant expiration);
+
+    /**
+     * Remove a reserva informada enquanto ela ainda estiver em processamento e tiver sido feita antes do instante
+     * informado, permitindo que outra requisição assuma a chave de uma reserva abandonada, por exemplo após a queda da
+     * instância que a detinha.
+     *
+     * @param id              O ID do registro.
+     * @param leaseExpiration O instante a partir do qual as reservas ainda são válidas.
+     * @return A quantidade de registros removidos: {@code 1} se a reserva estava vencida, {@code 0} caso contrário.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecordEntity r WHERE r.id = :id AND r.statusCode IS NULL AND r.reservedAt < :leaseExpiration")
+    int deleteStaleReservation(@Param("id") String id, @Param("leaseExpiration") Instant leaseExpiration);
+
+    /**
+     * Remove a reserva informada enquanto ela ainda estiver em processamento, liberando a chave após uma falha. A reserva
+     * só é removida se ainda pertencer à requisição que a fez, identificada pelo instante da reserva.
+     *
+     * @param id         O ID do registro.
+     * @param reservedAt O instante da reserva feita pela requisição.
+     * @return A quantidade de registros removidos.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecordEntity r WHERE r.id = :id AND r.reservedAt = :reservedAt AND r.statusCode IS NULL")
+    int deleteInProgress(@Param("id") String id, @Param("reservedAt") Instant reservedAt);
+
+    /**
+     * Registra a resposta de uma reserva, concluindo-a. O instante de criação passa a ser o da conclusão, a partir do qual
+     * o registro expira. A reserva só é concluída se ainda pertencer à requisição que a fez, identificada pelo instante
+     * da reserva.
+     *
+     * @param id           O ID do registro.
+     * @param reservedAt   O instante da reserva feita pela requisição.
+     * @param statusCode   O status HTTP da resposta.
+     * @param responseBody O corpo da resposta serializado.
+     * @param completedAt  O instante da conclusão.
+     * @return A quantidade de registros atualizados: {@code 0} se a reserva foi assumida por outra requisição.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotencyRecordEntity r SET r.statusCode = :statusCode, r.responseBody = :responseBody, r.createdAt = :completedAt "
+            + "WHERE r.id = :id AND r.reservedAt = :reservedAt")
+    int complete(@Param("id") String id, @Param("reservedAt") Instant reservedAt, @Param("statusCode") Integer statusCode,
+                 @Param("responseBody") String responseBody, @Param("completedAt") Instant completedAt);
+
+}
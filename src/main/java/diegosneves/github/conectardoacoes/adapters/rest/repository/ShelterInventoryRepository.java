@@ -0,0 +1,42 @@
+package diegosneves.github.conectardoacoes.adapters.rest.repository;
+
+import diegosneves.github.conectardoacoes.adapters.rest.model.ShelterInventoryEntity;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Definição da interface do repositório para o estoque de doações dos abrigos {@link ShelterInventoryEntity}.
+ * Esta interface estende a interface CrudRepository do Spring Data JPA,
+ * o que torna disponível metódos básicos de CRUD (Create, Read, Update, Delete).
+ * <p>
+ * Além das operações básicas, inclui as escritas atômicas de {@link ShelterInventoryRepositoryCustom}, que somam as doações
+ * ao estoque sem a leitura prévia dos registros e sem perder atualizações concorrentes.
+ *
+ * @author diegoneves
+ * @see org.springframework.data.repository.CrudRepository
+ * @see ShelterInventoryRepositoryCustom
+ * @since 1.3.0
+ */
+@Repository
+public interface ShelterInventoryRepository extends CrudRepository<ShelterInventoryEntity, String>, ShelterInventoryRepositoryCustom {
+
+    /**
+     * Busca todos os itens do estoque de um abrigo, ordenados pela descrição.
+     *
+     * @param shelterId O ID do abrigo cujo estoque será recuperado.
+     * @return Uma lista com os itens do estoque do abrigo. Se o abrigo não possuir itens, retorna uma lista vazia.
+     */
+    List<ShelterInventoryEntity> findAllByShelterIdOrderByDescriptionAsc(String shelterId);
+
+    /**
+     * Busca, em uma única consulta, todos os itens do estoque dos abrigos informados, ordenados pela descrição.
+     *
+     * @param shelterIds Os IDs dos abrigos cujos estoques serão recuperados.
+     * @return Uma lista com os itens do estoque dos abrigos. Os abrigos sem itens não aparecem na lista.
+     */
+    List<ShelterInventoryEntity> findAllByShelterIdInOrderByDescriptionAsc(Collection<String> shelterIds);
+
+}
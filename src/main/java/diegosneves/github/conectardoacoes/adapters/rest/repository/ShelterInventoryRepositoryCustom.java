@@ -0,0 +1,34 @@
+package diegosneves.github.conectardoacoes.adapters.rest.repository;
+
+import diegosneves.github.conectardoacoes.adapters.rest.model.ShelterInventoryEntity;
+
+import java.util.List;
+
+/**
+ * Operações de escrita do estoque de doações {@link ShelterInventoryEntity} que precisam ser atômicas diante de requisições
+ * concorrentes para o mesmo abrigo.
+ * <p>
+ * Os itens do estoque são únicos por abrigo e descrição normalizada. A operação abaixo resolve a existência prévia do
+ * item na própria instrução, sem marcar a transação corrente para rollback, e executa as instruções diretamente no banco
+ * de dados, sem carregar os itens no contexto de persistência.
+ *
+ * @author diegoneves
+ * @see ShelterInventoryRepository
+ * @since 1.3.0
+ */
+public interface ShelterInventoryRepositoryCustom {
+
+    /**
+     * Soma a quantidade de cada item informado ao total do mesmo item no estoque do abrigo, criando os itens que ainda não
+     * existirem.
+     * <p>
+     * Os itens são enviados em um único lote de instruções de inserção ou atualização ({@code INSERT ... ON DUPLICATE KEY
+     * UPDATE amount = amount + VALUES(amount)} no MySQL), sem leitura prévia e sem a sequência {@code UPDATE} e
+     * {@code INSERT} por item, que sob {@code REPEATABLE READ} disputa bloqueios de intervalo entre transações concorrentes.
+     * Para que transações concorrentes bloqueiem os itens na mesma ordem, eles devem ser informados ordenados pela chave.
+     *
+     * @param items Os itens a serem somados, com os IDs a serem usados caso precisem ser criados.
+     */
+    void addToItems(List<ShelterInventoryEntity> items);
+
+}
@@ -0,0 +1,71 @@
+package diegosneves.github.conectardoacoes.adapters.rest.repository;
+
+import diegosneves.github.conectardoacoes.adapters.rest.model.ShelterInventoryEntity;
+import diegosneves.github.conectardoacoes.adapters.rest.model.converter.UuidBinaryConverter;
+import diegosneves.github.conectardoacoes.core.utils.ValidationUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * Implementação de {@link ShelterInventoryRepositoryCustom}, combinada ao {@link ShelterInventoryRepository} pelo Spring Data.
+ * <p>
+ * As instruções são executadas pelo {@link JdbcTemplate}, na mesma conexão da transação JPA corrente. Os IDs são enviados
+ * em {@code BINARY(16)}, convertidos por {@link UuidBinaryConverter#toBytes(String)}.
+ * <p>
+ * A soma ao estoque usa a instrução de inserção ou atualização do banco em uso: {@code INSERT ... ON DUPLICATE KEY UPDATE}
+ * no MySQL e {@code MERGE} no H2, utilizado nos testes. O banco é identificado uma única vez, na criação do repositório.
+ *
+ * @author diegoneves
+ * @see ShelterInventoryRepositoryCustom
+ * @since 1.3.0
+ */
+public class ShelterInventoryRepositoryCustomImpl implements ShelterInventoryRepositoryCustom {
+
+    public static final String UPSERT_ITEM = "INSERT INTO shelter_inventory (id, shelter_id, item_key, description, amount) VALUES (?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE amount = amount + VALUES(amount)";
+    public static final String H2_UPSERT_ITEM = "MERGE INTO shelter_inventory target "
+            + "USING (VALUES (CAST(? AS BINARY(16)), CAST(? AS BINARY(16)), CAST(? AS VARCHAR(255)), CAST(? AS VARCHAR(255)), CAST(? AS INT))) "
+            + "AS source (id, shelter_id, item_key, description, amount) "
+            + "ON target.shelter_id = source.shelter_id AND target.item_key = source.item_key "
+            + "WHEN MATCHED THEN UPDATE SET amount = target.amount + source.amount "
+            + "WHEN NOT MATCHED THEN INSERT (id, shelter_id, item_key, description, amount) "
+            + "VALUES (source.id, source.shelter_id, source.item_key, source.description, source.amount)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String upsertItem;
+
+    @Autowired
+    public ShelterInventoryRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.upsertItem = resolveUpsertItem(jdbcTemplate);
+    }
+
+    @Override
+    public void addToItems(List<ShelterInventoryEntity> items) {
+        if (ValidationUtils.ensureListIsNotNull(items).isEmpty()) {
+            return;
+        }
+        this.jdbcTemplate.batchUpdate(this.upsertItem, items.stream().map(ShelterInventoryRepositoryCustomImpl::itemParameters).toList());
+    }
+
+    private static Object[] itemParameters(ShelterInventoryEntity item) {
+        return new Object[]{UuidBinaryConverter.toBytes(item.getId()), UuidBinaryConverter.toBytes(item.getShelterId()),
+                item.getItemKey(), item.getDescription(), item.getAmount()};
+    }
+
+    /**
+     * Escolhe a instrução de inserção ou atualização de acordo com o banco de dados da conexão.
+     *
+     * @param jdbcTemplate O {@link JdbcTemplate} usado pelo repositório.
+     * @return {@link #H2_UPSERT_ITEM} para o H2 e {@link #UPSERT_ITEM} para os demais bancos.
+     */
+    private static String resolveUpsertItem(JdbcTemplate jdbcTemplate) {
+        String productName = jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        return DatabaseDriver.fromProductName(productName) == DatabaseDriver.H2 ? H2_UPSERT_ITEM : UPSERT_ITEM;
+    }
+
+}
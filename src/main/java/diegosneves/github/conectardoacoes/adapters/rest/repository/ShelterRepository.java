@@ -1,26 +1,41 @@
 package diegosneves.github.conectardoacoes.adapters.rest.repository;
 
+import diegosneves.github.conectardoacoes.adapters.rest.dto.ShelterSummaryDTO;
 import diegosneves.github.conectardoacoes.adapters.rest.exception.ShelterEntityFailuresException;
 import diegosneves.github.conectardoacoes.adapters.rest.mapper.BuilderMapper;
+import diegosneves.github.conectardoacoes.adapters.rest.mapper.MapperRegistry;
 import diegosneves.github.conectardoacoes.adapters.rest.mapper.MapperStrategy;
 import diegosneves.github.conectardoacoes.adapters.rest.mapper.ShelterEntityMapper;
 import diegosneves.github.conectardoacoes.adapters.rest.mapper.ShelterMapper;
 import diegosneves.github.conectardoacoes.adapters.rest.model.ShelterEntity;
 import diegosneves.github.conectardoacoes.core.domain.shelter.entity.Shelter;
 import diegosneves.github.conectardoacoes.core.domain.shelter.entity.ShelterContract;
+import diegosneves.github.conectardoacoes.core.domain.shelter.entity.value.Donation;
 import diegosneves.github.conectardoacoes.core.domain.shelter.shared.repository.ShelterContractRepository;
-import diegosneves.github.conectardoacoes.core.exception.ShelterCreationFailureException;
 import diegosneves.github.conectardoacoes.core.exception.UuidUtilsException;
 import diegosneves.github.conectardoacoes.core.utils.UuidUtils;
 import diegosneves.github.conectardoacoes.core.utils.ValidationUtils;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Este repositório é responsável pela persistência de dados relacionados a abrigos ({@link Shelter}).
@@ -34,24 +49,28 @@ import java.util.Optional;
  * @author diegoneves
  * @see ShelterContractRepository
  * @see CrudRepository
+ * @see ShelterRepositoryCustom
  * @since 1.0.0
  */
 @Repository
-public interface ShelterRepository extends ShelterContractRepository, CrudRepository<ShelterEntity, String> {
+public interface ShelterRepository extends ShelterContractRepository, CrudRepository<ShelterEntity, String>, ShelterRepositoryCustom {
 
 
     Integer INVALID_ID_MESSAGE = 19;
     Integer SHELTER_ERROR_MESSAGE = 21;
     Integer INVALID_UUID_FORMAT_MESSAGE = 6;
+    Integer EMPTY_DONATION_LIST_MESSAGE = 15;
+
+    String EXPORT_FETCH_SIZE = "500";
 
     /**
-     * Retorna uma nova instância do {@link MapperStrategy} para mapear uma entidade {@link ShelterEntity} para a classe de domínio {@link Shelter}.
+     * Retorna a instância compartilhada do {@link MapperStrategy} para mapear uma entidade {@link ShelterEntity} para a classe de domínio {@link Shelter}.
      * O {@link MapperStrategy} é uma estratégia de design que desacopla a conversão de objeto para objeto para uma complexidade reduzida e manutenção mais fácil.
      *
-     * @return uma nova instância de {@link ShelterMapper} que implementa a interface {@link MapperStrategy}
+     * @return a instância de {@link ShelterMapper} registrada no {@link MapperRegistry}
      */
     private ShelterMapper getShelterMapper() {
-        return new ShelterMapper();
+        return MapperRegistry.get(ShelterMapper.class);
     }
 
     /**
@@ -68,7 +87,7 @@ public interface ShelterRepository extends ShelterContractRepository, CrudReposi
      * @see UuidUtils#isValidUUID(String)
      */
     private void validateId(String id) throws ShelterEntityFailuresException {
-        ValidationUtils.validateNotNullOrEmpty(id, INVALID_ID_MESSAGE, ShelterEntityFailuresException.class);
+        ValidationUtils.validateNotNullOrEmpty(id, INVALID_ID_MESSAGE, ShelterEntityFailuresException::new);
         try {
             UuidUtils.isValidUUID(id);
         } catch (UuidUtilsException e) {
@@ -87,10 +106,7 @@ public interface ShelterRepository extends ShelterContractRepository, CrudReposi
      * @see Shelter
      */
     private List<ShelterContract> mapEntityList(List<ShelterEntity> entities) {
-        if (entities == null || entities.isEmpty()) {
-            return Collections.emptyList();
-        }
-        return entities.stream().map(this.getShelterMapper()::mapFrom).toList();
+        return this.getShelterMapper().mapFromAll(entities);
     }
 
     /**
@@ -98,19 +114,20 @@ public interface ShelterRepository extends ShelterContractRepository, CrudReposi
      * <p>
      * Primeiro, é executada a função findById do Repositório do Spring, que retorna um {@link Optional} de {@link ShelterEntity}.
      * Então verifica-se se o {@link Optional} está vazio. Se estiver vazio, significa que nenhuma entidade foi encontrada com o ID fornecido, e o método retorna {@code null}.
-     * Se o {@link Optional} não estiver vazio, o método tenta mapear a {@link ShelterEntity} encontrada para uma instância de {@link ShelterContract}.
+     * Se o {@link Optional} não estiver vazio, a {@link ShelterEntity} encontrada é encapsulada por meio de {@link ShelterMapper#mapLazily(ShelterEntity)}:
+     * o endereço, o usuário responsável e as doações só são convertidos quando acessados pela primeira vez.
      * <p>
-     * Uma {@link ShelterCreationFailureException} pode ser lançada durante o mapeamento. Se isso acontecer, o método lança uma nova {@link ShelterEntityFailuresException} com uma mensagem de erro adequada.
+     * Uma falha na conversão de alguma dessas associações é lançada como {@link ShelterEntityFailuresException} no momento do acesso.
      *
      * @param id A String que representa o ID único da entidade {@link ShelterEntity} a ser encontrada. Deve ser um valor não nulo e não vazio.
      * @return Uma instância de {@link ShelterContract} que representa a entidade {@link Shelter} mapeada da {@link ShelterEntity} encontrada. Se nenhuma entidade for encontrada com o id fornecido, o método retornará null.
-     * @throws ShelterEntityFailuresException se ocorrer uma exceção {@link ShelterCreationFailureException} durante o mapeamento da entidade {@link ShelterEntity} para a instância de {@link ShelterContract}.
+     * @throws ShelterEntityFailuresException se o id fornecido for nulo, vazio ou não for um UUID válido.
      */
     @Override
     default ShelterContract findEntityById(String id) {
         ShelterEntity entityToMap = this.getShelterEntityById(id);
         if (entityToMap == null) return null;
-        return this.getShelterMapper().mapFrom(entityToMap);
+        return this.getShelterMapper().mapLazily(entityToMap);
     }
 
     /**
@@ -173,11 +190,33 @@ public interface ShelterRepository extends ShelterContractRepository, CrudReposi
      */
     @Override
     default ShelterContract persist(ShelterContract entity) {
-        ValidationUtils.validateNotNullOrEmpty(entity, SHELTER_ERROR_MESSAGE, ShelterEntityFailuresException.class);
-        ShelterEntity shelterEntity = BuilderMapper.mapTo(new ShelterEntityMapper(), entity);
+        ValidationUtils.validateNotNullOrEmpty(entity, SHELTER_ERROR_MESSAGE, ShelterEntityFailuresException::new);
+        ShelterEntity shelterEntity = BuilderMapper.mapTo(MapperRegistry.get(ShelterEntityMapper.class), entity);
         return BuilderMapper.mapTo(this.getShelterMapper(), this.save(shelterEntity));
     }
 
+    /**
+     * Persiste um abrigo recém-criado, inserindo-o diretamente, sem o {@code SELECT} feito pelo {@code merge}.
+     * <p>
+     * O endereço e o usuário responsável já existem no banco de dados e são associados ao abrigo por meio de
+     * referências, conforme {@link #insertWithReferences(ShelterEntity)}, de modo que nenhuma consulta é feita a essas
+     * tabelas. Como o estado persistido é exatamente o do abrigo recebido, ele próprio é retornado, sem inicializar as
+     * referências para mapear a entidade de volta ao domínio.
+     *
+     * @param entity o abrigo recém-criado. Não deve ser nulo.
+     * @return o próprio {@link ShelterContract} persistido.
+     * @throws ShelterEntityFailuresException se o abrigo fornecido for nulo.
+     * @since 1.3.0
+     */
+    @Override
+    default ShelterContract persistNew(ShelterContract entity) {
+        ValidationUtils.validateNotNullOrEmpty(entity, SHELTER_ERROR_MESSAGE, ShelterEntityFailuresException::new);
+        ShelterEntity shelterEntity = BuilderMapper.mapTo(MapperRegistry.get(ShelterEntityMapper.class), entity);
+        shelterEntity.markNew();
+        this.insertWithReferences(shelterEntity);
+        return entity;
+    }
+
     /**
      * Este método é usado para excluir uma entidade {@link ShelterEntity} pelo ID.
      * <p>
@@ -204,15 +243,78 @@ public interface ShelterRepository extends ShelterContractRepository, CrudReposi
         this.delete(targetEntity);
     }
 
+    /**
+     * Anexa uma lista de {@link Donation} a um abrigo existente sem regravar o agregado {@link ShelterEntity}.
+     * <p>
+     * Primeiro, o ID do abrigo é validado por meio do método {@link #validateId(String) validateId(String id)} e a lista de doações
+     * é verificada para garantir que não seja nula nem vazia. Em seguida, as doações e as suas associações com o abrigo são
+     * gravadas por {@link #insertDonations(String, List)}, com um lote JDBC para a tabela {@code donations} e outro para a
+     * tabela de junção {@code shelters_donations}.
+     * <p>
+     * Nenhuma entidade {@link ShelterEntity} é carregada ou mapeada, portanto o custo de escrita depende apenas da quantidade de
+     * doações recebidas, e não da quantidade de doações que o abrigo já possui.
+     *
+     * @param shelterId O ID do abrigo que receberá as doações. Deve ser um UUID válido.
+     * @param donations A lista de {@link Donation} a ser anexada ao abrigo. Não deve ser nula ou vazia.
+     * @throws ShelterEntityFailuresException se o ID fornecido for inválido ou se a lista de doações for nula ou vazia.
+     * @since 1.3.0
+     */
+    @Override
+    @Transactional
+    default void appendDonations(String shelterId, List<Donation> donations) {
+        this.validateId(shelterId);
+        ValidationUtils.ensureListIsNotNullOrEmpty(donations, EMPTY_DONATION_LIST_MESSAGE, ShelterEntityFailuresException::new);
+        this.insertDonations(shelterId, donations);
+    }
+
     /**
      * Este método é usado para buscar uma entidade {@link Shelter} pelo e-mail do usuário responsável.
+     * <p>
+     * A junção com o usuário é interna, de modo que o banco possa partir do índice de {@code users.email} e chegar ao
+     * abrigo pela coluna {@code responsible_user_id}, em vez de percorrer a tabela {@code shelters}.
      *
      * @param responsibleUserEmail O e-mail do usuário responsável. Este é um parâmetro de entrada usado para filtrar a busca pela entidade Shelter. Deve ser um e-mail válido em formato de string.
      * @return Um objeto {@link Optional} que inclui a instância de {@link ShelterEntity} se o usuário responsável com o e-mail fornecido for encontrado.
      * Se não houver uma correspondência para o e-mail fornecido, um {@link Optional} vazio será retornado. Note que {@link Optional} é usado para evitar erros de {@link NullPointerException}.
      * @throws IllegalArgumentException se o parâmetro de e-mail fornecido for nulo, vazio ou não em um formato de e-mail válido.
      */
-    Optional<ShelterEntity> findShelterEntitiesByResponsibleUser_Email(String responsibleUserEmail);
+    @Query("SELECT s FROM ShelterEntity s JOIN s.responsibleUser u WHERE u.email = :email")
+    Optional<ShelterEntity> findShelterEntitiesByResponsibleUser_Email(@Param("email") String responsibleUserEmail);
+
+    /**
+     * Busca os dados do abrigo associado ao e-mail do usuário responsável, sem carregar a entidade {@link ShelterEntity}.
+     * <p>
+     * A consulta seleciona apenas as colunas utilizadas nas respostas de leitura, por meio de uma expressão de construtor
+     * de {@link ShelterSummaryDTO}. O endereço e as doações não são lidos, e o resultado não é gerenciado pelo contexto
+     * de persistência.
+     *
+     * @param responsibleUserEmail O e-mail do usuário responsável.
+     * @return Um {@link Optional} com os dados do abrigo, ou vazio se não houver abrigo associado ao e-mail.
+     * @since 1.3.0
+     */
+    @Query("SELECT new diegosneves.github.conectardoacoes.adapters.rest.dto.ShelterSummaryDTO(s.id, s.shelterName, u.userName, u.email) "
+            + "FROM ShelterEntity s JOIN s.responsibleUser u WHERE u.email = :email")
+    Optional<ShelterSummaryDTO> findShelterSummaryByResponsibleUserEmail(@Param("email") String responsibleUserEmail);
+
+    /**
+     * Verifica se existe um abrigo cujo usuário responsável possui o e-mail informado, sem carregar o abrigo.
+     *
+     * @param responsibleUserEmail O e-mail do usuário responsável.
+     * @return {@code true} se houver um abrigo associado ao e-mail, {@code false} caso contrário.
+     * @since 1.3.0
+     */
+    boolean existsByResponsibleUser_Email(String responsibleUserEmail);
+
+    /**
+     * Retorna, dentre os e-mails informados, aqueles que já pertencem ao usuário responsável por algum abrigo, em uma
+     * única consulta.
+     *
+     * @param responsibleUserEmails Os e-mails dos usuários responsáveis a serem verificados.
+     * @return Os e-mails informados que já estão associados a um abrigo.
+     * @since 1.3.0
+     */
+    @Query("SELECT s.responsibleUser.email FROM ShelterEntity s WHERE s.responsibleUser.email IN :emails")
+    List<String> findResponsibleUserEmailsIn(@Param("emails") Collection<String> responsibleUserEmails);
 
     /**
      * Este método é usado para buscar todos os abrigos cadastrados e devolvê-los paginados.
@@ -226,4 +328,115 @@ public interface ShelterRepository extends ShelterContractRepository, CrudReposi
 
     Page<ShelterEntity> findAll(Pageable pageable);
 
+    /**
+     * Busca uma página com os dados resumidos dos abrigos, utilizados pela listagem paginada.
+     * <p>
+     * A busca é feita em duas etapas: primeiro é paginada apenas a lista de IDs (respeitando a ordenação do {@link Pageable}),
+     * e em seguida os dados dos abrigos da página e dos seus responsáveis são projetados de uma só vez em
+     * {@link ShelterSummaryDTO}. Nenhuma entidade é carregada, e as doações não são lidas: a listagem as obtém do estoque
+     * consolidado dos abrigos. Assim, a quantidade de consultas por página é constante, independentemente do tamanho da
+     * página, e a paginação continua sendo feita no banco de dados, e não em memória.
+     *
+     * @param pageable as informações de paginação e ordenação.
+     * @return Um {@link Page} com os {@link ShelterSummaryDTO} da página, na mesma ordem dos IDs paginados.
+     * @since 1.3.0
+     */
+    default Page<ShelterSummaryDTO> findShelterSummaries(Pageable pageable) {
+        Page<String> idPage = this.findShelterIds(pageable);
+        if (idPage.isEmpty()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, idPage.getTotalElements());
+        }
+        Map<String, ShelterSummaryDTO> sheltersById = this.findShelterSummariesByIdIn(idPage.getContent()).stream()
+                .collect(Collectors.toMap(ShelterSummaryDTO::getId, Function.identity(), (first, duplicate) -> first));
+        return idPage.map(sheltersById::get);
+    }
+
+    /**
+     * Busca, em ordem crescente de ID, os dados resumidos dos abrigos cujo ID é maior que o informado.
+     * <p>
+     * É a base da paginação por chave (keyset): a primeira consulta percorre o índice da chave primária a partir do ID
+     * informado e lê apenas {@code limit} IDs, sem contar o total de registros e sem descartar linhas de páginas
+     * anteriores. Em seguida, os dados dos abrigos encontrados são projetados de uma só vez em {@link ShelterSummaryDTO}.
+     *
+     * @param afterId o ID do último abrigo da página anterior, ou uma {@link String} vazia para a primeira página.
+     * @param limit   a quantidade máxima de abrigos a serem retornados.
+     * @return Uma lista com os {@link ShelterSummaryDTO} encontrados, ordenada pelo ID.
+     * @since 1.3.0
+     */
+    default List<ShelterSummaryDTO> findShelterSummariesAfter(String afterId, int limit) {
+        List<String> ids = this.findShelterIdsAfter(afterId, PageRequest.ofSize(limit));
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<String, ShelterSummaryDTO> sheltersById = this.findShelterSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(ShelterSummaryDTO::getId, Function.identity(), (first, duplicate) -> first));
+        return ids.stream().map(sheltersById::get).toList();
+    }
+
+    /**
+     * Busca, em ordem crescente, os IDs dos abrigos maiores que o ID informado.
+     *
+     * @param afterId  o ID a partir do qual a busca é feita (exclusivo).
+     * @param pageable define apenas a quantidade máxima de IDs retornados; nenhuma contagem é executada.
+     * @return Uma lista com os IDs encontrados, em ordem crescente.
+     * @since 1.3.0
+     */
+    @Query("SELECT s.id FROM ShelterEntity s WHERE s.id > :afterId ORDER BY s.id ASC")
+    List<String> findShelterIdsAfter(@Param("afterId") String afterId, Pageable pageable);
+
+    /**
+     * Pagina apenas os IDs dos abrigos cadastrados.
+     *
+     * @param pageable as informações de paginação e ordenação.
+     * @return Um {@link Page} com os IDs dos abrigos da página solicitada.
+     * @since 1.3.0
+     */
+    @Query(value = "SELECT s.id FROM ShelterEntity s", countQuery = "SELECT COUNT(s) FROM ShelterEntity s")
+    Page<String> findShelterIds(Pageable pageable);
+
+    /**
+     * Projeta em {@link ShelterSummaryDTO} os dados dos abrigos com os IDs informados e dos seus usuários responsáveis, em
+     * uma única consulta.
+     *
+     * @param ids os IDs dos abrigos.
+     * @return Uma lista com os {@link ShelterSummaryDTO} encontrados, sem ordem definida.
+     * @since 1.3.0
+     */
+    @Query("SELECT new diegosneves.github.conectardoacoes.adapters.rest.dto.ShelterSummaryDTO(s.id, s.shelterName, u.userName, u.email) "
+            + "FROM ShelterEntity s LEFT JOIN s.responsibleUser u WHERE s.id IN :ids")
+    List<ShelterSummaryDTO> findShelterSummariesByIdIn(@Param("ids") Collection<String> ids);
+
+    /**
+     * Carrega, em uma única consulta, os abrigos com os IDs fornecidos junto com as suas doações.
+     * <p>
+     * Os abrigos que já estão no contexto de persistência, como os lidos por {@link #streamAllForExport()}, têm a coleção
+     * de doações inicializada por esta consulta, evitando uma consulta adicional por abrigo.
+     *
+     * @param ids Os IDs dos abrigos.
+     * @return Uma lista de {@link ShelterEntity} com as doações carregadas.
+     * @since 1.3.0
+     */
+    @Query("SELECT DISTINCT s FROM ShelterEntity s LEFT JOIN FETCH s.donations WHERE s.id IN :ids")
+    List<ShelterEntity> findAllWithDonationsByIdIn(@Param("ids") Collection<String> ids);
+
+    /**
+     * Percorre todos os abrigos cadastrados como um {@link Stream}, ordenados pelo ID, para a exportação dos dados.
+     * <p>
+     * O endereço e o usuário responsável são carregados na mesma consulta, e os resultados são lidos do banco de dados
+     * em lotes de {@value #EXPORT_FETCH_SIZE} registros, sem materializar a lista completa em memória. As doações não
+     * são carregadas por esta consulta; a exportação as busca por blocos de abrigos com
+     * {@link #findAllWithDonationsByIdIn(Collection)}.
+     * <p>
+     * O {@link Stream} deve ser consumido dentro de uma transação e fechado ao final do uso.
+     *
+     * @return Um {@link Stream} com todos os {@link ShelterEntity} cadastrados.
+     * @since 1.3.0
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT s FROM ShelterEntity s LEFT JOIN FETCH s.address LEFT JOIN FETCH s.responsibleUser ORDER BY s.id")
+    Stream<ShelterEntity> streamAllForExport();
+
 }
@@ -0,0 +1,57 @@
+package diegosneves.github.conectardoacoes.adapters.rest.repository;
+
+import diegosneves.github.conectardoacoes.adapters.rest.model.ShelterEntity;
+import diegosneves.github.conectardoacoes.core.domain.shelter.entity.value.Donation;
+
+import java.util.List;
+
+/**
+ * Operações de escrita do {@link ShelterRepository} que dependem diretamente do {@link jakarta.persistence.EntityManager}
+ * ou do {@link org.springframework.jdbc.core.JdbcTemplate} e, por isso, não podem ser implementadas como métodos
+ * {@code default} da interface do repositório.
+ * <p>
+ * A implementação é fornecida por {@link ShelterRepositoryCustomImpl} e combinada ao {@link ShelterRepository} pelo Spring Data.
+ *
+ * @author diegoneves
+ * @see ShelterRepository
+ * @since 1.3.0
+ */
+public interface ShelterRepositoryCustom {
+
+    /**
+     * Insere um abrigo recém-criado, cujas associações apontam para registros já existentes.
+     * <p>
+     * O endereço, o usuário responsável e as doações do abrigo são substituídos por referências obtidas com
+     * {@link jakarta.persistence.EntityManager#getReference(Class, Object)}, que informam ao Hibernate apenas o ID de
+     * cada registro. Dessa forma, a inserção resulta somente nos {@code INSERT}s do abrigo e da tabela de junção, sem
+     * consultas às tabelas associadas.
+     *
+     * @param shelterEntity o abrigo recém-criado. Não deve ser nulo.
+     */
+    void insertWithReferences(ShelterEntity shelterEntity);
+
+    /**
+     * Insere os abrigos recém-criados e os seus endereços, enviando as inserções ao banco de dados imediatamente.
+     * <p>
+     * Todos os endereços são persistidos antes dos abrigos para que as inserções de um mesmo tipo fiquem contíguas e
+     * possam ser agrupadas em lotes JDBC. Como as inserções são enviadas antes do retorno, uma violação de restrição,
+     * como a de {@code uk_shelters_responsible_user}, é lançada por este método como
+     * {@link org.springframework.dao.DataIntegrityViolationException}.
+     *
+     * @param shelterEntities os abrigos a serem inseridos, cada um com o seu endereço. Não deve ser nula.
+     */
+    void insertAll(List<ShelterEntity> shelterEntities);
+
+    /**
+     * Insere as doações informadas e as associa ao abrigo com o ID informado, sem carregar o abrigo nem as suas doações.
+     * <p>
+     * As doações são gravadas na tabela {@code donations} e as associações na tabela de junção {@code shelters_donations},
+     * cada tabela com um único lote JDBC. Se as doações do abrigo já estiverem carregadas no contexto de persistência, apenas
+     * o abrigo é desanexado, para que a próxima leitura inclua as doações inseridas.
+     *
+     * @param shelterId o ID do abrigo que receberá as doações. Não deve ser nulo.
+     * @param donations as doações a serem inseridas. Não deve ser nula nem vazia.
+     */
+    void insertDonations(String shelterId, List<Donation> donations);
+
+}
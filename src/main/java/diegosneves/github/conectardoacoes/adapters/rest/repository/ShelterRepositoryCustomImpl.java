@@ -0,0 +1,105 @@
+package diegosneves.github.conectardoacoes.adapters.rest.repository;
+
+import diegosneves.github.conectardoacoes.adapters.rest.model.AddressEntity;
+import diegosneves.github.conectardoacoes.adapters.rest.model.DonationEntity;
+import diegosneves.github.conectardoacoes.adapters.rest.model.ShelterEntity;
+import diegosneves.github.conectardoacoes.adapters.rest.model.UserEntity;
+import diegosneves.github.conectardoacoes.adapters.rest.model.converter.UuidBinaryConverter;
+import diegosneves.github.conectardoacoes.core.domain.shelter.entity.value.Donation;
+import diegosneves.github.conectardoacoes.core.utils.ValidationUtils;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Implementação de {@link ShelterRepositoryCustom}, combinada ao {@link ShelterRepository} pelo Spring Data.
+ *
+ * @author diegoneves
+ * @see ShelterRepositoryCustom
+ * @since 1.3.0
+ */
+public class ShelterRepositoryCustomImpl implements ShelterRepositoryCustom {
+
+    public static final String INSERT_DONATION = "INSERT INTO donations (id, description, amount) VALUES (?, ?, ?)";
+    public static final String INSERT_SHELTER_DONATION = "INSERT INTO shelters_donations (shelter_entity_id, donations_id) VALUES (?, ?)";
+
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public ShelterRepositoryCustomImpl(EntityManager entityManager, JdbcTemplate jdbcTemplate) {
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public void insertWithReferences(ShelterEntity shelterEntity) {
+        shelterEntity.setAddress(this.reference(AddressEntity.class, shelterEntity.getAddress(), AddressEntity::getId));
+        shelterEntity.setResponsibleUser(this.reference(UserEntity.class, shelterEntity.getResponsibleUser(), UserEntity::getId));
+        shelterEntity.setDonations(new ArrayList<>(ValidationUtils.ensureListIsNotNull(shelterEntity.getDonations()).stream()
+                .map(donation -> this.reference(DonationEntity.class, donation, DonationEntity::getId))
+                .toList()));
+        this.entityManager.persist(shelterEntity);
+    }
+
+    @Override
+    @Transactional
+    public void insertAll(List<ShelterEntity> shelterEntities) {
+        shelterEntities.forEach(shelterEntity -> this.entityManager.persist(shelterEntity.getAddress()));
+        shelterEntities.forEach(this.entityManager::persist);
+        this.entityManager.flush();
+    }
+
+    @Override
+    @Transactional
+    public void insertDonations(String shelterId, List<Donation> donations) {
+        this.entityManager.flush();
+        byte[] shelterKey = UuidBinaryConverter.toBytes(shelterId);
+        this.jdbcTemplate.batchUpdate(INSERT_DONATION, donations, donations.size(), (statement, donation) -> {
+            statement.setBytes(1, UuidBinaryConverter.toBytes(donation.getId()));
+            statement.setString(2, donation.getDescription());
+            statement.setInt(3, donation.getAmount());
+        });
+        this.jdbcTemplate.batchUpdate(INSERT_SHELTER_DONATION, donations, donations.size(), (statement, donation) -> {
+            statement.setBytes(1, shelterKey);
+            statement.setBytes(2, UuidBinaryConverter.toBytes(donation.getId()));
+        });
+        this.detachIfDonationsLoaded(shelterId);
+    }
+
+    /**
+     * Desanexa o abrigo do contexto de persistência quando ele e as suas doações já estiverem carregados, pois a coleção
+     * em memória não inclui as doações inseridas diretamente no banco de dados. Caso contrário, nada é feito, e nenhuma
+     * consulta é executada.
+     *
+     * @param shelterId o ID do abrigo.
+     */
+    private void detachIfDonationsLoaded(String shelterId) {
+        ShelterEntity shelter = this.entityManager.getReference(ShelterEntity.class, shelterId);
+        if (Hibernate.isInitialized(shelter) && Hibernate.isInitialized(shelter.getDonations())) {
+            this.entityManager.detach(shelter);
+        }
+    }
+
+    /**
+     * Substitui a entidade associada por uma referência ao registro de mesmo ID, sem consultá-lo no banco de dados.
+     *
+     * @param type   a classe da entidade associada.
+     * @param entity a entidade associada, mapeada a partir do domínio.
+     * @param getId  a função que obtém o ID da entidade associada.
+     * @return a referência ao registro, ou {@code null} se não houver entidade associada.
+     */
+    private <T> T reference(Class<T> type, T entity, Function<T, String> getId) {
+        return isNull(entity) ? null : this.entityManager.getReference(type, getId.apply(entity));
+    }
+
+}
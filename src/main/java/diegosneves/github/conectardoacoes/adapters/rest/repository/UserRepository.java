@@ -2,6 +2,7 @@ package diegosneves.github.conectardoacoes.adapters.rest.repository;
 
 import diegosneves.github.conectardoacoes.adapters.rest.exception.UserEntityFailuresException;
 import diegosneves.github.conectardoacoes.adapters.rest.mapper.BuilderMapper;
+import diegosneves.github.conectardoacoes.adapters.rest.mapper.MapperRegistry;
 import diegosneves.github.conectardoacoes.adapters.rest.mapper.MapperStrategy;
 import diegosneves.github.conectardoacoes.adapters.rest.mapper.UserEntityMapper;
 import diegosneves.github.conectardoacoes.adapters.rest.mapper.UserMapper;
@@ -15,6 +16,7 @@ import diegosneves.github.conectardoacoes.core.utils.ValidationUtils;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -46,6 +48,15 @@ public interface UserRepository extends UserContractRepository, CrudRepository<U
      */
     Optional<UserEntity> findByEmail(String email);
 
+    /**
+     * Busca, em uma única consulta, todos os usuários cujos e-mails estão entre os informados.
+     *
+     * @param emails Os e-mails dos usuários a serem buscados.
+     * @return Os usuários encontrados. E-mails sem usuário correspondente são ignorados.
+     * @since 1.3.0
+     */
+    List<UserEntity> findAllByEmailIn(Collection<String> emails);
+
 
     @Override
     default UserContract findEntityById(String id) {
@@ -74,17 +85,17 @@ public interface UserRepository extends UserContractRepository, CrudRepository<U
     }
 
     /**
-     * Este método é responsável por criar e retornar uma nova instância de {@link UserMapper}.
+     * Este método é responsável por retornar a instância compartilhada de {@link UserMapper}, registrada no {@link MapperRegistry}.
      * <p>
      * A classe {@link UserMapper} é uma implementação da interface {@link MapperStrategy} que fornece
      * funcionalidade para mapear um objeto {@link UserEntity} (que é compatível com o modelo de dados do banco)
      * para um objeto {@link User}, que representa o modelo de negócio do sistema. Assim, a classe {@link UserMapper}
      * ajuda na conversão entre o modelo de dados e o modelo de negócio quando estamos lidando com informações de usuário.
      *
-     * @return uma nova instância de {@link UserMapper}.
+     * @return a instância compartilhada de {@link UserMapper}.
      */
     private UserMapper getUserMapper() {
-        return new UserMapper();
+        return MapperRegistry.get(UserMapper.class);
     }
 
     /**
@@ -101,7 +112,7 @@ public interface UserRepository extends UserContractRepository, CrudRepository<U
      * @throws UserEntityFailuresException Se o ID do usuário for nulo, vazio ou não for um UUID válido.
      */
     private void validateUserId(String id) throws UserEntityFailuresException {
-        ValidationUtils.validateNotNullOrEmpty(id, INVALID_ID_MESSAGE, UserEntityFailuresException.class);
+        ValidationUtils.validateNotNullOrEmpty(id, INVALID_ID_MESSAGE, UserEntityFailuresException::new);
         try {
             UuidUtils.isValidUUID(id);
         } catch (UuidUtilsException e) {
@@ -136,8 +147,25 @@ public interface UserRepository extends UserContractRepository, CrudRepository<U
 
     @Override
     default UserContract persist(UserContract entity) {
-        ValidationUtils.validateNotNullOrEmpty(entity, REQUIRED_USER_ERROR_MESSAGE, UserEntityFailuresException.class);
-        UserEntity userEntity = BuilderMapper.mapTo(new UserEntityMapper(), entity);
+        ValidationUtils.validateNotNullOrEmpty(entity, REQUIRED_USER_ERROR_MESSAGE, UserEntityFailuresException::new);
+        UserEntity userEntity = BuilderMapper.mapTo(MapperRegistry.get(UserEntityMapper.class), entity);
+        return BuilderMapper.mapTo(this.getUserMapper(), this.save(userEntity));
+    }
+
+    /**
+     * Persiste um usuário recém-criado, marcando o {@link UserEntity} como novo para que o {@code save} o insira
+     * diretamente, sem o {@code SELECT} feito pelo {@code merge}.
+     *
+     * @param entity o usuário recém-criado. Não deve ser nulo.
+     * @return o {@link UserContract} que representa o usuário persistido.
+     * @throws UserEntityFailuresException se o usuário fornecido for nulo.
+     * @since 1.3.0
+     */
+    @Override
+    default UserContract persistNew(UserContract entity) {
+        ValidationUtils.validateNotNullOrEmpty(entity, REQUIRED_USER_ERROR_MESSAGE, UserEntityFailuresException::new);
+        UserEntity userEntity = BuilderMapper.mapTo(MapperRegistry.get(UserEntityMapper.class), entity);
+        userEntity.markNew();
         return BuilderMapper.mapTo(this.getUserMapper(), this.save(userEntity));
     }
 
@@ -150,7 +178,7 @@ public interface UserRepository extends UserContractRepository, CrudRepository<U
 
     @Override
     default UserContract findUserEntityByUserEmail(String userEmail) {
-        ValidationUtils.validateNotNullOrEmpty(userEmail, INVALID_EMAIL_ERROR_MESSAGE, UserEntityFailuresException.class);
+        ValidationUtils.validateNotNullOrEmpty(userEmail, INVALID_EMAIL_ERROR_MESSAGE, UserEntityFailuresException::new);
         Optional<UserEntity> foundUserEntity = this.findByEmail(userEmail);
         return foundUserEntity.map(userEntity -> this.getUserMapper().mapFrom(userEntity)).orElse(null);
     }
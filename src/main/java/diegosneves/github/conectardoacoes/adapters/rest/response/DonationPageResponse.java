@@ -0,0 +1,34 @@
+package diegosneves.github.conectardoacoes.adapters.rest.response;
+
+import diegosneves.github.conectardoacoes.adapters.rest.dto.DonationDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Classe de resposta para a listagem paginada das doações de um abrigo.
+ *
+ * <p>A paginação é feita por chave (keyset) e a classe possui os seguintes atributos:</p>
+ * <ul>
+ *   <li>{@link DonationDTO donations}: as doações da página atual.</li>
+ *   <li>{@link String nextCursor}: o cursor a ser enviado para obter a próxima página, ou {@code null} se esta for a última.</li>
+ * </ul>
+ *
+ * @author diegoneves
+ * @since 1.3.0
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+@Setter
+public class DonationPageResponse {
+
+    private List<DonationDTO> donations;
+    private String nextCursor;
+
+}
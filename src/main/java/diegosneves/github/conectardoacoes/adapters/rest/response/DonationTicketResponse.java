@@ -0,0 +1,38 @@
+package diegosneves.github.conectardoacoes.adapters.rest.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import diegosneves.github.conectardoacoes.adapters.rest.enums.DonationTicketStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Classe de resposta para o recebimento assíncrono de doações.
+ *
+ * <p>A classe possui os seguintes atributos:</p>
+ * <ul>
+ *   <li>{@link String ticketId}: o protocolo gerado para as doações recebidas.</li>
+ *   <li>{@link String responsibleEmail}: o email do responsável pelo abrigo que recebe as doações.</li>
+ *   <li>{@link DonationTicketStatus status}: a situação atual do protocolo.</li>
+ *   <li>{@link String message}: o motivo da falha, presente apenas quando o protocolo falhou.</li>
+ * </ul>
+ *
+ * @author diegoneves
+ * @since 1.3.0
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+@Getter
+@Setter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DonationTicketResponse {
+
+    private String ticketId;
+    private String responsibleEmail;
+    private DonationTicketStatus status;
+    private String message;
+
+}
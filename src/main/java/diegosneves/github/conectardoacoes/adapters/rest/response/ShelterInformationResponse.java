@@ -1,5 +1,6 @@
 package diegosneves.github.conectardoacoes.adapters.rest.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import diegosneves.github.conectardoacoes.adapters.rest.dto.DonationDTO;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,6 +21,8 @@ import java.util.List;
  *   <li>{@link String responsibleEmail}: o email do responsável pela gestão das doações.</li>
  *   <li>{@link DonationDTO donationDTOS}: uma lista de doações recebidas, representadas como objetos da classe DonationDTO.</li>
  * </ul>
+ * <p>
+ * Quando as doações são omitidas da consulta, o campo {@code donationDTOS} não é serializado.
  *
  * @author diegoneves
  * @since 1.1.0
@@ -29,6 +32,7 @@ import java.util.List;
 @Builder
 @Getter
 @Setter
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class ShelterInformationResponse {
 
     private String shelterName;
@@ -0,0 +1,40 @@
+package diegosneves.github.conectardoacoes.adapters.rest.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import diegosneves.github.conectardoacoes.adapters.rest.enums.ShelterOnboardingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Classe de resposta com o resultado de uma das solicitações de um cadastro de abrigos em lote.
+ *
+ * <p>A classe possui os seguintes atributos:</p>
+ * <ul>
+ *   <li>{@link Integer index}: a posição da solicitação na lista recebida.</li>
+ *   <li>{@link String responsibleUserEmail}: o e-mail do usuário responsável informado na solicitação.</li>
+ *   <li>{@link ShelterOnboardingStatus status}: o resultado da solicitação.</li>
+ *   <li>{@link ShelterCreatedResponse shelter}: o abrigo criado, presente apenas quando a solicitação foi atendida.</li>
+ *   <li>{@link String message}: o motivo da falha, presente apenas quando a solicitação foi recusada.</li>
+ * </ul>
+ *
+ * @author diegoneves
+ * @since 1.3.0
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+@Setter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ShelterOnboardingItemResponse {
+
+    private Integer index;
+    private String responsibleUserEmail;
+    private ShelterOnboardingStatus status;
+    private ShelterCreatedResponse shelter;
+    private String message;
+
+}
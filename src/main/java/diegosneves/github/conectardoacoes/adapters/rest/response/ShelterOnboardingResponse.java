@@ -0,0 +1,35 @@
+package diegosneves.github.conectardoacoes.adapters.rest.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Classe de resposta para o cadastro de abrigos em lote.
+ *
+ * <p>A classe possui os seguintes atributos:</p>
+ * <ul>
+ *   <li>{@link Integer created}: a quantidade de abrigos criados.</li>
+ *   <li>{@link Integer failed}: a quantidade de solicitações recusadas.</li>
+ *   <li>{@link ShelterOnboardingItemResponse results}: o resultado de cada solicitação, na mesma ordem em que foram recebidas.</li>
+ * </ul>
+ *
+ * @author diegoneves
+ * @since 1.3.0
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+@Setter
+public class ShelterOnboardingResponse {
+
+    private Integer created;
+    private Integer failed;
+    private List<ShelterOnboardingItemResponse> results;
+
+}
@@ -0,0 +1,33 @@
+package diegosneves.github.conectardoacoes.adapters.rest.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Classe de resposta para a listagem de abrigos paginada por cursor.
+ *
+ * <p>A paginação é feita por chave (keyset), sem o total de registros, e a classe possui os seguintes atributos:</p>
+ * <ul>
+ *   <li>{@link ShelterInformationResponse shelters}: os abrigos da página atual.</li>
+ *   <li>{@link String nextCursor}: o cursor a ser enviado para obter a próxima página, ou {@code null} se esta for a última.</li>
+ * </ul>
+ *
+ * @author diegoneves
+ * @since 1.3.0
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+@Setter
+public class ShelterPageResponse {
+
+    private List<ShelterInformationResponse> shelters;
+    private String nextCursor;
+
+}
@@ -5,6 +5,8 @@ import diegosneves.github.conectardoacoes.adapters.rest.exception.DonationEntity
 import diegosneves.github.conectardoacoes.adapters.rest.model.DonationEntity;
 import diegosneves.github.conectardoacoes.core.domain.shelter.entity.value.Donation;
 
+import java.util.List;
+
 /**
  * Interface para o serviço de manipulação de doações {@link DonationEntityService}.
  * Fornece métodos para realizar operações como conversão e persistência de doações em nossa base de dados.
@@ -36,4 +38,32 @@ public interface DonationEntityService {
      */
     DonationEntity convertAndSaveDonationDTO(DonationDTO donationDTO) throws DonationEntityFailuresException;
 
+    /**
+     * Este método é responsável por converter uma lista de {@link DonationDTO} em objetos de domínio {@link Donation}.
+     * <p>
+     * Cada {@link DonationDTO} é validado e convertido em uma {@link Donation} com um novo identificador. Nenhuma escrita
+     * é feita no banco de dados: a persistência fica a cargo de quem recebe as doações, o que permite gravar todas
+     * elas de uma só vez junto ao abrigo de destino.
+     *
+     * @param donationDTOS A lista de {@link DonationDTO} que precisa ser convertida. Não deve ser nula ou vazia.
+     * @return A lista de {@link Donation} convertidas, na mesma ordem da lista recebida.
+     * @throws DonationEntityFailuresException Se a lista fornecida for nula, vazia ou se algum {@link DonationDTO} não contiver as informações necessárias.
+     * @since 1.3.0
+     */
+    List<Donation> convertDonationDTOs(List<DonationDTO> donationDTOS) throws DonationEntityFailuresException;
+
+    /**
+     * Recupera uma página das doações de um abrigo, partindo da doação seguinte ao ID informado.
+     * <p>
+     * As doações são ordenadas pelo ID e a busca é feita por chave (keyset), de modo que o custo de cada página não
+     * depende da sua posição na listagem.
+     *
+     * @param shelterId O ID do abrigo cujas doações serão listadas.
+     * @param afterId   O ID da última doação já retornada, ou uma {@link String} vazia para a primeira página.
+     * @param limit     A quantidade máxima de doações a serem retornadas.
+     * @return A lista de {@link DonationEntity} da página, ordenada pelo ID.
+     * @since 1.3.0
+     */
+    List<DonationEntity> findShelterDonationsAfter(String shelterId, String afterId, int limit);
+
 }
@@ -0,0 +1,38 @@
+package diegosneves.github.conectardoacoes.adapters.rest.service;
+
+import diegosneves.github.conectardoacoes.adapters.rest.exception.ShelterEntityFailuresException;
+import diegosneves.github.conectardoacoes.adapters.rest.request.ReceiveDonationRequest;
+import diegosneves.github.conectardoacoes.adapters.rest.response.DonationTicketResponse;
+
+/**
+ * Interface para o serviço de recebimento assíncrono de doações {@link DonationIntakeService}.
+ * <p>
+ * As doações recebidas são validadas, colocadas em uma fila em memória, com capacidade limitada e particionada por
+ * abrigo, e confirmadas imediatamente com um protocolo. Cada partição é consumida por um único processo, que agrupa as
+ * doações pendentes de um mesmo abrigo e as registra em um único lote por meio de {@link ShelterEntityService}.
+ *
+ * @author diegoneves
+ * @since 1.3.0
+ */
+public interface DonationIntakeService {
+
+    /**
+     * Valida e enfileira as doações de uma requisição, retornando o protocolo gerado.
+     *
+     * @param request a requisição com o email do responsável pelo abrigo e as doações recebidas.
+     * @return um {@link DonationTicketResponse} com o protocolo gerado, na situação {@code PENDING}, ou já na situação
+     * {@code COMPLETED} quando o recebimento assíncrono está desabilitado e as doações são registradas na própria requisição.
+     * @throws ShelterEntityFailuresException se a requisição for inválida ou se a fila do abrigo estiver cheia.
+     */
+    DonationTicketResponse enqueue(ReceiveDonationRequest request);
+
+    /**
+     * Consulta a situação de um protocolo de doação.
+     *
+     * @param ticketId o protocolo retornado no recebimento das doações.
+     * @return um {@link DonationTicketResponse} com a situação atual do protocolo.
+     * @throws ShelterEntityFailuresException se o protocolo não for encontrado.
+     */
+    DonationTicketResponse findTicket(String ticketId);
+
+}
@@ -0,0 +1,39 @@
+package diegosneves.github.conectardoacoes.adapters.rest.service;
+
+import diegosneves.github.conectardoacoes.adapters.rest.exception.ShelterEntityFailuresException;
+import org.springframework.http.ResponseEntity;
+
+import java.util.function.Supplier;
+
+/**
+ * Interface para o serviço de idempotência das requisições de escrita {@link IdempotencyService}.
+ * <p>
+ * Quando o cliente envia o cabeçalho {@code Idempotency-Key}, a resposta da primeira execução é registrada por um tempo
+ * limitado. Repetições da mesma requisição com a mesma chave são respondidas a partir do registro, sem executar
+ * novamente a operação.
+ *
+ * @author diegoneves
+ * @since 1.3.0
+ */
+public interface IdempotencyService {
+
+    /**
+     * Executa a operação informada uma única vez por chave de idempotência.
+     * <p>
+     * Sem chave, a operação é sempre executada. Com chave, a primeira requisição executa a operação e registra a sua
+     * resposta; as seguintes recebem a resposta registrada, identificada pelo cabeçalho {@code Idempotent-Replayed}.
+     * Falhas não são registradas, permitindo que a requisição seja repetida.
+     *
+     * @param idempotencyKey a chave enviada pelo cliente, ou {@code null} quando ausente.
+     * @param operation      o nome da operação, que, junto com o usuário autenticado, quando houver, delimita o escopo da chave.
+     * @param request        o corpo da requisição, utilizado para detectar a reutilização da chave em outra requisição.
+     * @param responseType   o tipo do corpo da resposta.
+     * @param action         a operação a ser executada.
+     * @param <T>            o tipo do corpo da resposta.
+     * @return a resposta da operação, executada agora ou registrada anteriormente.
+     * @throws ShelterEntityFailuresException se uma requisição com a mesma chave ainda estiver em processamento ou se a
+     *                                        chave já tiver sido utilizada com um corpo diferente.
+     */
+    <T> ResponseEntity<T> execute(String idempotencyKey, String operation, Object request, Class<T> responseType, Supplier<ResponseEntity<T>> action);
+
+}
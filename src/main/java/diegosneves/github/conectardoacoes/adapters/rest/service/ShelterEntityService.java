@@ -5,8 +5,10 @@ import diegosneves.github.conectardoacoes.adapters.rest.exception.ShelterEntityF
 import diegosneves.github.conectardoacoes.adapters.rest.model.DonationEntity;
 import diegosneves.github.conectardoacoes.adapters.rest.request.ReceiveDonationRequest;
 import diegosneves.github.conectardoacoes.adapters.rest.request.ShelterCreationRequest;
+import diegosneves.github.conectardoacoes.adapters.rest.response.DonationPageResponse;
 import diegosneves.github.conectardoacoes.adapters.rest.response.ShelterCreatedResponse;
 import diegosneves.github.conectardoacoes.adapters.rest.response.ShelterInformationResponse;
+import diegosneves.github.conectardoacoes.adapters.rest.response.ShelterPageResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -73,11 +75,45 @@ public interface ShelterEntityService {
 
     ShelterInformationResponse findShelterByUserResponsibleEmail(String userResponsibleEmail);
 
+    /**
+     * Método para encontrar um abrigo pelo email do responsável, permitindo omitir a lista de doações da resposta.
+     * <p>
+     * Quando {@code includeDonations} for {@code false}, o campo {@code donationDTOS} não é preenchido, e a resposta
+     * contém apenas os dados do abrigo e do responsável, com tamanho fixo. As doações podem então ser consultadas de
+     * forma paginada por meio de {@link #findDonations(String, String, Integer)}.
+     *
+     * @param userResponsibleEmail o e-mail do usuário responsável pelo abrigo.
+     * @param includeDonations     indica se as doações do abrigo devem ser incluídas na resposta.
+     * @return um objeto {@link ShelterInformationResponse} com as informações do abrigo.
+     * @throws ShelterEntityFailuresException se o e-mail informado não estiver associado a nenhum abrigo.
+     * @since 1.3.0
+     */
+    ShelterInformationResponse findShelterByUserResponsibleEmail(String userResponsibleEmail, boolean includeDonations);
+
+    /**
+     * Método para listar as doações de um abrigo de forma paginada por chave (keyset).
+     * <p>
+     * As doações são ordenadas pelo ID. A primeira página é obtida sem cursor, e cada página retorna o cursor da página
+     * seguinte, que deve ser reenviado para continuar a listagem. O custo de cada página não depende da sua posição.
+     *
+     * @param shelterId o ID do abrigo cujas doações serão listadas.
+     * @param cursor    o cursor retornado pela página anterior, ou {@code null} para a primeira página.
+     * @param size      a quantidade de doações por página. Quando ausente, é usado um tamanho padrão; valores acima do
+     *                  limite máximo são reduzidos a ele.
+     * @return um objeto {@link DonationPageResponse} com as doações da página e o cursor da próxima página.
+     * @throws ShelterEntityFailuresException se o ID do abrigo for inválido, se o abrigo não existir ou se o cursor for inválido.
+     * @since 1.3.0
+     */
+    DonationPageResponse findDonations(String shelterId, String cursor, Integer size);
+
     /**
      * Método utilizado para encontrar todos os abrigos com paginação.
      * Recupera uma página de informações de abrigos do sistema com base nas informações de paginação fornecidas.
      * Este método é responsável por retornar uma lista paginada de {@link ShelterInformationResponse},
      * que contém detalhes sobre os abrigos registrados no sistema.
+     * <p>
+     * As doações de cada abrigo são apresentadas a partir do seu estoque consolidado, como em
+     * {@link #getShelter(String)}.
      *
      * @param pageable um objeto {@link Pageable} que define as informações de paginação, como número da página
      *                 e tamanho da página, para controlar o retorno das informações de abrigos.
@@ -86,4 +122,21 @@ public interface ShelterEntityService {
 
     Page<ShelterInformationResponse> findAll(Pageable pageable);
 
+    /**
+     * Método utilizado para percorrer todos os abrigos com paginação por chave (keyset).
+     * <p>
+     * Os abrigos são ordenados pelo ID e cada página é buscada a partir do ID do último abrigo da página anterior,
+     * informado por meio do cursor. Diferentemente de {@link #findAll(Pageable)}, não há contagem do total de abrigos
+     * nem descarte de registros de páginas anteriores, de modo que o custo de cada página é o mesmo em qualquer
+     * profundidade da listagem.
+     *
+     * @param cursor o cursor retornado pela página anterior, ou {@code null} para a primeira página.
+     * @param size   a quantidade de abrigos por página. Quando ausente, é usado um tamanho padrão; valores acima do
+     *               limite máximo são reduzidos a ele.
+     * @return um objeto {@link ShelterPageResponse} com os abrigos da página e o cursor da próxima página.
+     * @throws ShelterEntityFailuresException se o cursor informado for inválido.
+     * @since 1.3.0
+     */
+    ShelterPageResponse findAllAfter(String cursor, Integer size);
+
 }
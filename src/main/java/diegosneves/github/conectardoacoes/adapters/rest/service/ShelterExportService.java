@@ -0,0 +1,33 @@
+package diegosneves.github.conectardoacoes.adapters.rest.service;
+
+import diegosneves.github.conectardoacoes.adapters.rest.enums.ExportFormat;
+import diegosneves.github.conectardoacoes.adapters.rest.model.ShelterEntity;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Interface para o serviço de exportação dos abrigos e de suas doações {@link ShelterExportService}.
+ * <p>
+ * A exportação percorre todos os abrigos cadastrados como um fluxo ({@link java.util.stream.Stream}) lido do banco de
+ * dados em lotes, escrevendo cada abrigo na saída assim que ele é lido. Dessa forma, o consumo de memória não depende
+ * da quantidade de abrigos cadastrados.
+ *
+ * @author diegoneves
+ * @since 1.3.0
+ */
+public interface ShelterExportService {
+
+    /**
+     * Exporta todos os abrigos cadastrados, com as suas doações, no formato informado.
+     * <p>
+     * Cada {@link ShelterEntity} é escrito na saída e desanexado do contexto de persistência logo em seguida. A saída
+     * não é fechada ao final da exportação.
+     *
+     * @param format       o formato da exportação.
+     * @param outputStream a saída onde os abrigos serão escritos.
+     * @throws IOException se ocorrer uma falha ao escrever na saída.
+     */
+    void exportShelters(ExportFormat format, OutputStream outputStream) throws IOException;
+
+}
@@ -0,0 +1,75 @@
+package diegosneves.github.conectardoacoes.adapters.rest.service;
+
+import diegosneves.github.conectardoacoes.adapters.rest.dto.DonationDTO;
+import diegosneves.github.conectardoacoes.adapters.rest.model.ShelterEntity;
+import diegosneves.github.conectardoacoes.adapters.rest.model.ShelterInventoryEntity;
+import diegosneves.github.conectardoacoes.core.domain.shelter.entity.value.Donation;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interface para o serviço de manutenção do estoque de doações dos abrigos {@link ShelterInventoryService}.
+ * <p>
+ * O estoque é uma visão consolidada das doações de cada abrigo: um registro por item, identificado pela descrição
+ * normalizada, com a soma das quantidades recebidas. Ele é atualizado de forma incremental a cada doação recebida,
+ * de modo que a leitura das doações de um abrigo depende apenas da quantidade de itens distintos, e não da quantidade
+ * de doações registradas.
+ *
+ * @author diegoneves
+ * @since 1.3.0
+ */
+public interface ShelterInventoryService {
+
+    /**
+     * Soma as doações recebidas ao estoque do abrigo informado.
+     * <p>
+     * As doações são agrupadas pela descrição normalizada e cada item é atualizado com um incremento atômico. Itens que
+     * ainda não existem no estoque do abrigo são criados.
+     *
+     * @param shelter   A entidade {@link ShelterEntity} que recebe as doações. Não deve ser nula.
+     * @param donations A lista de {@link Donation} recebidas pelo abrigo.
+     */
+    void registerDonations(ShelterEntity shelter, List<Donation> donations);
+
+    /**
+     * Soma as doações recebidas ao estoque do abrigo com o ID informado, sem que a entidade do abrigo precise estar carregada.
+     *
+     * @param shelterId O ID do abrigo que recebe as doações. Não deve ser nulo.
+     * @param donations A lista de {@link Donation} recebidas pelo abrigo.
+     * @see #registerDonations(ShelterEntity, List)
+     */
+    void registerDonations(String shelterId, List<Donation> donations);
+
+    /**
+     * Recupera o estoque consolidado de um abrigo como uma lista de {@link DonationDTO}, um por item.
+     *
+     * @param shelter A entidade {@link ShelterEntity} cujo estoque será recuperado. Não deve ser nula.
+     * @return Uma lista de {@link DonationDTO} com a descrição e a quantidade total de cada item do estoque do abrigo.
+     * @see ShelterInventoryEntity
+     */
+    List<DonationDTO> getInventory(ShelterEntity shelter);
+
+    /**
+     * Recupera o estoque consolidado do abrigo com o ID informado, sem que a entidade do abrigo precise estar carregada.
+     *
+     * @param shelterId O ID do abrigo cujo estoque será recuperado. Não deve ser nulo.
+     * @return Uma lista de {@link DonationDTO} com a descrição e a quantidade total de cada item do estoque do abrigo.
+     * @see #getInventory(ShelterEntity)
+     */
+    List<DonationDTO> getInventory(String shelterId);
+
+    /**
+     * Recupera, com uma quantidade constante de consultas, o estoque consolidado de cada um dos abrigos informados.
+     * <p>
+     * Os estoques de todos os abrigos são lidos em uma única consulta. Os abrigos sem itens recebem uma lista vazia.
+     *
+     * @param shelterIds Os IDs dos abrigos cujos estoques serão recuperados. Não deve ser nulo.
+     * @return Um {@link Map} com a lista de {@link DonationDTO} do estoque de cada abrigo, indexado pelo ID do abrigo.
+     * Todos os IDs informados estão presentes no mapa.
+     * @see #getInventory(String)
+     */
+    Map<String, List<DonationDTO>> getInventories(Collection<String> shelterIds);
+
+}
@@ -0,0 +1,33 @@
+package diegosneves.github.conectardoacoes.adapters.rest.service;
+
+import diegosneves.github.conectardoacoes.adapters.rest.exception.ShelterEntityFailuresException;
+import diegosneves.github.conectardoacoes.adapters.rest.request.ShelterCreationRequest;
+import diegosneves.github.conectardoacoes.adapters.rest.response.ShelterOnboardingResponse;
+
+import java.util.List;
+
+/**
+ * Interface para o serviço de cadastro de abrigos em lote {@link ShelterOnboardingService}.
+ * <p>
+ * Destinado à implantação de um município inteiro de uma só vez: os usuários responsáveis e os abrigos já existentes
+ * são consultados em conjunto para todo o lote, e os endereços e abrigos novos são gravados com escritas em lote, em
+ * vez de uma sequência de consultas e gravações por abrigo.
+ *
+ * @author diegoneves
+ * @since 1.3.0
+ */
+public interface ShelterOnboardingService {
+
+    /**
+     * Cria os abrigos das solicitações informadas, retornando o resultado de cada uma.
+     * <p>
+     * Uma solicitação inválida não interrompe o lote: ela é recusada e o motivo é informado no seu resultado, enquanto
+     * as demais seguem sendo criadas.
+     *
+     * @param requests as solicitações de criação de abrigo.
+     * @return um {@link ShelterOnboardingResponse} com o resultado de cada solicitação, na ordem em que foram recebidas.
+     * @throws ShelterEntityFailuresException se a lista de solicitações for nula, vazia ou maior que o limite permitido.
+     */
+    ShelterOnboardingResponse createShelters(List<ShelterCreationRequest> requests);
+
+}
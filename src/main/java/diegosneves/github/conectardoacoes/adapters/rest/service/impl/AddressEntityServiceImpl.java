@@ -6,6 +6,7 @@ import diegosneves.github.conectardoacoes.adapters.rest.dto.AddressDTO;
 import diegosneves.github.conectardoacoes.adapters.rest.exception.AddressEntityFailuresException;
 import diegosneves.github.conectardoacoes.adapters.rest.mapper.AddressEntityMapper;
 import diegosneves.github.conectardoacoes.adapters.rest.mapper.BuilderMapper;
+import diegosneves.github.conectardoacoes.adapters.rest.mapper.MapperRegistry;
 import diegosneves.github.conectardoacoes.adapters.rest.model.AddressEntity;
 import diegosneves.github.conectardoacoes.adapters.rest.repository.AddressRepository;
 import diegosneves.github.conectardoacoes.adapters.rest.response.AddressApiResponse;
@@ -14,6 +15,7 @@ import diegosneves.github.conectardoacoes.core.domain.shelter.entity.value.Addre
 import diegosneves.github.conectardoacoes.core.exception.AddressCreationFailureException;
 import diegosneves.github.conectardoacoes.core.service.AddressService;
 import diegosneves.github.conectardoacoes.core.service.AddressServiceContract;
+import diegosneves.github.conectardoacoes.core.utils.LogGuard;
 import diegosneves.github.conectardoacoes.core.utils.ValidationUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -68,12 +70,12 @@ public class AddressEntityServiceImpl implements AddressEntityService {
 
     @Override
     public Address createAndSaveAddressFromDto(AddressDTO address) throws AddressEntityFailuresException {
-        ValidationUtils.validateNotNullOrEmpty(address, ADDRESS_CREATION_ERROR, AddressEntityFailuresException.class);
+        ValidationUtils.validateNotNullOrEmpty(address, ADDRESS_CREATION_ERROR, AddressEntityFailuresException::new);
         Address newAddress;
         try {
             newAddress = this.addressServiceContract.createAddress(address.getStreet(), address.getNumber(), address.getNeighborhood(), address.getCity(), address.getState(), address.getZip());
         } catch (AddressCreationFailureException e) {
-            log.error(CREATION_FAILURE_LOG, e.getMessage(), e);
+            LogGuard.error(log, CREATION_FAILURE_LOG, e.getMessage(), e);
             throw new AddressEntityFailuresException(ADDRESS_CREATION_ERROR, e);
         }
         this.mapAddressAndSaveToRepository(newAddress);
@@ -82,7 +84,7 @@ public class AddressEntityServiceImpl implements AddressEntityService {
 
     /**
      * Este método é responsável por mapear um objeto de endereço para a entidade relevante e salvá-lo no repositório.
-     * Usa o {@link BuilderMapper} para mapear o endereço, depois salva no repositório.
+     * Usa o {@link BuilderMapper} para mapear o endereço, marca a entidade como nova e depois salva no repositório.
      *
      * @param address - Um objeto de endereço que precisa ser mapeado e salvo.
      * @throws AddressEntityFailuresException - Se ocorrer uma exceção durante o mapeamento, será lançada uma {@link AddressEntityFailuresException}.
@@ -91,18 +93,19 @@ public class AddressEntityServiceImpl implements AddressEntityService {
     private void mapAddressAndSaveToRepository(Address address) throws AddressEntityFailuresException {
         AddressEntity addressEntity;
         try {
-            addressEntity = BuilderMapper.mapTo(new AddressEntityMapper(), address);
+            addressEntity = BuilderMapper.mapTo(MapperRegistry.get(AddressEntityMapper.class), address);
         } catch (RuntimeException e) {
-            log.error(ADDRESS_MAPPING_ERROR_LOG, e.getMessage(), e);
+            LogGuard.error(log, ADDRESS_MAPPING_ERROR_LOG, e.getMessage(), e);
             throw new AddressEntityFailuresException(ERROR_MAPPING_ADDRESS, e);
         }
+        addressEntity.markNew();
         this.repository.save(addressEntity);
         log.info(ADDRESS_REGISTRATION_SUCCESS_LOG, address.getId(), address.getZip());
     }
 
     @Override
     public AddressApiResponseDTO restrieveAddress(String zipcode) {
-        ValidationUtils.validateNotNullOrEmpty(zipcode, ZIPCODE_INVALID_FAILURE, AddressEntityFailuresException.class);
+        ValidationUtils.validateNotNullOrEmpty(zipcode, ZIPCODE_INVALID_FAILURE, AddressEntityFailuresException::new);
         AddressApiResponse addressApiResponse = this.addressAdapter.retrieveAddress(zipcode);
         return addressApiResponse.convertToDTO();
     }
@@ -4,17 +4,22 @@ import diegosneves.github.conectardoacoes.adapters.rest.dto.DonationDTO;
 import diegosneves.github.conectardoacoes.adapters.rest.exception.DonationEntityFailuresException;
 import diegosneves.github.conectardoacoes.adapters.rest.mapper.BuilderMapper;
 import diegosneves.github.conectardoacoes.adapters.rest.mapper.DonationEntityMapper;
+import diegosneves.github.conectardoacoes.adapters.rest.mapper.MapperRegistry;
 import diegosneves.github.conectardoacoes.adapters.rest.model.DonationEntity;
 import diegosneves.github.conectardoacoes.adapters.rest.repository.DonationRepository;
 import diegosneves.github.conectardoacoes.adapters.rest.service.DonationEntityService;
 import diegosneves.github.conectardoacoes.core.domain.shelter.entity.value.Donation;
 import diegosneves.github.conectardoacoes.core.service.DonationService;
 import diegosneves.github.conectardoacoes.core.service.DonationServiceContract;
+import diegosneves.github.conectardoacoes.core.utils.LogGuard;
 import diegosneves.github.conectardoacoes.core.utils.ValidationUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 /**
  * Serviço responsável pela lógica de negócios relacionada à gestão de doações.
  * <p>
@@ -50,15 +55,39 @@ public class DonationEntityServiceImpl implements DonationEntityService {
 
     @Override
     public DonationEntity convertAndSaveDonationDTO(DonationDTO donationDTO) {
-        ValidationUtils.validateNotNullOrEmpty(donationDTO, 5, INVALID_DONATION_INFO_ERROR, DonationEntityFailuresException.class);
+        ValidationUtils.validateNotNullOrEmpty(donationDTO, 5, INVALID_DONATION_INFO_ERROR, DonationEntityFailuresException::new);
         return this.convertDonationDTOToDonationEntity(donationDTO);
     }
 
+    @Override
+    public List<Donation> convertDonationDTOs(List<DonationDTO> donationDTOS) {
+        ValidationUtils.ensureListIsNotNullOrEmpty(donationDTOS, 5, INVALID_DONATION_INFO_ERROR, DonationEntityFailuresException::new);
+        return donationDTOS.stream().map(this::validateAndCreateDonation).toList();
+    }
+
+    @Override
+    public List<DonationEntity> findShelterDonationsAfter(String shelterId, String afterId, int limit) {
+        return this.repository.findShelterDonationsAfter(shelterId, afterId, PageRequest.ofSize(limit));
+    }
+
+    /**
+     * Valida um objeto {@link DonationDTO} e cria a {@link Donation} correspondente, sem persisti-la.
+     *
+     * @param donationDTO O objeto de doação na forma de um Data Transfer Object (DTO) a ser convertido.
+     * @return A {@link Donation} criada a partir do DTO fornecido.
+     * @throws DonationEntityFailuresException se o {@link DonationDTO} for nulo ou se não foi possível criar a {@link Donation}.
+     */
+    private Donation validateAndCreateDonation(DonationDTO donationDTO) {
+        ValidationUtils.validateNotNullOrEmpty(donationDTO, 5, INVALID_DONATION_INFO_ERROR, DonationEntityFailuresException::new);
+        return this.createDonation(donationDTO);
+    }
+
     /**
      * Converte um objeto {@link DonationDTO} em um objeto {@link DonationEntity}.
      * <p>
      * Este método primeiro cria um objeto {@link Donation} a partir do DTO do objeto de doação fornecido.
-     * Em seguida, ele mapeia o objeto {@link Donation} para um objeto {@link DonationEntity} usando o mapeador de entities de doação.
+     * Em seguida, ele mapeia o objeto {@link Donation} para um objeto {@link DonationEntity} usando o mapeador de entities de doação
+     * e o marca como novo, para que seja inserido sem a consulta prévia do {@code merge}.
      *
      * @param donationDTO O objeto de doação na forma de um Data Transfer Object (DTO) a ser convertido.
      * @return A entity de doação resultante que foi convertida e mapeada a partir do objeto DTO de doação fornecido.
@@ -67,6 +96,7 @@ public class DonationEntityServiceImpl implements DonationEntityService {
     private DonationEntity convertDonationDTOToDonationEntity(DonationDTO donationDTO) {
         Donation newDonation = this.createDonation(donationDTO);
         DonationEntity donationEntityOutput = BuilderMapper.mapTo(this.getDonationEntityMapperInstance(), newDonation);
+        donationEntityOutput.markNew();
         return this.repository.save(donationEntityOutput);
     }
 
@@ -88,23 +118,23 @@ public class DonationEntityServiceImpl implements DonationEntityService {
         try {
             created = this.donationServiceContract.createDonation(donationDTO.getDescription(), donationDTO.getAmount());
         } catch (RuntimeException e) {
-            log.error(DONATION_CREATION_ERROR_LOG, e.getMessage(), e);
+            LogGuard.error(log, DONATION_CREATION_ERROR_LOG, e.getMessage(), e);
             throw new DonationEntityFailuresException(5, DONATION_CREATION_FAILURE, e);
         }
         return created;
     }
 
     /**
-     * Esta função é responsável por instanciar e retornar uma nova instância de {@link DonationEntityMapper}.
+     * Esta função é responsável por retornar a instância compartilhada de {@link DonationEntityMapper}.
      *
      * <p>O {@link DonationEntityMapper} é uma classe utilizada para mapear uma entidade de doação em outra representação ou formato.
-     * Esta função é utilizada quando uma nova instância dessa classe mapeadora é necessária.
+     * Como o mapeador não possui estado, a mesma instância, registrada no {@link MapperRegistry}, é reutilizada.
      *
-     * @return Uma nova instância de {@link DonationEntityMapper}. Cada chamada a esta função irá gerar uma nova instância.
+     * @return A instância de {@link DonationEntityMapper} registrada no {@link MapperRegistry}.
      * @see diegosneves.github.conectardoacoes.adapters.rest.mapper.MapperStrategy
      */
     private DonationEntityMapper getDonationEntityMapperInstance() {
-        return new DonationEntityMapper();
+        return MapperRegistry.get(DonationEntityMapper.class);
     }
 
 }
@@ -0,0 +1,345 @@
+package diegosneves.github.conectardoacoes.adapters.rest.service.impl;
+
+import diegosneves.github.conectardoacoes.adapters.rest.dto.DonationDTO;
+import diegosneves.github.conectardoacoes.adapters.rest.enums.DonationTicketStatus;
+import diegosneves.github.conectardoacoes.adapters.rest.exception.ShelterEntityFailuresException;
+import diegosneves.github.conectardoacoes.adapters.rest.repository.ShelterRepository;
+import diegosneves.github.conectardoacoes.adapters.rest.request.ReceiveDonationRequest;
+import diegosneves.github.conectardoacoes.adapters.rest.response.DonationTicketResponse;
+import diegosneves.github.conectardoacoes.adapters.rest.service.DonationEntityService;
+import diegosneves.github.conectardoacoes.adapters.rest.service.DonationIntakeService;
+import diegosneves.github.conectardoacoes.adapters.rest.service.ShelterEntityService;
+import diegosneves.github.conectardoacoes.core.utils.LogGuard;
+import diegosneves.github.conectardoacoes.core.utils.UuidUtils;
+import diegosneves.github.conectardoacoes.core.utils.ValidationUtils;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serviço responsável pelo recebimento assíncrono de doações, com escrita posterior (write-behind) em lotes.
+ * <p>
+ * A fila de recebimento é dividida em partições de capacidade limitada, e cada abrigo, identificado pelo email do seu
+ * responsável, pertence sempre à mesma partição. Cada partição é consumida por uma única thread, que retira as doações
+ * pendentes, agrupa as de um mesmo abrigo e as registra com uma única chamada a
+ * {@link ShelterEntityService#receiveDonation(ReceiveDonationRequest)}. Assim, uma rajada de requisições para o mesmo
+ * abrigo resulta em poucas transações, e os registros de um abrigo nunca concorrem entre si.
+ * <p>
+ * Quando a partição do abrigo está cheia, a requisição é recusada imediatamente, sem bloquear a thread da requisição.
+ * A situação de cada protocolo é mantida em memória, e apenas os protocolos finalizados mais recentes são retidos.
+ * Como a consulta de um protocolo revela o email do responsável, os IDs dos protocolos são sempre aleatórios e
+ * imprevisíveis, gerados por {@link UuidUtils#generateUuid()}.
+ * <p>
+ * Se o registro de um lote falhar, as requisições do lote são registradas uma a uma, de modo que apenas os protocolos
+ * das requisições inválidas sejam marcados como falhos.
+ * <p>
+ * O recebimento assíncrono é habilitado pela propriedade {@code donation-intake.enabled}. As threads de consumo
+ * pertencem a um {@link ThreadPoolTaskExecutor} criado e encerrado junto com o ciclo de vida do contexto, por meio de
+ * {@link SmartLifecycle}, e só existem com o recebimento assíncrono habilitado. Desabilitado, ou após o encerramento das
+ * threads de consumo, quando o servidor web ainda pode receber requisições, as doações são registradas durante a
+ * própria requisição e o protocolo é retornado já finalizado, sem ficarem retidas em uma fila que não será consumida.
+ *
+ * @author diegoneves
+ * @see DonationIntakeService
+ * @since 1.3.0
+ */
+@Service
+@Slf4j
+public class DonationIntakeServiceImpl implements DonationIntakeService, SmartLifecycle {
+
+    public static final Integer DONATION_VALIDATION_ERROR = 13;
+    public static final Integer RESPONSIBLE_EMAIL_NOT_ASSOCIATED_WITH_SHELTER = 17;
+    public static final Integer DONATION_INTAKE_QUEUE_FULL = 43;
+    public static final Integer DONATION_TICKET_NOT_FOUND = 45;
+
+    public static final long POLL_TIMEOUT_MILLIS = 200L;
+    public static final long SHUTDOWN_TIMEOUT_MILLIS = 5000L;
+    public static final String WORKER_NAME_PREFIX = "donation-intake-";
+
+    public static final String QUEUE_FULL_LOG = "A partição {} da fila de doações está cheia. Doação do responsável [{}] recusada.";
+    public static final String BATCH_FLUSHED_LOG = "Lote de {} protocolos registrado para o responsável [{}] com {} doações.";
+    public static final String BATCH_FAILED_LOG = "Falha ao registrar o lote de {} protocolos do responsável [{}]; registrando cada protocolo separadamente. Motivo: {}";
+    public static final String DONATION_FAILED_LOG = "Falha ao registrar o protocolo [{}] do responsável [{}]. Motivo: {}";
+    public static final String WORKER_STOP_FAILED_LOG = "A thread de consumo da fila de doações não terminou corretamente. Motivo: {}";
+
+    private final ShelterEntityService shelterEntityService;
+    private final DonationEntityService donationEntityService;
+    private final ShelterRepository shelterRepository;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final int retainedTickets;
+
+    private final List<BlockingQueue<PendingDonation>> partitions;
+    private final List<Future<Void>> workers = new ArrayList<>();
+    private final Map<String, DonationTicketResponse> tickets = new ConcurrentHashMap<>();
+    private final Queue<String> finishedTickets = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger finishedTicketCount = new AtomicInteger();
+
+    private ThreadPoolTaskExecutor taskExecutor;
+    private volatile boolean running;
+    private volatile boolean accepting;
+
+    @Autowired
+    public DonationIntakeServiceImpl(ShelterEntityService shelterEntityService,
+                                     DonationEntityService donationEntityService,
+                                     ShelterRepository shelterRepository,
+                                     @Value("${donation-intake.enabled:false}") boolean enabled,
+                                     @Value("${donation-intake.partitions:4}") int partitionCount,
+                                     @Value("${donation-intake.queue-capacity:1000}") int queueCapacity,
+                                     @Value("${donation-intake.max-batch-size:200}") int maxBatchSize,
+                                     @Value("${donation-intake.retained-tickets:10000}") int retainedTickets) {
+        this.shelterEntityService = shelterEntityService;
+        this.donationEntityService = donationEntityService;
+        this.shelterRepository = shelterRepository;
+        this.enabled = enabled;
+        this.accepting = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.retainedTickets = retainedTickets;
+        this.partitions = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            this.partitions.add(new ArrayBlockingQueue<>(queueCapacity));
+        }
+    }
+
+    /**
+     * Cria o executor das threads de consumo e inicia uma thread para cada partição da fila. Não faz nada quando o
+     * recebimento assíncrono está desabilitado.
+     */
+    @Override
+    public void start() {
+        if (!this.enabled || this.running) {
+            return;
+        }
+        this.taskExecutor = new ThreadPoolTaskExecutor();
+        this.taskExecutor.setCorePoolSize(this.partitions.size());
+        this.taskExecutor.setMaxPoolSize(this.partitions.size());
+        this.taskExecutor.setQueueCapacity(0);
+        this.taskExecutor.setThreadNamePrefix(WORKER_NAME_PREFIX);
+        this.taskExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        this.taskExecutor.setAwaitTerminationMillis(SHUTDOWN_TIMEOUT_MILLIS);
+        this.taskExecutor.initialize();
+        this.accepting = true;
+        this.running = true;
+        this.partitions.forEach(partition -> this.workers.add(CompletableFuture.runAsync(() -> this.consume(partition), this.taskExecutor)));
+    }
+
+    /**
+     * Interrompe o consumo da fila e encerra o executor. Cada thread registra as doações que ainda estão na sua partição
+     * antes de terminar. A partir deste ponto, as novas doações são registradas durante a própria requisição.
+     */
+    @Override
+    public void stop() {
+        if (!this.running) {
+            return;
+        }
+        this.accepting = false;
+        this.running = false;
+        for (Future<Void> worker : this.workers) {
+            try {
+                worker.get(SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | TimeoutException e) {
+                LogGuard.warn(log, WORKER_STOP_FAILED_LOG, e.getMessage());
+            }
+        }
+        this.workers.clear();
+        this.taskExecutor.shutdown();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return this.running;
+    }
+
+    @Override
+    public DonationTicketResponse enqueue(ReceiveDonationRequest request) {
+        ValidationUtils.validateNotNullOrEmpty(request, DONATION_VALIDATION_ERROR, ShelterEntityFailuresException::new);
+        ValidationUtils.validateNotNullOrEmpty(request.getResponsibleEmail(), RESPONSIBLE_EMAIL_NOT_ASSOCIATED_WITH_SHELTER, ShelterEntityFailuresException::new);
+        this.donationEntityService.convertDonationDTOs(request.getDonationDTOS());
+        if (!this.shelterRepository.existsByResponsibleUser_Email(request.getResponsibleEmail())) {
+            throw new ShelterEntityFailuresException(RESPONSIBLE_EMAIL_NOT_ASSOCIATED_WITH_SHELTER);
+        }
+
+        DonationTicketResponse ticket = DonationTicketResponse.builder()
+                .ticketId(UuidUtils.generateUuid())
+                .responsibleEmail(request.getResponsibleEmail())
+                .status(DonationTicketStatus.PENDING)
+                .build();
+        this.tickets.put(ticket.getTicketId(), ticket);
+        if (!this.accepting) {
+            return this.receiveNow(ticket, request);
+        }
+
+        int partitionIndex = this.partitionOf(request.getResponsibleEmail());
+        BlockingQueue<PendingDonation> partition = this.partitions.get(partitionIndex);
+        PendingDonation pending = new PendingDonation(ticket.getTicketId(), request.getResponsibleEmail(), List.copyOf(request.getDonationDTOS()));
+        if (!partition.offer(pending)) {
+            this.tickets.remove(ticket.getTicketId());
+            LogGuard.warn(log, QUEUE_FULL_LOG, partitionIndex, request.getResponsibleEmail());
+            throw new ShelterEntityFailuresException(DONATION_INTAKE_QUEUE_FULL);
+        }
+        if (!this.accepting && partition.remove(pending)) {
+            return this.receiveNow(ticket, request);
+        }
+        return ticket;
+    }
+
+    @Override
+    public DonationTicketResponse findTicket(String ticketId) {
+        DonationTicketResponse ticket = ticketId == null ? null : this.tickets.get(ticketId);
+        if (ticket == null) {
+            throw new ShelterEntityFailuresException(DONATION_TICKET_NOT_FOUND, ticketId);
+        }
+        return ticket;
+    }
+
+    /**
+     * Registra as doações durante a própria requisição, quando o recebimento assíncrono está desabilitado ou as threads
+     * de consumo já foram encerradas. Em caso de falha, o protocolo é descartado e a exceção é propagada para a
+     * requisição.
+     *
+     * @param ticket  o protocolo gerado para a requisição.
+     * @param request a requisição validada.
+     * @return o protocolo finalizado.
+     */
+    private DonationTicketResponse receiveNow(DonationTicketResponse ticket, ReceiveDonationRequest request) {
+        try {
+            this.shelterEntityService.receiveDonation(new ReceiveDonationRequest(request.getResponsibleEmail(), List.copyOf(request.getDonationDTOS())));
+        } catch (RuntimeException e) {
+            this.tickets.remove(ticket.getTicketId());
+            throw e;
+        }
+        this.finishTicket(ticket.getTicketId(), DonationTicketStatus.COMPLETED, null);
+        return this.findTicket(ticket.getTicketId());
+    }
+
+    /**
+     * Consome continuamente uma partição da fila, retirando até {@code maxBatchSize} doações pendentes por vez.
+     * Ao ser interrompido, registra as doações que ainda restam na partição.
+     *
+     * @param partition a partição consumida por esta thread.
+     */
+    private void consume(BlockingQueue<PendingDonation> partition) {
+        List<PendingDonation> batch = new ArrayList<>(this.maxBatchSize);
+        try {
+            while (this.running) {
+                PendingDonation first = partition.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                partition.drainTo(batch, this.maxBatchSize - 1);
+                this.flush(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        partition.drainTo(batch);
+        this.flush(batch);
+    }
+
+    /**
+     * Agrupa as doações pendentes por abrigo e registra cada grupo com uma única chamada ao serviço de abrigos,
+     * atualizando a situação dos protocolos envolvidos.
+     *
+     * @param batch as doações pendentes retiradas da fila.
+     */
+    void flush(List<PendingDonation> batch) {
+        Map<String, List<PendingDonation>> byShelter = new LinkedHashMap<>();
+        batch.forEach(pending -> byShelter.computeIfAbsent(pending.getResponsibleEmail(), email -> new ArrayList<>()).add(pending));
+        byShelter.forEach(this::flushShelter);
+    }
+
+    /**
+     * Registra as doações de um abrigo com uma única chamada. Se o lote falhar, nada é gravado, e cada requisição do
+     * lote é registrada separadamente, para que apenas as inválidas tenham o protocolo marcado como falho.
+     *
+     * @param responsibleEmail o email do responsável pelo abrigo.
+     * @param pendingDonations as requisições pendentes do abrigo, na ordem de chegada.
+     */
+    private void flushShelter(String responsibleEmail, List<PendingDonation> pendingDonations) {
+        if (pendingDonations.size() == 1) {
+            this.flushSingle(pendingDonations.get(0));
+            return;
+        }
+        List<DonationDTO> donations = pendingDonations.stream().flatMap(pending -> pending.getDonations().stream()).toList();
+        try {
+            this.shelterEntityService.receiveDonation(new ReceiveDonationRequest(responsibleEmail, donations));
+            log.info(BATCH_FLUSHED_LOG, pendingDonations.size(), responsibleEmail, donations.size());
+            pendingDonations.forEach(pending -> this.finishTicket(pending.getTicketId(), DonationTicketStatus.COMPLETED, null));
+        } catch (RuntimeException e) {
+            LogGuard.warn(log, BATCH_FAILED_LOG, pendingDonations.size(), responsibleEmail, e.getMessage());
+            pendingDonations.forEach(this::flushSingle);
+        }
+    }
+
+    private void flushSingle(PendingDonation pending) {
+        try {
+            this.shelterEntityService.receiveDonation(new ReceiveDonationRequest(pending.getResponsibleEmail(), pending.getDonations()));
+            this.finishTicket(pending.getTicketId(), DonationTicketStatus.COMPLETED, null);
+        } catch (RuntimeException e) {
+            LogGuard.error(log, DONATION_FAILED_LOG, pending.getTicketId(), pending.getResponsibleEmail(), e.getMessage(), e);
+            this.finishTicket(pending.getTicketId(), DonationTicketStatus.FAILED, e.getMessage());
+        }
+    }
+
+    /**
+     * Registra a situação final de um protocolo, descartando os protocolos finalizados mais antigos quando o limite de
+     * protocolos retidos é ultrapassado.
+     */
+    private void finishTicket(String ticketId, DonationTicketStatus status, String message) {
+        this.tickets.computeIfPresent(ticketId, (id, ticket) -> ticket.toBuilder().status(status).message(message).build());
+        this.finishedTickets.add(ticketId);
+        if (this.finishedTicketCount.incrementAndGet() > this.retainedTickets) {
+            String oldest = this.finishedTickets.poll();
+            if (oldest != null) {
+                this.tickets.remove(oldest);
+                this.finishedTicketCount.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Determina a partição de um abrigo a partir do email do seu responsável.
+     */
+    int partitionOf(String responsibleEmail) {
+        return Math.floorMod(responsibleEmail.hashCode(), this.partitions.size());
+    }
+
+    /**
+     * Doações de uma requisição aguardando o registro na fila.
+     */
+    @Getter
+    @AllArgsConstructor
+    static final class PendingDonation {
+
+        private final String ticketId;
+        private final String responsibleEmail;
+        private final List<DonationDTO> donations;
+
+    }
+
+}
@@ -0,0 +1,404 @@
+package diegosneves.github.conectardoacoes.adapters.rest.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import diegosneves.github.conectardoacoes.adapters.rest.exception.MapperFailureException;
+import diegosneves.github.conectardoacoes.adapters.rest.exception.ShelterEntityFailuresException;
+import diegosneves.github.conectardoacoes.adapters.rest.model.IdempotencyRecordEntity;
+import diegosneves.github.conectardoacoes.adapters.rest.repository.IdempotencyRecordRepository;
+import diegosneves.github.conectardoacoes.adapters.rest.service.IdempotencyService;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Serviço responsável por registrar as respostas das requisições de escrita por chave de idempotência.
+ * <p>
+ * As chaves são delimitadas pela operação e, quando houver, pelo usuário autenticado, de modo que usuários distintos
+ * podem usar a mesma chave sem receber a resposta um do outro. Requisições sem autenticação compartilham o mesmo escopo:
+ * o endereço remoto não é usado, pois muda entre as tentativas de um cliente móvel e é o mesmo para todos os clientes
+ * atrás de um proxy. A impressão digital do corpo impede que uma chave reutilizada devolva a resposta de outra requisição.
+ * <p>
+ * Por padrão, as respostas são mantidas em memória, em um mapa com quantidade máxima de chaves e tempo de expiração.
+ * Quando o limite é atingido, as chaves concluídas mais antigas são descartadas; chaves em processamento nunca são
+ * descartadas. Com a persistência habilitada, a tabela {@code idempotency_records} passa a ser a única fonte das chaves:
+ * a reserva é a inserção do registro, e a chave primária garante que apenas uma requisição, em qualquer instância,
+ * processe cada chave. Os registros expirados são removidos periodicamente.
+ * <p>
+ * Cada chave é associada à impressão digital (SHA-256) do corpo da requisição. Enquanto a primeira requisição está em
+ * processamento, repetições com a mesma chave são recusadas, e a reutilização da chave com outro corpo também é recusada.
+ * A reserva de uma chave ainda em processamento vale apenas pelo prazo de concessão
+ * ({@code idempotency.reservation-lease-seconds}), bem menor que o tempo de expiração das respostas: se a requisição
+ * original não for concluída nesse prazo, por exemplo pela queda da instância, uma repetição assume a reserva e executa
+ * a operação. Apenas a requisição que detém a reserva pode concluí-la ou liberá-la.
+ *
+ * @author diegoneves
+ * @see IdempotencyService
+ * @since 1.3.0
+ */
+@Service
+@Slf4j
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    public static final Integer CLASS_MAPPING_FAILURE = 4;
+    public static final Integer IDEMPOTENT_REQUEST_IN_PROGRESS = 47;
+    public static final Integer IDEMPOTENCY_KEY_REUSED = 49;
+
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    public static final String KEY_SEPARATOR = ":";
+    public static final String FINGERPRINT_ALGORITHM = "SHA-256";
+    public static final String ANONYMOUS_CLIENT = "-";
+    public static final int MAX_RESERVATION_ATTEMPTS = 2;
+
+    public static final String REPLAYED_RESPONSE_LOG = "Requisição repetida [{}] respondida a partir do registro de idempotência.";
+    public static final String EXPIRED_RECORDS_REMOVED_LOG = "{} registros de idempotência expirados foram removidos.";
+    public static final String STALE_RESERVATION_TAKEN_OVER_LOG = "Reserva vencida da chave de idempotência [{}] assumida por uma nova requisição.";
+    public static final String RESERVATION_LOST_LOG = "A reserva da chave de idempotência [{}] foi assumida por outra requisição; a resposta não foi registrada.";
+
+    private final ObjectMapper objectMapper;
+    private final IdempotencyRecordRepository recordRepository;
+    private final Duration timeToLive;
+    private final Duration reservationLease;
+    private final int maxEntries;
+    private final boolean persistent;
+    private final Clock clock;
+
+    private final Map<String, StoredResponse> responses = new LinkedHashMap<>();
+
+    @Autowired
+    public IdempotencyServiceImpl(ObjectMapper objectMapper,
+                                  IdempotencyRecordRepository recordRepository,
+                                  @Value("${idempotency.ttl-seconds:86400}") long timeToLiveSeconds,
+                                  @Value("${idempotency.reservation-lease-seconds:60}") long reservationLeaseSeconds,
+                                  @Value("${idempotency.max-entries:10000}") int maxEntries,
+                                  @Value("${idempotency.persistent:false}") boolean persistent) {
+        this(objectMapper, recordRepository, Duration.ofSeconds(timeToLiveSeconds), Duration.ofSeconds(reservationLeaseSeconds),
+                maxEntries, persistent, Clock.systemUTC());
+    }
+
+    IdempotencyServiceImpl(ObjectMapper objectMapper, IdempotencyRecordRepository recordRepository, Duration timeToLive,
+                           Duration reservationLease, int maxEntries, boolean persistent, Clock clock) {
+        this.objectMapper = objectMapper;
+        this.recordRepository = recordRepository;
+        this.timeToLive = timeToLive;
+        this.reservationLease = reservationLease;
+        this.maxEntries = maxEntries;
+        this.persistent = persistent;
+        this.clock = clock;
+    }
+
+    @Override
+    public <T> ResponseEntity<T> execute(String idempotencyKey, String operation, Object request, Class<T> responseType, Supplier<ResponseEntity<T>> action) {
+        if (isNull(idempotencyKey) || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        String storeKey = String.join(KEY_SEPARATOR, operation, currentClient(), idempotencyKey);
+        String fingerprint = this.fingerprint(request);
+        Instant reservedAt = this.clock.instant().truncatedTo(ChronoUnit.MICROS);
+        StoredResponse existing = this.persistent
+                ? this.reserveInStore(storeKey, fingerprint, idempotencyKey, reservedAt)
+                : this.reserveInMemory(storeKey, fingerprint, reservedAt);
+        if (existing != null) {
+            return this.replay(storeKey, idempotencyKey, existing, fingerprint, responseType);
+        }
+        ResponseEntity<T> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            this.release(storeKey, reservedAt);
+            throw e;
+        }
+        this.complete(storeKey, fingerprint, reservedAt, response);
+        return response;
+    }
+
+    /**
+     * Remove periodicamente as chaves expiradas, em memória e, com a persistência habilitada, na tabela
+     * {@code idempotency_records}, com um único comando.
+     */
+    @Scheduled(fixedDelayString = "${idempotency.cleanup-interval-seconds:600}", timeUnit = TimeUnit.SECONDS)
+    public void removeExpired() {
+        Instant now = this.clock.instant();
+        synchronized (this.responses) {
+            this.evictExpired(now);
+        }
+        if (this.persistent) {
+            log.info(EXPIRED_RECORDS_REMOVED_LOG, this.recordRepository.deleteExpired(now.minus(this.timeToLive)));
+        }
+    }
+
+    /**
+     * Reserva a chave em memória para a requisição atual ou retorna o registro já existente para ela. Uma reserva
+     * vencida é assumida pela requisição atual.
+     *
+     * @param storeKey    a chave de idempotência, delimitada pela operação e pelo cliente.
+     * @param fingerprint a impressão digital do corpo da requisição.
+     * @param reservedAt  o instante da reserva.
+     * @return o registro existente, ou {@code null} se a chave foi reservada para a requisição atual.
+     */
+    private StoredResponse reserveInMemory(String storeKey, String fingerprint, Instant reservedAt) {
+        synchronized (this.responses) {
+            this.evictExpired(reservedAt);
+            StoredResponse existing = this.responses.get(storeKey);
+            if (existing != null && !this.isStaleReservation(existing, reservedAt)) {
+                return existing;
+            }
+            if (existing != null) {
+                log.warn(STALE_RESERVATION_TAKEN_OVER_LOG, storeKey);
+                this.responses.remove(storeKey);
+            }
+            this.responses.put(storeKey, StoredResponse.inProgress(fingerprint, reservedAt));
+            this.evictOverflow();
+        }
+        return null;
+    }
+
+    /**
+     * Reserva a chave na tabela {@code idempotency_records} para a requisição atual ou retorna o registro já existente.
+     * <p>
+     * A reserva é a inserção de um registro ainda sem resposta. Se a chave primária já existir, o registro é lido: um
+     * registro válido é retornado, enquanto um registro expirado ou uma reserva vencida é removido e a reserva é
+     * repetida. Cada remoção é condicional, então apenas uma das requisições concorrentes assume a chave.
+     *
+     * @param storeKey       a chave de idempotência, delimitada pela operação e pelo cliente.
+     * @param fingerprint    a impressão digital do corpo da requisição.
+     * @param idempotencyKey a chave enviada pelo cliente.
+     * @param reservedAt     o instante da reserva.
+     * @return o registro existente, ou {@code null} se a chave foi reservada para a requisição atual.
+     * @throws ShelterEntityFailuresException se a chave continuar ocupada por outra requisição após as tentativas.
+     */
+    private StoredResponse reserveInStore(String storeKey, String fingerprint, String idempotencyKey, Instant reservedAt) {
+        String recordId = recordId(storeKey);
+        for (int attempt = 0; attempt < MAX_RESERVATION_ATTEMPTS; attempt++) {
+            IdempotencyRecordEntity reservation = IdempotencyRecordEntity.builder()
+                    .id(recordId)
+                    .fingerprint(fingerprint)
+                    .createdAt(reservedAt)
+                    .reservedAt(reservedAt)
+                    .build();
+            reservation.markNew();
+            try {
+                this.recordRepository.save(reservation);
+                return null;
+            } catch (DataIntegrityViolationException e) {
+                Optional<IdempotencyRecordEntity> existing = this.recordRepository.findById(recordId);
+                if (existing.isEmpty()) {
+                    continue;
+                }
+                IdempotencyRecordEntity entity = existing.get();
+                StoredResponse stored = new StoredResponse(entity.getFingerprint(), entity.getStatusCode(), entity.getResponseBody(),
+                        entity.getCreatedAt());
+                if (this.isExpired(entity.getCreatedAt(), reservedAt)) {
+                    this.recordRepository.deleteIfExpired(recordId, reservedAt.minus(this.timeToLive));
+                } else if (!stored.isCompleted() && this.isStaleLease(entity.getReservedAt(), reservedAt)) {
+                    log.warn(STALE_RESERVATION_TAKEN_OVER_LOG, storeKey);
+                    this.recordRepository.deleteStaleReservation(recordId, reservedAt.minus(this.reservationLease));
+                } else {
+                    return stored;
+                }
+            }
+        }
+        throw new ShelterEntityFailuresException(IDEMPOTENT_REQUEST_IN_PROGRESS, idempotencyKey);
+    }
+
+    private <T> ResponseEntity<T> replay(String storeKey, String idempotencyKey, StoredResponse stored, String fingerprint, Class<T> responseType) {
+        if (!stored.getFingerprint().equals(fingerprint)) {
+            throw new ShelterEntityFailuresException(IDEMPOTENCY_KEY_REUSED, idempotencyKey);
+        }
+        if (!stored.isCompleted()) {
+            throw new ShelterEntityFailuresException(IDEMPOTENT_REQUEST_IN_PROGRESS, idempotencyKey);
+        }
+        log.info(REPLAYED_RESPONSE_LOG, storeKey);
+        T body = this.deserialize(stored.getBody(), responseType);
+        return ResponseEntity.status(stored.getStatusCode()).header(REPLAYED_HEADER, Boolean.TRUE.toString()).body(body);
+    }
+
+    /**
+     * Registra a resposta da requisição que detém a reserva. Se a reserva tiver sido assumida por outra requisição, a
+     * resposta não é registrada, preservando a da nova detentora.
+     */
+    private <T> void complete(String storeKey, String fingerprint, Instant reservedAt, ResponseEntity<T> response) {
+        Instant now = this.clock.instant();
+        Integer statusCode = response.getStatusCode().value();
+        String body = this.serialize(response.getBody());
+        if (this.persistent) {
+            if (this.recordRepository.complete(recordId(storeKey), reservedAt, statusCode, body, now) == 0) {
+                log.warn(RESERVATION_LOST_LOG, storeKey);
+            }
+            return;
+        }
+        synchronized (this.responses) {
+            StoredResponse stored = this.responses.get(storeKey);
+            if (stored != null && !isReservationOf(stored, reservedAt)) {
+                log.warn(RESERVATION_LOST_LOG, storeKey);
+                return;
+            }
+            this.responses.remove(storeKey);
+            this.responses.put(storeKey, new StoredResponse(fingerprint, statusCode, body, now));
+        }
+    }
+
+    private void release(String storeKey, Instant reservedAt) {
+        if (this.persistent) {
+            this.recordRepository.deleteInProgress(recordId(storeKey), reservedAt);
+            return;
+        }
+        synchronized (this.responses) {
+            StoredResponse stored = this.responses.get(storeKey);
+            if (stored != null && isReservationOf(stored, reservedAt)) {
+                this.responses.remove(storeKey);
+            }
+        }
+    }
+
+    /**
+     * Remove as chaves expiradas. As chaves são mantidas em ordem de inserção, então a remoção para na primeira chave
+     * ainda válida.
+     */
+    private void evictExpired(Instant now) {
+        Iterator<StoredResponse> iterator = this.responses.values().iterator();
+        while (iterator.hasNext() && this.isExpired(iterator.next().getCreatedAt(), now)) {
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Remove as chaves concluídas mais antigas até que o limite de chaves seja respeitado. Chaves em processamento são
+     * mantidas, pois removê-las permitiria que uma repetição executasse a operação novamente.
+     */
+    private void evictOverflow() {
+        Iterator<StoredResponse> iterator = this.responses.values().iterator();
+        while (this.responses.size() > this.maxEntries && iterator.hasNext()) {
+            if (iterator.next().isCompleted()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private boolean isExpired(Instant createdAt, Instant now) {
+        return createdAt.plus(this.timeToLive).isBefore(now);
+    }
+
+    /**
+     * Informa se a reserva em memória, ainda não concluída, ultrapassou o prazo de concessão.
+     */
+    private boolean isStaleReservation(StoredResponse stored, Instant now) {
+        return !stored.isCompleted() && this.isStaleLease(stored.getCreatedAt(), now);
+    }
+
+    /**
+     * Informa se a reserva feita no instante informado ultrapassou o prazo de concessão.
+     */
+    private boolean isStaleLease(Instant reservedAt, Instant now) {
+        return reservedAt.plus(this.reservationLease).isBefore(now);
+    }
+
+    /**
+     * Informa se a reserva em memória ainda pertence à requisição que a fez no instante informado.
+     */
+    private static boolean isReservationOf(StoredResponse stored, Instant reservedAt) {
+        return !stored.isCompleted() && stored.getCreatedAt().equals(reservedAt);
+    }
+
+    /**
+     * Identifica o cliente da requisição atual pelo nome do usuário autenticado. Requisições sem autenticação
+     * compartilham o mesmo escopo, delimitado apenas pela operação e pela chave enviada.
+     *
+     * @return o nome do usuário autenticado, ou {@link #ANONYMOUS_CLIENT} sem autenticação.
+     */
+    private static String currentClient() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (nonNull(authentication) && authentication.isAuthenticated() && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return authentication.getName();
+        }
+        return ANONYMOUS_CLIENT;
+    }
+
+    /**
+     * O ID do registro persistido é o resumo da chave delimitada, de tamanho fixo independentemente do tamanho da chave
+     * enviada pelo cliente.
+     */
+    private static String recordId(String storeKey) {
+        return digest(storeKey);
+    }
+
+    private String fingerprint(Object request) {
+        return digest(this.serialize(request));
+    }
+
+    private static String digest(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance(FINGERPRINT_ALGORITHM).digest(value.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String serialize(Object value) {
+        try {
+            return this.objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new MapperFailureException(CLASS_MAPPING_FAILURE, value.getClass().getSimpleName(), e);
+        }
+    }
+
+    private <T> T deserialize(String body, Class<T> responseType) {
+        try {
+            return this.objectMapper.readValue(body, responseType);
+        } catch (JsonProcessingException e) {
+            throw new MapperFailureException(CLASS_MAPPING_FAILURE, responseType.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Resposta registrada para uma chave. Enquanto a requisição original está em processamento, o status e o corpo são
+     * nulos.
+     */
+    @Getter
+    @AllArgsConstructor
+    static final class StoredResponse {
+
+        private final String fingerprint;
+        private final Integer statusCode;
+        private final String body;
+        private final Instant createdAt;
+
+        static StoredResponse inProgress(String fingerprint, Instant createdAt) {
+            return new StoredResponse(fingerprint, null, null, createdAt);
+        }
+
+        boolean isCompleted() {
+            return this.statusCode != null;
+        }
+
+    }
+
+}
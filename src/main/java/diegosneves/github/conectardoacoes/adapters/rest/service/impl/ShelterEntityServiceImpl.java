@@ -2,14 +2,16 @@ package diegosneves.github.conectardoacoes.adapters.rest.service.impl;
 
 import diegosneves.github.conectardoacoes.adapters.rest.dto.AddressDTO;
 import diegosneves.github.conectardoacoes.adapters.rest.dto.DonationDTO;
+import diegosneves.github.conectardoacoes.adapters.rest.dto.ShelterSummaryDTO;
 import diegosneves.github.conectardoacoes.adapters.rest.dto.UserEntityDTO;
 import diegosneves.github.conectardoacoes.adapters.rest.enums.ExceptionDetails;
 import diegosneves.github.conectardoacoes.adapters.rest.exception.ShelterEntityFailuresException;
 import diegosneves.github.conectardoacoes.adapters.rest.exception.UserEntityFailuresException;
+import diegosneves.github.conectardoacoes.adapters.rest.mapper.AddressDTOMapper;
 import diegosneves.github.conectardoacoes.adapters.rest.mapper.BuilderMapper;
-import diegosneves.github.conectardoacoes.adapters.rest.mapper.DonationMapper;
+import diegosneves.github.conectardoacoes.adapters.rest.mapper.MapperRegistry;
 import diegosneves.github.conectardoacoes.adapters.rest.mapper.ShelterEntityMapper;
-import diegosneves.github.conectardoacoes.adapters.rest.mapper.ShelterInformationResponseFromShelterEntityMapper;
+import diegosneves.github.conectardoacoes.adapters.rest.mapper.UserEntityDTOMapper;
 import diegosneves.github.conectardoacoes.adapters.rest.model.AddressEntity;
 import diegosneves.github.conectardoacoes.adapters.rest.model.DonationEntity;
 import diegosneves.github.conectardoacoes.adapters.rest.model.ShelterEntity;
@@ -17,12 +19,16 @@ import diegosneves.github.conectardoacoes.adapters.rest.model.UserEntity;
 import diegosneves.github.conectardoacoes.adapters.rest.repository.ShelterRepository;
 import diegosneves.github.conectardoacoes.adapters.rest.request.ReceiveDonationRequest;
 import diegosneves.github.conectardoacoes.adapters.rest.request.ShelterCreationRequest;
+import diegosneves.github.conectardoacoes.adapters.rest.response.DonationPageResponse;
 import diegosneves.github.conectardoacoes.adapters.rest.response.ShelterCreatedResponse;
 import diegosneves.github.conectardoacoes.adapters.rest.response.ShelterInformationResponse;
+import diegosneves.github.conectardoacoes.adapters.rest.response.ShelterPageResponse;
 import diegosneves.github.conectardoacoes.adapters.rest.service.AddressEntityService;
 import diegosneves.github.conectardoacoes.adapters.rest.service.DonationEntityService;
 import diegosneves.github.conectardoacoes.adapters.rest.service.ShelterEntityService;
+import diegosneves.github.conectardoacoes.adapters.rest.service.ShelterInventoryService;
 import diegosneves.github.conectardoacoes.adapters.rest.service.UserEntityService;
+import diegosneves.github.conectardoacoes.adapters.rest.utils.CursorUtils;
 import diegosneves.github.conectardoacoes.core.domain.shelter.entity.Shelter;
 import diegosneves.github.conectardoacoes.core.domain.shelter.entity.ShelterContract;
 import diegosneves.github.conectardoacoes.core.domain.shelter.entity.value.Address;
@@ -30,8 +36,11 @@ import diegosneves.github.conectardoacoes.core.domain.shelter.entity.value.Donat
 import diegosneves.github.conectardoacoes.core.domain.shelter.factory.ShelterFactory;
 import diegosneves.github.conectardoacoes.core.domain.user.entity.UserContract;
 import diegosneves.github.conectardoacoes.core.domain.user.entity.value.UserProfile;
+import diegosneves.github.conectardoacoes.core.exception.UuidUtilsException;
 import diegosneves.github.conectardoacoes.core.service.ShelterService;
 import diegosneves.github.conectardoacoes.core.service.ShelterServiceContract;
+import diegosneves.github.conectardoacoes.core.utils.LogGuard;
+import diegosneves.github.conectardoacoes.core.utils.UuidUtils;
 import diegosneves.github.conectardoacoes.core.utils.ValidationUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -39,11 +48,15 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 /**
@@ -66,12 +79,20 @@ public class ShelterEntityServiceImpl implements ShelterEntityService {
     public static final Integer EMPTY_DONATION_LIST = 15;
     public static final Integer RESPONSIBLE_EMAIL_NOT_ASSOCIATED_WITH_SHELTER = 17;
     public static final Integer CLASS_MAPPING_FAILURE = 4;
+    public static final Integer INVALID_ID_MESSAGE = 19;
+    public static final Integer INVALID_UUID_FORMAT_MESSAGE = 6;
+    public static final Integer SHELTER_NOT_FOUND = 39;
+    public static final Integer INVALID_PAGINATION_CURSOR = 41;
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
 
     public static final String SHELTER_CREATION_SUCCESS_LOG = "Novo abrigo criado com sucesso. Detalhes: ID do Abrigo: {} - Email do Usuário Responsável: {}";
     public static final String SHELTER_CREATION_FAILURE_LOG = "Falha ao instanciar e persistir um Abrigo. Causa: {}";
     public static final String RESPONSIBLE_USER_VERIFICATION_ERROR_LOG = "Falha na verificação do usuário responsável. A causa do erro é: {}";
     public static final String USER_NOT_FOUND_ERROR_LOG = "Não foi possível localizar o usuário com o email: {}. Motivo: {}";
     public static final String SHELTER_DATA_MAPPING_FAILED_LOG = "Não foi possível mapear os dados do Abrigo. Motivo: {}";
+    public static final String INVALID_PAGINATION_CURSOR_LOG = "O cursor de paginação [{}] recebido é inválido.";
 
 
     private final ShelterRepository repository;
@@ -79,14 +100,16 @@ public class ShelterEntityServiceImpl implements ShelterEntityService {
     private final AddressEntityService addressService;
     private final UserEntityService userEntityService;
     private final DonationEntityService donationEntityService;
+    private final ShelterInventoryService inventoryService;
 
     @Autowired
-    public ShelterEntityServiceImpl(ShelterRepository repository, AddressEntityService addressService, UserEntityService userEntityService, DonationEntityService donationEntityService) {
+    public ShelterEntityServiceImpl(ShelterRepository repository, AddressEntityService addressService, UserEntityService userEntityService, DonationEntityService donationEntityService, ShelterInventoryService inventoryService) {
         this.repository = repository;
         this.shelterServiceContract = new ShelterService(this.repository);
         this.addressService = addressService;
         this.userEntityService = userEntityService;
         this.donationEntityService = donationEntityService;
+        this.inventoryService = inventoryService;
     }
 
     /**
@@ -111,7 +134,7 @@ public class ShelterEntityServiceImpl implements ShelterEntityService {
      */
     @Override
     public ShelterCreatedResponse createShelter(ShelterCreationRequest request) {
-        ValidationUtils.validateNotNullOrEmpty(request, REQUEST_VALIDATION_ERROR_MESSAGE, ShelterEntityFailuresException.class);
+        ValidationUtils.validateNotNullOrEmpty(request, REQUEST_VALIDATION_ERROR_MESSAGE, ShelterEntityFailuresException::new);
         ShelterContract shelterContract = this.createAndReturnShelterInstance(request);
         ShelterEntity shelterEntity = convertShelterContractToEntity(shelterContract);
         return constructShelterCreatedResponse(shelterEntity);
@@ -133,24 +156,24 @@ public class ShelterEntityServiceImpl implements ShelterEntityService {
         try {
             shelterEntity = BuilderMapper.mapTo(getShelterEntityMapper(), shelterContract);
         } catch (RuntimeException e) {
-            log.error(SHELTER_DATA_MAPPING_FAILED_LOG, ExceptionDetails.getExceptionDetails(CLASS_MAPPING_FAILURE).formatErrorMessage(ShelterEntity.class.getSimpleName()), e);
+            LogGuard.error(log, SHELTER_DATA_MAPPING_FAILED_LOG, ExceptionDetails.getExceptionDetails(CLASS_MAPPING_FAILURE).formatErrorMessage(ShelterEntity.class.getSimpleName()), e);
             throw new ShelterEntityFailuresException(SHELTER_CREATION_ERROR_MESSAGE, e);
         }
         return shelterEntity;
     }
 
     /**
-     * Retorna uma nova instância de {@link ShelterEntityMapper}.
+     * Retorna a instância compartilhada de {@link ShelterEntityMapper}.
      * <p>
-     * Este método é responsável por criar e retornar uma nova instância do objeto {@link ShelterEntityMapper}.
+     * Este método é responsável por retornar a instância do objeto {@link ShelterEntityMapper} registrada no {@link MapperRegistry}.
      * Essa classe pode ser usada para converter objetos de entidade ShelterEntity em outros tipos de objetos.
      * </p>
      *
-     * @return ShelterEntityMapper - Uma nova instância de {@link ShelterEntityMapper}
+     * @return ShelterEntityMapper - A instância compartilhada de {@link ShelterEntityMapper}
      * @see ShelterEntityMapper
      */
     private static ShelterEntityMapper getShelterEntityMapper() {
-        return new ShelterEntityMapper();
+        return MapperRegistry.get(ShelterEntityMapper.class);
     }
 
     /**
@@ -170,9 +193,9 @@ public class ShelterEntityServiceImpl implements ShelterEntityService {
      *   <li> Configura o ID da resposta para corresponder ao ID da {@link ShelterEntity} fornecida.</li>
      *   <li> Configura o nome do abrigo na resposta para corresponder ao nome do abrigo na {@link ShelterEntity} fornecida.</li>
      *   <li> Configura o endereço na resposta para corresponder ao endereço da {@link ShelterEntity} fornecida, convertendo a
-     *       {@link AddressEntity} para {@link AddressDTO} com o auxílio do método {@code mapTo()} da classe {@link BuilderMapper}.</li>
+     *       {@link AddressEntity} para {@link AddressDTO} com o auxílio do mapeador gerado {@link AddressDTOMapper}.</li>
      *   <li> Configura o usuário responsável na resposta para corresponder ao usuário responsável na {@link ShelterEntity} fornecida,
-     *       convertendo a {@link UserEntity} para {@link UserEntityDTO} com o auxílio do método {@code mapTo()} da classe {@link BuilderMapper}.</li>
+     *       convertendo a {@link UserEntity} para {@link UserEntityDTO} com o auxílio do mapeador gerado {@link UserEntityDTOMapper}.</li>
      *   <li> Finaliza a construção do objeto {@link ShelterCreatedResponse} e o retorna.</li>
      * </ol>
      *
@@ -183,8 +206,8 @@ public class ShelterEntityServiceImpl implements ShelterEntityService {
         return ShelterCreatedResponse.builder()
                 .id(shelterEntity.getId())
                 .shelterName(shelterEntity.getShelterName())
-                .address(BuilderMapper.mapTo(AddressDTO.class, shelterEntity.getAddress()))
-                .responsibleUser(BuilderMapper.mapTo(UserEntityDTO.class, shelterEntity.getResponsibleUser()))
+                .address(AddressDTOMapper.INSTANCE.mapFrom(shelterEntity.getAddress()))
+                .responsibleUser(UserEntityDTOMapper.INSTANCE.mapFrom(shelterEntity.getResponsibleUser()))
                 .build();
     }
 
@@ -221,7 +244,7 @@ public class ShelterEntityServiceImpl implements ShelterEntityService {
                 log.info(SHELTER_CREATION_SUCCESS_LOG, newShelter.getId(), newShelter.getUser().getEmail());
             }
         } catch (RuntimeException e) {
-            log.error(SHELTER_CREATION_FAILURE_LOG, e.getMessage(), e);
+            LogGuard.error(log, SHELTER_CREATION_FAILURE_LOG, e.getMessage(), e);
             throw new ShelterEntityFailuresException(SHELTER_CREATION_ERROR_MESSAGE, e);
         }
         return newShelter;
@@ -262,7 +285,7 @@ public class ShelterEntityServiceImpl implements ShelterEntityService {
      */
     private static void throwShelterEntityFailuresExceptionIfNecessary(Boolean needToThrowAnException, Integer errorCode) throws ShelterEntityFailuresException {
         if (Boolean.TRUE.equals(needToThrowAnException)) {
-            log.error(RESPONSIBLE_USER_VERIFICATION_ERROR_LOG, ExceptionDetails.getExceptionDetails(errorCode).formatErrorMessage());
+            LogGuard.error(log, RESPONSIBLE_USER_VERIFICATION_ERROR_LOG, ExceptionDetails.getExceptionDetails(errorCode).formatErrorMessage());
             throw new ShelterEntityFailuresException(errorCode);
         }
     }
@@ -292,51 +315,181 @@ public class ShelterEntityServiceImpl implements ShelterEntityService {
         try {
             foundUser = this.userEntityService.searchUserByEmail(responsibleUserEmail);
         } catch (UserEntityFailuresException e) {
-            log.error(USER_NOT_FOUND_ERROR_LOG, responsibleUserEmail, e.getMessage(), e);
+            LogGuard.error(log, USER_NOT_FOUND_ERROR_LOG, responsibleUserEmail, e.getMessage(), e);
             throw new ShelterEntityFailuresException(USER_RESPONSIBLE_EMAIL_NOT_FOUND_ERROR, e);
         }
         return foundUser;
     }
 
+    /**
+     * Recebe as doações de uma requisição e as associa ao abrigo do usuário responsável informado.
+     * <p>
+     * Todo o fluxo é executado dentro de uma única transação: o abrigo é localizado uma única vez e as doações são
+     * apenas anexadas a ele, sem regravar o agregado completo. Dessa forma, o custo de escrita não cresce com a
+     * quantidade de doações que o abrigo já possui.
+     * O abrigo é localizado por meio da projeção {@link ShelterSummaryDTO}, sem carregar a entidade e as suas associações.
+     *
+     * @param request a requisição contendo o e-mail do responsável e a lista de doações. Não deve ser nula.
+     * @return um {@link ShelterInformationResponse} com as informações do abrigo e o seu estoque consolidado atualizado.
+     * @throws ShelterEntityFailuresException se a requisição for nula, se a lista de doações estiver vazia ou se o
+     *                                        e-mail informado não estiver associado a nenhum abrigo.
+     */
     @Override
+    @Transactional
     public ShelterInformationResponse receiveDonation(ReceiveDonationRequest request) {
-        ValidationUtils.validateNotNullOrEmpty(request, DONATION_VALIDATION_ERROR, ShelterEntityFailuresException.class);
-        ShelterEntity currentShelter = this.getCurrentShelterByResponsibleEmail(request.getResponsibleEmail());
-        ShelterContract currentShelterContract = this.shelterServiceContract.getShelter(currentShelter.getId());
-        return BuilderMapper.mapTo(getShelterInformationResponseMapper(), this.appendDonationsToShelter(request, currentShelterContract));
+        ValidationUtils.validateNotNullOrEmpty(request, DONATION_VALIDATION_ERROR, ShelterEntityFailuresException::new);
+        ShelterSummaryDTO currentShelter = this.getCurrentShelterByResponsibleEmail(request.getResponsibleEmail());
+        this.appendDonationsToShelter(request, currentShelter.getId());
+        return this.constructShelterInformationResponse(currentShelter, this.inventoryService.getInventory(currentShelter.getId()));
     }
 
+    /**
+     * Recupera as informações do abrigo associado ao e-mail do usuário responsável.
+     * <p>
+     * As doações retornadas vêm do estoque consolidado do abrigo, um registro por item com a quantidade total recebida.
+     * Dessa forma, o custo da leitura depende da quantidade de itens distintos, e não da quantidade de doações registradas.
+     * Os dados do abrigo e do responsável são lidos por meio da projeção {@link ShelterSummaryDTO}, sem carregar a entidade.
+     *
+     * @param userResponsibleEmail o e-mail do usuário responsável pelo abrigo.
+     * @return um {@link ShelterInformationResponse} com as informações e o estoque do abrigo.
+     * @throws ShelterEntityFailuresException se o e-mail informado não estiver associado a nenhum abrigo.
+     */
     @Override
+    @Transactional(readOnly = true)
     public ShelterInformationResponse findShelterByUserResponsibleEmail(String userResponsibleEmail) {
-        ShelterEntity currentShelterByResponsibleEmail = this.getCurrentShelterByResponsibleEmail(userResponsibleEmail);
-        return BuilderMapper.mapTo(getShelterInformationResponseMapper(), currentShelterByResponsibleEmail);
+        return this.findShelterByUserResponsibleEmail(userResponsibleEmail, true);
     }
 
     @Override
-    public Page<ShelterInformationResponse> findAll(Pageable pageable) {
+    @Transactional(readOnly = true)
+    public ShelterInformationResponse findShelterByUserResponsibleEmail(String userResponsibleEmail, boolean includeDonations) {
+        ShelterSummaryDTO currentShelter = this.getCurrentShelterByResponsibleEmail(userResponsibleEmail);
+        List<DonationDTO> donations = includeDonations ? this.inventoryService.getInventory(currentShelter.getId()) : null;
+        return this.constructShelterInformationResponse(currentShelter, donations);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public DonationPageResponse findDonations(String shelterId, String cursor, Integer size) {
+        this.validateExistingShelterId(shelterId);
+        int pageSize = resolvePageSize(size);
+        String afterId = decodeCursor(cursor);
+        List<DonationEntity> donations = this.donationEntityService.findShelterDonationsAfter(shelterId, afterId, pageSize + 1);
+        boolean hasNextPage = donations.size() > pageSize;
+        List<DonationEntity> currentPage = hasNextPage ? donations.subList(0, pageSize) : donations;
+        return DonationPageResponse.builder()
+                .donations(currentPage.stream().map(donation -> new DonationDTO(donation.getDescription(), donation.getAmount())).toList())
+                .nextCursor(hasNextPage ? CursorUtils.encode(currentPage.get(currentPage.size() - 1).getId()) : null)
+                .build();
+    }
 
-        Page<ShelterEntity> allShelterWithPageable = repository.findAll(pageable);
-        List<ShelterEntity> content = allShelterWithPageable.getContent();
-        List<ShelterInformationResponse> informationResponses = content.stream()
-                .map(getShelterInformationResponseMapper()::mapFrom).toList();
+    /**
+     * Valida o ID de abrigo informado e verifica se o abrigo existe.
+     *
+     * @param shelterId o ID do abrigo a ser validado.
+     * @throws ShelterEntityFailuresException se o ID for nulo, vazio, não for um UUID válido ou se o abrigo não existir.
+     */
+    private void validateExistingShelterId(String shelterId) throws ShelterEntityFailuresException {
+        ValidationUtils.validateNotNullOrEmpty(shelterId, INVALID_ID_MESSAGE, ShelterEntityFailuresException::new);
+        try {
+            UuidUtils.isValidUUID(shelterId);
+        } catch (UuidUtilsException e) {
+            throw new ShelterEntityFailuresException(INVALID_UUID_FORMAT_MESSAGE, shelterId, e);
+        }
+        if (!this.repository.existsById(shelterId)) {
+            throw new ShelterEntityFailuresException(SHELTER_NOT_FOUND, shelterId);
+        }
+    }
 
-        return new PageImpl<>(informationResponses, pageable, allShelterWithPageable.getTotalElements());
+    /**
+     * Resolve o tamanho de uma página das listagens paginadas por cursor. Valores ausentes ou menores que um resultam no tamanho padrão, e valores
+     * acima do limite máximo são reduzidos a ele.
+     *
+     * @param size o tamanho solicitado pelo cliente.
+     * @return o tamanho de página a ser utilizado.
+     */
+    private static int resolvePageSize(Integer size) {
+        if (isNull(size) || size < 1) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
     }
 
     /**
-     * Este método é responsável por criar uma nova instância de um objeto {@link ShelterInformationResponseFromShelterEntityMapper}.
+     * Decodifica o cursor de uma listagem paginada por cursor, retornando o ID do último registro da página anterior.
      * <p>
-     * Um objeto {@link ShelterInformationResponseFromShelterEntityMapper} é utilizado para mapear os dados de um objeto {@link ShelterEntity} para um objeto {@link ShelterInformationResponse}.
-     * Isso é tipicamente usado quando se deseja converter os dados de uma entidade de banco de dados em um objeto que pode ser enviado como uma resposta a uma solicitação da API.
+     * Um cursor ausente representa a primeira página e resulta em uma {@link String} vazia, que antecede qualquer ID.
      *
-     * @return Uma nova instância de um objeto {@link ShelterInformationResponseFromShelterEntityMapper}.
-     * Não há parâmetros de entrada para este método.
-     * Este método não lança explicitamente exceções, mas dado que uma nova instância de
-     * {@link ShelterInformationResponseFromShelterEntityMapper} está sendo criada, qualquer exceção que possa
-     * ser lançada durante a inicialização dessa classe seria propagada para este método.
+     * @param cursor o cursor recebido do cliente.
+     * @return o ID do último registro já retornado, ou uma {@link String} vazia para a primeira página.
+     * @throws ShelterEntityFailuresException se o cursor não puder ser decodificado ou não representar um ID válido.
      */
-    private static ShelterInformationResponseFromShelterEntityMapper getShelterInformationResponseMapper() {
-        return new ShelterInformationResponseFromShelterEntityMapper();
+    private static String decodeCursor(String cursor) throws ShelterEntityFailuresException {
+        if (isNull(cursor) || cursor.isBlank()) {
+            return "";
+        }
+        try {
+            String afterId = CursorUtils.decode(cursor);
+            UuidUtils.isValidUUID(afterId);
+            return afterId;
+        } catch (IllegalArgumentException | UuidUtilsException e) {
+            LogGuard.error(log, INVALID_PAGINATION_CURSOR_LOG, cursor, e);
+            throw new ShelterEntityFailuresException(INVALID_PAGINATION_CURSOR, e);
+        }
+    }
+
+    /**
+     * Constrói um {@link ShelterInformationResponse} a partir dos dados projetados do abrigo e da lista de doações informada.
+     *
+     * @param shelter   os dados do abrigo e do responsável. Não deve ser nulo.
+     * @param donations as doações a serem incluídas na resposta, ou {@code null} para omiti-las.
+     * @return um {@link ShelterInformationResponse} com o nome do abrigo, os dados do responsável e as doações informadas.
+     */
+    private static ShelterInformationResponse constructShelterInformationResponse(ShelterSummaryDTO shelter, List<DonationDTO> donations) {
+        return ShelterInformationResponse.builder()
+                .shelterName(shelter.getShelterName())
+                .responsibleName(shelter.getResponsibleName())
+                .responsibleEmail(shelter.getResponsibleEmail())
+                .donationDTOS(donations)
+                .build();
+    }
+
+    /**
+     * Constrói os {@link ShelterInformationResponse} de uma página de abrigos, com as doações obtidas do estoque
+     * consolidado de todos os abrigos da página em uma única chamada a {@link ShelterInventoryService#getInventories(java.util.Collection)}.
+     *
+     * @param shelters os dados dos abrigos da página, na ordem em que devem ser apresentados.
+     * @return uma lista de {@link ShelterInformationResponse}, na mesma ordem dos abrigos informados.
+     */
+    private List<ShelterInformationResponse> constructShelterInformationResponses(List<ShelterSummaryDTO> shelters) {
+        if (shelters.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<String, List<DonationDTO>> inventories = this.inventoryService.getInventories(shelters.stream().map(ShelterSummaryDTO::getId).toList());
+        return shelters.stream()
+                .map(shelter -> constructShelterInformationResponse(shelter, inventories.getOrDefault(shelter.getId(), Collections.emptyList())))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ShelterPageResponse findAllAfter(String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        String afterId = decodeCursor(cursor);
+        List<ShelterSummaryDTO> shelters = this.repository.findShelterSummariesAfter(afterId, pageSize + 1);
+        boolean hasNextPage = shelters.size() > pageSize;
+        List<ShelterSummaryDTO> currentPage = hasNextPage ? shelters.subList(0, pageSize) : shelters;
+        return ShelterPageResponse.builder()
+                .shelters(this.constructShelterInformationResponses(currentPage))
+                .nextCursor(hasNextPage ? CursorUtils.encode(currentPage.get(currentPage.size() - 1).getId()) : null)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ShelterInformationResponse> findAll(Pageable pageable) {
+        Page<ShelterSummaryDTO> shelterPage = this.repository.findShelterSummaries(pageable);
+        return new PageImpl<>(this.constructShelterInformationResponses(shelterPage.getContent()), pageable, shelterPage.getTotalElements());
     }
 
     /**
@@ -345,44 +498,39 @@ public class ShelterEntityServiceImpl implements ShelterEntityService {
      * Primeiro, verifica se a lista de doações fornecidas na solicitação não está vazia ou é nula.
      * Se a lista for nula ou vazia, uma exceção do tipo {@link ShelterEntityFailuresException} será lançada.
      * <p>
-     * Em seguida, cada doação na lista de doações fornecida é convertida e salva usando o método
-     * {@link DonationEntityService#convertAndSaveDonationDTO(DonationDTO) convertAndSaveDonationDTO} do serviço {@code donationEntityService}.
+     * Em seguida, todas as doações da lista são convertidas usando o método
+     * {@link DonationEntityService#convertDonationDTOs(List) convertDonationDTOs} do serviço {@code donationEntityService}
+     * e anexadas ao abrigo por meio de {@link ShelterServiceContract#addDonations(String, List)}, que grava apenas as novas
+     * doações e suas associações, sem regravar o agregado do abrigo. Antes disso, as doações são somadas ao estoque
+     * consolidado do abrigo por meio de {@link ShelterInventoryService#registerDonations(String, List)}.
      *
-     * @param request        a solicitação de receber doação que contém a lista de doações a serem anexadas.
-     *                       Não deve ser nula e deve conter pelo menos uma doação.
-     * @param currentShelter a entidade de instituição cujas doações serão anexadas. Não deve ser nula.
+     * @param request   a solicitação de receber doação que contém a lista de doações a serem anexadas.
+     *                  Não deve ser nula e deve conter pelo menos uma doação.
+     * @param shelterId o ID da instituição cujas doações serão anexadas. Não deve ser nulo.
      * @throws ShelterEntityFailuresException se a lista de doações na requisição for nula ou vazia.
      */
-    private ShelterEntity appendDonationsToShelter(ReceiveDonationRequest request, ShelterContract currentShelter) {
-        ValidationUtils.ensureListIsNotNullOrEmpty(request.getDonationDTOS(), EMPTY_DONATION_LIST, ShelterEntityFailuresException.class);
-        List<DonationEntity> convertedDonations = request.getDonationDTOS().stream().map(this.donationEntityService::convertAndSaveDonationDTO).toList();
-        List<Donation> receivedDonation = ValidationUtils.ensureListIsNotNull(convertedDonations).stream().map(donationMapperInstance()::mapFrom).toList();
-        receivedDonation.forEach(donation -> this.shelterServiceContract.addDonation(currentShelter.getId(), donation));
-        return BuilderMapper.mapTo(getShelterEntityMapper(), this.shelterServiceContract.getShelter(currentShelter.getId()));
+    private void appendDonationsToShelter(ReceiveDonationRequest request, String shelterId) {
+        ValidationUtils.ensureListIsNotNullOrEmpty(request.getDonationDTOS(), EMPTY_DONATION_LIST, ShelterEntityFailuresException::new);
+        List<Donation> receivedDonations = this.donationEntityService.convertDonationDTOs(request.getDonationDTOS());
+        this.inventoryService.registerDonations(shelterId, receivedDonations);
+        this.shelterServiceContract.addDonations(shelterId, receivedDonations);
     }
 
     /**
-     * Este é um método privado estático que instancia e retorna uma nova instância de {@link DonationMapper}.
-     *
-     * @return Retorna uma nova instância do objeto {@link DonationMapper}.
-     */
-    private static DonationMapper donationMapperInstance() {
-        return new DonationMapper();
-    }
-
-    /**
-     * Este método é usado para recuperar a entidade {@link ShelterEntity Shelter} atual, localizada no repositório de entities {@link ShelterEntity Shelters},
-     * associada ao e-mail do responsável passado como parâmetro.
+     * Este método é usado para recuperar os dados do {@link ShelterEntity Shelter} associado ao e-mail do responsável passado como parâmetro.
+     * <p>
+     * Apenas as colunas utilizadas nas respostas são lidas, por meio da projeção {@link ShelterSummaryDTO}; a entidade do abrigo,
+     * o endereço e as doações não são carregados.
      *
      * @param responsibleUserEmail Um {@code String} que representa o e-mail do responsável pelo {@link ShelterEntity Shelter}.
      *                             Este e-mail é usado como critério de pesquisa na base de dados.
-     * @return {@link ShelterEntity} que representa o objeto Shelter atual no repositório associado ao e-mail do responsável passado.
-     * Se não houver um objeto {@link ShelterEntity Shelter} associado ao e-mail fornecido, o método lançará uma {@link ShelterEntityFailuresException}.
+     * @return {@link ShelterSummaryDTO} com os dados do abrigo associado ao e-mail do responsável passado.
+     * Se não houver um abrigo associado ao e-mail fornecido, o método lançará uma {@link ShelterEntityFailuresException}.
      * @throws ShelterEntityFailuresException Se o e-mail do responsável fornecido não estiver associado a nenhuma entidade {@link ShelterEntity Shelter} no repositório.
      */
-    private ShelterEntity getCurrentShelterByResponsibleEmail(String responsibleUserEmail) {
-        Optional<ShelterEntity> shelterEntity = this.repository.findShelterEntitiesByResponsibleUser_Email(responsibleUserEmail);
-        return shelterEntity.orElseThrow(() -> new ShelterEntityFailuresException(RESPONSIBLE_EMAIL_NOT_ASSOCIATED_WITH_SHELTER));
+    private ShelterSummaryDTO getCurrentShelterByResponsibleEmail(String responsibleUserEmail) {
+        Optional<ShelterSummaryDTO> shelter = this.repository.findShelterSummaryByResponsibleUserEmail(responsibleUserEmail);
+        return shelter.orElseThrow(() -> new ShelterEntityFailuresException(RESPONSIBLE_EMAIL_NOT_ASSOCIATED_WITH_SHELTER));
     }
 
 }
@@ -0,0 +1,189 @@
+package diegosneves.github.conectardoacoes.adapters.rest.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import diegosneves.github.conectardoacoes.adapters.rest.enums.ExportFormat;
+import diegosneves.github.conectardoacoes.adapters.rest.mapper.MapperRegistry;
+import diegosneves.github.conectardoacoes.adapters.rest.mapper.ShelterInformationResponseFromShelterEntityMapper;
+import diegosneves.github.conectardoacoes.adapters.rest.model.DonationEntity;
+import diegosneves.github.conectardoacoes.adapters.rest.model.ShelterEntity;
+import diegosneves.github.conectardoacoes.adapters.rest.model.UserEntity;
+import diegosneves.github.conectardoacoes.adapters.rest.repository.ShelterRepository;
+import diegosneves.github.conectardoacoes.adapters.rest.service.ShelterExportService;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Serviço responsável por exportar todos os abrigos e as suas doações em NDJSON ou CSV.
+ * <p>
+ * Os abrigos são lidos por meio de {@link ShelterRepository#streamAllForExport()}, que utiliza um cursor do banco de
+ * dados com um tamanho de lote fixo. Os abrigos lidos são agrupados em blocos de {@link #EXPORT_CHUNK_SIZE}, e as doações de
+ * cada bloco são carregadas por uma única consulta em {@link ShelterRepository#findAllWithDonationsByIdIn(java.util.Collection)},
+ * evitando uma consulta por abrigo. Cada abrigo é escrito na saída e, em seguida, desanexado do contexto de persistência
+ * junto com as suas associações, de modo que o consumo de memória permaneça constante durante toda a exportação.
+ *
+ * @author diegoneves
+ * @see ShelterExportService
+ * @since 1.3.0
+ */
+@Service
+@Slf4j
+public class ShelterExportServiceImpl implements ShelterExportService {
+
+    public static final String CSV_HEADER = "shelter_id,shelter_name,responsible_name,responsible_email,donation_description,donation_amount";
+    public static final String LINE_SEPARATOR = "\n";
+    public static final String CSV_SEPARATOR = ",";
+    public static final String CSV_QUOTE = "\"";
+    public static final int EXPORT_CHUNK_SIZE = 500;
+
+    public static final String EXPORT_FINISHED_LOG = "Exportação de abrigos no formato {} concluída com {} abrigos.";
+
+    private final ShelterRepository repository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public ShelterExportServiceImpl(ShelterRepository repository, EntityManager entityManager, ObjectMapper objectMapper) {
+        this.repository = repository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportShelters(ExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER + LINE_SEPARATOR);
+        }
+        long exportedShelters = 0;
+        try (Stream<ShelterEntity> shelters = this.repository.streamAllForExport()) {
+            Iterator<ShelterEntity> iterator = shelters.iterator();
+            List<ShelterEntity> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == EXPORT_CHUNK_SIZE || !iterator.hasNext()) {
+                    this.writeChunk(format, chunk, writer);
+                    exportedShelters += chunk.size();
+                    chunk.clear();
+                }
+            }
+        }
+        writer.flush();
+        log.info(EXPORT_FINISHED_LOG, format, exportedShelters);
+    }
+
+    /**
+     * Carrega, em uma única consulta, as doações dos abrigos do bloco, escreve cada abrigo na saída e o desanexa do
+     * contexto de persistência.
+     *
+     * @param format o formato da exportação.
+     * @param chunk  os abrigos lidos do cursor que ainda não foram escritos.
+     * @param writer a saída da exportação.
+     * @throws IOException se ocorrer uma falha ao escrever na saída.
+     */
+    private void writeChunk(ExportFormat format, List<ShelterEntity> chunk, Writer writer) throws IOException {
+        this.repository.findAllWithDonationsByIdIn(chunk.stream().map(ShelterEntity::getId).toList());
+        for (ShelterEntity shelter : chunk) {
+            this.writeShelter(format, shelter, writer);
+            this.detach(shelter);
+        }
+    }
+
+    /**
+     * Escreve um abrigo na saída de acordo com o formato da exportação.
+     *
+     * @param format  o formato da exportação.
+     * @param shelter o abrigo a ser escrito.
+     * @param writer  a saída da exportação.
+     * @throws IOException se ocorrer uma falha ao escrever na saída.
+     */
+    private void writeShelter(ExportFormat format, ShelterEntity shelter, Writer writer) throws IOException {
+        if (format == ExportFormat.CSV) {
+            writeCsvRows(shelter, writer);
+            return;
+        }
+        writer.write(this.objectMapper.writeValueAsString(MapperRegistry.get(ShelterInformationResponseFromShelterEntityMapper.class).mapFrom(shelter)));
+        writer.write(LINE_SEPARATOR);
+    }
+
+    /**
+     * Escreve as linhas CSV de um abrigo: uma linha por doação ou, caso o abrigo não possua doações, uma única linha com
+     * os campos da doação vazios.
+     *
+     * @param shelter o abrigo a ser escrito.
+     * @param writer  a saída da exportação.
+     * @throws IOException se ocorrer uma falha ao escrever na saída.
+     */
+    private static void writeCsvRows(ShelterEntity shelter, Writer writer) throws IOException {
+        UserEntity responsibleUser = shelter.getResponsibleUser();
+        String shelterColumns = String.join(CSV_SEPARATOR,
+                escapeCsv(shelter.getId()),
+                escapeCsv(shelter.getShelterName()),
+                escapeCsv(isNull(responsibleUser) ? null : responsibleUser.getUserName()),
+                escapeCsv(isNull(responsibleUser) ? null : responsibleUser.getEmail()));
+        List<DonationEntity> donations = shelter.getDonations();
+        if (isNull(donations) || donations.isEmpty()) {
+            writer.write(shelterColumns + CSV_SEPARATOR + CSV_SEPARATOR + LINE_SEPARATOR);
+            return;
+        }
+        for (DonationEntity donation : donations) {
+            writer.write(shelterColumns + CSV_SEPARATOR + escapeCsv(donation.getDescription()) + CSV_SEPARATOR
+                    + (isNull(donation.getAmount()) ? "" : donation.getAmount()) + LINE_SEPARATOR);
+        }
+    }
+
+    /**
+     * Escapa um valor para o formato CSV. Valores que contêm separadores, aspas ou quebras de linha são envolvidos por
+     * aspas, e as aspas internas são duplicadas. Valores nulos resultam em um campo vazio.
+     *
+     * @param value o valor a ser escapado.
+     * @return o valor pronto para ser escrito em uma coluna CSV.
+     */
+    static String escapeCsv(String value) {
+        if (isNull(value)) {
+            return "";
+        }
+        if (value.contains(CSV_SEPARATOR) || value.contains(CSV_QUOTE) || value.contains("\n") || value.contains("\r")) {
+            return CSV_QUOTE + value.replace(CSV_QUOTE, CSV_QUOTE + CSV_QUOTE) + CSV_QUOTE;
+        }
+        return value;
+    }
+
+    /**
+     * Desanexa o abrigo e as associações carregadas durante a sua escrita do contexto de persistência, permitindo que
+     * sejam coletados pelo garbage collector.
+     *
+     * @param shelter o abrigo já exportado.
+     */
+    private void detach(ShelterEntity shelter) {
+        if (nonNull(shelter.getDonations()) && Hibernate.isInitialized(shelter.getDonations())) {
+            shelter.getDonations().forEach(this.entityManager::detach);
+        }
+        if (nonNull(shelter.getAddress())) {
+            this.entityManager.detach(shelter.getAddress());
+        }
+        if (nonNull(shelter.getResponsibleUser())) {
+            this.entityManager.detach(shelter.getResponsibleUser());
+        }
+        this.entityManager.detach(shelter);
+    }
+
+}
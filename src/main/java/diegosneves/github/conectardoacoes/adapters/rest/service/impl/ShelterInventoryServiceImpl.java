@@ -0,0 +1,140 @@
+package diegosneves.github.conectardoacoes.adapters.rest.service.impl;
+
+import diegosneves.github.conectardoacoes.adapters.rest.dto.DonationDTO;
+import diegosneves.github.conectardoacoes.adapters.rest.exception.ShelterEntityFailuresException;
+import diegosneves.github.conectardoacoes.adapters.rest.model.ShelterEntity;
+import diegosneves.github.conectardoacoes.adapters.rest.model.ShelterInventoryEntity;
+import diegosneves.github.conectardoacoes.adapters.rest.repository.ShelterInventoryRepository;
+import diegosneves.github.conectardoacoes.adapters.rest.service.ShelterInventoryService;
+import diegosneves.github.conectardoacoes.core.domain.shelter.entity.value.Donation;
+import diegosneves.github.conectardoacoes.core.utils.UuidUtils;
+import diegosneves.github.conectardoacoes.core.utils.ValidationUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Serviço responsável por manter o estoque consolidado de doações de cada abrigo.
+ * <p>
+ * As doações recebidas são somadas aos itens correspondentes do estoque do abrigo por um único lote de inserções ou
+ * atualizações atômicas no banco de dados. Os itens são identificados pela descrição normalizada (sem espaços extras, sem
+ * acentos e em minúsculas), enquanto a primeira descrição recebida é mantida para exibição. O lote é ordenado pela chave
+ * dos itens, para que requisições concorrentes para o mesmo abrigo bloqueiem os itens na mesma ordem.
+ * <p>
+ * Abrigos que já possuíam doações antes da existência do estoque têm o seu estoque inicializado uma única vez, pela
+ * migração {@link diegosneves.github.conectardoacoes.adapters.rest.migration.V6__BackfillShelterInventory}. Por isso, a
+ * consulta do estoque lê apenas os itens já consolidados, sem recorrer às doações registradas.
+ *
+ * @author diegoneves
+ * @see ShelterInventoryService
+ * @since 1.3.0
+ */
+@Service
+public class ShelterInventoryServiceImpl implements ShelterInventoryService {
+
+    public static final Integer SHELTER_ERROR_MESSAGE = 21;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    private final ShelterInventoryRepository repository;
+
+    @Autowired
+    public ShelterInventoryServiceImpl(ShelterInventoryRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    @Transactional
+    public void registerDonations(ShelterEntity shelter, List<Donation> donations) {
+        ValidationUtils.validateNotNullOrEmpty(shelter, SHELTER_ERROR_MESSAGE, ShelterEntityFailuresException::new);
+        this.registerDonations(shelter.getId(), donations);
+    }
+
+    @Override
+    @Transactional
+    public void registerDonations(String shelterId, List<Donation> donations) {
+        ValidationUtils.validateNotNullOrEmpty(shelterId, SHELTER_ERROR_MESSAGE, ShelterEntityFailuresException::new);
+        List<DonationDTO> receivedItems = ValidationUtils.ensureListIsNotNull(donations).stream()
+                .map(donation -> new DonationDTO(donation.getDescription(), donation.getAmount()))
+                .toList();
+        this.repository.addToItems(aggregateByItemKey(receivedItems).entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> buildInventoryItem(shelterId, entry.getKey(), entry.getValue()))
+                .toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DonationDTO> getInventory(ShelterEntity shelter) {
+        ValidationUtils.validateNotNullOrEmpty(shelter, SHELTER_ERROR_MESSAGE, ShelterEntityFailuresException::new);
+        return this.getInventory(shelter.getId());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DonationDTO> getInventory(String shelterId) {
+        ValidationUtils.validateNotNullOrEmpty(shelterId, SHELTER_ERROR_MESSAGE, ShelterEntityFailuresException::new);
+        return this.repository.findAllByShelterIdOrderByDescriptionAsc(shelterId).stream()
+                .map(item -> new DonationDTO(item.getDescription(), item.getAmount()))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, List<DonationDTO>> getInventories(Collection<String> shelterIds) {
+        ValidationUtils.validateNotNullOrEmpty(shelterIds, SHELTER_ERROR_MESSAGE, ShelterEntityFailuresException::new);
+        Map<String, List<DonationDTO>> inventories = new HashMap<>();
+        if (shelterIds.isEmpty()) {
+            return inventories;
+        }
+        shelterIds.forEach(shelterId -> inventories.put(shelterId, new ArrayList<>()));
+        this.repository.findAllByShelterIdInOrderByDescriptionAsc(shelterIds).forEach(item -> inventories
+                .computeIfAbsent(item.getShelterId(), shelterId -> new ArrayList<>())
+                .add(new DonationDTO(item.getDescription(), item.getAmount())));
+        return inventories;
+    }
+
+    private static Map<String, DonationDTO> aggregateByItemKey(List<DonationDTO> items) {
+        Map<String, DonationDTO> aggregated = new LinkedHashMap<>();
+        items.forEach(item -> aggregated.merge(normalizeItemKey(item.getDescription()),
+                new DonationDTO(item.getDescription().trim(), item.getAmount()),
+                (current, received) -> new DonationDTO(current.getDescription(), current.getAmount() + received.getAmount())));
+        return aggregated;
+    }
+
+    /**
+     * Normaliza a descrição de uma doação para ser usada como chave do item no estoque.
+     * <p>
+     * Remove os espaços das extremidades, reduz espaços internos repetidos a um único espaço, remove acentos e converte
+     * para minúsculas. Assim, "Água", "agua" e " ÁGUA " identificam o mesmo item.
+     *
+     * @param description A descrição original da doação.
+     * @return A descrição normalizada.
+     */
+    public static String normalizeItemKey(String description) {
+        String withoutAccents = DIACRITICS.matcher(Normalizer.normalize(description.trim(), Normalizer.Form.NFD)).replaceAll("");
+        return WHITESPACES.matcher(withoutAccents).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private static ShelterInventoryEntity buildInventoryItem(String shelterId, String itemKey, DonationDTO item) {
+        return ShelterInventoryEntity.builder()
+                .id(UuidUtils.generateTimeOrderedUuid())
+                .shelterId(shelterId)
+                .itemKey(itemKey)
+                .description(item.getDescription())
+                .amount(item.getAmount())
+                .build();
+    }
+
+}
@@ -0,0 +1,288 @@
+package diegosneves.github.conectardoacoes.adapters.rest.service.impl;
+
+import diegosneves.github.conectardoacoes.adapters.rest.dto.AddressDTO;
+import diegosneves.github.conectardoacoes.adapters.rest.enums.ShelterOnboardingStatus;
+import diegosneves.github.conectardoacoes.adapters.rest.enums.UserProfileType;
+import diegosneves.github.conectardoacoes.adapters.rest.exception.CustomException;
+import diegosneves.github.conectardoacoes.adapters.rest.exception.ShelterEntityFailuresException;
+import diegosneves.github.conectardoacoes.adapters.rest.mapper.AddressDTOMapper;
+import diegosneves.github.conectardoacoes.adapters.rest.mapper.AddressEntityMapper;
+import diegosneves.github.conectardoacoes.adapters.rest.mapper.MapperRegistry;
+import diegosneves.github.conectardoacoes.adapters.rest.mapper.UserEntityDTOMapper;
+import diegosneves.github.conectardoacoes.adapters.rest.mapper.UserMapper;
+import diegosneves.github.conectardoacoes.adapters.rest.model.ShelterEntity;
+import diegosneves.github.conectardoacoes.adapters.rest.model.UserEntity;
+import diegosneves.github.conectardoacoes.adapters.rest.repository.ShelterRepository;
+import diegosneves.github.conectardoacoes.adapters.rest.repository.UserRepository;
+import diegosneves.github.conectardoacoes.adapters.rest.request.ShelterCreationRequest;
+import diegosneves.github.conectardoacoes.adapters.rest.response.ShelterCreatedResponse;
+import diegosneves.github.conectardoacoes.adapters.rest.response.ShelterOnboardingItemResponse;
+import diegosneves.github.conectardoacoes.adapters.rest.response.ShelterOnboardingResponse;
+import diegosneves.github.conectardoacoes.adapters.rest.service.ShelterOnboardingService;
+import diegosneves.github.conectardoacoes.core.domain.shelter.entity.Shelter;
+import diegosneves.github.conectardoacoes.core.domain.shelter.entity.value.Address;
+import diegosneves.github.conectardoacoes.core.domain.shelter.factory.ShelterFactory;
+import diegosneves.github.conectardoacoes.core.exception.AddressCreationFailureException;
+import diegosneves.github.conectardoacoes.core.exception.ShelterCreationFailureException;
+import diegosneves.github.conectardoacoes.core.service.AddressService;
+import diegosneves.github.conectardoacoes.core.service.AddressServiceContract;
+import diegosneves.github.conectardoacoes.core.utils.LogGuard;
+import diegosneves.github.conectardoacoes.core.utils.ValidationUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Serviço responsável pelo cadastro de abrigos em lote.
+ * <p>
+ * O lote é processado com uma quantidade fixa de consultas, independente da quantidade de solicitações: os usuários
+ * responsáveis são buscados com uma única consulta {@code IN}, e os e-mails que já respondem por algum abrigo com outra.
+ * As validações de cada solicitação são feitas em memória a partir desses resultados. Os endereços e abrigos válidos
+ * são então persistidos agrupados por tipo (primeiro todos os endereços, depois todos os abrigos), o que permite ao
+ * Hibernate enviá-los em lotes JDBC de acordo com {@code hibernate.jdbc.batch_size}.
+ * <p>
+ * As verificações prévias não são atômicas com as inserções: uma criação concorrente pode ocupar o mesmo usuário
+ * responsável entre a consulta e a gravação, e a restrição {@code uk_shelters_responsible_user} recusa então o lote
+ * inteiro. Nesse caso, a transação é desfeita e o lote é processado novamente, em uma nova transação, na qual as
+ * consultas já enxergam o abrigo concorrente e apenas a solicitação afetada é recusada. Se o conflito persistir após
+ * {@value #MAX_ONBOARDING_ATTEMPTS} tentativas, nenhum abrigo é criado e as solicitações que seriam criadas são
+ * retornadas como recusadas.
+ *
+ * @author diegoneves
+ * @see ShelterOnboardingService
+ * @since 1.3.0
+ */
+@Service
+@Slf4j
+public class ShelterOnboardingServiceImpl implements ShelterOnboardingService {
+
+    public static final Integer REQUEST_VALIDATION_ERROR_MESSAGE = 3;
+    public static final Integer SHELTER_CREATION_ERROR_MESSAGE = 5;
+    public static final Integer RESPONSIBLE_USER_PROFILE_INVALID = 7;
+    public static final Integer RESPONSIBLE_USER_ALREADY_IN_USE = 9;
+    public static final Integer USER_RESPONSIBLE_EMAIL_NOT_FOUND_ERROR = 11;
+    public static final Integer ADDRESS_CREATION_ERROR = 23;
+    public static final Integer SHELTER_ONBOARDING_SIZE_INVALID = 51;
+
+    public static final int MAX_ONBOARDING_SIZE = 1000;
+    public static final int MAX_ONBOARDING_ATTEMPTS = 2;
+
+    public static final String ONBOARDING_ITEM_FAILURE_LOG = "Solicitação {} do cadastro em lote recusada. Email do Usuário Responsável: {} - Motivo: {}";
+    public static final String ONBOARDING_FINISHED_LOG = "Cadastro de abrigos em lote concluído. Abrigos criados: {} - Solicitações recusadas: {}";
+    public static final String ONBOARDING_CONFLICT_LOG = "Conflito ao gravar a tentativa {} do cadastro de abrigos em lote; o lote foi desfeito. Motivo: {}";
+
+
+    private final UserRepository userRepository;
+    private final ShelterRepository shelterRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AddressServiceContract addressServiceContract;
+
+    @Autowired
+    public ShelterOnboardingServiceImpl(UserRepository userRepository, ShelterRepository shelterRepository, PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.shelterRepository = shelterRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.addressServiceContract = new AddressService();
+    }
+
+    @Override
+    public ShelterOnboardingResponse createShelters(List<ShelterCreationRequest> requests) {
+        if (isNull(requests) || requests.isEmpty() || requests.size() > MAX_ONBOARDING_SIZE) {
+            throw new ShelterEntityFailuresException(SHELTER_ONBOARDING_SIZE_INVALID, String.valueOf(MAX_ONBOARDING_SIZE));
+        }
+        List<ShelterOnboardingItemResponse> results = new ArrayList<>(requests.size());
+        for (int attempt = 1; attempt <= MAX_ONBOARDING_ATTEMPTS; attempt++) {
+            results.clear();
+            try {
+                return this.transactionTemplate.execute(status -> this.onboard(requests, results));
+            } catch (DataIntegrityViolationException e) {
+                LogGuard.warn(log, ONBOARDING_CONFLICT_LOG, attempt, e.getMostSpecificCause().getMessage());
+            }
+        }
+        return conflictResponse(results);
+    }
+
+    /**
+     * Valida as solicitações e persiste os abrigos válidos, na transação da tentativa atual.
+     *
+     * @param requests as solicitações de criação dos abrigos.
+     * @param results  a lista, vazia, na qual o resultado de cada solicitação é registrado.
+     * @return o resultado do lote.
+     * @throws DataIntegrityViolationException se a gravação violar alguma restrição do banco de dados.
+     */
+    private ShelterOnboardingResponse onboard(List<ShelterCreationRequest> requests, List<ShelterOnboardingItemResponse> results) {
+        Set<String> emails = requests.stream()
+                .filter(Objects::nonNull)
+                .map(ShelterCreationRequest::getResponsibleUserEmail)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<String, UserEntity> usersByEmail = this.findUsersByEmail(emails);
+        Set<String> emailsInUse = this.findEmailsInUse(emails);
+
+        List<ShelterEntity> newShelters = new ArrayList<>();
+        for (int index = 0; index < requests.size(); index++) {
+            ShelterCreationRequest request = requests.get(index);
+            try {
+                ShelterEntity shelterEntity = this.buildShelterEntity(request, usersByEmail, emailsInUse);
+                newShelters.add(shelterEntity);
+                results.add(createdResult(index, shelterEntity));
+            } catch (CustomException e) {
+                String responsibleUserEmail = isNull(request) ? null : request.getResponsibleUserEmail();
+                LogGuard.warn(log, ONBOARDING_ITEM_FAILURE_LOG, index, responsibleUserEmail, e.getMessage());
+                results.add(failedResult(index, responsibleUserEmail, e));
+            }
+        }
+        if (!newShelters.isEmpty()) {
+            this.shelterRepository.insertAll(newShelters);
+        }
+
+        int failed = results.size() - newShelters.size();
+        log.info(ONBOARDING_FINISHED_LOG, newShelters.size(), failed);
+        return ShelterOnboardingResponse.builder()
+                .created(newShelters.size())
+                .failed(failed)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * Busca, com uma única consulta, os usuários dos e-mails informados.
+     *
+     * @param emails os e-mails dos usuários responsáveis do lote.
+     * @return os usuários encontrados, indexados pelo e-mail.
+     */
+    private Map<String, UserEntity> findUsersByEmail(Set<String> emails) {
+        if (emails.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return this.userRepository.findAllByEmailIn(emails).stream()
+                .collect(Collectors.toMap(UserEntity::getEmail, Function.identity(), (first, second) -> first));
+    }
+
+    /**
+     * Busca, com uma única consulta, quais dos e-mails informados já respondem por algum abrigo.
+     *
+     * @param emails os e-mails dos usuários responsáveis do lote.
+     * @return um conjunto mutável com os e-mails já em uso, ao qual são acrescentados os e-mails dos abrigos criados
+     * pelo próprio lote.
+     */
+    private Set<String> findEmailsInUse(Set<String> emails) {
+        if (emails.isEmpty()) {
+            return new HashSet<>();
+        }
+        return new HashSet<>(this.shelterRepository.findResponsibleUserEmailsIn(emails));
+    }
+
+    /**
+     * Valida uma solicitação e constrói a entidade do abrigo correspondente, sem persisti-la.
+     * <p>
+     * As mesmas regras da criação individual são aplicadas: o usuário responsável deve existir, não pode ter o perfil
+     * de doador e não pode ser responsável por outro abrigo, inclusive por um abrigo criado anteriormente no mesmo lote.
+     *
+     * @param request      a solicitação de criação do abrigo.
+     * @param usersByEmail os usuários responsáveis do lote, indexados pelo e-mail.
+     * @param emailsInUse  os e-mails que já respondem por algum abrigo.
+     * @return a entidade do novo abrigo, com o seu endereço.
+     * @throws ShelterEntityFailuresException se a solicitação não atender a alguma das regras de criação.
+     */
+    private ShelterEntity buildShelterEntity(ShelterCreationRequest request, Map<String, UserEntity> usersByEmail, Set<String> emailsInUse) throws ShelterEntityFailuresException {
+        ValidationUtils.validateNotNullOrEmpty(request, REQUEST_VALIDATION_ERROR_MESSAGE, ShelterEntityFailuresException::new);
+        UserEntity responsibleUser = isNull(request.getResponsibleUserEmail()) ? null : usersByEmail.get(request.getResponsibleUserEmail());
+        if (isNull(responsibleUser)) {
+            throw new ShelterEntityFailuresException(USER_RESPONSIBLE_EMAIL_NOT_FOUND_ERROR);
+        }
+        if (UserProfileType.DONOR.equals(responsibleUser.getUserProfile())) {
+            throw new ShelterEntityFailuresException(RESPONSIBLE_USER_PROFILE_INVALID);
+        }
+        if (emailsInUse.contains(responsibleUser.getEmail())) {
+            throw new ShelterEntityFailuresException(RESPONSIBLE_USER_ALREADY_IN_USE);
+        }
+        Address address = this.createAddress(request.getAddress());
+        Shelter shelter;
+        try {
+            shelter = ShelterFactory.create(request.getShelterName(), address, MapperRegistry.get(UserMapper.class).mapFrom(responsibleUser));
+        } catch (ShelterCreationFailureException e) {
+            throw new ShelterEntityFailuresException(SHELTER_CREATION_ERROR_MESSAGE, e);
+        }
+        emailsInUse.add(responsibleUser.getEmail());
+        return ShelterEntity.builder()
+                .id(shelter.getId())
+                .shelterName(shelter.getShelterName())
+                .address(MapperRegistry.get(AddressEntityMapper.class).mapFrom(address))
+                .responsibleUser(responsibleUser)
+                .donations(new ArrayList<>())
+                .build();
+    }
+
+    private Address createAddress(AddressDTO address) throws ShelterEntityFailuresException {
+        ValidationUtils.validateNotNullOrEmpty(address, ADDRESS_CREATION_ERROR, ShelterEntityFailuresException::new);
+        try {
+            return this.addressServiceContract.createAddress(address.getStreet(), address.getNumber(), address.getNeighborhood(), address.getCity(), address.getState(), address.getZip());
+        } catch (AddressCreationFailureException e) {
+            throw new ShelterEntityFailuresException(ADDRESS_CREATION_ERROR, e);
+        }
+    }
+
+    /**
+     * Monta o resultado do lote quando todas as tentativas de gravação foram recusadas por conflito. Nenhum abrigo foi
+     * criado: as solicitações válidas da última tentativa são retornadas como recusadas, pelo usuário responsável já em
+     * uso, e as demais mantêm o motivo da sua recusa.
+     *
+     * @param results os resultados da última tentativa.
+     * @return o resultado do lote, sem abrigos criados.
+     */
+    private static ShelterOnboardingResponse conflictResponse(List<ShelterOnboardingItemResponse> results) {
+        ShelterEntityFailuresException conflict = new ShelterEntityFailuresException(RESPONSIBLE_USER_ALREADY_IN_USE);
+        List<ShelterOnboardingItemResponse> failedResults = results.stream()
+                .map(result -> ShelterOnboardingStatus.CREATED.equals(result.getStatus())
+                        ? failedResult(result.getIndex(), result.getResponsibleUserEmail(), conflict)
+                        : result)
+                .toList();
+        log.info(ONBOARDING_FINISHED_LOG, 0, failedResults.size());
+        return ShelterOnboardingResponse.builder()
+                .created(0)
+                .failed(failedResults.size())
+                .results(failedResults)
+                .build();
+    }
+
+    private static ShelterOnboardingItemResponse createdResult(int index, ShelterEntity shelterEntity) {
+        ShelterCreatedResponse shelter = ShelterCreatedResponse.builder()
+                .id(shelterEntity.getId())
+                .shelterName(shelterEntity.getShelterName())
+                .address(AddressDTOMapper.INSTANCE.mapFrom(shelterEntity.getAddress()))
+                .responsibleUser(UserEntityDTOMapper.INSTANCE.mapFrom(shelterEntity.getResponsibleUser()))
+                .build();
+        return ShelterOnboardingItemResponse.builder()
+                .index(index)
+                .responsibleUserEmail(shelterEntity.getResponsibleUser().getEmail())
+                .status(ShelterOnboardingStatus.CREATED)
+                .shelter(shelter)
+                .build();
+    }
+
+    private static ShelterOnboardingItemResponse failedResult(int index, String responsibleUserEmail, CustomException exception) {
+        return ShelterOnboardingItemResponse.builder()
+                .index(index)
+                .responsibleUserEmail(responsibleUserEmail)
+                .status(ShelterOnboardingStatus.FAILED)
+                .message(exception.getMessage())
+                .build();
+    }
+
+}
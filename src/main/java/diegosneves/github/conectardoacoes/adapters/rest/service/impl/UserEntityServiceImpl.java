@@ -2,7 +2,9 @@ package diegosneves.github.conectardoacoes.adapters.rest.service.impl;
 
 import diegosneves.github.conectardoacoes.adapters.rest.exception.UserEntityFailuresException;
 import diegosneves.github.conectardoacoes.adapters.rest.mapper.BuilderMapper;
+import diegosneves.github.conectardoacoes.adapters.rest.mapper.MapperRegistry;
 import diegosneves.github.conectardoacoes.adapters.rest.mapper.UserEntityMapper;
+import diegosneves.github.conectardoacoes.adapters.rest.mapper.UserEntityCreatedResponseMapper;
 import diegosneves.github.conectardoacoes.adapters.rest.model.UserEntity;
 import diegosneves.github.conectardoacoes.adapters.rest.repository.UserRepository;
 import diegosneves.github.conectardoacoes.adapters.rest.request.UserEntityCreationRequest;
@@ -13,11 +15,15 @@ import diegosneves.github.conectardoacoes.core.domain.user.entity.UserContract;
 import diegosneves.github.conectardoacoes.core.domain.user.entity.value.UserProfile;
 import diegosneves.github.conectardoacoes.core.service.UserService;
 import diegosneves.github.conectardoacoes.core.service.UserServiceContract;
+import diegosneves.github.conectardoacoes.core.utils.LogGuard;
 import diegosneves.github.conectardoacoes.core.utils.ValidationUtils;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
+import java.util.Locale;
 import java.util.Optional;
 
 import static java.util.Objects.isNull;
@@ -65,7 +71,7 @@ public class UserEntityServiceImpl implements UserEntityService {
 
     @Override
     public UserContract searchUserByEmail(String email) throws UserEntityFailuresException {
-        ValidationUtils.validateNotNullOrEmpty(email, INVALID_EMAIL_ERROR_MESSAGE, UserEntityFailuresException.class);
+        ValidationUtils.validateNotNullOrEmpty(email, INVALID_EMAIL_ERROR_MESSAGE, UserEntityFailuresException::new);
         UserContract foundUser = this.userServiceContract.getUserByEmail(email);
         if (isNull(foundUser)) {
             throw new UserEntityFailuresException(EMAIL_NOT_FOUND_ERROR_MESSAGE, email);
@@ -75,33 +81,33 @@ public class UserEntityServiceImpl implements UserEntityService {
 
     @Override
     public UserEntityCreatedResponse createUserEntity(UserEntityCreationRequest request) throws UserEntityFailuresException {
-        ValidationUtils.validateNotNullOrEmpty(request, MISSING_USER_ENTITY_REQUEST_ERROR_MESSAGE, UserEntityFailuresException.class);
-        this.checkIfEmailAlreadyInUse(request.getEmail());
+        ValidationUtils.validateNotNullOrEmpty(request, MISSING_USER_ENTITY_REQUEST_ERROR_MESSAGE, UserEntityFailuresException::new);
+        ValidationUtils.validateNotNullOrEmpty(request.getEmail(), INVALID_EMAIL_ERROR_MESSAGE, UserEntityFailuresException::new);
         UserEntity newUser = createUserEntityFromCreationRequest(request);
-        return BuilderMapper.mapTo(UserEntityCreatedResponse.class, newUser);
+        return UserEntityCreatedResponseMapper.INSTANCE.mapFrom(newUser);
     }
 
     @Override
     public UserEntityCreatedResponse findUserByEmail(String email) {
         UserEntity entity = BuilderMapper.mapTo(getUserEntityMapper(), this.searchUserByEmail(email));
-        return BuilderMapper.mapTo(UserEntityCreatedResponse.class, entity);
+        return UserEntityCreatedResponseMapper.INSTANCE.mapFrom(entity);
     }
 
     /**
-     * Retorna uma nova instância de {@link UserEntityMapper}.
+     * Retorna a instância compartilhada de {@link UserEntityMapper}.
      *
      * <p>
-     * Este método cria e retorna uma nova instância de {@link UserEntityMapper}.
+     * Este método retorna a instância de {@link UserEntityMapper} registrada no {@link MapperRegistry}.
      * É usado para transformar {@link User} em {@link UserEntity} e vice-versa.
      * A classe {@code UserEntityMapper} é um mapper (conversor) usado no contexto
      * de persistência de dados da aplicação, convertendo objetos de domínio em entidades
      * de banco de dados e vice versa em operações de CRUD.
      *
-     * @return uma nova instância de {@link UserEntityMapper}
+     * @return a instância compartilhada de {@link UserEntityMapper}
      * @see UserEntityMapper
      */
     private static UserEntityMapper getUserEntityMapper() {
-        return new UserEntityMapper();
+        return MapperRegistry.get(UserEntityMapper.class);
     }
 
 
@@ -138,6 +144,9 @@ public class UserEntityServiceImpl implements UserEntityService {
      * O método lança a exceção {@link UserEntityFailuresException} nas seguintes situações:
      * <ul>
      * <li>Quando o campo userProfile da solicitação de criação de entidade de usuário está nulo.</li>
+     * <li>Quando o e-mail informado já está associado a outro usuário. A unicidade é garantida pela restrição
+     * {@link UserEntity#EMAIL_UNIQUE_CONSTRAINT}: o usuário é inserido diretamente, sem uma consulta prévia pelo e-mail, e a
+     * violação da restrição é traduzida para o erro {@link #EMAIL_ALREADY_IN_USE}, inclusive entre cadastros concorrentes.</li>
      * <li> Quando ocorrer uma exceção {@link RuntimeException} durante a criação do usuário no método {@link UserServiceContract#createUser(String, String, UserProfile, String)}.</li>
      * </ul>
      * Nesses casos, uma {@link UserEntityFailuresException} será lançada com uma mensagem de erro adequada.
@@ -151,43 +160,43 @@ public class UserEntityServiceImpl implements UserEntityService {
      * @see UserEntityCreationRequest
      */
     private UserContract createUserFromRequest(UserEntityCreationRequest request) {
-        ValidationUtils.validateNotNullOrEmpty(request.getUserProfile(), USER_PROFILE_VALIDATION_FAILURE, UserEntityFailuresException.class);
+        ValidationUtils.validateNotNullOrEmpty(request.getUserProfile(), USER_PROFILE_VALIDATION_FAILURE, UserEntityFailuresException::new);
         UserProfile userProfile = Enum.valueOf(UserProfile.class, request.getUserProfile().name());
         UserContract createdUser;
         try {
             createdUser = this.userServiceContract.createUser(request.getUserName(), request.getEmail(), userProfile, request.getUserPassword());
             log.info(USER_CREATION_SUCCESS_LOG, createdUser.getId(), createdUser.getEmail());
+        } catch (DataIntegrityViolationException e) {
+            if (isEmailUniqueViolation(e)) {
+                LogGuard.error(log, EMAIL_DUPLICATE_LOG, request.getEmail());
+                throw new UserEntityFailuresException(EMAIL_ALREADY_IN_USE, request.getEmail());
+            }
+            LogGuard.error(log, USER_CREATION_ERROR_LOG, e.getMessage(), e);
+            throw new UserEntityFailuresException(USER_CREATION_FAILURE_MESSAGE, e);
         } catch (RuntimeException e) {
-            log.error(USER_CREATION_ERROR_LOG, e.getMessage(), e);
+            LogGuard.error(log, USER_CREATION_ERROR_LOG, e.getMessage(), e);
             throw new UserEntityFailuresException(USER_CREATION_FAILURE_MESSAGE, e);
         }
         return createdUser;
     }
 
     /**
-     * Este método recebe como parâmetro um endereço de email no formato String e verifica se este email já está
-     * registrado no repositório de usuários. A verificação de registro é feita a partir do método
-     * {@link UserRepository#findByEmail(String)}, que retorna um {@link Optional} de {@link UserEntity}.
-     * <p>
-     * Primeiro, o método utiliza a função {@link ValidationUtils#validateNotNullOrEmpty(Object, String, Class)}
-     * para assegurar que o email fornecido não é nulo ou vazio.
-     * <p>
-     * Se a verificação retorna um {@link UserEntity}, isso significa que o endereço de email já existe na base de dados do
-     * sistema, neste caso, uma exceção {@link UserEntityFailuresException} é lançada com uma mensagem predefinida
-     * {@link #EMAIL_ALREADY_IN_USE}.
+     * Verifica se a falha de integridade informada decorre da violação da restrição de unicidade do e-mail.
      * <p>
-     * Já se a instância de {@link UserEntity} for vazia, ou seja, se o email não foi registrado anteriormente no sistema,
-     * a operação prossegue normalmente sem lançar nenhuma exceção.
+     * A causa é procurada na cadeia da exceção como uma {@link ConstraintViolationException} do Hibernate. Quando o
+     * dialeto não consegue extrair o nome da restrição, a mensagem do driver é utilizada em seu lugar.
      *
-     * @param email o endereço de email a ser verificado.
-     * @throws UserEntityFailuresException Caso o email fornecido seja nulo ou vazio, ou, caso o email já esteja em uso por um usuário existente.
+     * @param exception a falha de integridade lançada ao inserir o usuário.
+     * @return {@code true} se a restrição violada for {@link UserEntity#EMAIL_UNIQUE_CONSTRAINT}.
      */
-    private void checkIfEmailAlreadyInUse(String email) {
-        ValidationUtils.validateNotNullOrEmpty(email, INVALID_EMAIL_ERROR_MESSAGE, UserEntityFailuresException.class);
-        UserContract existingUser = this.userServiceContract.getUserByEmail(email);
-        if (nonNull(existingUser)) {
-            log.error(EMAIL_DUPLICATE_LOG, email);
-            throw new UserEntityFailuresException(EMAIL_ALREADY_IN_USE, email);
+    private static boolean isEmailUniqueViolation(DataIntegrityViolationException exception) {
+        for (Throwable cause = exception.getCause(); nonNull(cause); cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String constraint = Optional.ofNullable(violation.getConstraintName())
+                        .orElseGet(() -> violation.getSQLException().getMessage());
+                return nonNull(constraint) && constraint.toLowerCase(Locale.ROOT).contains(UserEntity.EMAIL_UNIQUE_CONSTRAINT);
+            }
         }
+        return false;
     }
 }
@@ -0,0 +1,41 @@
+package diegosneves.github.conectardoacoes.adapters.rest.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Classe de utilidade para lidar com os cursores da paginação por chave (keyset).
+ * <p>
+ * Um cursor é a última chave de ordenação retornada em uma página, codificada em Base64 (URL safe, sem preenchimento),
+ * de modo que o cliente o trate como um token opaco e o reenvie para obter a página seguinte.
+ *
+ * @author diegoneves
+ * @since 1.3.0
+ */
+public class CursorUtils {
+
+    private CursorUtils() {
+    }
+
+    /**
+     * Codifica a chave de ordenação informada como um cursor opaco.
+     *
+     * @param key A última chave de ordenação retornada na página atual.
+     * @return O cursor correspondente à chave informada.
+     */
+    public static String encode(String key) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um cursor recebido do cliente, retornando a chave de ordenação que ele representa.
+     *
+     * @param cursor O cursor recebido do cliente.
+     * @return A chave de ordenação representada pelo cursor.
+     * @throws IllegalArgumentException se o cursor não for um Base64 válido.
+     */
+    public static String decode(String cursor) throws IllegalArgumentException {
+        return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    }
+
+}
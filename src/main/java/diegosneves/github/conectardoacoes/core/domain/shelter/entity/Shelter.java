@@ -74,9 +74,9 @@ public class Shelter implements ShelterContract {
         } catch (UuidUtilsException e) {
             throw new ShelterCreationFailureException(ID_VALIDATION_FAILURE, e);
         }
-        ValidationUtils.validateNotNullOrEmpty(this.shelterName, SHELTER_NAME_REQUIRED_ERROR, ShelterCreationFailureException.class);
-        ValidationUtils.validateNotNullOrEmpty(this.address, ADDRESS_REQUIRED_ERROR, ShelterCreationFailureException.class);
-        ValidationUtils.validateNotNullOrEmpty(this.responsibleUser, RESPONSIBLE_REQUIRED_ERROR, ShelterCreationFailureException.class);
+        ValidationUtils.validateNotNullOrEmpty(this.shelterName, SHELTER_NAME_REQUIRED_ERROR, ShelterCreationFailureException::new);
+        ValidationUtils.validateNotNullOrEmpty(this.address, ADDRESS_REQUIRED_ERROR, ShelterCreationFailureException::new);
+        ValidationUtils.validateNotNullOrEmpty(this.responsibleUser, RESPONSIBLE_REQUIRED_ERROR, ShelterCreationFailureException::new);
     }
 
 
@@ -107,19 +107,19 @@ public class Shelter implements ShelterContract {
 
     @Override
     public void changeShelterName(String shelterName) throws ShelterCreationFailureException {
-        ValidationUtils.validateNotNullOrEmpty(shelterName, SHELTER_NAME_REQUIRED_ERROR, ShelterCreationFailureException.class);
+        ValidationUtils.validateNotNullOrEmpty(shelterName, SHELTER_NAME_REQUIRED_ERROR, ShelterCreationFailureException::new);
         this.shelterName = shelterName;
     }
 
     @Override
     public void changeAddress(Address address) throws ShelterCreationFailureException {
-        ValidationUtils.validateNotNullOrEmpty(address, ADDRESS_REQUIRED_ERROR, ShelterCreationFailureException.class);
+        ValidationUtils.validateNotNullOrEmpty(address, ADDRESS_REQUIRED_ERROR, ShelterCreationFailureException::new);
         this.address = address;
     }
 
     @Override
     public void addDonation(Donation donation) throws ShelterCreationFailureException {
-        ValidationUtils.validateNotNullOrEmpty(donation, DONATION_REQUIRED_ERROR, ShelterCreationFailureException.class);
+        ValidationUtils.validateNotNullOrEmpty(donation, DONATION_REQUIRED_ERROR, ShelterCreationFailureException::new);
         this.donations.add(donation);
     }
 }
@@ -44,6 +44,6 @@ public class AddressFactory {
      * @see Address
      */
     public static Address create(String street, String number, String neighborhood, String city, String state, String zip) throws AddressCreationFailureException {
-        return new Address(UuidUtils.generateUuid(), street, number, neighborhood, city, state, zip);
+        return new Address(UuidUtils.generateTimeOrderedUuid(), street, number, neighborhood, city, state, zip);
     }
 }
@@ -38,7 +38,7 @@ public class DonationFactory {
      * @throws UuidUtilsException Se a geração do UUID falhar.
      */
     public static Donation created(String description, Integer amount) {
-        return new Donation(UuidUtils.generateUuid(), description, amount);
+        return new Donation(UuidUtils.generateTimeOrderedUuid(), description, amount);
     }
 
 }
@@ -27,7 +27,7 @@ public class ShelterFactory {
      * <p>
      * Este método é responsável por criar uma nova instancia de {@link Shelter} com um UUID gerado dinamicamente, juntamente com os detalhes fornecidos.
      * <p>
-     * Este método utiliza o método {@link UuidUtils#generateUuid} para gerar um UUID único para o novo objeto {@link Shelter}.
+     * Este método utiliza o método {@link UuidUtils#generateTimeOrderedUuid} para gerar um UUID único para o novo objeto {@link Shelter}.
      *
      * @param shelterName A string que representa o nome do abrigo.
      * @param address A instância de {@link Address} que representa o endereço do abrigo.
@@ -37,7 +37,7 @@ public class ShelterFactory {
      *
      */
     public static Shelter create(String shelterName, Address address, UserContract responsibleUser) {
-        return new Shelter(UuidUtils.generateUuid(), shelterName, address, responsibleUser);
+        return new Shelter(UuidUtils.generateTimeOrderedUuid(), shelterName, address, responsibleUser);
     }
 
 }
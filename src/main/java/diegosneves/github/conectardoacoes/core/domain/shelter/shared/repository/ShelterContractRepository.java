@@ -2,8 +2,11 @@ package diegosneves.github.conectardoacoes.core.domain.shelter.shared.repository
 
 import diegosneves.github.conectardoacoes.core.domain.shelter.entity.Shelter;
 import diegosneves.github.conectardoacoes.core.domain.shelter.entity.ShelterContract;
+import diegosneves.github.conectardoacoes.core.domain.shelter.entity.value.Donation;
 import diegosneves.github.conectardoacoes.core.repository.RepositoryContract;
 
+import java.util.List;
+
 /**
  * A interface {@link ShelterContractRepository} herda da interface {@link RepositoryContract}.
  * Ela define o contrato para um repositório que persiste e recupera as entidades {@link ShelterContract}.
@@ -13,6 +16,7 @@ import diegosneves.github.conectardoacoes.core.repository.RepositoryContract;
  *  - Encontrar todas as instâncias da entidade {@link Shelter}
  *  - Salvar uma instância da entidade {@link Shelter}
  *  - Deletar uma entidade {@link Shelter} através seu identificador único
+ *  - Anexar novas {@link Donation} a um {@link Shelter} existente sem regravar o agregado completo
  *
  * <p>
  * O uso desta interface é específico para operações relacionados com objeto {@link ShelterContract}
@@ -26,4 +30,17 @@ import diegosneves.github.conectardoacoes.core.repository.RepositoryContract;
  */
 public interface ShelterContractRepository extends RepositoryContract<ShelterContract> {
 
+    /**
+     * Anexa uma lista de {@link Donation} a um {@link Shelter} existente, identificado pelo seu ID.
+     * <p>
+     * Diferente de {@link #persist(Object)}, esta operação não reconstrói nem regrava o agregado do abrigo
+     * (endereço, usuário responsável e doações já existentes). Apenas as novas doações e suas associações com o
+     * abrigo são gravadas, de modo que o custo de escrita não cresce com a quantidade de doações já recebidas.
+     *
+     * @param shelterId O identificador único do {@link Shelter} que receberá as doações.
+     * @param donations A lista de {@link Donation} a ser anexada ao abrigo. Não deve ser nula ou vazia.
+     * @since 1.3.0
+     */
+    void appendDonations(String shelterId, List<Donation> donations);
+
 }
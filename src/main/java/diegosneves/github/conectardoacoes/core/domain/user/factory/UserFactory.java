@@ -33,7 +33,7 @@ public class UserFactory {
     /**
      * Cria um novo usuário com todas as informações necessárias e um identificador UUID gerado.
      * <p>
-     * Este método utiliza o método {@link UuidUtils#generateUuid} para gerar um UUID único para o novo objeto {@link User}.
+     * Este método utiliza o método {@link UuidUtils#generateTimeOrderedUuid} para gerar um UUID único para o novo objeto {@link User}.
      * @param username    O nome de usuário desejado para o novo usuário. Não deve ser nulo ou vazio.
      * @param email       O e-mail do novo usuário. Não deve ser nulo ou vazio.
      * @param userProfile O perfil do usuário {@link UserProfile} para o novo usuário. Não deve ser nulo.
@@ -42,7 +42,7 @@ public class UserFactory {
      * @throws UserCreationFailureException se qualquer informação de usuário fornecida for inválida.
      */
     public static User create(String username, String email, UserProfile userProfile, String password) {
-        return new User(UuidUtils.generateUuid(), username, email, userProfile, password);
+        return new User(UuidUtils.generateTimeOrderedUuid(), username, email, userProfile, password);
     }
 
 }
@@ -48,7 +48,7 @@ public class AddressCreationFailureException extends RuntimeException {
      * @param message Detalhe adicional específico desta instância de exceção.
      */
     public AddressCreationFailureException(String message) {
-        super(ERROR.buildMessage(message));
+        super(ERROR.buildMessage(message), null, true, ExpectedFailurePolicy.writableStackTrace());
     }
 
     /**
@@ -62,7 +62,7 @@ public class AddressCreationFailureException extends RuntimeException {
      * @param cause   A exceção original que causou a falha.
      */
     public AddressCreationFailureException(String message, Throwable cause) {
-        super(ERROR.buildMessage(message), cause);
+        super(ERROR.buildMessage(message), cause, true, ExpectedFailurePolicy.writableStackTrace());
     }
 
 }
@@ -35,7 +35,7 @@ public class DonationRegisterFailureException extends RuntimeException {
      * @param message A mensagem de erro detalhada específica para a exceção ocorrida.
      */
     public DonationRegisterFailureException(String message) {
-        super(ERROR.buildMessage(message));
+        super(ERROR.buildMessage(message), null, true, ExpectedFailurePolicy.writableStackTrace());
     }
 
     /**
@@ -45,7 +45,7 @@ public class DonationRegisterFailureException extends RuntimeException {
      * @param cause Causa-raíz da exceção.
      */
     public DonationRegisterFailureException(String message, Throwable cause) {
-        super(ERROR.buildMessage(message), cause);
+        super(ERROR.buildMessage(message), cause, true, ExpectedFailurePolicy.writableStackTrace());
     }
 
 }
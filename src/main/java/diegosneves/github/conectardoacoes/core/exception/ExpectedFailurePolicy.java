@@ -0,0 +1,44 @@
+package diegosneves.github.conectardoacoes.core.exception;
+
+/**
+ * Define se as exceções de validação do núcleo da aplicação devem registrar o rastreamento de pilha.
+ * <p>
+ * As exceções do núcleo, exceto a {@link ValidationUtilsException}, representam dados inválidos recebidos, como um ID
+ * fora do formato UUID ou um campo obrigatório ausente, e são tratadas como falhas esperadas. Quando o modo sem
+ * rastreamento está habilitado, elas são criadas com {@code writableStackTrace = false}, com ou sem causa.
+ * <p>
+ * O modo vem desabilitado por padrão. Ele é lido uma única vez, na carga da classe, a partir da propriedade de sistema
+ * {@value #STACKLESS_PROPERTY} (por exemplo, {@code -Dexceptions.stackless-expected-failures=true}), a mesma usada
+ * pelas exceções da camada REST.
+ *
+ * @author diegoneves
+ * @since 1.3.0
+ */
+public final class ExpectedFailurePolicy {
+
+    public static final String STACKLESS_PROPERTY = "exceptions.stackless-expected-failures";
+
+    private static final boolean STACKLESS_EXPECTED_FAILURES = Boolean.getBoolean(STACKLESS_PROPERTY);
+
+    private ExpectedFailurePolicy() {
+    }
+
+    /**
+     * Informa se o modo sem rastreamento de pilha para falhas esperadas está habilitado.
+     *
+     * @return {@code true} se a propriedade {@value #STACKLESS_PROPERTY} estiver habilitada.
+     */
+    public static boolean isStackless() {
+        return STACKLESS_EXPECTED_FAILURES;
+    }
+
+    /**
+     * Informa se uma exceção de validação do núcleo deve registrar o rastreamento de pilha.
+     *
+     * @return {@code false} apenas com o modo sem rastreamento habilitado.
+     */
+    static boolean writableStackTrace() {
+        return !STACKLESS_EXPECTED_FAILURES;
+    }
+
+}
@@ -51,7 +51,7 @@ public class ShelterCreationFailureException extends RuntimeException {
      * @param message Detalhe adicional específico desta instância de exceção.
      */
     public ShelterCreationFailureException(String message) {
-        super(ERROR.buildMessage(message));
+        super(ERROR.buildMessage(message), null, true, ExpectedFailurePolicy.writableStackTrace());
     }
 
     /**
@@ -62,7 +62,7 @@ public class ShelterCreationFailureException extends RuntimeException {
      * @param cause A causa raiz que levou a esta exceção.
      */
     public ShelterCreationFailureException(String message, Throwable cause) {
-        super(ERROR.buildMessage(message), cause);
+        super(ERROR.buildMessage(message), cause, true, ExpectedFailurePolicy.writableStackTrace());
     }
 
 }
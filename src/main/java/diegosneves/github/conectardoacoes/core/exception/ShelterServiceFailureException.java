@@ -51,7 +51,7 @@ public class ShelterServiceFailureException extends RuntimeException {
      * @param message Detalhe adicional específico desta instância de exceção.
      */
     public ShelterServiceFailureException(String message) {
-        super(ERROR.buildMessage(message));
+        super(ERROR.buildMessage(message), null, true, ExpectedFailurePolicy.writableStackTrace());
     }
 
     /**
@@ -62,7 +62,7 @@ public class ShelterServiceFailureException extends RuntimeException {
      * @param cause A causa raiz que levou a esta exceção.
      */
     public ShelterServiceFailureException(String message, Throwable cause) {
-        super(ERROR.buildMessage(message), cause);
+        super(ERROR.buildMessage(message), cause, true, ExpectedFailurePolicy.writableStackTrace());
     }
 
 }
@@ -42,7 +42,7 @@ public class UserCreationFailureException extends RuntimeException {
      * @param message Detalhe adicional específico desta instância de exceção.
      */
     public UserCreationFailureException(String message) {
-        super(ERROR.buildMessage(message));
+        super(ERROR.buildMessage(message), null, true, ExpectedFailurePolicy.writableStackTrace());
     }
 
     /**
@@ -53,7 +53,7 @@ public class UserCreationFailureException extends RuntimeException {
      * @param cause A causa raiz que levou a esta exceção.
      */
     public UserCreationFailureException(String message, Throwable cause) {
-        super(ERROR.buildMessage(message), cause);
+        super(ERROR.buildMessage(message), cause, true, ExpectedFailurePolicy.writableStackTrace());
     }
 
 }
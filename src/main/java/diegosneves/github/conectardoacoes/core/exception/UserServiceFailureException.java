@@ -43,7 +43,7 @@ public class UserServiceFailureException extends RuntimeException {
      * @param message Detalhe adicional específico desta instância de exceção.
      */
     public UserServiceFailureException(String message) {
-        super(ERROR.buildMessage(message));
+        super(ERROR.buildMessage(message), null, true, ExpectedFailurePolicy.writableStackTrace());
     }
 
     /**
@@ -54,7 +54,7 @@ public class UserServiceFailureException extends RuntimeException {
      * @param cause A causa raiz que levou a esta exceção.
      */
     public UserServiceFailureException(String message, Throwable cause) {
-        super(ERROR.buildMessage(message), cause);
+        super(ERROR.buildMessage(message), cause, true, ExpectedFailurePolicy.writableStackTrace());
     }
 
 }
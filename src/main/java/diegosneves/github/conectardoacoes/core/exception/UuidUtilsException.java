@@ -27,7 +27,7 @@ public class UuidUtilsException extends RuntimeException {
      * @param message A string que representa a mensagem detalhada da exceção. A mensagem é usada mais tarde para criar uma mensagem de erro mais detalhada por meio do método buildMessage do objeto ERROR.
      */
     public UuidUtilsException(String message) {
-        super(ERROR.buildMessage(message));
+        super(ERROR.buildMessage(message), null, true, ExpectedFailurePolicy.writableStackTrace());
     }
 
 }
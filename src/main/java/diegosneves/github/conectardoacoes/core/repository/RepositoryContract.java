@@ -44,6 +44,21 @@ public interface RepositoryContract<T> {
      */
     T persist(T entity);
 
+    /**
+     * Salva uma entidade recém-criada, que ainda não existe no repositório.
+     * <p>
+     * Permite que a implementação insira a entidade diretamente, sem verificar antes se ela já existe. A implementação
+     * padrão delega para {@link #persist(Object)}.
+     *
+     * @param entity a entidade recém-criada que deve ser salva.
+     * @return a entidade salva.
+     * @throws IllegalArgumentException se a entidade passada como parâmetro for {@code null}.
+     * @since 1.3.0
+     */
+    default T persistNew(T entity) {
+        return this.persist(entity);
+    }
+
     /**
      * Deleta uma entidade pelo seu identificador.
      *
@@ -31,6 +31,7 @@ public class ShelterService implements ShelterServiceContract {
     public static final String INVALID_SHELTER_NAME_ERROR_MESSAGE = "O nome do Abrigo fornecido é inválido.";
     public static final String ERROR_MESSAGE_ADDRESS_NULL = "O Endereço fornecido não deve ser nulo";
     public static final String DONATION_REQUIRED_ERROR_MESSAGE = "A Doação fornecida deve ser válida.";
+    public static final String DONATION_LIST_REQUIRED_ERROR_MESSAGE = "A lista de Doações fornecida não deve ser nula ou vazia.";
 
     private final ShelterContractRepository shelterContractRepository;
 
@@ -40,7 +41,7 @@ public class ShelterService implements ShelterServiceContract {
 
     /**
      * Este método cria um novo {@link ShelterContract} utilizando {@link ShelterFactory#create}.
-     * O novo objeto {@link Shelter} é salvo usando o método {@link ShelterContractRepository#persist}.
+     * O novo objeto {@link Shelter} é salvo usando o método {@link ShelterContractRepository#persistNew}.
      *
      * @param shelterName     O nome do abrigo como uma string.
      * @param address         uma instancia do objeto {@link Address} representando o endereço do abrigo
@@ -53,7 +54,7 @@ public class ShelterService implements ShelterServiceContract {
     @Override
     public ShelterContract createShelter(String shelterName, Address address, UserContract responsibleUser) throws ShelterCreationFailureException {
         Shelter newShelter = ShelterFactory.create(shelterName, address, responsibleUser);
-        return this.shelterContractRepository.persist(newShelter);
+        return this.shelterContractRepository.persistNew(newShelter);
     }
 
     /**
@@ -80,7 +81,7 @@ public class ShelterService implements ShelterServiceContract {
      * @throws ShelterServiceFailureException Se o ID do abrigo fornecido for nulo, vazio ou não for um UUID válido.
      */
     private static void validateShelterId(String shelterId) throws ShelterServiceFailureException {
-        ValidationUtils.validateNotNullOrEmpty(shelterId, INVALID_SHELTER_ID_MESSAGE, ShelterServiceFailureException.class);
+        ValidationUtils.validateNotNullOrEmpty(shelterId, INVALID_SHELTER_ID_MESSAGE, ShelterServiceFailureException::new);
         try {
             UuidUtils.isValidUUID(shelterId);
         } catch (UuidUtilsException e) {
@@ -107,7 +108,7 @@ public class ShelterService implements ShelterServiceContract {
      */
     @Override
     public void changeShelterName(String shelterId, String newName) throws ShelterServiceFailureException {
-        ValidationUtils.validateNotNullOrEmpty(newName, INVALID_SHELTER_NAME_ERROR_MESSAGE, ShelterServiceFailureException.class);
+        ValidationUtils.validateNotNullOrEmpty(newName, INVALID_SHELTER_NAME_ERROR_MESSAGE, ShelterServiceFailureException::new);
         ShelterContract updatedShelter = this.getShelter(shelterId);
         updatedShelter.changeShelterName(newName);
         this.shelterContractRepository.persist(updatedShelter);
@@ -132,7 +133,7 @@ public class ShelterService implements ShelterServiceContract {
      */
     @Override
     public void changeAddress(String shelterId, Address address) throws ShelterServiceFailureException {
-        ValidationUtils.validateNotNullOrEmpty(address, ERROR_MESSAGE_ADDRESS_NULL, ShelterServiceFailureException.class);
+        ValidationUtils.validateNotNullOrEmpty(address, ERROR_MESSAGE_ADDRESS_NULL, ShelterServiceFailureException::new);
         ShelterContract updatedShelter = this.getShelter(shelterId);
         updatedShelter.changeAddress(address);
         this.shelterContractRepository.persist(updatedShelter);
@@ -157,12 +158,36 @@ public class ShelterService implements ShelterServiceContract {
      */
     @Override
     public void addDonation(String shelterId, Donation donation) throws ShelterServiceFailureException {
-        ValidationUtils.validateNotNullOrEmpty(donation, DONATION_REQUIRED_ERROR_MESSAGE, ShelterServiceFailureException.class);
+        ValidationUtils.validateNotNullOrEmpty(donation, DONATION_REQUIRED_ERROR_MESSAGE, ShelterServiceFailureException::new);
         ShelterContract updatedShelter = this.getShelter(shelterId);
         updatedShelter.addDonation(donation);
         this.shelterContractRepository.persist(updatedShelter);
     }
 
+    /**
+     * Este método é responsável por adicionar uma lista de {@link Donation} a um {@link ShelterContract} específico, identificado por seu id.
+     * <p>
+     * Primeiro, ele confirma que a lista de {@link Donation} não é nula nem vazia e que nenhum de seus itens é nulo, usando
+     * {@link ValidationUtils}. Em seguida, valida o id do abrigo fornecido.
+     * <p>
+     * Diferente de {@link #addDonation(String, Donation)}, o abrigo não é carregado nem regravado por completo: as doações
+     * são apenas anexadas usando {@link ShelterContractRepository#appendDonations}, mantendo o custo de escrita constante
+     * independentemente da quantidade de doações que o abrigo já possui.
+     *
+     * @param shelterId O ID do abrigo ao qual as doações serão adicionadas. Deve ser uma identificação válida de um abrigo existente.
+     * @param donations Uma lista de {@link Donation} representando as doações a serem adicionadas.
+     * @throws ShelterServiceFailureException Se a lista de doações fornecida for inválida (ou seja, nula, vazia ou com itens nulos),
+     *                                        ou se o ID do abrigo fornecido for inválido.
+     * @since 1.3.0
+     */
+    @Override
+    public void addDonations(String shelterId, List<Donation> donations) throws ShelterServiceFailureException {
+        ValidationUtils.ensureListIsNotNullOrEmpty(donations, DONATION_LIST_REQUIRED_ERROR_MESSAGE, ShelterServiceFailureException::new);
+        donations.forEach(donation -> ValidationUtils.validateNotNullOrEmpty(donation, DONATION_REQUIRED_ERROR_MESSAGE, ShelterServiceFailureException::new));
+        validateShelterId(shelterId);
+        this.shelterContractRepository.appendDonations(shelterId, donations);
+    }
+
     /**
      * Este método é responsável por recuperar a lista de {@link Donation} de um {@link ShelterContract} específico, identificado por seu id.
      * <p>
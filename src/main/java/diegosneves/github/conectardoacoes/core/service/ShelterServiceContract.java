@@ -66,6 +66,16 @@ public interface ShelterServiceContract {
      */
     void addDonation(String shelterId, Donation donation) throws ShelterServiceFailureException;
 
+    /**
+     * Adiciona uma lista de novas doações ao abrigo, gravando apenas as doações recebidas.
+     *
+     * @param shelterId ID do abrigo como uma String
+     * @param donations uma lista de objetos {@link Donation} representando as doações a serem adicionadas
+     * @throws ShelterServiceFailureException se um erro ocorrer durante a adição das doações ao abrigo
+     * @since 1.3.0
+     */
+    void addDonations(String shelterId, List<Donation> donations) throws ShelterServiceFailureException;
+
     /**
      * Busca a lista de todas as {@link Donation} de um determinado abrigo.
      *
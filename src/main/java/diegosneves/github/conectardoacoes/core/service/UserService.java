@@ -41,7 +41,8 @@ public class UserService implements UserServiceContract {
     }
 
     /**
-     * Cria um novo usuário com os detalhes fornecidos e armazena no repositório de usuários.
+     * Cria um novo usuário com os detalhes fornecidos e armazena no repositório de usuários, usando o método
+     * {@link UserContractRepository#persistNew}.
      *
      * @param username    O nome de usuário para o novo usuário.
      * @param email       O email para o novo usuário.
@@ -53,7 +54,7 @@ public class UserService implements UserServiceContract {
     @Override
     public UserContract createUser(String username, String email, UserProfile userProfile, String password) throws UserCreationFailureException {
         User newUser = UserFactory.create(username, email, userProfile, password);
-        return this.userContractRepository.persist(newUser);
+        return this.userContractRepository.persistNew(newUser);
     }
 
     /**
@@ -91,7 +92,7 @@ public class UserService implements UserServiceContract {
      *                                     informação contextual adicional quando o UUID não é válido.
      */
     private static void validateUserId(String userId) throws UserServiceFailureException {
-        ValidationUtils.validateNotNullOrEmpty(userId, INVALID_IDENTIFIER_ERROR_MESSAGE, UserServiceFailureException.class);
+        ValidationUtils.validateNotNullOrEmpty(userId, INVALID_IDENTIFIER_ERROR_MESSAGE, UserServiceFailureException::new);
         try {
             UuidUtils.isValidUUID(userId);
         } catch (UuidUtilsException e) {
@@ -108,9 +109,9 @@ public class UserService implements UserServiceContract {
      */
     @Override
     public void changePassword(String userId, String newPassword) {
-        ValidationUtils.validateNotNullOrEmpty(newPassword, INVALID_NEW_PASSWORD_MESSAGE, UserServiceFailureException.class);
+        ValidationUtils.validateNotNullOrEmpty(newPassword, INVALID_NEW_PASSWORD_MESSAGE, UserServiceFailureException::new);
         UserContract retrievedUser = this.getUserById(userId);
-        ValidationUtils.validateNotNullOrEmpty(retrievedUser, USER_NOT_FOUND_MESSAGE, UserServiceFailureException.class);
+        ValidationUtils.validateNotNullOrEmpty(retrievedUser, USER_NOT_FOUND_MESSAGE, UserServiceFailureException::new);
         retrievedUser.changeUserPassword(newPassword);
         this.userContractRepository.persist(retrievedUser);
     }
@@ -124,16 +125,16 @@ public class UserService implements UserServiceContract {
      */
     @Override
     public void changeUserName(String userId, String newUsername) {
-        ValidationUtils.validateNotNullOrEmpty(newUsername, USERNAME_INVALID_ERROR_MESSAGE, UserServiceFailureException.class);
+        ValidationUtils.validateNotNullOrEmpty(newUsername, USERNAME_INVALID_ERROR_MESSAGE, UserServiceFailureException::new);
         UserContract retrievedUser = this.getUserById(userId);
-        ValidationUtils.validateNotNullOrEmpty(retrievedUser, USER_NOT_FOUND_MESSAGE, UserServiceFailureException.class);
+        ValidationUtils.validateNotNullOrEmpty(retrievedUser, USER_NOT_FOUND_MESSAGE, UserServiceFailureException::new);
         retrievedUser.changeUserName(newUsername);
         this.userContractRepository.persist(retrievedUser);
     }
 
     @Override
     public UserContract getUserByEmail(String userEmail) {
-        ValidationUtils.validateNotNullOrEmpty(userEmail, EMAIL_REQUIRED_ERROR_MESSAGE, UserServiceFailureException.class);
+        ValidationUtils.validateNotNullOrEmpty(userEmail, EMAIL_REQUIRED_ERROR_MESSAGE, UserServiceFailureException::new);
         return this.userContractRepository.findUserEntityByUserEmail(userEmail);
     }
 }
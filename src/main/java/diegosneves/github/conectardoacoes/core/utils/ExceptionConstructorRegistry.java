@@ -0,0 +1,121 @@
+package diegosneves.github.conectardoacoes.core.utils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro dos construtores das exceções lançadas pela API de {@link ValidationUtils} baseada em {@link Class}.
+ * <p>
+ * O construtor de cada classe de exceção é localizado por reflexão apenas na primeira falha de validação que a utiliza.
+ * Em seguida, é convertido em um {@link MethodHandle} e mantido em cache, indexado pela classe e pela assinatura do
+ * construtor. As falhas seguintes apenas invocam o handle, sem novas buscas por reflexão.
+ * <p>
+ * Construtores inexistentes ou inacessíveis não são mantidos em cache: a busca é refeita, e a
+ * {@link ReflectiveOperationException} correspondente é lançada a cada chamada.
+ *
+ * @author diegoneves
+ * @see ValidationUtils
+ * @since 1.3.0
+ */
+final class ExceptionConstructorRegistry {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType TERM = MethodType.methodType(RuntimeException.class, Integer.class);
+    private static final MethodType MESSAGE = MethodType.methodType(RuntimeException.class, String.class);
+    private static final MethodType TERM_AND_MESSAGE = MethodType.methodType(RuntimeException.class, Integer.class, String.class);
+
+    private static final ClassValue<Map<MethodType, MethodHandle>> CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected Map<MethodType, MethodHandle> computeValue(Class<?> exceptionClass) {
+            return new ConcurrentHashMap<>(4);
+        }
+    };
+
+    private ExceptionConstructorRegistry() {
+    }
+
+    /**
+     * Cria uma exceção por meio do construtor que recebe apenas o termo de {@code ExceptionDetails}.
+     *
+     * @param exceptionClass a classe da exceção.
+     * @param term           o termo passado ao construtor.
+     * @return a exceção criada.
+     * @throws ReflectiveOperationException se a classe não possuir um construtor público {@code (Integer)}, ou se o
+     *                                      construtor lançar uma exceção.
+     */
+    static RuntimeException newInstance(Class<? extends RuntimeException> exceptionClass, Integer term) throws ReflectiveOperationException {
+        MethodHandle constructor = constructor(exceptionClass, TERM);
+        try {
+            return (RuntimeException) constructor.invokeExact(term);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     * Cria uma exceção por meio do construtor que recebe apenas a mensagem.
+     *
+     * @param exceptionClass a classe da exceção.
+     * @param message        a mensagem passada ao construtor.
+     * @return a exceção criada.
+     * @throws ReflectiveOperationException se a classe não possuir um construtor público {@code (String)}, ou se o
+     *                                      construtor lançar uma exceção.
+     */
+    static RuntimeException newInstance(Class<? extends RuntimeException> exceptionClass, String message) throws ReflectiveOperationException {
+        MethodHandle constructor = constructor(exceptionClass, MESSAGE);
+        try {
+            return (RuntimeException) constructor.invokeExact(message);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     * Cria uma exceção por meio do construtor que recebe o termo de {@code ExceptionDetails} e a mensagem.
+     *
+     * @param exceptionClass a classe da exceção.
+     * @param term           o termo passado ao construtor.
+     * @param message        a mensagem passada ao construtor.
+     * @return a exceção criada.
+     * @throws ReflectiveOperationException se a classe não possuir um construtor público {@code (Integer, String)}, ou
+     *                                      se o construtor lançar uma exceção.
+     */
+    static RuntimeException newInstance(Class<? extends RuntimeException> exceptionClass, Integer term, String message) throws ReflectiveOperationException {
+        MethodHandle constructor = constructor(exceptionClass, TERM_AND_MESSAGE);
+        try {
+            return (RuntimeException) constructor.invokeExact(term, message);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     * Recupera do cache o construtor da classe com a assinatura informada, localizando-o na primeira chamada.
+     *
+     * @param exceptionClass a classe da exceção.
+     * @param signature      a assinatura do construtor, com {@link RuntimeException} como tipo de retorno.
+     * @return o {@link MethodHandle} do construtor, adaptado para retornar {@link RuntimeException}.
+     * @throws ReflectiveOperationException se o construtor não existir ou não for acessível.
+     */
+    private static MethodHandle constructor(Class<? extends RuntimeException> exceptionClass, MethodType signature) throws ReflectiveOperationException {
+        Map<MethodType, MethodHandle> constructors = CONSTRUCTORS.get(exceptionClass);
+        MethodHandle constructor = constructors.get(signature);
+        if (constructor == null) {
+            constructor = LOOKUP.unreflectConstructor(exceptionClass.getConstructor(signature.parameterArray())).asType(signature);
+            constructors.putIfAbsent(signature, constructor);
+        }
+        return constructor;
+    }
+
+}
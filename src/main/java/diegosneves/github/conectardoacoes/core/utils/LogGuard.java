@@ -0,0 +1,207 @@
+package diegosneves.github.conectardoacoes.core.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Guarda de log para falhas repetitivas, como validações de entrada e IDs em formato inválido.
+ * <p>
+ * Os eventos são agrupados por local de registro, identificado pelo {@link Logger} e pelo formato da mensagem, ou por
+ * uma chave explícita, como o termo do erro ou a classe da exceção. Dentro de cada janela de tempo:
+ * <ul>
+ *     <li>a primeira ocorrência é registrada por completo, incluindo o rastreamento de pilha;</li>
+ *     <li>uma a cada {@code sampleRate} ocorrências seguintes é registrada como amostra, sem o rastreamento de pilha;</li>
+ *     <li>as demais são apenas contadas.</li>
+ * </ul>
+ * Quando a janela termina, um resumo com a quantidade de ocorrências suprimidas é registrado no mesmo nível, seja no
+ * próximo evento do mesmo local, seja na chamada periódica a {@link #flushSummaries()}.
+ * <p>
+ * As chaves devem ter baixa cardinalidade: mensagens com dados informados pelo cliente devem ser registradas com uma
+ * chave explícita, por meio de {@link #log(Logger, Level, String, String, Object...)}. Os contadores são aproximados
+ * quando há eventos concorrentes na virada da janela.
+ *
+ * @author diegoneves
+ * @since 1.3.0
+ */
+public final class LogGuard {
+
+    public static final Duration DEFAULT_WINDOW = Duration.ofMinutes(1);
+    public static final int DEFAULT_SAMPLE_RATE = 100;
+    public static final String SUMMARY_LOG = "{} de {} ocorrência(s) de [{}] foram suprimidas nos últimos {} segundos.";
+
+    private static volatile LogGuard shared = new LogGuard(DEFAULT_WINDOW, DEFAULT_SAMPLE_RATE, System::nanoTime);
+
+    private final long windowNanos;
+    private final int sampleRate;
+    private final LongSupplier nanoClock;
+    private final Map<String, Map<String, Site>> sites = new ConcurrentHashMap<>();
+
+    LogGuard(Duration window, int sampleRate, LongSupplier nanoClock) {
+        if (window.isNegative() || window.isZero() || sampleRate < 1) {
+            throw new IllegalArgumentException("A janela deve ser positiva e a taxa de amostragem deve ser maior que zero.");
+        }
+        this.windowNanos = window.toNanos();
+        this.sampleRate = sampleRate;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Substitui a configuração compartilhada por todos os locais de registro. Os contadores atuais são descartados.
+     *
+     * @param window     a duração da janela de deduplicação.
+     * @param sampleRate a cada quantas ocorrências repetidas uma é registrada como amostra.
+     * @throws IllegalArgumentException se a janela não for positiva ou se a taxa de amostragem for menor que 1.
+     */
+    public static void configure(Duration window, int sampleRate) {
+        shared = new LogGuard(window, sampleRate, System::nanoTime);
+    }
+
+    /**
+     * Registra um evento em nível {@code ERROR}, agrupado pelo local de registro.
+     *
+     * @param logger    o {@link Logger} do local de registro.
+     * @param format    o formato da mensagem, que também identifica o local de registro.
+     * @param arguments os argumentos da mensagem; se o último for um {@link Throwable}, ele é tratado como a causa.
+     */
+    public static void error(Logger logger, String format, Object... arguments) {
+        shared.record(logger, Level.ERROR, format, format, arguments);
+    }
+
+    /**
+     * Registra um evento em nível {@code WARN}, agrupado pelo local de registro.
+     *
+     * @param logger    o {@link Logger} do local de registro.
+     * @param format    o formato da mensagem, que também identifica o local de registro.
+     * @param arguments os argumentos da mensagem; se o último for um {@link Throwable}, ele é tratado como a causa.
+     */
+    public static void warn(Logger logger, String format, Object... arguments) {
+        shared.record(logger, Level.WARN, format, format, arguments);
+    }
+
+    /**
+     * Registra um evento no nível informado, agrupado pela chave explícita.
+     *
+     * @param logger    o {@link Logger} do local de registro.
+     * @param level     o nível do evento.
+     * @param key       a chave de agrupamento, como o termo do erro ou o nome da classe da exceção.
+     * @param format    o formato da mensagem.
+     * @param arguments os argumentos da mensagem; se o último for um {@link Throwable}, ele é tratado como a causa.
+     */
+    public static void log(Logger logger, Level level, String key, String format, Object... arguments) {
+        shared.record(logger, level, key, format, arguments);
+    }
+
+    /**
+     * Registra o resumo de todos os locais cuja janela já terminou e que possuem ocorrências suprimidas.
+     */
+    public static void flushSummaries() {
+        shared.flush();
+    }
+
+    void record(Logger logger, Level level, String key, String format, Object[] arguments) {
+        if (!isEnabled(logger, level)) {
+            return;
+        }
+        long now = this.nanoClock.getAsLong();
+        Site site = this.site(logger, level, key, now);
+        this.rollWindow(site, now);
+        long occurrence = site.occurrences.incrementAndGet();
+        if (occurrence == 1) {
+            emit(logger, level, format, arguments);
+        } else if (occurrence % this.sampleRate == 0) {
+            emit(logger, level, format, withoutStackTrace(arguments));
+        } else {
+            site.suppressed.incrementAndGet();
+        }
+    }
+
+    void flush() {
+        long now = this.nanoClock.getAsLong();
+        for (Map<String, Site> loggerSites : this.sites.values()) {
+            for (Site site : loggerSites.values()) {
+                this.rollWindow(site, now);
+            }
+        }
+    }
+
+    private Site site(Logger logger, Level level, String key, long now) {
+        Map<String, Site> loggerSites = this.sites.get(logger.getName());
+        if (loggerSites == null) {
+            loggerSites = this.sites.computeIfAbsent(logger.getName(), name -> new ConcurrentHashMap<>());
+        }
+        Site site = loggerSites.get(key);
+        if (site == null) {
+            site = loggerSites.computeIfAbsent(key, newKey -> new Site(logger, level, newKey, now));
+        }
+        return site;
+    }
+
+    /**
+     * Inicia uma nova janela para o local, se a atual já terminou, registrando o resumo das ocorrências suprimidas.
+     */
+    private void rollWindow(Site site, long now) {
+        long windowStart = site.windowStart.get();
+        if (now - windowStart < this.windowNanos || !site.windowStart.compareAndSet(windowStart, now)) {
+            return;
+        }
+        long suppressed = site.suppressed.getAndSet(0);
+        long occurrences = site.occurrences.getAndSet(0);
+        if (suppressed > 0) {
+            emit(site.logger, site.level, SUMMARY_LOG, suppressed, occurrences, site.key, Duration.ofNanos(now - windowStart).toSeconds());
+        }
+    }
+
+    private static Object[] withoutStackTrace(Object[] arguments) {
+        if (arguments.length == 0 || !(arguments[arguments.length - 1] instanceof Throwable throwable)) {
+            return arguments;
+        }
+        Object[] sampled = arguments.clone();
+        sampled[sampled.length - 1] = throwable.toString();
+        return sampled;
+    }
+
+    private static boolean isEnabled(Logger logger, Level level) {
+        return switch (level) {
+            case ERROR -> logger.isErrorEnabled();
+            case WARN -> logger.isWarnEnabled();
+            case INFO -> logger.isInfoEnabled();
+            case DEBUG -> logger.isDebugEnabled();
+            case TRACE -> logger.isTraceEnabled();
+        };
+    }
+
+    private static void emit(Logger logger, Level level, String format, Object... arguments) {
+        switch (level) {
+            case ERROR -> logger.error(format, arguments);
+            case WARN -> logger.warn(format, arguments);
+            case INFO -> logger.info(format, arguments);
+            case DEBUG -> logger.debug(format, arguments);
+            case TRACE -> logger.trace(format, arguments);
+        }
+    }
+
+    private static final class Site {
+
+        private final Logger logger;
+        private final Level level;
+        private final String key;
+        private final AtomicLong windowStart;
+        private final AtomicLong occurrences = new AtomicLong();
+        private final AtomicLong suppressed = new AtomicLong();
+
+        private Site(Logger logger, Level level, String key, long windowStart) {
+            this.logger = logger;
+            this.level = level;
+            this.key = key;
+            this.windowStart = new AtomicLong(windowStart);
+        }
+
+    }
+
+}
@@ -0,0 +1,60 @@
+package diegosneves.github.conectardoacoes.core.utils;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Gerador de {@link UUID} versão 4 (aleatórios) que não disputa uma fonte de aleatoriedade compartilhada.
+ * <p>
+ * O {@link UUID#randomUUID()} usa um único {@link SecureRandom} para toda a JVM, o que serializa as threads que geram
+ * IDs ao mesmo tempo. O {@link #SECURE} usa um {@link SecureRandom} do algoritmo {@code DRBG} por thread, e os IDs
+ * gerados continuam imprevisíveis, adequados para IDs expostos aos clientes, como os protocolos de doação.
+ *
+ * @author diegoneves
+ * @see UuidGenerator
+ * @since 1.3.0
+ */
+public enum RandomUuidGenerator implements UuidGenerator {
+
+    SECURE {
+        private final ThreadLocal<SecureRandom> random = ThreadLocal.withInitial(RandomUuidGenerator::newSecureRandom);
+
+        @Override
+        Random random() {
+            return this.random.get();
+        }
+    };
+
+    public static final String SECURE_RANDOM_ALGORITHM = "DRBG";
+
+    private static final long VERSION_MASK = 0xFFFFFFFFFFFF0FFFL;
+    private static final long VERSION_4 = 0x0000000000004000L;
+    static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+    static final long VARIANT_IETF = 0x8000000000000000L;
+
+    /**
+     * Retorna a fonte de aleatoriedade da thread atual.
+     *
+     * @return a fonte de aleatoriedade usada na geração.
+     */
+    abstract Random random();
+
+    @Override
+    public String generate() {
+        Random source = this.random();
+        long mostSignificantBits = (source.nextLong() & VERSION_MASK) | VERSION_4;
+        long leastSignificantBits = (source.nextLong() & VARIANT_MASK) | VARIANT_IETF;
+        return new UUID(mostSignificantBits, leastSignificantBits).toString();
+    }
+
+    private static SecureRandom newSecureRandom() {
+        try {
+            return SecureRandom.getInstance(SECURE_RANDOM_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(SECURE_RANDOM_ALGORITHM, e);
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+package diegosneves.github.conectardoacoes.core.utils;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Gerador de {@link UUID} versão 7, ordenados pelo instante de criação.
+ * <p>
+ * Os 48 bits iniciais guardam o instante em milissegundos desde a época Unix, seguidos da versão e de um contador de
+ * 12 bits que ordena os IDs gerados no mesmo milissegundo. Os 62 bits finais são aleatórios, obtidos de um
+ * {@link java.security.SecureRandom SecureRandom} por thread. Assim, IDs gerados em sequência ocupam posições
+ * vizinhas nos índices de chave primária, em vez de se espalharem por toda a árvore, como ocorre com os IDs versão 4.
+ * <p>
+ * O instante e o contador são avançados juntos por uma operação atômica, sem bloqueios, e nunca retrocedem: se o
+ * contador de um milissegundo se esgotar, ou se o relógio do sistema voltar no tempo, o gerador continua a partir do
+ * último valor emitido. O texto gerado mantém a forma canônica aceita por {@link UuidUtils#isValidUUID(String)}.
+ *
+ * @author diegoneves
+ * @see UuidUtils#generateTimeOrderedUuid()
+ * @since 1.3.0
+ */
+public final class TimeOrderedUuidGenerator implements UuidGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = 0xFFFL;
+    private static final long VERSION_7 = 0x7000L;
+
+    private final LongSupplier clock;
+    private final Supplier<? extends Random> random;
+    private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+    public TimeOrderedUuidGenerator() {
+        this(System::currentTimeMillis, RandomUuidGenerator.SECURE::random);
+    }
+
+    TimeOrderedUuidGenerator(LongSupplier clock, Supplier<? extends Random> random) {
+        this.clock = clock;
+        this.random = random;
+    }
+
+    @Override
+    public String generate() {
+        long timestampAndCounter = this.nextTimestampAndCounter();
+        long mostSignificantBits = ((timestampAndCounter >>> COUNTER_BITS) << 16) | VERSION_7 | (timestampAndCounter & COUNTER_MASK);
+        long leastSignificantBits = (this.random.get().nextLong() & RandomUuidGenerator.VARIANT_MASK) | RandomUuidGenerator.VARIANT_IETF;
+        return new UUID(mostSignificantBits, leastSignificantBits).toString();
+    }
+
+    /**
+     * Retorna o próximo par instante/contador, sempre maior que o último emitido.
+     *
+     * @return o instante em milissegundos nos bits mais altos e o contador nos 12 bits mais baixos.
+     */
+    private long nextTimestampAndCounter() {
+        long now = this.clock.getAsLong() << COUNTER_BITS;
+        while (true) {
+            long last = this.lastTimestampAndCounter.get();
+            long next = now > last ? now : last + 1;
+            if (this.lastTimestampAndCounter.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,23 @@
+package diegosneves.github.conectardoacoes.core.utils;
+
+/**
+ * Estratégia de geração dos IDs no formato {@link java.util.UUID UUID} usada pelo {@link UuidUtils}.
+ * <p>
+ * As implementações devem ser seguras para uso concorrente e não devem bloquear a thread chamadora.
+ *
+ * @author diegoneves
+ * @see RandomUuidGenerator
+ * @see TimeOrderedUuidGenerator
+ * @since 1.3.0
+ */
+@FunctionalInterface
+public interface UuidGenerator {
+
+    /**
+     * Gera um novo ID.
+     *
+     * @return a representação textual canônica do {@link java.util.UUID UUID} gerado.
+     */
+    String generate();
+
+}
@@ -8,6 +8,11 @@ import java.util.UUID;
 /**
  * Classe de utilidade para lidar com operações relacionadas ao {@link UUID}.
  * Esta classe fornece métodos estáticos para gerar um novo {@link UUID} e para validar um {@link UUID} existente.
+ * <p>
+ * A validação percorre o texto uma única vez, sem criar objetos nem lançar exceções quando o ID é válido, e aceita
+ * apenas a forma canônica {@code 8-4-4-4-12} de dígitos hexadecimais. Os IDs aleatórios são gerados pelo
+ * {@link RandomUuidGenerator#SECURE}, sempre imprevisíveis, e os IDs de chaves primárias usam o
+ * {@link TimeOrderedUuidGenerator}.
  *
  * @author diegoneves
  * @since 1.0.0
@@ -20,17 +25,36 @@ public class UuidUtils {
     private static final String EMPTY_UUID = "vazio";
     private static final String NULL_UUID = "nulo";
     public static final String UUID_REQUIRED = "UUID deve ser informado";
+    public static final int UUID_LENGTH = 36;
+
+    private static final UuidGenerator RANDOM_GENERATOR = RandomUuidGenerator.SECURE;
+    private static final UuidGenerator TIME_ORDERED_GENERATOR = new TimeOrderedUuidGenerator();
 
     private UuidUtils() {
     }
 
     /**
-     * Gera um novo {@link UUID}.
+     * Gera um novo {@link UUID} versão 4, imprevisível, por meio do {@link RandomUuidGenerator#SECURE}.
+     * <p>
+     * Deve ser usado para os IDs expostos aos clientes que funcionam como credencial de acesso, como os protocolos de
+     * doação.
      *
      * @return A string representando o {@link UUID} gerado.
      */
     public static String generateUuid() {
-        return UUID.randomUUID().toString();
+        return RANDOM_GENERATOR.generate();
+    }
+
+    /**
+     * Gera um novo {@link UUID} versão 7, ordenado pelo instante de criação, por meio do {@link TimeOrderedUuidGenerator}.
+     * <p>
+     * Deve ser usado para os IDs que são chaves primárias, para que as inserções fiquem agrupadas no fim do índice.
+     *
+     * @return A string representando o {@link UUID} gerado.
+     * @since 1.3.0
+     */
+    public static String generateTimeOrderedUuid() {
+        return TIME_ORDERED_GENERATOR.generate();
     }
 
     /**
@@ -42,16 +66,40 @@ public class UuidUtils {
      */
     public static boolean isValidUUID(String uuid) throws UuidUtilsException {
         if (uuid == null) {
-            log.error(INVALID_UUID_ERROR, NULL_UUID);
+            LogGuard.error(log, INVALID_UUID_ERROR, NULL_UUID);
             throw new UuidUtilsException(UUID_REQUIRED);
         }
-        try {
-            UUID.fromString(uuid);
-            return true;
-        } catch (IllegalArgumentException ignored) {
-            log.error(INVALID_UUID_ERROR, uuid.isBlank() ? EMPTY_UUID : uuid);
+        if (!hasUuidFormat(uuid)) {
+            LogGuard.error(log, INVALID_UUID_ERROR, uuid.isBlank() ? EMPTY_UUID : uuid);
             throw new UuidUtilsException(uuid);
         }
+        return true;
+    }
+
+    /**
+     * Verifica, sem lançar exceções, se o texto está na forma canônica de um {@link UUID}: 36 caracteres, com hífens
+     * nas posições 8, 13, 18 e 23 e dígitos hexadecimais, maiúsculos ou minúsculos, nas demais.
+     *
+     * @param value o texto a ser verificado.
+     * @return {@code true} se o texto estiver na forma canônica de um {@link UUID}.
+     * @since 1.3.0
+     */
+    public static boolean hasUuidFormat(String value) {
+        if (value == null || value.length() != UUID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            char character = value.charAt(i);
+            boolean valid = i == 8 || i == 13 || i == 18 || i == 23 ? character == '-' : isHexDigit(character);
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isHexDigit(char character) {
+        return (character >= '0' && character <= '9') || (character >= 'a' && character <= 'f') || (character >= 'A' && character <= 'F');
     }
 
 }
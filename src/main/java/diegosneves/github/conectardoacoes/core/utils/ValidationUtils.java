@@ -3,14 +3,23 @@ package diegosneves.github.conectardoacoes.core.utils;
 import diegosneves.github.conectardoacoes.adapters.rest.enums.ExceptionDetails;
 import diegosneves.github.conectardoacoes.core.exception.ValidationUtilsException;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.event.Level;
 
-import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * A classe {@link ValidationUtils} é um utilitário que fornece métodos para validar dados de entrada.
  * Contém todos os métodos estáticos e não pode ser instanciada.
+ * <p>
+ * Cada validação pode receber a exceção a ser lançada de duas formas: pela sua {@link Class}, cujo construtor é
+ * localizado por reflexão na primeira falha e mantido em cache pelo {@link ExceptionConstructorRegistry}, ou por uma
+ * fábrica ({@link Supplier}, {@link Function} ou {@link BiFunction}), normalmente a referência ao construtor da exceção.
+ * As fábricas dispensam a reflexão e são a forma preferida para novos usos. Em ambos os casos, a exceção só é criada
+ * quando a validação falha, e é registrada no log em nível {@code DEBUG}, já que entradas inválidas são esperadas.
  *
  * @author diegoneves
  * @since 1.0.0
@@ -123,6 +132,142 @@ public class ValidationUtils {
         }
     }
 
+    /**
+     * Valida a entrada com base nas condições para nulo e vazio (no caso de String), lançando a exceção criada pela fábrica
+     * informada se uma destas condições for verdadeira.
+     * <p>
+     * A fábrica só é chamada quando a validação falha, de modo que mensagens formatadas ou outros argumentos da exceção
+     * podem ser calculados dentro dela sem custo para as entradas válidas.
+     *
+     * @param <T>              o tipo de objeto a ser verificado
+     * @param input            o objeto a ser validado
+     * @param exceptionFactory a fábrica da exceção a ser lançada
+     * @throws RuntimeException a exceção criada pela fábrica, se o objeto fornecido for nulo ou uma String vazia
+     * @since 1.3.0
+     */
+    public static <T> void validateNotNullOrEmpty(T input, Supplier<? extends RuntimeException> exceptionFactory) {
+        if (input == null || (input instanceof String string && string.trim().isEmpty())) {
+            throw failure(exceptionFactory.get());
+        }
+    }
+
+    /**
+     * Valida a entrada com base nas condições para nulo e vazio (no caso de String), lançando a exceção criada a partir da
+     * mensagem informada se uma destas condições for verdadeira.
+     *
+     * @param <T>              o tipo de objeto a ser verificado
+     * @param input            o objeto a ser validado
+     * @param errorMessage     a mensagem de erro passada à fábrica
+     * @param exceptionFactory a fábrica da exceção, normalmente a referência ao construtor {@code (String)} da exceção
+     * @throws RuntimeException a exceção criada pela fábrica, se o objeto fornecido for nulo ou uma String vazia
+     * @since 1.3.0
+     */
+    public static <T> void validateNotNullOrEmpty(T input, String errorMessage, Function<String, ? extends RuntimeException> exceptionFactory) {
+        if (input == null || (input instanceof String string && string.trim().isEmpty())) {
+            throw failure(exceptionFactory.apply(errorMessage));
+        }
+    }
+
+    /**
+     * Valida a entrada com base nas condições para nulo e vazio (no caso de String), lançando a exceção criada a partir do
+     * termo informado se uma destas condições for verdadeira.
+     *
+     * @param <T>              o tipo de objeto a ser verificado
+     * @param input            o objeto a ser validado
+     * @param term             o termo de {@link ExceptionDetails} passado à fábrica
+     * @param exceptionFactory a fábrica da exceção, normalmente a referência ao construtor {@code (Integer)} da exceção
+     * @throws RuntimeException a exceção criada pela fábrica, se o objeto fornecido for nulo ou uma String vazia
+     * @since 1.3.0
+     */
+    public static <T> void validateNotNullOrEmpty(T input, Integer term, Function<Integer, ? extends RuntimeException> exceptionFactory) {
+        if (input == null || (input instanceof String string && string.trim().isEmpty())) {
+            throw failure(exceptionFactory.apply(term));
+        }
+    }
+
+    /**
+     * Valida a entrada com base nas condições para nulo e vazio (no caso de String), lançando a exceção criada a partir do
+     * termo e da mensagem informados se uma destas condições for verdadeira.
+     *
+     * @param <T>              o tipo de objeto a ser verificado
+     * @param input            o objeto a ser validado
+     * @param term             o termo de {@link ExceptionDetails} passado à fábrica
+     * @param errorMessage     a mensagem passada à fábrica
+     * @param exceptionFactory a fábrica da exceção, normalmente a referência ao construtor {@code (Integer, String)} da exceção
+     * @throws RuntimeException a exceção criada pela fábrica, se o objeto fornecido for nulo ou uma String vazia
+     * @since 1.3.0
+     */
+    public static <T> void validateNotNullOrEmpty(T input, Integer term, String errorMessage, BiFunction<Integer, String, ? extends RuntimeException> exceptionFactory) {
+        if (input == null || (input instanceof String string && string.trim().isEmpty())) {
+            throw failure(exceptionFactory.apply(term, errorMessage));
+        }
+    }
+
+    /**
+     * Garante que a lista fornecida não seja nula nem vazia, lançando a exceção criada pela fábrica informada caso seja.
+     *
+     * @param <T>              o tipo genérico da lista
+     * @param inputList        a lista a ser verificada
+     * @param exceptionFactory a fábrica da exceção a ser lançada
+     * @throws RuntimeException a exceção criada pela fábrica, se a lista for nula ou vazia
+     * @since 1.3.0
+     */
+    public static <T> void ensureListIsNotNullOrEmpty(List<T> inputList, Supplier<? extends RuntimeException> exceptionFactory) {
+        if (inputList == null || inputList.isEmpty()) {
+            throw failure(exceptionFactory.get());
+        }
+    }
+
+    /**
+     * Garante que a lista fornecida não seja nula nem vazia, lançando a exceção criada a partir da mensagem informada caso seja.
+     *
+     * @param <T>              o tipo genérico da lista
+     * @param inputList        a lista a ser verificada
+     * @param errorMessage     a mensagem de erro passada à fábrica
+     * @param exceptionFactory a fábrica da exceção, normalmente a referência ao construtor {@code (String)} da exceção
+     * @throws RuntimeException a exceção criada pela fábrica, se a lista for nula ou vazia
+     * @since 1.3.0
+     */
+    public static <T> void ensureListIsNotNullOrEmpty(List<T> inputList, String errorMessage, Function<String, ? extends RuntimeException> exceptionFactory) {
+        if (inputList == null || inputList.isEmpty()) {
+            throw failure(exceptionFactory.apply(errorMessage));
+        }
+    }
+
+    /**
+     * Garante que a lista fornecida não seja nula nem vazia, lançando a exceção criada a partir do termo informado caso seja.
+     *
+     * @param <T>              o tipo genérico da lista
+     * @param inputList        a lista a ser verificada
+     * @param term             o termo de {@link ExceptionDetails} passado à fábrica
+     * @param exceptionFactory a fábrica da exceção, normalmente a referência ao construtor {@code (Integer)} da exceção
+     * @throws RuntimeException a exceção criada pela fábrica, se a lista for nula ou vazia
+     * @since 1.3.0
+     */
+    public static <T> void ensureListIsNotNullOrEmpty(List<T> inputList, Integer term, Function<Integer, ? extends RuntimeException> exceptionFactory) {
+        if (inputList == null || inputList.isEmpty()) {
+            throw failure(exceptionFactory.apply(term));
+        }
+    }
+
+    /**
+     * Garante que a lista fornecida não seja nula nem vazia, lançando a exceção criada a partir do termo e da mensagem
+     * informados caso seja.
+     *
+     * @param <T>              o tipo genérico da lista
+     * @param inputList        a lista a ser verificada
+     * @param term             o termo de {@link ExceptionDetails} passado à fábrica
+     * @param errorMessage     a mensagem passada à fábrica
+     * @param exceptionFactory a fábrica da exceção, normalmente a referência ao construtor {@code (Integer, String)} da exceção
+     * @throws RuntimeException a exceção criada pela fábrica, se a lista for nula ou vazia
+     * @since 1.3.0
+     */
+    public static <T> void ensureListIsNotNullOrEmpty(List<T> inputList, Integer term, String errorMessage, BiFunction<Integer, String, ? extends RuntimeException> exceptionFactory) {
+        if (inputList == null || inputList.isEmpty()) {
+            throw failure(exceptionFactory.apply(term, errorMessage));
+        }
+    }
+
     /**
      * Valida se uma {@code customException} especificada não é nula.
      * <p>
@@ -153,15 +298,13 @@ public class ValidationUtils {
     }
 
     private static void throwException(Integer term, Class<? extends RuntimeException> runtimeExceptionClass) {
+        RuntimeException exception;
         try {
-            Constructor<? extends RuntimeException> exceptionConstructor = runtimeExceptionClass.getConstructor(Integer.class);
-            var exception = exceptionConstructor.newInstance(term);
-            log.error(ExceptionDetails.getExceptionDetails(term).formatErrorMessage(), exception);
-            throw exception;
+            exception = ExceptionConstructorRegistry.newInstance(runtimeExceptionClass, term);
         } catch (ReflectiveOperationException e) {
-            log.error(runtimeExceptionClass.getSimpleName(), e);
-            throw new ValidationUtilsException(runtimeExceptionClass.getSimpleName(), e);
+            throw instantiationFailure(runtimeExceptionClass, e);
         }
+        throw failure(exception);
     }
 
     /**
@@ -172,19 +315,18 @@ public class ValidationUtils {
      * @throws ValidationUtilsException se houve um erro ao tentar lançar a exceção
      */
     private static void throwException(String message, Class<? extends RuntimeException> runtimeExceptionClass) {
+        RuntimeException exception;
         try {
-            Constructor<? extends RuntimeException> exceptionConstructor = runtimeExceptionClass.getConstructor(String.class);
-            var exception = exceptionConstructor.newInstance(message);
-            log.error(message, exception);
-            throw exception;
+            exception = ExceptionConstructorRegistry.newInstance(runtimeExceptionClass, message);
         } catch (ReflectiveOperationException e) {
-            log.error(runtimeExceptionClass.getSimpleName(), e);
-            throw new ValidationUtilsException(runtimeExceptionClass.getSimpleName(), e);
+            throw instantiationFailure(runtimeExceptionClass, e);
         }
+        throw failure(exception);
     }
 
     /**
      * Método que cria e lança exceções do tipo {@link RuntimeException} ou suas subclasses de acordo com os parâmetros fornecidos.
+     * O construtor da exceção é obtido do {@link ExceptionConstructorRegistry}, que o localiza por reflexão apenas na primeira chamada.
      * Além disso, essa função gerencia a possibilidade de uma {@link ReflectiveOperationException} decorrente da tentativa de instanciar a exceção solicitada.
      * Nesse caso, a função criará e lançará uma instância de {@link ValidationUtilsException} com a mensagem da {@link ReflectiveOperationException} original.
      *
@@ -199,15 +341,38 @@ public class ValidationUtils {
      *                                  A {@code ValidationUtilsException} recebe o nome simples da classe de exceção desejada e a {@code ReflectiveOperationException} original.
      */
     private static void throwException(Integer term, String message, Class<? extends RuntimeException> runtimeExceptionClass) {
+        RuntimeException exception;
         try {
-            Constructor<? extends RuntimeException> exceptionConstructor = runtimeExceptionClass.getConstructor(Integer.class, String.class);
-            var exception = exceptionConstructor.newInstance(term, message);
-            log.error(message, exception);
-            throw exception;
+            exception = ExceptionConstructorRegistry.newInstance(runtimeExceptionClass, term, message);
         } catch (ReflectiveOperationException e) {
-            log.error(runtimeExceptionClass.getSimpleName(), e);
-            throw new ValidationUtilsException(runtimeExceptionClass.getSimpleName(), e);
+            throw instantiationFailure(runtimeExceptionClass, e);
         }
+        throw failure(exception);
+    }
+
+    /**
+     * Registra a falha de validação no log em nível {@code DEBUG}, por meio do {@link LogGuard} e agrupada pela classe da
+     * exceção, e retorna a exceção recebida, para ser lançada por quem chamou.
+     *
+     * @param exception a exceção que representa a falha de validação.
+     * @return a mesma exceção recebida.
+     */
+    private static RuntimeException failure(RuntimeException exception) {
+        LogGuard.log(log, Level.DEBUG, exception.getClass().getName(), exception.getMessage(), exception);
+        return exception;
+    }
+
+    /**
+     * Cria a {@link ValidationUtilsException} lançada quando a exceção solicitada não pode ser instanciada. Esta falha
+     * indica um erro de programação, e por isso é registrada no log em nível {@code ERROR}.
+     *
+     * @param runtimeExceptionClass a classe de exceção que não pôde ser instanciada.
+     * @param cause                 a falha ocorrida na criação da exceção.
+     * @return a {@link ValidationUtilsException} a ser lançada.
+     */
+    private static ValidationUtilsException instantiationFailure(Class<? extends RuntimeException> runtimeExceptionClass, ReflectiveOperationException cause) {
+        LogGuard.error(log, runtimeExceptionClass.getSimpleName(), cause);
+        return new ValidationUtilsException(runtimeExceptionClass.getSimpleName(), cause);
     }
 
 }
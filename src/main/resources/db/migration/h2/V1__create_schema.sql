@@ -0,0 +1,77 @@
+-- Esquema inicial para o H2, utilizado nos testes de integração. Espelha db/migration/mysql/V1__create_schema.sql,
+-- com os tipos equivalentes do H2 para as colunas de texto longo e de data e hora.
+
+CREATE TABLE users
+(
+    id            BINARY(16) NOT NULL,
+    user_name     VARCHAR(255),
+    email         VARCHAR(255),
+    user_profile  TINYINT,
+    user_password VARCHAR(255),
+    CONSTRAINT pk_users PRIMARY KEY (id)
+);
+
+CREATE TABLE address
+(
+    id           BINARY(16) NOT NULL,
+    street       VARCHAR(255),
+    number       VARCHAR(255),
+    neighborhood VARCHAR(255),
+    city         VARCHAR(255),
+    state        VARCHAR(255),
+    zip          VARCHAR(255),
+    CONSTRAINT pk_address PRIMARY KEY (id)
+);
+
+CREATE TABLE donations
+(
+    id          BINARY(16) NOT NULL,
+    description VARCHAR(255),
+    amount      INT,
+    CONSTRAINT pk_donations PRIMARY KEY (id)
+);
+
+CREATE TABLE shelters
+(
+    id                  BINARY(16) NOT NULL,
+    shelter_name        VARCHAR(255),
+    address_id          BINARY(16),
+    responsible_user_id BINARY(16),
+    CONSTRAINT pk_shelters PRIMARY KEY (id),
+    CONSTRAINT uk_shelters_address UNIQUE (address_id),
+    CONSTRAINT uk_shelters_responsible_user UNIQUE (responsible_user_id),
+    CONSTRAINT fk_shelters_address FOREIGN KEY (address_id) REFERENCES address (id),
+    CONSTRAINT fk_shelters_responsible_user FOREIGN KEY (responsible_user_id) REFERENCES users (id)
+);
+
+CREATE TABLE shelters_donations
+(
+    shelter_entity_id BINARY(16) NOT NULL,
+    donations_id      BINARY(16) NOT NULL,
+    CONSTRAINT uk_shelters_donations_donation UNIQUE (donations_id),
+    CONSTRAINT fk_shelters_donations_shelter FOREIGN KEY (shelter_entity_id) REFERENCES shelters (id),
+    CONSTRAINT fk_shelters_donations_donation FOREIGN KEY (donations_id) REFERENCES donations (id)
+);
+
+CREATE TABLE shelter_inventory
+(
+    id          VARCHAR(255) NOT NULL,
+    shelter_id  VARCHAR(255),
+    item_key    VARCHAR(255),
+    description VARCHAR(255),
+    amount      INT,
+    CONSTRAINT pk_shelter_inventory PRIMARY KEY (id),
+    CONSTRAINT uk_shelter_inventory_shelter_item UNIQUE (shelter_id, item_key)
+);
+
+CREATE TABLE idempotency_records
+(
+    id            VARCHAR(255) NOT NULL,
+    fingerprint   VARCHAR(255),
+    status_code   INT,
+    response_body CHARACTER VARYING,
+    created_at    TIMESTAMP(6) WITH TIME ZONE,
+    CONSTRAINT pk_idempotency_records PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_idempotency_records_created_at ON idempotency_records (created_at);
@@ -0,0 +1,6 @@
+-- Garante a unicidade do e-mail dos usuários. Espelha db/migration/mysql/V3__unique_user_email.sql.
+
+DROP INDEX idx_users_email;
+
+ALTER TABLE users
+    ADD CONSTRAINT uk_users_email UNIQUE (email);
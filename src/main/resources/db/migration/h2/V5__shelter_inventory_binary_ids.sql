@@ -0,0 +1,14 @@
+-- Converte os IDs do estoque de doações para BINARY(16) e vincula cada item ao seu abrigo. Espelha
+-- db/migration/mysql/V5__shelter_inventory_binary_ids.sql.
+
+ALTER TABLE shelter_inventory
+    ALTER COLUMN id SET DATA TYPE BINARY(16);
+
+ALTER TABLE shelter_inventory
+    ALTER COLUMN shelter_id SET DATA TYPE BINARY(16);
+
+ALTER TABLE shelter_inventory
+    ALTER COLUMN shelter_id SET NOT NULL;
+
+ALTER TABLE shelter_inventory
+    ADD CONSTRAINT fk_shelter_inventory_shelter FOREIGN KEY (shelter_id) REFERENCES shelters (id) ON DELETE CASCADE;
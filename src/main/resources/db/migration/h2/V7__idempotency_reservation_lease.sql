@@ -0,0 +1,8 @@
+-- Registra o instante da reserva de cada chave de idempotência. Espelha
+-- db/migration/mysql/V7__idempotency_reservation_lease.sql.
+
+ALTER TABLE idempotency_records
+    ADD COLUMN reserved_at TIMESTAMP(6) WITH TIME ZONE;
+
+UPDATE idempotency_records
+SET reserved_at = created_at;
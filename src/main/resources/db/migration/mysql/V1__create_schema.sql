@@ -0,0 +1,80 @@
+-- Esquema inicial, equivalente ao gerado pelo Hibernate até a versão 1.3.0, com os IDs em BINARY(16).
+--
+-- Bancos existentes, criados com "ddl-auto: update", não executam esta migração: o Flyway registra a versão 1 como
+-- linha de base (spring.flyway.baseline-on-migrate) e têm os IDs convertidos para BINARY(16) pela migração
+-- V4__convert_entity_ids_to_binary.sql, executada antes da validação do esquema pelo Hibernate.
+
+CREATE TABLE users
+(
+    id            BINARY(16) NOT NULL,
+    user_name     VARCHAR(255),
+    email         VARCHAR(255),
+    user_profile  TINYINT,
+    user_password VARCHAR(255),
+    CONSTRAINT pk_users PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE address
+(
+    id           BINARY(16) NOT NULL,
+    street       VARCHAR(255),
+    number       VARCHAR(255),
+    neighborhood VARCHAR(255),
+    city         VARCHAR(255),
+    state        VARCHAR(255),
+    zip          VARCHAR(255),
+    CONSTRAINT pk_address PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE donations
+(
+    id          BINARY(16) NOT NULL,
+    description VARCHAR(255),
+    amount      INT,
+    CONSTRAINT pk_donations PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE shelters
+(
+    id                  BINARY(16) NOT NULL,
+    shelter_name        VARCHAR(255),
+    address_id          BINARY(16),
+    responsible_user_id BINARY(16),
+    CONSTRAINT pk_shelters PRIMARY KEY (id),
+    CONSTRAINT uk_shelters_address UNIQUE (address_id),
+    CONSTRAINT uk_shelters_responsible_user UNIQUE (responsible_user_id),
+    CONSTRAINT fk_shelters_address FOREIGN KEY (address_id) REFERENCES address (id),
+    CONSTRAINT fk_shelters_responsible_user FOREIGN KEY (responsible_user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE shelters_donations
+(
+    shelter_entity_id BINARY(16) NOT NULL,
+    donations_id      BINARY(16) NOT NULL,
+    CONSTRAINT uk_shelters_donations_donation UNIQUE (donations_id),
+    CONSTRAINT fk_shelters_donations_shelter FOREIGN KEY (shelter_entity_id) REFERENCES shelters (id),
+    CONSTRAINT fk_shelters_donations_donation FOREIGN KEY (donations_id) REFERENCES donations (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE shelter_inventory
+(
+    id          VARCHAR(255) NOT NULL,
+    shelter_id  VARCHAR(255),
+    item_key    VARCHAR(255),
+    description VARCHAR(255),
+    amount      INT,
+    CONSTRAINT pk_shelter_inventory PRIMARY KEY (id),
+    CONSTRAINT uk_shelter_inventory_shelter_item UNIQUE (shelter_id, item_key)
+) ENGINE = InnoDB;
+
+CREATE TABLE idempotency_records
+(
+    id            VARCHAR(255) NOT NULL,
+    fingerprint   VARCHAR(255),
+    status_code   INT,
+    response_body TEXT,
+    created_at    TIMESTAMP(6) NULL,
+    CONSTRAINT pk_idempotency_records PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_idempotency_records_created_at ON idempotency_records (created_at);
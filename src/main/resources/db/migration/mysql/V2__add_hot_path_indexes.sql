@@ -0,0 +1,13 @@
+-- Índices para os caminhos de acesso mais frequentes.
+--
+-- A busca do abrigo pelo e-mail do responsável (ShelterRepository.findShelterEntitiesByResponsibleUser_Email) localiza o
+-- usuário por idx_users_email e, em seguida, o abrigo pelo índice único uk_shelters_responsible_user, criado na versão 1.
+
+-- UserRepository.findByEmail, executado na criação de abrigos e no recebimento de doações.
+CREATE INDEX idx_users_email ON users (email);
+
+-- As doações de um abrigo são lidas pela coluna shelter_entity_id. Com a chave primária composta, as linhas de um
+-- mesmo abrigo ficam agrupadas no índice clusterizado do InnoDB e a junção com donations é resolvida sem consultar
+-- outro índice.
+ALTER TABLE shelters_donations
+    ADD CONSTRAINT pk_shelters_donations PRIMARY KEY (shelter_entity_id, donations_id);
@@ -0,0 +1,9 @@
+-- Garante a unicidade do e-mail dos usuários no próprio banco, permitindo que o cadastro insira o usuário diretamente e
+-- trate a violação da restrição como e-mail já em uso, inclusive entre cadastros concorrentes.
+--
+-- O índice único substitui idx_users_email nas buscas por e-mail. A migração falha se já houver e-mails duplicados,
+-- que devem ser resolvidos antes da atualização.
+
+ALTER TABLE users
+    DROP INDEX idx_users_email,
+    ADD CONSTRAINT uk_users_email UNIQUE (email);
@@ -0,0 +1,125 @@
+-- Converte os IDs de abrigos, usuários, endereços e doações de VARCHAR(255) para BINARY(16).
+--
+-- Destinado aos bancos MySQL 8 criados pelo Hibernate com "ddl-auto: update" antes da versão 1.3.0. Nesses bancos o
+-- Flyway registra a versão 1 como linha de base (spring.flyway.baseline-on-migrate) e esta migração converte os IDs
+-- existentes, no formato canônico de UUID, com UNHEX(REPLACE(id, '-', '')), a mesma representação gravada por
+-- UuidBinaryConverter. As chaves estrangeiras geradas pelo Hibernate possuem nomes aleatórios, por isso são removidas
+-- a partir do information_schema e recriadas com nomes explícitos ao final. As tabelas shelter_inventory e
+-- idempotency_records, que esses bancos ainda não possuem, são criadas como na versão 1.
+--
+-- Em bancos criados pela versão 1, cujos IDs já são BINARY(16), a conversão não é executada.
+--
+-- Os comandos DDL do MySQL não são transacionais: faça um backup do banco antes de atualizar a aplicação.
+
+DROP PROCEDURE IF EXISTS drop_entity_id_foreign_keys;
+DROP PROCEDURE IF EXISTS convert_id_column;
+DROP PROCEDURE IF EXISTS convert_entity_ids_to_binary;
+
+DELIMITER //
+
+CREATE PROCEDURE drop_entity_id_foreign_keys()
+BEGIN
+    DECLARE done BOOLEAN DEFAULT FALSE;
+    DECLARE fk_table VARCHAR(64);
+    DECLARE fk_name VARCHAR(64);
+    DECLARE foreign_keys CURSOR FOR
+        SELECT TABLE_NAME, CONSTRAINT_NAME
+        FROM information_schema.REFERENTIAL_CONSTRAINTS
+        WHERE CONSTRAINT_SCHEMA = DATABASE()
+          AND REFERENCED_TABLE_NAME IN ('shelters', 'users', 'address', 'donations');
+    DECLARE CONTINUE HANDLER FOR NOT FOUND SET done = TRUE;
+
+    OPEN foreign_keys;
+    drop_loop:
+    LOOP
+        FETCH foreign_keys INTO fk_table, fk_name;
+        IF done THEN
+            LEAVE drop_loop;
+        END IF;
+        SET @ddl = CONCAT('ALTER TABLE `', fk_table, '` DROP FOREIGN KEY `', fk_name, '`');
+        PREPARE statement FROM @ddl;
+        EXECUTE statement;
+        DEALLOCATE PREPARE statement;
+    END LOOP;
+    CLOSE foreign_keys;
+END //
+
+-- A coluna passa por VARBINARY para que o UNHEX grave bytes arbitrários sem validação de charset.
+CREATE PROCEDURE convert_id_column(IN table_name VARCHAR(64), IN column_name VARCHAR(64), IN nullable BOOLEAN)
+BEGIN
+    SET @ddl = CONCAT('ALTER TABLE `', table_name, '` MODIFY `', column_name, '` VARBINARY(255)');
+    PREPARE statement FROM @ddl;
+    EXECUTE statement;
+    DEALLOCATE PREPARE statement;
+
+    SET @dml = CONCAT('UPDATE `', table_name, '` SET `', column_name, '` = UNHEX(REPLACE(`', column_name, '`, ''-'', ''''))',
+                      ' WHERE LENGTH(`', column_name, '`) = 36');
+    PREPARE statement FROM @dml;
+    EXECUTE statement;
+    DEALLOCATE PREPARE statement;
+
+    SET @ddl = CONCAT('ALTER TABLE `', table_name, '` MODIFY `', column_name, '` BINARY(16)',
+                      IF(nullable, ' NULL', ' NOT NULL'));
+    PREPARE statement FROM @ddl;
+    EXECUTE statement;
+    DEALLOCATE PREPARE statement;
+END //
+
+-- A conversão só é aplicada quando users.id ainda é VARCHAR, tornando a migração inócua nos bancos criados pela versão 1.
+CREATE PROCEDURE convert_entity_ids_to_binary()
+BEGIN
+    IF (SELECT DATA_TYPE
+        FROM information_schema.COLUMNS
+        WHERE TABLE_SCHEMA = DATABASE()
+          AND TABLE_NAME = 'users'
+          AND COLUMN_NAME = 'id') = 'varchar' THEN
+        CALL drop_entity_id_foreign_keys();
+
+        CALL convert_id_column('users', 'id', FALSE);
+        CALL convert_id_column('address', 'id', FALSE);
+        CALL convert_id_column('donations', 'id', FALSE);
+        CALL convert_id_column('shelters', 'id', FALSE);
+        CALL convert_id_column('shelters', 'address_id', TRUE);
+        CALL convert_id_column('shelters', 'responsible_user_id', TRUE);
+        CALL convert_id_column('shelters_donations', 'shelter_entity_id', FALSE);
+        CALL convert_id_column('shelters_donations', 'donations_id', FALSE);
+
+        ALTER TABLE shelters
+            ADD CONSTRAINT fk_shelters_address FOREIGN KEY (address_id) REFERENCES address (id),
+            ADD CONSTRAINT fk_shelters_responsible_user FOREIGN KEY (responsible_user_id) REFERENCES users (id);
+
+        ALTER TABLE shelters_donations
+            ADD CONSTRAINT fk_shelters_donations_shelter FOREIGN KEY (shelter_entity_id) REFERENCES shelters (id),
+            ADD CONSTRAINT fk_shelters_donations_donation FOREIGN KEY (donations_id) REFERENCES donations (id);
+    END IF;
+END //
+
+DELIMITER ;
+
+CALL convert_entity_ids_to_binary();
+
+CREATE TABLE IF NOT EXISTS shelter_inventory
+(
+    id          VARCHAR(255) NOT NULL,
+    shelter_id  VARCHAR(255),
+    item_key    VARCHAR(255),
+    description VARCHAR(255),
+    amount      INT,
+    CONSTRAINT pk_shelter_inventory PRIMARY KEY (id),
+    CONSTRAINT uk_shelter_inventory_shelter_item UNIQUE (shelter_id, item_key)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS idempotency_records
+(
+    id            VARCHAR(255) NOT NULL,
+    fingerprint   VARCHAR(255),
+    status_code   INT,
+    response_body TEXT,
+    created_at    TIMESTAMP(6) NULL,
+    CONSTRAINT pk_idempotency_records PRIMARY KEY (id),
+    INDEX idx_idempotency_records_created_at (created_at)
+) ENGINE = InnoDB;
+
+DROP PROCEDURE drop_entity_id_foreign_keys;
+DROP PROCEDURE convert_id_column;
+DROP PROCEDURE convert_entity_ids_to_binary;
@@ -0,0 +1,30 @@
+-- Converte os IDs do estoque de doações para BINARY(16), a mesma representação das demais entidades, e vincula cada item
+-- ao seu abrigo por uma chave estrangeira. Ao excluir um abrigo, os itens do seu estoque são excluídos junto.
+--
+-- Os IDs existentes, no formato canônico de UUID, são convertidos com UNHEX(REPLACE(id, '-', '')), como na migração
+-- V4__convert_entity_ids_to_binary.sql. Os itens de abrigos que já não existem são removidos antes da criação da chave
+-- estrangeira.
+--
+-- Os comandos DDL do MySQL não são transacionais: faça um backup do banco antes de atualizar a aplicação.
+
+ALTER TABLE shelter_inventory
+    MODIFY id VARBINARY(255) NOT NULL,
+    MODIFY shelter_id VARBINARY(255);
+
+UPDATE shelter_inventory
+SET id = UNHEX(REPLACE(id, '-', ''))
+WHERE LENGTH(id) = 36;
+
+UPDATE shelter_inventory
+SET shelter_id = UNHEX(REPLACE(shelter_id, '-', ''))
+WHERE LENGTH(shelter_id) = 36;
+
+DELETE
+FROM shelter_inventory
+WHERE shelter_id IS NULL
+   OR shelter_id NOT IN (SELECT id FROM shelters);
+
+ALTER TABLE shelter_inventory
+    MODIFY id BINARY(16) NOT NULL,
+    MODIFY shelter_id BINARY(16) NOT NULL,
+    ADD CONSTRAINT fk_shelter_inventory_shelter FOREIGN KEY (shelter_id) REFERENCES shelters (id) ON DELETE CASCADE;
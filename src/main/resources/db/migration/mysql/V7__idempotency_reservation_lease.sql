@@ -0,0 +1,9 @@
+-- Registra o instante da reserva de cada chave de idempotência, separado do instante de criação. Enquanto a resposta não
+-- é registrada, a reserva vale apenas pelo prazo de idempotency.reservation-lease-seconds; depois dele, outra requisição
+-- com a mesma chave pode assumi-la. Os registros existentes passam a ter a reserva no instante da sua criação.
+
+ALTER TABLE idempotency_records
+    ADD COLUMN reserved_at TIMESTAMP(6) NULL;
+
+UPDATE idempotency_records
+SET reserved_at = created_at;
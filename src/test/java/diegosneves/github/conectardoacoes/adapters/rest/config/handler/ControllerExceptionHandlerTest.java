@@ -0,0 +1,71 @@
+package diegosneves.github.conectardoacoes.adapters.rest.config.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import diegosneves.github.conectardoacoes.adapters.rest.dto.ExceptionDTO;
+import diegosneves.github.conectardoacoes.adapters.rest.enums.ExceptionDetails;
+import diegosneves.github.conectardoacoes.adapters.rest.exception.ShelterEntityFailuresException;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ControllerExceptionHandlerTest {
+
+    public static final Integer INVALID_ID_MESSAGE = 19;
+    public static final Integer SHELTER_NOT_FOUND = 39;
+    public static final String SHELTER_ID = "5515cf68-f172-4b6f-95cf-68f1725b6f9c";
+
+    private ObjectMapper objectMapper;
+    private ErrorResponseCatalog errorResponseCatalog;
+    private ControllerExceptionHandler controllerExceptionHandler;
+
+    @BeforeEach
+    @SneakyThrows
+    void setUp() {
+        this.objectMapper = new ObjectMapper();
+        this.errorResponseCatalog = new ErrorResponseCatalog(this.objectMapper);
+        this.controllerExceptionHandler = new ControllerExceptionHandler(this.errorResponseCatalog);
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldWritePreSerializedBodyForParameterlessFailure() {
+        ShelterEntityFailuresException exception = new ShelterEntityFailuresException(INVALID_ID_MESSAGE);
+        byte[] expectedBody = this.objectMapper.writeValueAsBytes(new ExceptionDTO(exception.getMessage(), HttpStatus.BAD_REQUEST.value()));
+
+        ResponseEntity<?> response = this.controllerExceptionHandler.handleDonationEntityFailures(exception);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertArrayEquals(expectedBody, (byte[]) response.getBody());
+        assertSame(response.getBody(), this.controllerExceptionHandler.handleDonationEntityFailures(exception).getBody());
+    }
+
+    @Test
+    void shouldBuildExceptionDTOForParameterizedFailure() {
+        ShelterEntityFailuresException exception = new ShelterEntityFailuresException(SHELTER_NOT_FOUND, SHELTER_ID);
+
+        ResponseEntity<?> response = this.controllerExceptionHandler.handleDonationEntityFailures(exception);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        ExceptionDTO body = assertInstanceOf(ExceptionDTO.class, response.getBody());
+        assertEquals(ExceptionDetails.SHELTER_NOT_FOUND.formatErrorMessage(SHELTER_ID), body.message());
+        assertEquals(HttpStatus.NOT_FOUND.value(), body.statusCode());
+    }
+
+    @Test
+    void shouldNotCacheBodyForParameterizedDetails() {
+        ShelterEntityFailuresException exception = new ShelterEntityFailuresException(SHELTER_NOT_FOUND, SHELTER_ID);
+
+        assertTrue(this.errorResponseCatalog.findSerializedBody(exception).isEmpty());
+    }
+
+}
@@ -1,27 +1,58 @@
 package diegosneves.github.conectardoacoes.adapters.rest.controller.imp;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import diegosneves.github.conectardoacoes.adapters.rest.controller.ShelterController;
 import diegosneves.github.conectardoacoes.adapters.rest.dto.AddressDTO;
+import diegosneves.github.conectardoacoes.adapters.rest.dto.DonationDTO;
 import diegosneves.github.conectardoacoes.adapters.rest.dto.UserEntityDTO;
+import diegosneves.github.conectardoacoes.adapters.rest.enums.DonationTicketStatus;
+import diegosneves.github.conectardoacoes.adapters.rest.enums.ExportFormat;
+import diegosneves.github.conectardoacoes.adapters.rest.enums.ShelterOnboardingStatus;
 import diegosneves.github.conectardoacoes.adapters.rest.enums.UserProfileType;
+import diegosneves.github.conectardoacoes.adapters.rest.request.ReceiveDonationRequest;
 import diegosneves.github.conectardoacoes.adapters.rest.request.ShelterCreationRequest;
+import diegosneves.github.conectardoacoes.adapters.rest.response.DonationPageResponse;
+import diegosneves.github.conectardoacoes.adapters.rest.response.DonationTicketResponse;
 import diegosneves.github.conectardoacoes.adapters.rest.response.ShelterCreatedResponse;
+import diegosneves.github.conectardoacoes.adapters.rest.response.ShelterInformationResponse;
+import diegosneves.github.conectardoacoes.adapters.rest.response.ShelterOnboardingItemResponse;
+import diegosneves.github.conectardoacoes.adapters.rest.response.ShelterOnboardingResponse;
+import diegosneves.github.conectardoacoes.adapters.rest.service.DonationIntakeService;
+import diegosneves.github.conectardoacoes.adapters.rest.service.IdempotencyService;
 import diegosneves.github.conectardoacoes.adapters.rest.service.ShelterEntityService;
+import diegosneves.github.conectardoacoes.adapters.rest.service.ShelterExportService;
+import diegosneves.github.conectardoacoes.adapters.rest.service.ShelterOnboardingService;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Supplier;
+
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(SpringExtension.class)
@@ -41,6 +72,13 @@ class ShelterControllerImplTest {
     public static final String USER_NAME = "Usuario";
     public static final String USER_EMAIL = "email@email.com";
 
+    public static final String DONATION_DESCRIPTION = "Mochila";
+    public static final int DONATION_AMOUNT = 2;
+    public static final String TICKET_ID = "ca73cd2e-7e50-42ea-b3cd-2e7e5022ea72";
+    public static final String EXPORTED_CONTENT = "shelter_id,shelter_name\n";
+    public static final String IDEMPOTENCY_KEY = "6f1c2a9e-3b7d-4e8a-9c5f-0d2e4b6a8c1e";
+    public static final String NEXT_CURSOR = "YmY5YjhkMzgtYzZiMy00ZmQ2LTliOGQtMzhjNmIzYmZkNjlm";
+
 
     @InjectMocks
     private ShelterControllerImpl shelterController;
@@ -48,11 +86,25 @@ class ShelterControllerImplTest {
     @Mock
     private ShelterEntityService shelterEntityService;
 
+    @Mock
+    private ShelterExportService shelterExportService;
+
+    @Mock
+    private DonationIntakeService donationIntakeService;
+
+    @Mock
+    private IdempotencyService idempotencyService;
+
+    @Mock
+    private ShelterOnboardingService shelterOnboardingService;
+
     private MockMvc mockMvc;
 
     @BeforeEach
     void setUp() {
         this.mockMvc = MockMvcBuilders.standaloneSetup(this.shelterController).build();
+        when(this.idempotencyService.execute(any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(4)).get());
     }
 
     @Test
@@ -99,6 +151,146 @@ class ShelterControllerImplTest {
                         .content(requestJson))
                 .andExpect(status().isCreated())
                 .andExpect(content().json(expectedResponseJson));
+
+        verify(this.idempotencyService, times(1)).execute(isNull(), eq(ShelterControllerImpl.CREATE_SHELTER_OPERATION),
+                any(ShelterCreationRequest.class), eq(ShelterCreatedResponse.class), any());
+    }
+
+    @Test
+    @SneakyThrows
+    void testCreateShelters() {
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        List<ShelterCreationRequest> requests = List.of(ShelterCreationRequest.builder()
+                .shelterName(SHELTER_NAME)
+                .responsibleUserEmail(USER_EMAIL)
+                .build());
+        ShelterOnboardingResponse expectedResponse = ShelterOnboardingResponse.builder()
+                .created(1)
+                .failed(0)
+                .results(List.of(ShelterOnboardingItemResponse.builder()
+                        .index(0)
+                        .responsibleUserEmail(USER_EMAIL)
+                        .status(ShelterOnboardingStatus.CREATED)
+                        .shelter(ShelterCreatedResponse.builder().id(SHELTER_ID).shelterName(SHELTER_NAME).build())
+                        .build()))
+                .build();
+
+        when(this.shelterOnboardingService.createShelters(any())).thenReturn(expectedResponse);
+
+        this.mockMvc.perform(post("/shelter/create/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(expectedResponse)));
+
+        verify(this.shelterOnboardingService, times(1)).createShelters(any());
+        verify(this.idempotencyService, times(1)).execute(isNull(), eq(ShelterControllerImpl.CREATE_SHELTERS_OPERATION),
+                any(), eq(ShelterOnboardingResponse.class), any());
+    }
+
+    @Test
+    @SneakyThrows
+    void testReceiveDonationWithIdempotencyKey() {
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        ReceiveDonationRequest request = new ReceiveDonationRequest(USER_EMAIL, List.of(new DonationDTO(DONATION_DESCRIPTION, DONATION_AMOUNT)));
+        ShelterInformationResponse expectedResponse = ShelterInformationResponse.builder()
+                .shelterName(SHELTER_NAME)
+                .responsibleEmail(USER_EMAIL)
+                .build();
+
+        when(this.shelterEntityService.receiveDonation(any(ReceiveDonationRequest.class))).thenReturn(expectedResponse);
+
+        this.mockMvc.perform(post("/shelter/donation")
+                        .header(ShelterController.IDEMPOTENCY_KEY_HEADER, IDEMPOTENCY_KEY)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(expectedResponse)));
+
+        verify(this.idempotencyService, times(1)).execute(eq(IDEMPOTENCY_KEY), eq(ShelterControllerImpl.RECEIVE_DONATION_OPERATION),
+                any(ReceiveDonationRequest.class), eq(ShelterInformationResponse.class), any());
+    }
+
+    @Test
+    @SneakyThrows
+    void testFindDonations() {
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        DonationPageResponse expectedResponse = DonationPageResponse.builder()
+                .donations(List.of(new DonationDTO(DONATION_DESCRIPTION, DONATION_AMOUNT)))
+                .nextCursor(NEXT_CURSOR)
+                .build();
+
+        when(this.shelterEntityService.findDonations(SHELTER_ID, null, 1)).thenReturn(expectedResponse);
+
+        this.mockMvc.perform(get("/shelter/{id}/donations", SHELTER_ID)
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(expectedResponse)));
+
+        verify(this.shelterEntityService, times(1)).findDonations(SHELTER_ID, null, 1);
+    }
+
+    @Test
+    @SneakyThrows
+    void testExportShelters() {
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(1);
+            outputStream.write(EXPORTED_CONTENT.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(this.shelterExportService).exportShelters(eq(ExportFormat.CSV), any(OutputStream.class));
+
+        MvcResult result = this.mockMvc.perform(get("/shelter/export").param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"shelters.csv\""))
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(content().string(EXPORTED_CONTENT));
+    }
+
+    @Test
+    @SneakyThrows
+    void testReceiveDonationAsync() {
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        ReceiveDonationRequest request = new ReceiveDonationRequest(USER_EMAIL, List.of(new DonationDTO(DONATION_DESCRIPTION, DONATION_AMOUNT)));
+        DonationTicketResponse expectedResponse = DonationTicketResponse.builder()
+                .ticketId(TICKET_ID)
+                .responsibleEmail(USER_EMAIL)
+                .status(DonationTicketStatus.PENDING)
+                .build();
+
+        when(this.donationIntakeService.enqueue(any(ReceiveDonationRequest.class))).thenReturn(expectedResponse);
+
+        this.mockMvc.perform(post("/shelter/donation/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, "http://localhost/shelter/donation/tickets/" + TICKET_ID))
+                .andExpect(content().json(objectMapper.writeValueAsString(expectedResponse)));
+    }
+
+    @Test
+    @SneakyThrows
+    void testFindDonationTicket() {
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        DonationTicketResponse expectedResponse = DonationTicketResponse.builder()
+                .ticketId(TICKET_ID)
+                .responsibleEmail(USER_EMAIL)
+                .status(DonationTicketStatus.COMPLETED)
+                .build();
+
+        when(this.donationIntakeService.findTicket(TICKET_ID)).thenReturn(expectedResponse);
+
+        this.mockMvc.perform(get("/shelter/donation/tickets/{ticketId}", TICKET_ID))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(expectedResponse)));
     }
 
 }
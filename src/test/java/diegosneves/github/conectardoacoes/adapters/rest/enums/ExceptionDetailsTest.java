@@ -0,0 +1,49 @@
+package diegosneves.github.conectardoacoes.adapters.rest.enums;
+
+import diegosneves.github.conectardoacoes.adapters.rest.exception.DetailsFailureException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExceptionDetailsTest {
+
+    @Test
+    void shouldFindEveryDetailByItsTerm() {
+        for (ExceptionDetails detail : ExceptionDetails.values()) {
+            assertSame(detail, ExceptionDetails.getExceptionDetails(detail.getTerm()));
+        }
+    }
+
+    @Test
+    void shouldThrowDetailsFailureExceptionForUnknownTerm() {
+        DetailsFailureException missingTerm = assertThrows(DetailsFailureException.class, () -> ExceptionDetails.getExceptionDetails(14));
+        assertThrows(DetailsFailureException.class, () -> ExceptionDetails.getExceptionDetails(null));
+        assertThrows(DetailsFailureException.class, () -> ExceptionDetails.getExceptionDetails(-1));
+        assertThrows(DetailsFailureException.class, () -> ExceptionDetails.getExceptionDetails(1000));
+
+        assertSame(ExceptionDetails.TERM_NOT_FOUND, missingTerm.getErrorDetails());
+    }
+
+    @Test
+    void shouldReusePreFormattedMessageForParameterlessDetails() {
+        ExceptionDetails detail = ExceptionDetails.INVALID_ID_MESSAGE;
+
+        assertFalse(detail.isParameterized());
+        assertEquals("T019F - Deve ser fornecido um ID válido!", detail.formatErrorMessage());
+        assertSame(detail.formatErrorMessage(), detail.formatErrorMessage());
+        assertSame(detail.formatErrorMessage(), detail.formatErrorMessage("ignorado"));
+    }
+
+    @Test
+    void shouldFormatParameterOfParameterizedDetails() {
+        ExceptionDetails detail = ExceptionDetails.SHELTER_NOT_FOUND;
+
+        assertTrue(detail.isParameterized());
+        assertEquals("T039F - Não foi possível encontrar um abrigo com o ID abc .", detail.formatErrorMessage("abc"));
+    }
+
+}
@@ -0,0 +1,61 @@
+package diegosneves.github.conectardoacoes.adapters.rest.exception;
+
+import diegosneves.github.conectardoacoes.adapters.rest.enums.ExceptionDetails;
+import diegosneves.github.conectardoacoes.core.exception.ExpectedFailurePolicy;
+import diegosneves.github.conectardoacoes.core.exception.ShelterCreationFailureException;
+import diegosneves.github.conectardoacoes.core.exception.UuidUtilsException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StackTracePolicyTest {
+
+    public static final String FAILURE_MESSAGE = "Falha";
+    public static final Integer INVALID_ID_MESSAGE = 19;
+
+    @Test
+    void shouldKeepStackTraceByDefault() {
+        assertFalse(Boolean.getBoolean(StackTracePolicy.STACKLESS_PROPERTY));
+        assertTrue(StackTracePolicy.writableStackTrace(ExceptionDetails.INVALID_ID_MESSAGE));
+        assertTrue(new ShelterEntityFailuresException(INVALID_ID_MESSAGE).getStackTrace().length > 0);
+        assertTrue(new ShelterEntityFailuresException(INVALID_ID_MESSAGE, FAILURE_MESSAGE).getStackTrace().length > 0);
+    }
+
+    @Test
+    void shouldSkipStackTraceOnlyOfClientErrorsWhenEnabled() {
+        assertFalse(StackTracePolicy.writableStackTrace(ExceptionDetails.INVALID_ID_MESSAGE, true));
+        assertFalse(StackTracePolicy.writableStackTrace(ExceptionDetails.EMAIL_NOT_FOUND_ERROR_MESSAGE, true));
+        assertTrue(StackTracePolicy.writableStackTrace(ExceptionDetails.CONSTRUCTOR_DEFAULT_UNDEFINED, true));
+        assertTrue(StackTracePolicy.writableStackTrace(ExceptionDetails.INVALID_ID_MESSAGE, false));
+    }
+
+    @Test
+    void shouldKeepStackTraceOfFailuresWithCauseByDefault() {
+        IllegalStateException cause = new IllegalStateException(FAILURE_MESSAGE);
+
+        ShelterEntityFailuresException exception = new ShelterEntityFailuresException(INVALID_ID_MESSAGE, cause);
+
+        assertTrue(exception.getStackTrace().length > 0);
+        assertEquals(cause, exception.getCause());
+    }
+
+    @Test
+    void shouldKeepStackTraceOfCoreExceptionsByDefault() {
+        UuidUtilsException cause = new UuidUtilsException(FAILURE_MESSAGE);
+
+        ShelterCreationFailureException exception = new ShelterCreationFailureException(FAILURE_MESSAGE, cause);
+
+        assertFalse(ExpectedFailurePolicy.isStackless());
+        assertTrue(cause.getStackTrace().length > 0);
+        assertTrue(exception.getStackTrace().length > 0);
+        assertEquals(cause, exception.getCause());
+    }
+
+    @Test
+    void shouldShareTheStacklessPropertyWithCoreExceptions() {
+        assertEquals(ExpectedFailurePolicy.STACKLESS_PROPERTY, StackTracePolicy.STACKLESS_PROPERTY);
+    }
+
+}
@@ -0,0 +1,37 @@
+package diegosneves.github.conectardoacoes.adapters.rest.mapper;
+
+import diegosneves.github.conectardoacoes.adapters.rest.dto.AddressDTO;
+import diegosneves.github.conectardoacoes.adapters.rest.model.AddressEntity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(MockitoExtension.class)
+class AddressDTOMapperTest {
+
+    public static final String ADDRESS_ID = "89142b23-7ab6-4ba6-942b-237ab6bba6aa";
+    public static final String STREET = "Rua";
+    public static final String NUMBER = "123";
+    public static final String NEIGHBORHOOD = "Bairro";
+    public static final String CITY = "Cidade";
+    public static final String STATE = "Estado";
+    public static final String ZIP = "92123456";
+
+
+    @Test
+    void shouldMapToAddressDTO() {
+        AddressEntity entity = new AddressEntity(ADDRESS_ID, STREET, NUMBER, NEIGHBORHOOD, CITY, STATE, ZIP);
+
+        AddressDTO dto = AddressDTOMapper.INSTANCE.mapFrom(entity);
+
+        assertEquals(STREET, dto.getStreet());
+        assertEquals(NUMBER, dto.getNumber());
+        assertEquals(NEIGHBORHOOD, dto.getNeighborhood());
+        assertEquals(CITY, dto.getCity());
+        assertEquals(STATE, dto.getState());
+        assertEquals(ZIP, dto.getZip());
+    }
+
+}
@@ -0,0 +1,176 @@
+package diegosneves.github.conectardoacoes.adapters.rest.mapper;
+
+import diegosneves.github.conectardoacoes.adapters.rest.dto.DonationDTO;
+import diegosneves.github.conectardoacoes.adapters.rest.dto.UserEntityDTO;
+import diegosneves.github.conectardoacoes.adapters.rest.enums.ExceptionDetails;
+import diegosneves.github.conectardoacoes.adapters.rest.enums.UserProfileType;
+import diegosneves.github.conectardoacoes.adapters.rest.exception.ConstructorDefaultUndefinedException;
+import diegosneves.github.conectardoacoes.adapters.rest.exception.MapperFailureException;
+import diegosneves.github.conectardoacoes.adapters.rest.model.DonationEntity;
+import diegosneves.github.conectardoacoes.adapters.rest.model.UserEntity;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BuilderMapperTest {
+
+    public static final String USER_ID = "574371b9-ae17-4f07-8371-b9ae175f0721";
+    public static final String USER_NAME = "Fulano";
+    public static final String USER_EMAIL = "email@teste.com";
+    public static final String USER_PASSWORD = "Senha";
+    public static final String DONATION_ID = "bf9b8d38-c6b3-4fd6-9b8d-38c6b3bfd69f";
+    public static final String DONATION_DESCRIPTION = "Mochila";
+    public static final int DONATION_AMOUNT = 3;
+
+    private static UserEntity userEntity() {
+        return UserEntity.builder()
+                .id(USER_ID)
+                .userName(USER_NAME)
+                .email(USER_EMAIL)
+                .userProfile(UserProfileType.BENEFICIARY)
+                .userPassword(USER_PASSWORD)
+                .build();
+    }
+
+    @Test
+    void shouldCopyMatchingFieldsUsingDefaultConstructor() {
+        UserEntityDTO dto = BuilderMapper.mapTo(UserEntityDTO.class, userEntity());
+
+        assertEquals(USER_ID, dto.getId());
+        assertEquals(USER_NAME, dto.getUserName());
+        assertEquals(USER_EMAIL, dto.getEmail());
+        assertEquals(UserProfileType.BENEFICIARY, dto.getUserProfile());
+    }
+
+    @Test
+    void shouldReuseMappingPlanAcrossCalls() {
+        for (int i = 0; i < 3; i++) {
+            DonationEntity entity = new DonationEntity(DONATION_ID, DONATION_DESCRIPTION + i, DONATION_AMOUNT + i);
+
+            DonationDTO dto = BuilderMapper.mapTo(DonationDTO.class, entity);
+
+            assertEquals(DONATION_DESCRIPTION + i, dto.getDescription());
+            assertEquals(DONATION_AMOUNT + i, dto.getAmount());
+        }
+    }
+
+    @Test
+    void shouldMapSameDestinationFromDifferentSourceClasses() {
+        UserEntityDTO fromEntity = BuilderMapper.mapTo(UserEntityDTO.class, userEntity());
+        UserEntityDTO fromSummary = BuilderMapper.mapTo(UserEntityDTO.class, new UserSummary(USER_NAME, 1));
+
+        assertEquals(USER_EMAIL, fromEntity.getEmail());
+        assertEquals(USER_NAME, fromSummary.getUserName());
+        assertNull(fromSummary.getId());
+    }
+
+    @Test
+    void shouldFillConstructorArgumentsWhenThereIsNoDefaultConstructor() {
+        ImmutableUser mapped = BuilderMapper.mapTo(ImmutableUser.class, userEntity());
+
+        assertEquals(USER_NAME, mapped.getUserName());
+        assertEquals(USER_EMAIL, mapped.getEmail());
+    }
+
+    @Test
+    void shouldIgnoreFieldsWithIncompatibleTypes() {
+        UserSummary mapped = BuilderMapper.mapTo(UserSummary.class, new IncompatibleSummary(USER_NAME, "1"));
+
+        assertEquals(USER_NAME, mapped.getUserName());
+        assertEquals(0, mapped.getAge());
+    }
+
+    @Test
+    void shouldReturnEmptyInstanceWhenSourceIsNullAndDefaultConstructorExists() {
+        UserEntityDTO dto = BuilderMapper.mapTo(UserEntityDTO.class, null);
+
+        assertNotNull(dto);
+        assertNull(dto.getId());
+    }
+
+    @Test
+    void shouldThrowMapperFailureWhenSourceIsNullAndConstructorRequiresArguments() {
+        MapperFailureException exception = assertThrows(MapperFailureException.class, () -> BuilderMapper.mapTo(ImmutableUser.class, null));
+
+        assertEquals(ExceptionDetails.getExceptionDetails(BuilderMapper.CLASS_MAPPING_FAILURE).formatErrorMessage(ImmutableUser.class.getName()), exception.getMessage());
+    }
+
+    @Test
+    void shouldThrowMapperFailureWhenDestinationHasNoPublicConstructor() {
+        UserEntity source = userEntity();
+
+        MapperFailureException exception = assertThrows(MapperFailureException.class, () -> BuilderMapper.mapTo(NoPublicConstructor.class, source));
+
+        assertEquals(ExceptionDetails.getExceptionDetails(BuilderMapper.CLASS_MAPPING_FAILURE).formatErrorMessage(NoPublicConstructor.class.getName()), exception.getMessage());
+        assertInstanceOf(ConstructorDefaultUndefinedException.class, exception.getCause());
+    }
+
+    public static class UserSummary {
+
+        private String userName;
+        private int age;
+
+        public UserSummary() {
+        }
+
+        public UserSummary(String userName, int age) {
+            this.userName = userName;
+            this.age = age;
+        }
+
+        public String getUserName() {
+            return this.userName;
+        }
+
+        public int getAge() {
+            return this.age;
+        }
+
+    }
+
+    public static class IncompatibleSummary {
+
+        private final String userName;
+        private final String age;
+
+        public IncompatibleSummary(String userName, String age) {
+            this.userName = userName;
+            this.age = age;
+        }
+
+    }
+
+    public static class ImmutableUser {
+
+        private final String userName;
+        private final String email;
+
+        public ImmutableUser(String userName, String email) {
+            this.userName = userName;
+            this.email = email;
+        }
+
+        public String getUserName() {
+            return this.userName;
+        }
+
+        public String getEmail() {
+            return this.email;
+        }
+
+    }
+
+    public static class NoPublicConstructor {
+
+        private String userName;
+
+        private NoPublicConstructor() {
+        }
+
+    }
+
+}
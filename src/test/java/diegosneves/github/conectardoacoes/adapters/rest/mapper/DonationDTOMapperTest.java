@@ -0,0 +1,58 @@
+package diegosneves.github.conectardoacoes.adapters.rest.mapper;
+
+import diegosneves.github.conectardoacoes.adapters.rest.dto.DonationDTO;
+import diegosneves.github.conectardoacoes.adapters.rest.model.DonationEntity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MockitoExtension.class)
+class DonationDTOMapperTest {
+
+    public static final String DONATION_ID = "28387d3e-e9cc-45b9-b87d-3ee9cc35b912";
+    public static final String DESCRIPTION = "Descricao";
+    public static final int AMOUNT = 1;
+
+
+    private final DonationDTOMapper mapper = DonationDTOMapper.INSTANCE;
+
+    @Test
+    void shouldMapToDonationDTO() {
+        DonationDTO dto = this.mapper.mapFrom(new DonationEntity(DONATION_ID, DESCRIPTION, AMOUNT));
+
+        assertEquals(DESCRIPTION, dto.getDescription());
+        assertEquals(AMOUNT, dto.getAmount());
+    }
+
+    @Test
+    void shouldMapListPreservingOrder() {
+        List<DonationEntity> entities = List.of(
+                new DonationEntity(DONATION_ID, DESCRIPTION, AMOUNT),
+                new DonationEntity(DONATION_ID, DESCRIPTION + AMOUNT, AMOUNT + 1));
+
+        List<DonationDTO> dtos = this.mapper.mapFromList(entities);
+
+        assertEquals(2, dtos.size());
+        assertEquals(DESCRIPTION, dtos.get(0).getDescription());
+        assertEquals(DESCRIPTION + AMOUNT, dtos.get(1).getDescription());
+        assertEquals(AMOUNT + 1, dtos.get(1).getAmount());
+    }
+
+    @Test
+    void shouldReturnEmptyListWhenSourceListIsEmpty() {
+        assertTrue(this.mapper.mapFromList(List.of()).isEmpty());
+    }
+
+    @Test
+    void shouldReturnNullWhenSourceIsNull() {
+        assertNull(this.mapper.mapFrom(null));
+        assertNull(this.mapper.mapFromList(null));
+    }
+
+}
@@ -0,0 +1,170 @@
+package diegosneves.github.conectardoacoes.adapters.rest.mapper;
+
+import diegosneves.github.conectardoacoes.adapters.rest.enums.ExceptionDetails;
+import diegosneves.github.conectardoacoes.adapters.rest.enums.UserProfileType;
+import diegosneves.github.conectardoacoes.adapters.rest.exception.AddressEntityFailuresException;
+import diegosneves.github.conectardoacoes.adapters.rest.exception.ShelterEntityFailuresException;
+import diegosneves.github.conectardoacoes.adapters.rest.model.AddressEntity;
+import diegosneves.github.conectardoacoes.adapters.rest.model.DonationEntity;
+import diegosneves.github.conectardoacoes.adapters.rest.model.ShelterEntity;
+import diegosneves.github.conectardoacoes.adapters.rest.model.UserEntity;
+import diegosneves.github.conectardoacoes.core.domain.shelter.entity.Shelter;
+import diegosneves.github.conectardoacoes.core.domain.shelter.entity.ShelterContract;
+import diegosneves.github.conectardoacoes.core.domain.shelter.entity.value.Address;
+import diegosneves.github.conectardoacoes.core.domain.shelter.entity.value.Donation;
+import diegosneves.github.conectardoacoes.core.domain.user.entity.value.UserProfile;
+import diegosneves.github.conectardoacoes.core.exception.DonationRegisterFailureException;
+import diegosneves.github.conectardoacoes.core.exception.ShelterCreationFailureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LazyShelterContractTest {
+
+    public static final String SHELTER_ID = "5515cf68-f172-4b6f-95cf-68f1725b6f9c";
+    public static final String SHELTER_NAME = "Abrigo";
+    public static final String DONATION_ID = "e9bca351-bdbe-4e46-bca3-51bdbe4e464f";
+    public static final String NEW_DONATION_ID = "bf9b8d38-c6b3-4fd6-9b8d-38c6b3bfd69f";
+
+    private ShelterEntity shelterEntity;
+
+    @BeforeEach
+    void setUp() {
+        AddressEntity addressEntity = AddressEntity.builder()
+                .id("0b6a4b56-9a6a-49d4-aa4b-569a6a09d49d")
+                .street("Rua")
+                .number("256")
+                .neighborhood("Bairro")
+                .city("Cidade")
+                .state("Estado")
+                .zip("97110220")
+                .build();
+        UserEntity userEntity = UserEntity.builder()
+                .id("60306bda-1ef2-4228-b06b-da1ef26228b1")
+                .userName("Usuario")
+                .email("email@teste.com")
+                .userProfile(UserProfileType.BENEFICIARY)
+                .userPassword("Senha")
+                .build();
+        this.shelterEntity = spy(ShelterEntity.builder()
+                .id(SHELTER_ID)
+                .shelterName(SHELTER_NAME)
+                .address(addressEntity)
+                .responsibleUser(userEntity)
+                .donations(new ArrayList<>(List.of(new DonationEntity(DONATION_ID, "Descricao", 10))))
+                .build());
+    }
+
+    @Test
+    void shouldReadIdAndNameWithoutConvertingAssociations() {
+        ShelterContract shelter = new LazyShelterContract(this.shelterEntity);
+
+        assertEquals(SHELTER_ID, shelter.getId());
+        assertEquals(SHELTER_NAME, shelter.getShelterName());
+
+        verify(this.shelterEntity, never()).getAddress();
+        verify(this.shelterEntity, never()).getResponsibleUser();
+        verify(this.shelterEntity, never()).getDonations();
+    }
+
+    @Test
+    void shouldConvertEachAssociationOnlyOnFirstAccess() {
+        ShelterContract shelter = new LazyShelterContract(this.shelterEntity);
+
+        Address address = shelter.getAddress();
+        List<Donation> donations = shelter.getDonations();
+
+        assertEquals("Rua", address.getStreet());
+        assertEquals("97110220", address.getZip());
+        assertEquals("Usuario", shelter.getUser().getUsername());
+        assertEquals(UserProfile.BENEFICIARY, shelter.getUser().getUserProfile());
+        assertEquals(1, donations.size());
+        assertEquals(DONATION_ID, donations.get(0).getId());
+        assertSame(address, shelter.getAddress());
+        assertSame(donations, shelter.getDonations());
+
+        verify(this.shelterEntity, times(1)).getAddress();
+        verify(this.shelterEntity, times(1)).getResponsibleUser();
+        verify(this.shelterEntity, times(1)).getDonations();
+    }
+
+    @Test
+    void shouldApplyChangesToTheViewWithoutChangingTheEntity() {
+        ShelterContract shelter = new LazyShelterContract(this.shelterEntity);
+
+        shelter.changeShelterName("Novo Abrigo");
+        shelter.addDonation(new Donation(NEW_DONATION_ID, "Arroz", 2));
+
+        assertEquals("Novo Abrigo", shelter.getShelterName());
+        assertEquals(2, shelter.getDonations().size());
+        assertEquals(NEW_DONATION_ID, shelter.getDonations().get(1).getId());
+        assertEquals(SHELTER_NAME, this.shelterEntity.getShelterName());
+        assertEquals(1, this.shelterEntity.getDonations().size());
+    }
+
+    @Test
+    void shouldReturnEmptyDonationsWhenEntityHasNone() {
+        this.shelterEntity.setDonations(null);
+
+        ShelterContract shelter = new LazyShelterContract(this.shelterEntity);
+
+        assertNotNull(shelter.getDonations());
+        assertTrue(shelter.getDonations().isEmpty());
+    }
+
+    @Test
+    void shouldRejectNullShelterName() {
+        ShelterContract shelter = new LazyShelterContract(this.shelterEntity);
+
+        ShelterCreationFailureException exception = assertThrows(ShelterCreationFailureException.class, () -> shelter.changeShelterName(null));
+
+        assertEquals(ShelterCreationFailureException.ERROR.buildMessage(Shelter.SHELTER_NAME_REQUIRED_ERROR), exception.getMessage());
+        assertEquals(SHELTER_NAME, shelter.getShelterName());
+    }
+
+    @Test
+    void shouldThrowShelterEntityFailuresExceptionOnAccessWhenAddressCannotBeConverted() {
+        this.shelterEntity.setAddress(null);
+        ShelterContract shelter = new LazyShelterContract(this.shelterEntity);
+
+        ShelterEntityFailuresException exception = assertThrows(ShelterEntityFailuresException.class, shelter::getAddress);
+
+        assertEquals(ExceptionDetails.getExceptionDetails(MapperStrategy.CLASS_MAPPING_FAILURE).formatErrorMessage(ShelterEntity.class.getSimpleName()), exception.getMessage());
+        assertEquals(AddressEntityFailuresException.class, exception.getCause().getClass());
+    }
+
+    @Test
+    void shouldThrowShelterEntityFailuresExceptionOnAccessWhenDonationIsInvalid() {
+        this.shelterEntity.getDonations().add(new DonationEntity(NEW_DONATION_ID, "", 1));
+        ShelterContract shelter = new LazyShelterContract(this.shelterEntity);
+
+        assertEquals(SHELTER_ID, shelter.getId());
+        ShelterEntityFailuresException exception = assertThrows(ShelterEntityFailuresException.class, shelter::getDonations);
+
+        assertEquals(ExceptionDetails.getExceptionDetails(MapperStrategy.CLASS_MAPPING_FAILURE).formatErrorMessage(Donation.class.getSimpleName()), exception.getMessage());
+        assertEquals(DonationRegisterFailureException.class, exception.getCause().getClass());
+    }
+
+    @Test
+    void shouldThrowShelterEntityFailuresExceptionWhenEntityIsNull() {
+        ShelterEntityFailuresException exception = assertThrows(ShelterEntityFailuresException.class, () -> new LazyShelterContract(null));
+
+        assertEquals(ExceptionDetails.getExceptionDetails(MapperStrategy.CLASS_MAPPING_FAILURE).formatErrorMessage(ShelterEntity.class.getSimpleName()), exception.getMessage());
+    }
+
+}
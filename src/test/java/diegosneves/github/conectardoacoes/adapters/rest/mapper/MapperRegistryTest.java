@@ -0,0 +1,87 @@
+package diegosneves.github.conectardoacoes.adapters.rest.mapper;
+
+import diegosneves.github.conectardoacoes.adapters.rest.enums.ExceptionDetails;
+import diegosneves.github.conectardoacoes.adapters.rest.exception.ShelterEntityFailuresException;
+import diegosneves.github.conectardoacoes.adapters.rest.model.DonationEntity;
+import diegosneves.github.conectardoacoes.core.domain.shelter.entity.value.Donation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MockitoExtension.class)
+class MapperRegistryTest {
+
+    public static final String DONATION_ID = "28387d3e-e9cc-45b9-b87d-3ee9cc35b912";
+    public static final String OTHER_DONATION_ID = "bf9b8d38-c6b3-4fd6-9b8d-38c6b3bfd69f";
+    public static final String DESCRIPTION = "Descricao";
+    public static final int AMOUNT = 1;
+
+
+    @Test
+    void shouldReturnTheSameInstanceForEveryLookup() {
+        ShelterMapper first = MapperRegistry.get(ShelterMapper.class);
+        ShelterMapper second = MapperRegistry.get(ShelterMapper.class);
+
+        assertSame(first, second);
+        assertSame(DonationDTOMapper.INSTANCE, MapperRegistry.get(DonationDTOMapper.class));
+    }
+
+    @Test
+    void shouldThrowWhenMapperIsNotRegistered() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> MapperRegistry.get(UnregisteredMapper.class));
+
+        assertEquals(String.format(MapperRegistry.MAPPER_NOT_REGISTERED_ERROR, UnregisteredMapper.class.getName()), exception.getMessage());
+    }
+
+    @Test
+    void shouldMapAllElementsPreservingIterationOrder() {
+        LinkedHashSet<DonationEntity> entities = new LinkedHashSet<>(List.of(
+                new DonationEntity(DONATION_ID, DESCRIPTION, AMOUNT),
+                new DonationEntity(OTHER_DONATION_ID, DESCRIPTION + AMOUNT, AMOUNT + 1)));
+
+        List<Donation> donations = MapperRegistry.get(DonationMapper.class).mapFromAll(entities);
+
+        assertEquals(2, donations.size());
+        assertEquals(DONATION_ID, donations.get(0).getId());
+        assertEquals(OTHER_DONATION_ID, donations.get(1).getId());
+        assertEquals(AMOUNT + 1, donations.get(1).getAmount());
+    }
+
+    @Test
+    void shouldReturnEmptyListWhenCollectionIsNullOrEmpty() {
+        DonationMapper mapper = MapperRegistry.get(DonationMapper.class);
+
+        assertTrue(mapper.mapFromAll(null).isEmpty());
+        assertTrue(mapper.mapFromAll(new ArrayList<>()).isEmpty());
+    }
+
+    @Test
+    void shouldStillValidateEachElement() {
+        DonationMapper mapper = MapperRegistry.get(DonationMapper.class);
+        List<DonationEntity> entities = Arrays.asList(new DonationEntity(DONATION_ID, DESCRIPTION, AMOUNT), null);
+
+        ShelterEntityFailuresException exception = assertThrows(ShelterEntityFailuresException.class, () -> mapper.mapFromAll(entities));
+
+        assertEquals(ExceptionDetails.getExceptionDetails(MapperStrategy.CLASS_MAPPING_FAILURE).formatErrorMessage(DonationEntity.class.getSimpleName()), exception.getMessage());
+    }
+
+    private static class UnregisteredMapper implements MapperStrategy<String, String> {
+
+        @Override
+        public String mapFrom(String source) {
+            return source;
+        }
+
+    }
+
+}
@@ -110,6 +110,19 @@ class ShelterMapperTest {
         assertEquals(this.donationEntity.getAmount(), shelter.getDonations().get(0).getAmount());
     }
 
+    @Test
+    void shouldWrapShelterEntityInLazyContract() {
+
+        ShelterContract shelter = this.shelterMapper.mapLazily(this.shelterEntity);
+
+        assertInstanceOf(LazyShelterContract.class, shelter);
+        assertEquals(this.shelterEntity.getId(), shelter.getId());
+        assertEquals(this.shelterEntity.getShelterName(), shelter.getShelterName());
+        assertEquals(this.addressEntity.getZip(), shelter.getAddress().getZip());
+        assertEquals(this.userEntity.getEmail(), shelter.getUser().getEmail());
+        assertEquals(this.donationEntity.getDescription(), shelter.getDonations().get(0).getDescription());
+    }
+
     @Test
     void shouldCorrectlyMapShelterEntityToShelter() {
         this.shelterEntity.setDonations(new ArrayList<>());
@@ -0,0 +1,51 @@
+package diegosneves.github.conectardoacoes.adapters.rest.mapper;
+
+import diegosneves.github.conectardoacoes.adapters.rest.response.UserEntityCreatedResponse;
+import diegosneves.github.conectardoacoes.adapters.rest.enums.UserProfileType;
+import diegosneves.github.conectardoacoes.adapters.rest.model.UserEntity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(MockitoExtension.class)
+class UserEntityCreatedResponseMapperTest {
+
+    public static final String USER_ID = "574371b9-ae17-4f07-8371-b9ae175f0721";
+    public static final String USER_NAME = "Fulano";
+    public static final String USER_EMAIL = "email@teste.com";
+    public static final String USER_PASSWORD = "Senha";
+
+
+    private static UserEntity userEntity() {
+        return UserEntity.builder()
+                .id(USER_ID)
+                .userName(USER_NAME)
+                .email(USER_EMAIL)
+                .userProfile(UserProfileType.DONOR)
+                .userPassword(USER_PASSWORD)
+                .build();
+    }
+
+    @Test
+    void shouldMapToUserEntityCreatedResponse() {
+        UserEntityCreatedResponse mapped = UserEntityCreatedResponseMapper.INSTANCE.mapFrom(userEntity());
+
+        assertEquals(USER_ID, mapped.getId());
+        assertEquals(USER_NAME, mapped.getUserName());
+        assertEquals(USER_EMAIL, mapped.getEmail());
+        assertEquals(UserProfileType.DONOR, mapped.getUserProfile());
+    }
+
+    @Test
+    void shouldMapList() {
+        List<UserEntityCreatedResponse> mapped = UserEntityCreatedResponseMapper.INSTANCE.mapFromList(List.of(userEntity(), userEntity()));
+
+        assertEquals(2, mapped.size());
+        assertEquals(USER_EMAIL, mapped.get(1).getEmail());
+    }
+
+}
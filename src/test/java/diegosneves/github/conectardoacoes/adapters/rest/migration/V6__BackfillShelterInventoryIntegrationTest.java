@@ -0,0 +1,87 @@
+package diegosneves.github.conectardoacoes.adapters.rest.migration;
+
+import diegosneves.github.conectardoacoes.adapters.rest.model.ShelterInventoryEntity;
+import diegosneves.github.conectardoacoes.adapters.rest.model.converter.UuidBinaryConverter;
+import diegosneves.github.conectardoacoes.adapters.rest.repository.ShelterInventoryRepository;
+import diegosneves.github.conectardoacoes.core.utils.UuidUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@ExtendWith(SpringExtension.class)
+class V6__BackfillShelterInventoryIntegrationTest {
+
+    public static final String SHELTER_ID = "1229ed8f-76d3-4fbd-a9ed-8f76d3ffbdf5";
+    public static final String INITIALIZED_SHELTER_ID = "574371b9-ae17-4f07-8371-b9ae175f0721";
+    public static final String EMPTY_SHELTER_ID = "8b3ae36c-5bd4-4c4a-bae3-6c5bd44c4a6e";
+    public static final String WATER = "Água";
+    public static final String RICE = "Arroz";
+    public static final int INITIALIZED_WATER = 10;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ShelterInventoryRepository inventoryRepository;
+
+    @BeforeEach
+    void setUp() {
+        insertShelter(SHELTER_ID);
+        insertShelter(INITIALIZED_SHELTER_ID);
+        insertShelter(EMPTY_SHELTER_ID);
+        insertDonation(SHELTER_ID, WATER, 2);
+        insertDonation(SHELTER_ID, " agua ", 3);
+        insertDonation(SHELTER_ID, RICE, 4);
+        insertDonation(INITIALIZED_SHELTER_ID, WATER, 1);
+        this.inventoryRepository.addToItems(List.of(new ShelterInventoryEntity(UuidUtils.generateTimeOrderedUuid(),
+                INITIALIZED_SHELTER_ID, "agua", WATER, INITIALIZED_WATER)));
+    }
+
+    @Test
+    void shouldBuildInventoryOfSheltersWithDonationsGroupingByNormalizedDescription() {
+        V6__BackfillShelterInventory.backfill(this.jdbcTemplate);
+
+        List<ShelterInventoryEntity> inventory = this.inventoryRepository.findAllByShelterIdOrderByDescriptionAsc(SHELTER_ID);
+
+        assertEquals(2, inventory.size());
+        assertEquals(RICE, inventory.get(0).getDescription());
+        assertEquals(4, inventory.get(0).getAmount());
+        assertEquals("agua", inventory.get(1).getItemKey());
+        assertEquals(5, inventory.get(1).getAmount());
+        assertTrue(this.inventoryRepository.findAllByShelterIdOrderByDescriptionAsc(EMPTY_SHELTER_ID).isEmpty());
+    }
+
+    @Test
+    void shouldKeepInventoryOfSheltersAlreadyInitialized() {
+        V6__BackfillShelterInventory.backfill(this.jdbcTemplate);
+        V6__BackfillShelterInventory.backfill(this.jdbcTemplate);
+
+        List<ShelterInventoryEntity> initialized = this.inventoryRepository.findAllByShelterIdOrderByDescriptionAsc(INITIALIZED_SHELTER_ID);
+
+        assertEquals(1, initialized.size());
+        assertEquals(INITIALIZED_WATER, initialized.get(0).getAmount());
+        assertEquals(2, this.inventoryRepository.findAllByShelterIdOrderByDescriptionAsc(SHELTER_ID).size());
+    }
+
+    private void insertShelter(String shelterId) {
+        this.jdbcTemplate.update("INSERT INTO shelters (id, shelter_name) VALUES (?, ?)", UuidBinaryConverter.toBytes(shelterId), "Abrigo");
+    }
+
+    private void insertDonation(String shelterId, String description, int amount) {
+        byte[] donationId = UuidBinaryConverter.toBytes(UuidUtils.generateUuid());
+        this.jdbcTemplate.update("INSERT INTO donations (id, description, amount) VALUES (?, ?, ?)", donationId, description, amount);
+        this.jdbcTemplate.update("INSERT INTO shelters_donations (shelter_entity_id, donations_id) VALUES (?, ?)",
+                UuidBinaryConverter.toBytes(shelterId), donationId);
+    }
+
+}
@@ -0,0 +1,75 @@
+package diegosneves.github.conectardoacoes.adapters.rest.model.converter;
+
+import diegosneves.github.conectardoacoes.core.utils.UuidUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UuidBinaryConverterTest {
+
+    public static final String UUID = "0190a3f2-7b4c-7d1e-8f00-0123456789ab";
+    public static final byte[] UUID_BYTES = {
+            0x01, (byte) 0x90, (byte) 0xa3, (byte) 0xf2, 0x7b, 0x4c, 0x7d, 0x1e,
+            (byte) 0x8f, 0x00, 0x01, 0x23, 0x45, 0x67, (byte) 0x89, (byte) 0xab};
+
+    private UuidBinaryConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        this.converter = new UuidBinaryConverter();
+    }
+
+    @Test
+    void shouldConvertIdToSixteenBytes() {
+        assertArrayEquals(UUID_BYTES, this.converter.convertToDatabaseColumn(UUID));
+    }
+
+    @Test
+    void shouldConvertBytesBackToCanonicalLowerCaseId() {
+        assertEquals(UUID, this.converter.convertToEntityAttribute(UUID_BYTES));
+        assertEquals(UUID, this.converter.convertToEntityAttribute(this.converter.convertToDatabaseColumn(UUID.toUpperCase())));
+    }
+
+    @Test
+    void shouldKeepNullValues() {
+        assertNull(this.converter.convertToDatabaseColumn(null));
+        assertNull(this.converter.convertToEntityAttribute(null));
+    }
+
+    @Test
+    void shouldConvertEmptyIdToEmptyBinaryValue() {
+        assertEquals(0, this.converter.convertToDatabaseColumn("").length);
+        assertEquals("", this.converter.convertToEntityAttribute(new byte[0]));
+    }
+
+    @Test
+    void shouldPreserveIdOrderingWhenComparingBytes() {
+        List<String> ids = Stream.generate(UuidUtils::generateUuid).limit(200).toList();
+
+        List<String> byText = ids.stream().sorted().toList();
+        List<String> byBytes = ids.stream()
+                .sorted(Comparator.comparing(UuidBinaryConverter::toBytes, Arrays::compareUnsigned))
+                .toList();
+
+        assertEquals(byText, byBytes);
+        assertTrue(Arrays.compareUnsigned(UuidBinaryConverter.toBytes(""), UuidBinaryConverter.toBytes(ids.get(0))) < 0);
+    }
+
+    @Test
+    void shouldRejectInvalidValues() {
+        assertThrows(IllegalArgumentException.class, () -> this.converter.convertToDatabaseColumn("id-invalido"));
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> this.converter.convertToEntityAttribute(new byte[4]));
+        assertEquals(String.format(UuidBinaryConverter.INVALID_BINARY_LENGTH_MESSAGE, UuidBinaryConverter.BINARY_LENGTH, 4), exception.getMessage());
+    }
+
+}
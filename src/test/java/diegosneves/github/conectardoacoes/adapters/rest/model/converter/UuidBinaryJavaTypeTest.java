@@ -0,0 +1,47 @@
+package diegosneves.github.conectardoacoes.adapters.rest.model.converter;
+
+import org.hibernate.HibernateException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UuidBinaryJavaTypeTest {
+
+    public static final String UUID = UuidBinaryConverterTest.UUID;
+    public static final byte[] UUID_BYTES = UuidBinaryConverterTest.UUID_BYTES;
+
+    private final UuidBinaryJavaType javaType = UuidBinaryJavaType.INSTANCE;
+
+    @Test
+    void shouldUnwrapIdToSixteenBytes() {
+        assertArrayEquals(UUID_BYTES, this.javaType.unwrap(UUID, byte[].class, null));
+        assertEquals(UUID, this.javaType.unwrap(UUID, String.class, null));
+    }
+
+    @Test
+    void shouldWrapBytesAsCanonicalId() {
+        assertEquals(UUID, this.javaType.wrap(UUID_BYTES, null));
+        assertEquals(UUID, this.javaType.wrap(UUID, null));
+    }
+
+    @Test
+    void shouldKeepNullValues() {
+        assertNull(this.javaType.unwrap(null, byte[].class, null));
+        assertNull(this.javaType.wrap(null, null));
+    }
+
+    @Test
+    void shouldUnwrapEmptyIdToEmptyBinaryValue() {
+        assertEquals(0, this.javaType.unwrap("", byte[].class, null).length);
+    }
+
+    @Test
+    void shouldRejectUnsupportedTypes() {
+        assertThrows(HibernateException.class, () -> this.javaType.unwrap(UUID, Long.class, null));
+        assertThrows(HibernateException.class, () -> this.javaType.wrap(1L, null));
+    }
+
+}
@@ -0,0 +1,169 @@
+package diegosneves.github.conectardoacoes.adapters.rest.repository;
+
+import diegosneves.github.conectardoacoes.adapters.rest.model.converter.UuidBinaryConverter;
+import diegosneves.github.conectardoacoes.core.utils.UuidUtils;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Verifica, no esquema criado pelas migrações do Flyway, que as consultas dos caminhos de acesso mais frequentes são
+ * resolvidas por índices. O SQL analisado é o gerado pelo Hibernate, capturado por um {@link StatementInspector}, e é
+ * executado com {@code EXPLAIN} sobre tabelas populadas. O plano de execução do H2 marca as leituras completas de uma
+ * tabela com {@code tableScan}.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "diegosneves.github.conectardoacoes.adapters.rest.repository.HotQueryPlanIntegrationTest$SqlCapture")
+@ExtendWith(SpringExtension.class)
+class HotQueryPlanIntegrationTest {
+
+    public static final String TABLE_SCAN = "tableScan";
+    public static final String SELECT = "select";
+    public static final int SHELTERS = 50;
+    public static final int DONATIONS_PER_SHELTER = 5;
+    public static final int FIRST_ROW = 0;
+    public static final int PAGE_SIZE = 10;
+    public static final String USER_EMAIL = "responsavel-25@teste.com";
+    public static final String SHELTER_ID = shelterId(25);
+    public static final String DONATION_ID = donationId(25, 2);
+    public static final String OTHER_SHELTER_ID = shelterId(26);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ShelterRepository shelterRepository;
+
+    @Autowired
+    private DonationRepository donationRepository;
+
+    @Autowired
+    private ShelterInventoryRepository inventoryRepository;
+
+    /**
+     * Registra os comandos SQL preparados pelo Hibernate, sem alterá-los.
+     */
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+
+    }
+
+    static Stream<Arguments> hotQueries() {
+        byte[] shelterId = UuidBinaryConverter.toBytes(SHELTER_ID);
+        byte[] otherShelterId = UuidBinaryConverter.toBytes(OTHER_SHELTER_ID);
+        return Stream.of(
+                Arguments.of("UserRepository.findByEmail",
+                        (Consumer<HotQueryPlanIntegrationTest>) test -> test.userRepository.findByEmail(USER_EMAIL),
+                        new Object[]{USER_EMAIL}),
+                Arguments.of("ShelterRepository.findShelterEntitiesByResponsibleUser_Email",
+                        (Consumer<HotQueryPlanIntegrationTest>) test -> test.shelterRepository.findShelterEntitiesByResponsibleUser_Email(USER_EMAIL),
+                        new Object[]{USER_EMAIL}),
+                Arguments.of("ShelterRepository.findShelterSummaryByResponsibleUserEmail",
+                        (Consumer<HotQueryPlanIntegrationTest>) test -> test.shelterRepository.findShelterSummaryByResponsibleUserEmail(USER_EMAIL),
+                        new Object[]{USER_EMAIL}),
+                Arguments.of("ShelterRepository.findShelterIdsAfter",
+                        (Consumer<HotQueryPlanIntegrationTest>) test -> test.shelterRepository.findShelterIdsAfter(SHELTER_ID, PageRequest.ofSize(PAGE_SIZE)),
+                        new Object[]{shelterId, FIRST_ROW, PAGE_SIZE}),
+                Arguments.of("ShelterRepository.findShelterSummariesByIdIn",
+                        (Consumer<HotQueryPlanIntegrationTest>) test -> test.shelterRepository.findShelterSummariesByIdIn(List.of(SHELTER_ID, OTHER_SHELTER_ID)),
+                        new Object[]{shelterId, otherShelterId}),
+                Arguments.of("DonationRepository.findShelterDonationsAfter",
+                        (Consumer<HotQueryPlanIntegrationTest>) test -> test.donationRepository.findShelterDonationsAfter(SHELTER_ID, DONATION_ID, PageRequest.ofSize(PAGE_SIZE)),
+                        new Object[]{shelterId, UuidBinaryConverter.toBytes(DONATION_ID), FIRST_ROW, PAGE_SIZE}),
+                Arguments.of("ShelterInventoryRepository.findAllByShelterIdOrderByDescriptionAsc",
+                        (Consumer<HotQueryPlanIntegrationTest>) test -> test.inventoryRepository.findAllByShelterIdOrderByDescriptionAsc(SHELTER_ID),
+                        new Object[]{shelterId}),
+                Arguments.of("ShelterInventoryRepository.findAllByShelterIdInOrderByDescriptionAsc",
+                        (Consumer<HotQueryPlanIntegrationTest>) test -> test.inventoryRepository.findAllByShelterIdInOrderByDescriptionAsc(List.of(SHELTER_ID, OTHER_SHELTER_ID)),
+                        new Object[]{shelterId, otherShelterId})
+        );
+    }
+
+    @BeforeEach
+    void setUp() {
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> addresses = new ArrayList<>();
+        List<Object[]> shelters = new ArrayList<>();
+        List<Object[]> donations = new ArrayList<>();
+        List<Object[]> shelterDonations = new ArrayList<>();
+        List<Object[]> inventory = new ArrayList<>();
+        for (int shelter = 0; shelter < SHELTERS; shelter++) {
+            byte[] userId = UuidBinaryConverter.toBytes(UuidUtils.generateUuid());
+            byte[] addressId = UuidBinaryConverter.toBytes(UuidUtils.generateUuid());
+            byte[] shelterId = UuidBinaryConverter.toBytes(shelterId(shelter));
+            users.add(new Object[]{userId, "Responsável " + shelter, "responsavel-" + shelter + "@teste.com", 1, "Senha"});
+            addresses.add(new Object[]{addressId, "Rua", "1", "Bairro", "Cidade", "RS", "91000000"});
+            shelters.add(new Object[]{shelterId, "Abrigo " + shelter, addressId, userId});
+            for (int donation = 0; donation < DONATIONS_PER_SHELTER; donation++) {
+                byte[] donationId = UuidBinaryConverter.toBytes(donationId(shelter, donation));
+                donations.add(new Object[]{donationId, "Doação " + donation, donation + 1});
+                shelterDonations.add(new Object[]{shelterId, donationId});
+                inventory.add(new Object[]{UuidBinaryConverter.toBytes(UuidUtils.generateUuid()), shelterId, "doacao " + donation, "Doação " + donation, donation + 1});
+            }
+        }
+        this.jdbcTemplate.batchUpdate("INSERT INTO users (id, user_name, email, user_profile, user_password) VALUES (?, ?, ?, ?, ?)", users);
+        this.jdbcTemplate.batchUpdate("INSERT INTO address (id, street, number, neighborhood, city, state, zip) VALUES (?, ?, ?, ?, ?, ?, ?)", addresses);
+        this.jdbcTemplate.batchUpdate("INSERT INTO shelters (id, shelter_name, address_id, responsible_user_id) VALUES (?, ?, ?, ?)", shelters);
+        this.jdbcTemplate.batchUpdate("INSERT INTO donations (id, description, amount) VALUES (?, ?, ?)", donations);
+        this.jdbcTemplate.batchUpdate("INSERT INTO shelters_donations (shelter_entity_id, donations_id) VALUES (?, ?)", shelterDonations);
+        this.jdbcTemplate.batchUpdate("INSERT INTO shelter_inventory (id, shelter_id, item_key, description, amount) VALUES (?, ?, ?, ?, ?)", inventory);
+        this.entityManager.clear();
+        SqlCapture.STATEMENTS.clear();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    void shouldResolveHotQueryWithoutFullTableScan(String query, Consumer<HotQueryPlanIntegrationTest> invocation, Object[] parameters) {
+        invocation.accept(this);
+        String sql = SqlCapture.STATEMENTS.stream()
+                .filter(statement -> statement.toLowerCase(Locale.ROOT).startsWith(SELECT))
+                .findFirst()
+                .orElseThrow();
+
+        assertEquals(parameters.length, sql.chars().filter(character -> character == '?').count(), sql);
+        String plan = String.join("\n", this.jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, parameters));
+
+        assertFalse(plan.contains(TABLE_SCAN), () -> query + " realiza uma leitura completa de tabela:\n" + plan);
+    }
+
+    private static String shelterId(int shelter) {
+        return String.format("00000000-0000-4000-8000-%012d", shelter);
+    }
+
+    private static String donationId(int shelter, int donation) {
+        return String.format("00000000-0000-4000-9000-%06d%06d", shelter, donation);
+    }
+
+}
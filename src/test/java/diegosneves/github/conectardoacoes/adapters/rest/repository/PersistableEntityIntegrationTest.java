@@ -0,0 +1,128 @@
+package diegosneves.github.conectardoacoes.adapters.rest.repository;
+
+import diegosneves.github.conectardoacoes.adapters.rest.mapper.DonationEntityMapper;
+import diegosneves.github.conectardoacoes.adapters.rest.mapper.UserEntityMapper;
+import diegosneves.github.conectardoacoes.adapters.rest.model.DonationEntity;
+import diegosneves.github.conectardoacoes.adapters.rest.model.UserEntity;
+import diegosneves.github.conectardoacoes.core.domain.shelter.entity.value.Donation;
+import diegosneves.github.conectardoacoes.core.domain.user.entity.User;
+import diegosneves.github.conectardoacoes.core.domain.user.entity.value.UserProfile;
+import diegosneves.github.conectardoacoes.core.utils.UuidUtils;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Conta as instruções SQL emitidas ao salvar entidades com ID atribuído: as marcadas como novas devem ser inseridas sem o
+ * {@code SELECT} do {@code merge}, agrupadas em lotes JDBC por tabela. A criação de abrigos pelo fluxo completo do
+ * serviço é verificada em {@code ShelterCreationStatementsIntegrationTest}.
+ */
+@DataJpaTest
+@ExtendWith(SpringExtension.class)
+class PersistableEntityIntegrationTest {
+
+    public static final String USER_ID = "574371b9-ae17-4f07-8371-b9ae175f0721";
+    public static final String USER_NAME = "Fulano";
+    public static final String USER_EMAIL = "email@teste.com";
+    public static final String USER_PASSWORD = "Senha";
+    public static final String DONATION_DESCRIPTION = "Descrição";
+    public static final int DONATIONS = 10;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DonationRepository donationRepository;
+
+    private User user;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        this.user = new User(USER_ID, USER_NAME, USER_EMAIL, UserProfile.BENEFICIARY, USER_PASSWORD);
+        this.statistics = this.entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        this.statistics.setStatisticsEnabled(true);
+        this.statistics.clear();
+    }
+
+    @Test
+    void shouldInsertNewUserWithoutSelectingItFirst() {
+        this.userRepository.persistNew(this.user);
+        this.entityManager.flush();
+
+        assertEquals(1, this.statistics.getEntityInsertCount());
+        assertEquals(0, this.statistics.getEntityLoadCount());
+        assertEquals(1, this.statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void shouldInsertNewDonationsInASingleBatch() {
+        List<DonationEntity> donations = this.newDonations();
+
+        this.donationRepository.saveAll(donations);
+        this.entityManager.flush();
+
+        assertEquals(DONATIONS, this.statistics.getEntityInsertCount());
+        assertEquals(0, this.statistics.getEntityLoadCount());
+        assertEquals(1, this.statistics.getPrepareStatementCount());
+        donations.forEach(donation -> assertFalse(donation.isNew()));
+    }
+
+    @Test
+    void shouldMergeEntityNotMarkedAsNew() {
+        this.userRepository.persistNew(this.user);
+        this.entityManager.flush();
+        this.entityManager.clear();
+        this.statistics.clear();
+
+        UserEntity userEntity = new UserEntityMapper().mapFrom(this.user);
+        assertFalse(userEntity.isNew());
+        userEntity.setUserName("Ciclano");
+        this.userRepository.save(userEntity);
+        this.entityManager.flush();
+
+        assertEquals(1, this.statistics.getEntityLoadCount());
+        assertEquals(0, this.statistics.getEntityInsertCount());
+        assertEquals(1, this.statistics.getEntityUpdateCount());
+    }
+
+    @Test
+    void shouldClearNewMarkWhenEntityIsPersisted() {
+        UserEntity userEntity = new UserEntityMapper().mapFrom(this.user);
+        userEntity.markNew();
+        assertTrue(userEntity.isNew());
+
+        this.userRepository.save(userEntity);
+        this.entityManager.flush();
+
+        assertFalse(userEntity.isNew());
+    }
+
+    private List<DonationEntity> newDonations() {
+        List<DonationEntity> donations = new ArrayList<>();
+        for (int i = 0; i < DONATIONS; i++) {
+            DonationEntity donation = new DonationEntityMapper().mapFrom(new Donation(UuidUtils.generateUuid(), DONATION_DESCRIPTION, i + 1));
+            donation.markNew();
+            donations.add(donation);
+        }
+        return donations;
+    }
+
+}
@@ -1,13 +1,20 @@
 package diegosneves.github.conectardoacoes.adapters.rest.repository;
 
+import diegosneves.github.conectardoacoes.adapters.rest.dto.ShelterSummaryDTO;
 import diegosneves.github.conectardoacoes.adapters.rest.enums.ExceptionDetails;
+import diegosneves.github.conectardoacoes.adapters.rest.enums.UserProfileType;
 import diegosneves.github.conectardoacoes.adapters.rest.exception.ShelterEntityFailuresException;
 import diegosneves.github.conectardoacoes.adapters.rest.mapper.AddressEntityMapper;
 import diegosneves.github.conectardoacoes.adapters.rest.mapper.DonationEntityMapper;
+import diegosneves.github.conectardoacoes.adapters.rest.mapper.LazyShelterContract;
 import diegosneves.github.conectardoacoes.adapters.rest.mapper.MapperStrategy;
 import diegosneves.github.conectardoacoes.adapters.rest.mapper.ShelterEntityMapper;
 import diegosneves.github.conectardoacoes.adapters.rest.mapper.UserEntityMapper;
+import diegosneves.github.conectardoacoes.adapters.rest.model.AddressEntity;
+import diegosneves.github.conectardoacoes.adapters.rest.model.DonationEntity;
 import diegosneves.github.conectardoacoes.adapters.rest.model.ShelterEntity;
+import diegosneves.github.conectardoacoes.adapters.rest.model.ShelterInventoryEntity;
+import diegosneves.github.conectardoacoes.adapters.rest.model.UserEntity;
 import diegosneves.github.conectardoacoes.core.domain.shelter.entity.Shelter;
 import diegosneves.github.conectardoacoes.core.domain.shelter.entity.ShelterContract;
 import diegosneves.github.conectardoacoes.core.domain.shelter.entity.value.Address;
@@ -16,27 +23,49 @@ import diegosneves.github.conectardoacoes.core.domain.user.entity.User;
 import diegosneves.github.conectardoacoes.core.domain.user.entity.value.UserProfile;
 import diegosneves.github.conectardoacoes.core.exception.ShelterCreationFailureException;
 import diegosneves.github.conectardoacoes.core.exception.UuidUtilsException;
+import diegosneves.github.conectardoacoes.core.utils.UuidUtils;
 import lombok.SneakyThrows;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 
 @DataJpaTest
@@ -72,6 +101,12 @@ class ShelterRepositoryIntegrationTest {
     @Autowired
     private ShelterRepository shelterRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ShelterInventoryRepository inventoryRepository;
+
     private Shelter shelter;
     private Address address;
     private User user;
@@ -164,6 +199,37 @@ class ShelterRepositoryIntegrationTest {
         assertEquals(AMOUNT, foundShelter.getDonations().get(0).getAmount());
     }
 
+    @Test
+    void shouldReturnLazyViewWithoutLoadingDonationsUntilTheyAreAccessed() {
+        this.shelter.addDonation(this.donation);
+
+        persistEntity(new AddressEntityMapper(), this.address);
+        persistEntity(new UserEntityMapper(), this.user);
+        persistEntity(new DonationEntityMapper(), this.donation);
+        persistEntity(new ShelterEntityMapper(), this.shelter);
+        this.entityManager.clear();
+
+        ShelterContract foundShelter = this.shelterRepository.findEntityById(SHELTER_ID);
+        ShelterEntity managedEntity = this.entityManager.find(ShelterEntity.class, SHELTER_ID);
+
+        assertInstanceOf(LazyShelterContract.class, foundShelter);
+        assertEquals(SHELTER_ID, foundShelter.getId());
+        assertFalse(Hibernate.isInitialized(managedEntity.getDonations()));
+        assertEquals(1, foundShelter.getDonations().size());
+        assertTrue(Hibernate.isInitialized(managedEntity.getDonations()));
+    }
+
+    @Test
+    void shouldReturnOnlyTheEmailsAlreadyResponsibleForAShelter() {
+        persistEntity(new AddressEntityMapper(), this.address);
+        persistEntity(new UserEntityMapper(), this.user);
+        persistEntity(new ShelterEntityMapper(), this.shelter);
+
+        List<String> emailsInUse = this.shelterRepository.findResponsibleUserEmailsIn(List.of(USER_EMAIL, "outro@teste.com"));
+
+        assertEquals(List.of(USER_EMAIL), emailsInUse);
+    }
+
     @Test
     void shouldRetrieveShelterNull() {
         this.shelter.addDonation(this.donation);
@@ -367,6 +433,20 @@ class ShelterRepositoryIntegrationTest {
         assertNull(this.shelterRepository.findById(SHELTER_ID).orElse(null));
     }
 
+    @Test
+    void shouldDeleteShelterInventoryTogetherWithTheShelter() {
+
+        persistEntity(new AddressEntityMapper(), this.address);
+        persistEntity(new UserEntityMapper(), this.user);
+        persistEntity(new ShelterEntityMapper(), this.shelter);
+        this.inventoryRepository.addToItems(List.of(new ShelterInventoryEntity(ENTITY_ID, SHELTER_ID, DONATION_DESCRIPTION, DONATION_DESCRIPTION, AMOUNT)));
+
+        this.shelterRepository.deleteEntityById(SHELTER_ID);
+        this.entityManager.flush();
+
+        assertTrue(this.inventoryRepository.findAllByShelterIdOrderByDescriptionAsc(SHELTER_ID).isEmpty());
+    }
+
     @Test
     void shouldHandleNonExistentEntityDeletionAttemptGracefully() {
 
@@ -460,4 +540,293 @@ class ShelterRepositoryIntegrationTest {
 
     }
 
+    @Test
+    void shouldAppendDonationsToShelterWithoutRewritingTheAggregate() {
+        this.shelter.addDonation(this.donation);
+
+        persistEntity(new AddressEntityMapper(), this.address);
+        persistEntity(new UserEntityMapper(), this.user);
+        persistEntity(new DonationEntityMapper(), this.donation);
+        persistEntity(new ShelterEntityMapper(), this.shelter);
+
+        Donation newDonation = new Donation(ENTITY_ID, DONATION_DESCRIPTION, AMOUNT);
+
+        this.shelterRepository.appendDonations(SHELTER_ID, List.of(newDonation));
+
+        ShelterContract foundShelter = this.shelterRepository.findEntityById(SHELTER_ID);
+
+        assertNotNull(foundShelter);
+        assertEquals(2, foundShelter.getDonations().size());
+        assertTrue(foundShelter.getDonations().stream().anyMatch(d -> DONATION_ID.equals(d.getId())));
+        assertTrue(foundShelter.getDonations().stream().anyMatch(d -> ENTITY_ID.equals(d.getId())));
+    }
+
+    @Test
+    void shouldAppendDonationsWithOneBatchPerTable() {
+        persistEntity(new AddressEntityMapper(), this.address);
+        persistEntity(new UserEntityMapper(), this.user);
+        persistEntity(new ShelterEntityMapper(), this.shelter);
+
+        List<Donation> newDonations = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            newDonations.add(new Donation(UuidUtils.generateUuid(), DONATION_DESCRIPTION, AMOUNT));
+        }
+        JdbcTemplate jdbcTemplateSpy = spy(this.jdbcTemplate);
+        ShelterRepositoryCustomImpl repositoryFragment = new ShelterRepositoryCustomImpl(this.entityManager.getEntityManager(), jdbcTemplateSpy);
+
+        repositoryFragment.insertDonations(SHELTER_ID, newDonations);
+
+        verify(jdbcTemplateSpy, times(1)).batchUpdate(eq(ShelterRepositoryCustomImpl.INSERT_DONATION), anyList(), eq(10), any(ParameterizedPreparedStatementSetter.class));
+        verify(jdbcTemplateSpy, times(1)).batchUpdate(eq(ShelterRepositoryCustomImpl.INSERT_SHELTER_DONATION), anyList(), eq(10), any(ParameterizedPreparedStatementSetter.class));
+        verify(jdbcTemplateSpy, never()).update(anyString(), any(Object[].class));
+        assertEquals(10, this.shelterRepository.findEntityById(SHELTER_ID).getDonations().size());
+    }
+
+    @Test
+    void shouldThrowShelterEntityFailuresExceptionWhenAppendingEmptyDonationList() {
+        List<Donation> donations = List.of();
+
+        ShelterEntityFailuresException exception = assertThrows(ShelterEntityFailuresException.class, () -> this.shelterRepository.appendDonations(SHELTER_ID, donations));
+
+        assertNotNull(exception);
+        assertEquals(ExceptionDetails.getExceptionDetails(ShelterRepository.EMPTY_DONATION_LIST_MESSAGE).formatErrorMessage(), exception.getMessage());
+        assertNull(exception.getCause());
+    }
+
+    @Test
+    void shouldThrowShelterEntityFailuresExceptionWhenAppendingDonationsWithInvalidShelterId() {
+        String invalidId = "invalidId";
+        List<Donation> donations = List.of(this.donation);
+
+        ShelterEntityFailuresException exception = assertThrows(ShelterEntityFailuresException.class, () -> this.shelterRepository.appendDonations(invalidId, donations));
+
+        assertNotNull(exception);
+        assertEquals(ExceptionDetails.getExceptionDetails(ShelterRepository.INVALID_UUID_FORMAT_MESSAGE).formatErrorMessage(invalidId), exception.getMessage());
+        assertEquals(UuidUtilsException.class, exception.getCause().getClass());
+    }
+
+    @Test
+    void shouldFetchPagedShelterSummariesInTheRequestedOrderWithoutLoadingEntities() {
+        persistShelterWithDonations("Abrigo C", 2);
+        persistShelterWithDonations("Abrigo A", 1);
+        persistShelterWithDonations("Abrigo B", 3);
+        this.entityManager.clear();
+        Statistics statistics = this.entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        Page<ShelterSummaryDTO> page = this.shelterRepository.findShelterSummaries(PageRequest.of(0, 2, Sort.by("shelterName")));
+
+        assertEquals(3, page.getTotalElements());
+        assertEquals(2, page.getContent().size());
+        assertEquals("Abrigo A", page.getContent().get(0).getShelterName());
+        assertEquals("Abrigo B", page.getContent().get(1).getShelterName());
+        page.getContent().forEach(shelterFound -> {
+            assertNotNull(shelterFound.getId());
+            assertEquals(USER_NAME, shelterFound.getResponsibleName());
+            assertNotNull(shelterFound.getResponsibleEmail());
+        });
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionFetchCount());
+    }
+
+    @Test
+    void shouldKeepQueryCountConstantRegardlessOfPageSize() {
+        persistShelterWithDonations("Abrigo A", 2);
+        persistShelterWithDonations("Abrigo B", 2);
+        persistShelterWithDonations("Abrigo C", 2);
+
+        long smallPageStatements = countStatementsOfShelterPage(PageRequest.of(0, 1));
+        long fullPageStatements = countStatementsOfShelterPage(PageRequest.of(0, 3));
+
+        assertEquals(3, smallPageStatements);
+        assertEquals(smallPageStatements, fullPageStatements);
+    }
+
+    @Test
+    void shouldReturnEmptyPageKeepingTotalWhenPageIsBeyondTheLastOne() {
+        persistShelterWithDonations("Abrigo A", 1);
+
+        Page<ShelterSummaryDTO> page = this.shelterRepository.findShelterSummaries(PageRequest.of(5, 10));
+
+        assertTrue(page.getContent().isEmpty());
+        assertEquals(1, page.getTotalElements());
+    }
+
+    @Test
+    void shouldStreamAllSheltersOrderedByIdForExport() {
+        persistShelterWithDonations("Abrigo A", 2);
+        persistShelterWithDonations("Abrigo B", 0);
+        this.entityManager.clear();
+
+        List<ShelterEntity> streamed;
+        try (Stream<ShelterEntity> shelters = this.shelterRepository.streamAllForExport()) {
+            streamed = shelters.toList();
+        }
+
+        assertEquals(2, streamed.size());
+        assertTrue(streamed.get(0).getId().compareTo(streamed.get(1).getId()) < 0);
+        streamed.forEach(shelterFound -> {
+            assertTrue(Hibernate.isInitialized(shelterFound.getAddress()));
+            assertTrue(Hibernate.isInitialized(shelterFound.getResponsibleUser()));
+        });
+    }
+
+    @Test
+    void shouldLoadDonationsOfStreamedSheltersInASingleStatement() {
+        persistShelterWithDonations("Abrigo A", 2);
+        persistShelterWithDonations("Abrigo B", 3);
+        this.entityManager.clear();
+
+        try (Stream<ShelterEntity> shelters = this.shelterRepository.streamAllForExport()) {
+            List<ShelterEntity> streamed = shelters.toList();
+            Statistics statistics = this.entityManager.getEntityManager().getEntityManagerFactory()
+                    .unwrap(SessionFactory.class).getStatistics();
+            statistics.setStatisticsEnabled(true);
+            statistics.clear();
+
+            this.shelterRepository.findAllWithDonationsByIdIn(streamed.stream().map(ShelterEntity::getId).toList());
+
+            streamed.forEach(shelterFound -> assertTrue(Hibernate.isInitialized(shelterFound.getDonations())));
+            assertEquals(5, streamed.stream().mapToInt(shelterFound -> shelterFound.getDonations().size()).sum());
+            assertEquals(1, statistics.getPrepareStatementCount());
+        }
+    }
+
+    @Test
+    void shouldSeekSheltersAfterTheGivenIdInIdOrder() {
+        persistShelterWithDonations("Abrigo A", 1);
+        persistShelterWithDonations("Abrigo B", 2);
+        persistShelterWithDonations("Abrigo C", 0);
+        this.entityManager.clear();
+
+        List<ShelterSummaryDTO> firstPage = this.shelterRepository.findShelterSummariesAfter("", 2);
+        List<ShelterSummaryDTO> secondPage = this.shelterRepository.findShelterSummariesAfter(firstPage.get(1).getId(), 2);
+
+        assertEquals(2, firstPage.size());
+        assertEquals(1, secondPage.size());
+        assertTrue(firstPage.get(0).getId().compareTo(firstPage.get(1).getId()) < 0);
+        assertTrue(firstPage.get(1).getId().compareTo(secondPage.get(0).getId()) < 0);
+        assertEquals(Set.of("Abrigo A", "Abrigo B", "Abrigo C"), Stream.concat(firstPage.stream(), secondPage.stream())
+                .map(ShelterSummaryDTO::getShelterName).collect(Collectors.toSet()));
+        assertTrue(this.shelterRepository.findShelterSummariesAfter(secondPage.get(0).getId(), 2).isEmpty());
+    }
+
+    @Test
+    void shouldProjectShelterSummaryInASingleStatementWithoutLoadingTheEntity() {
+        this.shelter.addDonation(this.donation);
+
+        persistEntity(new AddressEntityMapper(), this.address);
+        persistEntity(new UserEntityMapper(), this.user);
+        persistEntity(new DonationEntityMapper(), this.donation);
+        persistEntity(new ShelterEntityMapper(), this.shelter);
+        this.entityManager.clear();
+
+        Statistics statistics = this.entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        Optional<ShelterSummaryDTO> summary = this.shelterRepository.findShelterSummaryByResponsibleUserEmail(USER_EMAIL);
+
+        assertTrue(summary.isPresent());
+        assertEquals(SHELTER_ID, summary.get().getId());
+        assertEquals(SHELTER_NAME, summary.get().getShelterName());
+        assertEquals(USER_NAME, summary.get().getResponsibleName());
+        assertEquals(USER_EMAIL, summary.get().getResponsibleEmail());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void shouldReturnEmptyShelterSummaryWhenEmailIsNotResponsibleForAShelter() {
+        persistEntity(new AddressEntityMapper(), this.address);
+        persistEntity(new UserEntityMapper(), this.user);
+        persistEntity(new ShelterEntityMapper(), this.shelter);
+
+        assertTrue(this.shelterRepository.findShelterSummaryByResponsibleUserEmail("outro@teste.com").isEmpty());
+    }
+
+    private long countStatementsOfShelterPage(Pageable pageable) {
+        this.entityManager.clear();
+        Statistics statistics = this.entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        this.shelterRepository.findShelterSummaries(pageable);
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    void shouldInsertAllSheltersTogetherWithTheirAddresses() {
+        UserEntity responsibleUser = newUserEntity(USER_EMAIL);
+        UserEntity otherResponsibleUser = newUserEntity("outro@teste.com");
+        persistEntity(responsibleUser);
+        persistEntity(otherResponsibleUser);
+
+        this.shelterRepository.insertAll(List.of(newShelterEntity(responsibleUser), newShelterEntity(otherResponsibleUser)));
+        this.entityManager.clear();
+
+        assertEquals(2, this.shelterRepository.count());
+        assertEquals(List.of(USER_EMAIL, "outro@teste.com"),
+                this.shelterRepository.findResponsibleUserEmailsIn(List.of(USER_EMAIL, "outro@teste.com")).stream().sorted().toList());
+    }
+
+    @Test
+    void shouldThrowDataIntegrityViolationWhenInsertingShelterOfUserAlreadyResponsible() {
+        UserEntity responsibleUser = newUserEntity(USER_EMAIL);
+        persistEntity(responsibleUser);
+        this.shelterRepository.insertAll(List.of(newShelterEntity(responsibleUser)));
+
+        List<ShelterEntity> conflicting = List.of(newShelterEntity(responsibleUser));
+
+        assertThrows(DataIntegrityViolationException.class, () -> this.shelterRepository.insertAll(conflicting));
+    }
+
+    private UserEntity newUserEntity(String email) {
+        return UserEntity.builder()
+                .id(UuidUtils.generateUuid()).userName(USER_NAME).email(email)
+                .userProfile(UserProfileType.BENEFICIARY).userPassword(USER_PASSWORD)
+                .build();
+    }
+
+    private ShelterEntity newShelterEntity(UserEntity responsibleUser) {
+        return ShelterEntity.builder()
+                .id(UuidUtils.generateUuid())
+                .shelterName(SHELTER_NAME)
+                .address(AddressEntity.builder()
+                        .id(UuidUtils.generateUuid()).street(STREET).number(NUMBER).neighborhood(NEIGHBORHOOD)
+                        .city(CITY).state(STATE).zip(ZIP)
+                        .build())
+                .responsibleUser(responsibleUser)
+                .donations(new ArrayList<>())
+                .build();
+    }
+
+    private void persistShelterWithDonations(String shelterName, int donationCount) {
+        AddressEntity addressEntity = AddressEntity.builder()
+                .id(UuidUtils.generateUuid()).street(STREET).number(NUMBER).neighborhood(NEIGHBORHOOD)
+                .city(CITY).state(STATE).zip(ZIP)
+                .build();
+        UserEntity userEntity = UserEntity.builder()
+                .id(UuidUtils.generateUuid()).userName(USER_NAME).email(UuidUtils.generateUuid() + "@teste.com")
+                .userProfile(UserProfileType.BENEFICIARY).userPassword(USER_PASSWORD)
+                .build();
+        List<DonationEntity> donations = new ArrayList<>();
+        for (int i = 0; i < donationCount; i++) {
+            DonationEntity donationEntity = new DonationEntity(UuidUtils.generateUuid(), DONATION_DESCRIPTION, AMOUNT);
+            this.entityManager.persist(donationEntity);
+            donations.add(donationEntity);
+        }
+        persistEntity(addressEntity);
+        persistEntity(userEntity);
+        persistEntity(ShelterEntity.builder()
+                .id(UuidUtils.generateUuid())
+                .shelterName(shelterName)
+                .address(addressEntity)
+                .responsibleUser(userEntity)
+                .donations(donations)
+                .build());
+    }
+
 }
@@ -6,6 +6,7 @@ import diegosneves.github.conectardoacoes.adapters.rest.exception.UserEntityFail
 import diegosneves.github.conectardoacoes.adapters.rest.mapper.MapperStrategy;
 import diegosneves.github.conectardoacoes.adapters.rest.mapper.UserEntityMapper;
 import diegosneves.github.conectardoacoes.adapters.rest.model.UserEntity;
+import diegosneves.github.conectardoacoes.adapters.rest.model.converter.UuidBinaryConverter;
 import diegosneves.github.conectardoacoes.core.domain.user.entity.User;
 import diegosneves.github.conectardoacoes.core.domain.user.entity.UserContract;
 import diegosneves.github.conectardoacoes.core.domain.user.entity.value.UserProfile;
@@ -26,6 +27,7 @@ import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -187,6 +189,16 @@ class UserRepositoryTest {
         assertEquals(UserCreationFailureException.class, exception.getCause().getClass());
     }
 
+    @Test
+    void shouldStoreUserIdAsSixteenBytes() {
+        this.repository.persist(this.user);
+        this.entityManager.flush();
+
+        Object storedId = this.entityManager.getEntityManager().createNativeQuery("SELECT id FROM users").getSingleResult();
+
+        assertArrayEquals(UuidBinaryConverter.toBytes(USER_ID), (byte[]) storedId);
+    }
+
     @Test
     void shouldPersistAndRetrieveUserAttributesCorrectly() {
         UserContract persisted = this.repository.persist(this.user);
@@ -295,4 +307,15 @@ class UserRepositoryTest {
         assertEquals(ExceptionDetails.getExceptionDetails(29).formatErrorMessage(), exception.getMessage());
     }
 
+    @Test
+    void shouldFindAllUsersWithTheGivenEmails() {
+        this.persistEntity(new UserEntityMapper(), this.user);
+
+        List<UserEntity> foundUsers = this.repository.findAllByEmailIn(List.of(USER_EMAIL, "outro@teste.com"));
+
+        assertEquals(1, foundUsers.size());
+        assertEquals(USER_ID, foundUsers.get(0).getId());
+        assertEquals(USER_EMAIL, foundUsers.get(0).getEmail());
+    }
+
 }
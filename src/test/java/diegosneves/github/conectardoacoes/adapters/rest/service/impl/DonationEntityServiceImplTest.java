@@ -4,6 +4,7 @@ import diegosneves.github.conectardoacoes.adapters.rest.dto.DonationDTO;
 import diegosneves.github.conectardoacoes.adapters.rest.exception.DonationEntityFailuresException;
 import diegosneves.github.conectardoacoes.adapters.rest.model.DonationEntity;
 import diegosneves.github.conectardoacoes.adapters.rest.repository.DonationRepository;
+import diegosneves.github.conectardoacoes.core.domain.shelter.entity.value.Donation;
 import diegosneves.github.conectardoacoes.core.exception.DonationRegisterFailureException;
 import diegosneves.github.conectardoacoes.core.utils.UuidUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,12 +18,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -139,4 +143,44 @@ class DonationEntityServiceImplTest {
         assertEquals(DonationRegisterFailureException.class, exception.getCause().getClass());
     }
 
+    @Test
+    void shouldConvertDonationDtoListToDonationsWithoutSaving() {
+
+        List<Donation> actual = this.service.convertDonationDTOs(List.of(this.donationDTO, this.donationDTO));
+
+        verify(this.repository, never()).save(any(DonationEntity.class));
+        verify(this.repository, never()).saveAll(anyList());
+
+        assertNotNull(actual);
+        assertEquals(2, actual.size());
+        actual.forEach(donation -> {
+            assertTrue(UuidUtils.isValidUUID(donation.getId()));
+            assertEquals(DESCRIPTION, donation.getDescription());
+            assertEquals(AMOUNT, donation.getAmount());
+        });
+    }
+
+    @Test
+    void shouldThrowDonationEntityFailuresExceptionWhenDonationDTOListIsEmpty() {
+
+        DonationEntityFailuresException exception = assertThrows(DonationEntityFailuresException.class,
+                () -> this.service.convertDonationDTOs(List.of()));
+
+        assertNotNull(exception);
+        assertEquals(exception.getErrorDetails().formatErrorMessage(DonationEntityServiceImpl.INVALID_DONATION_INFO_ERROR), exception.getMessage());
+        assertNull(exception.getCause());
+    }
+
+    @Test
+    void shouldThrowDonationEntityFailuresExceptionWhenOneDonationDTOOfTheListIsInvalid() {
+        DonationDTO invalidDonation = DonationDTO.builder().description(DESCRIPTION).amount(null).build();
+
+        DonationEntityFailuresException exception = assertThrows(DonationEntityFailuresException.class,
+                () -> this.service.convertDonationDTOs(List.of(this.donationDTO, invalidDonation)));
+
+        assertNotNull(exception);
+        assertEquals(exception.getErrorDetails().formatErrorMessage(DonationEntityServiceImpl.DONATION_CREATION_FAILURE), exception.getMessage());
+        assertEquals(DonationRegisterFailureException.class, exception.getCause().getClass());
+    }
+
 }
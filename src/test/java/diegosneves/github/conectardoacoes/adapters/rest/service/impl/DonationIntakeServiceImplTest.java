@@ -0,0 +1,252 @@
+package diegosneves.github.conectardoacoes.adapters.rest.service.impl;
+
+import diegosneves.github.conectardoacoes.adapters.rest.dto.DonationDTO;
+import diegosneves.github.conectardoacoes.adapters.rest.enums.DonationTicketStatus;
+import diegosneves.github.conectardoacoes.adapters.rest.enums.ExceptionDetails;
+import diegosneves.github.conectardoacoes.adapters.rest.exception.ShelterEntityFailuresException;
+import diegosneves.github.conectardoacoes.adapters.rest.repository.ShelterRepository;
+import diegosneves.github.conectardoacoes.adapters.rest.request.ReceiveDonationRequest;
+import diegosneves.github.conectardoacoes.adapters.rest.response.DonationTicketResponse;
+import diegosneves.github.conectardoacoes.adapters.rest.service.DonationEntityService;
+import diegosneves.github.conectardoacoes.adapters.rest.service.ShelterEntityService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+class DonationIntakeServiceImplTest {
+
+    public static final String FIRST_EMAIL = "abrigo@email.com";
+    public static final String SECOND_EMAIL = "outro@email.com";
+    public static final String DESCRIPTION = "Mochila";
+    public static final int AMOUNT = 2;
+
+
+    private DonationIntakeServiceImpl service;
+
+    @Mock
+    private ShelterEntityService shelterEntityService;
+
+    @Mock
+    private DonationEntityService donationEntityService;
+
+    @Mock
+    private ShelterRepository shelterRepository;
+
+    @Captor
+    private ArgumentCaptor<ReceiveDonationRequest> requestCaptor;
+
+    @BeforeEach
+    void setUp() {
+        this.service = new DonationIntakeServiceImpl(this.shelterEntityService, this.donationEntityService, this.shelterRepository, true, 1, 3, 10, 2);
+        when(this.shelterRepository.existsByResponsibleUser_Email(anyString())).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.service.stop();
+    }
+
+    private static ReceiveDonationRequest request(String email, int amount) {
+        return new ReceiveDonationRequest(email, List.of(new DonationDTO(DESCRIPTION, amount)));
+    }
+
+    @Test
+    void shouldEnqueueValidRequestAsPendingTicket() {
+        DonationTicketResponse ticket = this.service.enqueue(request(FIRST_EMAIL, AMOUNT));
+
+        verify(this.donationEntityService, times(1)).convertDonationDTOs(any());
+        verify(this.shelterEntityService, never()).receiveDonation(any(ReceiveDonationRequest.class));
+
+        assertNotNull(ticket.getTicketId());
+        assertEquals(FIRST_EMAIL, ticket.getResponsibleEmail());
+        assertEquals(DonationTicketStatus.PENDING, ticket.getStatus());
+        assertEquals(DonationTicketStatus.PENDING, this.service.findTicket(ticket.getTicketId()).getStatus());
+    }
+
+    @Test
+    void shouldRejectRequestWhenPartitionIsFull() {
+        this.service.enqueue(request(FIRST_EMAIL, 1));
+        this.service.enqueue(request(FIRST_EMAIL, 2));
+        this.service.enqueue(request(FIRST_EMAIL, 3));
+
+        ShelterEntityFailuresException exception = assertThrows(ShelterEntityFailuresException.class,
+                () -> this.service.enqueue(request(FIRST_EMAIL, 4)));
+
+        assertEquals(ExceptionDetails.getExceptionDetails(DonationIntakeServiceImpl.DONATION_INTAKE_QUEUE_FULL).formatErrorMessage(), exception.getMessage());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, exception.getErrorDetails().getHttpStatusCode());
+    }
+
+    @Test
+    void shouldRejectRequestWhenShelterIsNotFound() {
+        when(this.shelterRepository.existsByResponsibleUser_Email(SECOND_EMAIL)).thenReturn(false);
+
+        ShelterEntityFailuresException exception = assertThrows(ShelterEntityFailuresException.class,
+                () -> this.service.enqueue(request(SECOND_EMAIL, AMOUNT)));
+
+        assertEquals(ExceptionDetails.getExceptionDetails(DonationIntakeServiceImpl.RESPONSIBLE_EMAIL_NOT_ASSOCIATED_WITH_SHELTER).formatErrorMessage(), exception.getMessage());
+    }
+
+    @Test
+    void shouldRejectNullRequest() {
+        ShelterEntityFailuresException exception = assertThrows(ShelterEntityFailuresException.class,
+                () -> this.service.enqueue(null));
+
+        verify(this.donationEntityService, never()).convertDonationDTOs(any());
+        assertEquals(ExceptionDetails.getExceptionDetails(DonationIntakeServiceImpl.DONATION_VALIDATION_ERROR).formatErrorMessage(), exception.getMessage());
+    }
+
+    @Test
+    void shouldCoalescePendingDonationsOfTheSameShelterIntoOneBatch() {
+        DonationTicketResponse first = this.service.enqueue(request(FIRST_EMAIL, 1));
+        DonationTicketResponse second = this.service.enqueue(request(SECOND_EMAIL, 2));
+        DonationTicketResponse third = this.service.enqueue(request(FIRST_EMAIL, 3));
+
+        this.service.flush(List.of(
+                new DonationIntakeServiceImpl.PendingDonation(first.getTicketId(), FIRST_EMAIL, List.of(new DonationDTO(DESCRIPTION, 1))),
+                new DonationIntakeServiceImpl.PendingDonation(second.getTicketId(), SECOND_EMAIL, List.of(new DonationDTO(DESCRIPTION, 2))),
+                new DonationIntakeServiceImpl.PendingDonation(third.getTicketId(), FIRST_EMAIL, List.of(new DonationDTO(DESCRIPTION, 3)))));
+
+        verify(this.shelterEntityService, times(2)).receiveDonation(this.requestCaptor.capture());
+        List<ReceiveDonationRequest> flushed = this.requestCaptor.getAllValues();
+        assertEquals(FIRST_EMAIL, flushed.get(0).getResponsibleEmail());
+        assertEquals(2, flushed.get(0).getDonationDTOS().size());
+        assertEquals(SECOND_EMAIL, flushed.get(1).getResponsibleEmail());
+        assertEquals(1, flushed.get(1).getDonationDTOS().size());
+    }
+
+    @Test
+    void shouldFailOnlyTheInvalidRequestWhenCoalescedBatchFails() {
+        DonationTicketResponse valid = this.service.enqueue(request(FIRST_EMAIL, 1));
+        DonationTicketResponse invalid = this.service.enqueue(request(FIRST_EMAIL, 2));
+        ShelterEntityFailuresException failure = new ShelterEntityFailuresException(DonationIntakeServiceImpl.DONATION_VALIDATION_ERROR);
+        when(this.shelterEntityService.receiveDonation(any(ReceiveDonationRequest.class))).thenAnswer(invocation -> {
+            ReceiveDonationRequest received = invocation.getArgument(0);
+            if (received.getDonationDTOS().stream().anyMatch(donation -> donation.getAmount() == 2)) {
+                throw failure;
+            }
+            return null;
+        });
+
+        this.service.flush(List.of(
+                new DonationIntakeServiceImpl.PendingDonation(valid.getTicketId(), FIRST_EMAIL, List.of(new DonationDTO(DESCRIPTION, 1))),
+                new DonationIntakeServiceImpl.PendingDonation(invalid.getTicketId(), FIRST_EMAIL, List.of(new DonationDTO(DESCRIPTION, 2)))));
+
+        verify(this.shelterEntityService, times(3)).receiveDonation(any(ReceiveDonationRequest.class));
+        assertEquals(DonationTicketStatus.COMPLETED, this.service.findTicket(valid.getTicketId()).getStatus());
+        DonationTicketResponse failed = this.service.findTicket(invalid.getTicketId());
+        assertEquals(DonationTicketStatus.FAILED, failed.getStatus());
+        assertEquals(failure.getMessage(), failed.getMessage());
+    }
+
+    @Test
+    void shouldReceiveDonationsDuringTheRequestWhenAsyncIntakeIsDisabled() {
+        this.service = new DonationIntakeServiceImpl(this.shelterEntityService, this.donationEntityService, this.shelterRepository, false, 1, 3, 10, 2);
+
+        this.service.start();
+        DonationTicketResponse ticket = this.service.enqueue(request(FIRST_EMAIL, AMOUNT));
+
+        assertFalse(this.service.isRunning());
+        verify(this.shelterEntityService, times(1)).receiveDonation(this.requestCaptor.capture());
+        assertEquals(FIRST_EMAIL, this.requestCaptor.getValue().getResponsibleEmail());
+        assertEquals(DonationTicketStatus.COMPLETED, ticket.getStatus());
+        assertEquals(DonationTicketStatus.COMPLETED, this.service.findTicket(ticket.getTicketId()).getStatus());
+    }
+
+    @Test
+    void shouldDiscardTicketAndPropagateFailureWhenAsyncIntakeIsDisabled() {
+        this.service = new DonationIntakeServiceImpl(this.shelterEntityService, this.donationEntityService, this.shelterRepository, false, 1, 3, 10, 2);
+        ShelterEntityFailuresException failure = new ShelterEntityFailuresException(DonationIntakeServiceImpl.DONATION_VALIDATION_ERROR);
+        when(this.shelterEntityService.receiveDonation(any(ReceiveDonationRequest.class))).thenThrow(failure);
+        ReceiveDonationRequest request = request(FIRST_EMAIL, AMOUNT);
+
+        ShelterEntityFailuresException exception = assertThrows(ShelterEntityFailuresException.class, () -> this.service.enqueue(request));
+
+        assertEquals(failure, exception);
+    }
+
+    @Test
+    void shouldReceiveDonationsDuringTheRequestAfterConsumersStop() {
+        this.service.start();
+        this.service.stop();
+
+        DonationTicketResponse ticket = this.service.enqueue(request(FIRST_EMAIL, AMOUNT));
+
+        verify(this.shelterEntityService, times(1)).receiveDonation(this.requestCaptor.capture());
+        assertEquals(FIRST_EMAIL, this.requestCaptor.getValue().getResponsibleEmail());
+        assertEquals(DonationTicketStatus.COMPLETED, ticket.getStatus());
+        assertEquals(DonationTicketStatus.COMPLETED, this.service.findTicket(ticket.getTicketId()).getStatus());
+    }
+
+    @Test
+    void shouldMarkTicketsAsFailedWhenBatchFails() {
+        DonationTicketResponse ticket = this.service.enqueue(request(FIRST_EMAIL, AMOUNT));
+        ShelterEntityFailuresException failure = new ShelterEntityFailuresException(DonationIntakeServiceImpl.RESPONSIBLE_EMAIL_NOT_ASSOCIATED_WITH_SHELTER);
+        when(this.shelterEntityService.receiveDonation(any(ReceiveDonationRequest.class))).thenThrow(failure);
+
+        this.service.flush(List.of(new DonationIntakeServiceImpl.PendingDonation(ticket.getTicketId(), FIRST_EMAIL, List.of(new DonationDTO(DESCRIPTION, AMOUNT)))));
+
+        DonationTicketResponse actual = this.service.findTicket(ticket.getTicketId());
+        assertEquals(DonationTicketStatus.FAILED, actual.getStatus());
+        assertEquals(failure.getMessage(), actual.getMessage());
+    }
+
+    @Test
+    void shouldFlushQueuedDonationsInBackgroundAndCompleteTickets() {
+        DonationTicketResponse first = this.service.enqueue(request(FIRST_EMAIL, 1));
+        DonationTicketResponse second = this.service.enqueue(request(FIRST_EMAIL, 2));
+
+        this.service.start();
+        assertTrue(this.service.isRunning());
+        this.service.stop();
+
+        assertFalse(this.service.isRunning());
+        verify(this.shelterEntityService, times(1)).receiveDonation(this.requestCaptor.capture());
+        assertEquals(2, this.requestCaptor.getValue().getDonationDTOS().size());
+
+        DonationTicketResponse completed = this.service.findTicket(second.getTicketId());
+        assertEquals(DonationTicketStatus.COMPLETED, completed.getStatus());
+        assertNull(completed.getMessage());
+        assertEquals(DonationTicketStatus.COMPLETED, this.service.findTicket(first.getTicketId()).getStatus());
+    }
+
+    @Test
+    void shouldDiscardOldestFinishedTicketsBeyondRetentionLimit() {
+        DonationTicketResponse first = this.service.enqueue(request(FIRST_EMAIL, 1));
+        DonationTicketResponse second = this.service.enqueue(request(FIRST_EMAIL, 2));
+        DonationTicketResponse third = this.service.enqueue(request(FIRST_EMAIL, 3));
+
+        this.service.flush(List.of(
+                new DonationIntakeServiceImpl.PendingDonation(first.getTicketId(), FIRST_EMAIL, List.of(new DonationDTO(DESCRIPTION, 1))),
+                new DonationIntakeServiceImpl.PendingDonation(second.getTicketId(), FIRST_EMAIL, List.of(new DonationDTO(DESCRIPTION, 2))),
+                new DonationIntakeServiceImpl.PendingDonation(third.getTicketId(), FIRST_EMAIL, List.of(new DonationDTO(DESCRIPTION, 3)))));
+
+        String firstTicketId = first.getTicketId();
+        ShelterEntityFailuresException exception = assertThrows(ShelterEntityFailuresException.class, () -> this.service.findTicket(firstTicketId));
+
+        assertEquals(ExceptionDetails.getExceptionDetails(DonationIntakeServiceImpl.DONATION_TICKET_NOT_FOUND).formatErrorMessage(firstTicketId), exception.getMessage());
+        assertEquals(DonationTicketStatus.COMPLETED, this.service.findTicket(third.getTicketId()).getStatus());
+    }
+
+}
@@ -0,0 +1,137 @@
+package diegosneves.github.conectardoacoes.adapters.rest.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import diegosneves.github.conectardoacoes.adapters.rest.exception.ShelterEntityFailuresException;
+import diegosneves.github.conectardoacoes.adapters.rest.model.IdempotencyRecordEntity;
+import diegosneves.github.conectardoacoes.adapters.rest.repository.IdempotencyRecordRepository;
+import diegosneves.github.conectardoacoes.adapters.rest.response.ShelterCreatedResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+/**
+ * Requisições concorrentes com a mesma chave de idempotência, cada uma em instâncias distintas do serviço, sem a
+ * transação de teste, para que a reserva de cada uma seja confirmada no banco.
+ */
+@DataJpaTest
+@ExtendWith(SpringExtension.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdempotencyServiceImplConcurrencyIntegrationTest {
+
+    public static final String OPERATION = "POST /shelter/create";
+    public static final String IDEMPOTENCY_KEY = "6f1c2a9e-3b7d-4e8a-9c5f-0d2e4b6a8c1e";
+    public static final String SHELTER_ID = "0ea4bb31-6ef3-4c95-8de1-1fce0c5e7b2d";
+    public static final Duration TIME_TO_LIVE = Duration.ofMinutes(10);
+    public static final Duration RESERVATION_LEASE = Duration.ofSeconds(30);
+    public static final int REQUESTS = 8;
+
+    @Autowired
+    private IdempotencyRecordRepository recordRepository;
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        this.executor = Executors.newFixedThreadPool(REQUESTS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.executor.shutdownNow();
+        this.recordRepository.deleteAll();
+    }
+
+    private IdempotencyServiceImpl instance() {
+        return new IdempotencyServiceImpl(new ObjectMapper(), this.recordRepository, TIME_TO_LIVE, RESERVATION_LEASE, 10, true, Clock.systemUTC());
+    }
+
+    @Test
+    void shouldExecuteOnlyOnceWhenInstancesRaceForTheSameKey() throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ResponseEntity<ShelterCreatedResponse>>> requests = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            IdempotencyServiceImpl instance = this.instance();
+            requests.add(this.executor.submit(() -> {
+                start.await();
+                return instance.execute(IDEMPOTENCY_KEY, OPERATION, SHELTER_ID, ShelterCreatedResponse.class, () -> {
+                    this.executions.incrementAndGet();
+                    return ResponseEntity.status(HttpStatus.CREATED).body(ShelterCreatedResponse.builder().id(SHELTER_ID).build());
+                });
+            }));
+        }
+        start.countDown();
+
+        for (Future<ResponseEntity<ShelterCreatedResponse>> request : requests) {
+            try {
+                assertEquals(SHELTER_ID, request.get(30, TimeUnit.SECONDS).getBody().getId());
+            } catch (ExecutionException e) {
+                ShelterEntityFailuresException exception = assertInstanceOf(ShelterEntityFailuresException.class, e.getCause());
+                assertEquals(HttpStatus.CONFLICT, exception.getErrorDetails().getHttpStatusCode());
+            } catch (TimeoutException e) {
+                throw new AssertionError(e);
+            }
+        }
+
+        assertEquals(1, this.executions.get());
+        assertEquals(1, this.recordRepository.count());
+        assertEquals(HttpStatus.CREATED.value(), this.recordRepository.findAll().iterator().next().getStatusCode());
+    }
+
+    @Test
+    void shouldTakeOverReservationAbandonedByAnotherInstance() throws NoSuchAlgorithmException {
+        String storeKey = String.join(IdempotencyServiceImpl.KEY_SEPARATOR, OPERATION, IdempotencyServiceImpl.ANONYMOUS_CLIENT, IDEMPOTENCY_KEY);
+        byte[] recordId = MessageDigest.getInstance(IdempotencyServiceImpl.FINGERPRINT_ALGORITHM).digest(storeKey.getBytes(StandardCharsets.UTF_8));
+        Instant abandonedAt = Instant.now().minus(RESERVATION_LEASE).minusSeconds(1).truncatedTo(ChronoUnit.MICROS);
+        IdempotencyRecordEntity abandoned = IdempotencyRecordEntity.builder()
+                .id(Base64.getEncoder().encodeToString(recordId))
+                .fingerprint("reserva-abandonada")
+                .createdAt(abandonedAt)
+                .reservedAt(abandonedAt)
+                .build();
+        abandoned.markNew();
+        this.recordRepository.save(abandoned);
+
+        ResponseEntity<ShelterCreatedResponse> response = this.instance().execute(IDEMPOTENCY_KEY, OPERATION, SHELTER_ID,
+                ShelterCreatedResponse.class, () -> {
+                    this.executions.incrementAndGet();
+                    return ResponseEntity.status(HttpStatus.CREATED).body(ShelterCreatedResponse.builder().id(SHELTER_ID).build());
+                });
+
+        assertEquals(1, this.executions.get());
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(1, this.recordRepository.count());
+        assertEquals(HttpStatus.CREATED.value(), this.recordRepository.findAll().iterator().next().getStatusCode());
+    }
+
+}
@@ -0,0 +1,447 @@
+package diegosneves.github.conectardoacoes.adapters.rest.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import diegosneves.github.conectardoacoes.adapters.rest.dto.DonationDTO;
+import diegosneves.github.conectardoacoes.adapters.rest.enums.ExceptionDetails;
+import diegosneves.github.conectardoacoes.adapters.rest.exception.ShelterEntityFailuresException;
+import diegosneves.github.conectardoacoes.adapters.rest.model.IdempotencyRecordEntity;
+import diegosneves.github.conectardoacoes.adapters.rest.repository.IdempotencyRecordRepository;
+import diegosneves.github.conectardoacoes.adapters.rest.request.ReceiveDonationRequest;
+import diegosneves.github.conectardoacoes.adapters.rest.response.ShelterCreatedResponse;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+class IdempotencyServiceImplTest {
+
+    public static final String OPERATION = "POST /shelter/donation";
+    public static final String IDEMPOTENCY_KEY = "6f1c2a9e-3b7d-4e8a-9c5f-0d2e4b6a8c1e";
+    public static final String OTHER_IDEMPOTENCY_KEY = "a1b2c3d4-e5f6-4a7b-8c9d-0e1f2a3b4c5d";
+    public static final String RESPONSIBLE_EMAIL = "abrigo@email.com";
+    public static final String SHELTER_ID = "0ea4bb31-6ef3-4c95-8de1-1fce0c5e7b2d";
+    public static final String SHELTER_NAME = "Abrigo";
+    public static final String DESCRIPTION = "Mochila";
+    public static final Duration TIME_TO_LIVE = Duration.ofMinutes(10);
+    public static final Duration RESERVATION_LEASE = Duration.ofSeconds(30);
+    public static final int MAX_ENTRIES = 2;
+    public static final String CLIENT_ADDRESS = "10.0.0.1";
+    public static final String OTHER_CLIENT_ADDRESS = "10.0.0.2";
+    public static final String USER_EMAIL = "usuario@email.com";
+    public static final String OTHER_USER_EMAIL = "outro.usuario@email.com";
+
+
+    private IdempotencyServiceImpl service;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-05-01T10:00:00Z"));
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Mock
+    private IdempotencyRecordRepository recordRepository;
+
+    @Captor
+    private ArgumentCaptor<IdempotencyRecordEntity> recordCaptor;
+
+    @BeforeEach
+    void setUp() {
+        this.service = new IdempotencyServiceImpl(this.objectMapper, this.recordRepository, TIME_TO_LIVE, RESERVATION_LEASE, MAX_ENTRIES, false, this.clock);
+        this.executions.set(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        SecurityContextHolder.clearContext();
+    }
+
+    private static void authenticatedAs(String username) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(username, null, List.of()));
+    }
+
+    private static void requestFrom(String remoteAddress) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddress);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private IdempotencyServiceImpl persistentService() {
+        return new IdempotencyServiceImpl(this.objectMapper, this.recordRepository, TIME_TO_LIVE, RESERVATION_LEASE, MAX_ENTRIES, true, this.clock);
+    }
+
+    private static ReceiveDonationRequest request(int amount) {
+        return new ReceiveDonationRequest(RESPONSIBLE_EMAIL, List.of(new DonationDTO(DESCRIPTION, amount)));
+    }
+
+    private Supplier<ResponseEntity<ShelterCreatedResponse>> action() {
+        return () -> {
+            this.executions.incrementAndGet();
+            ShelterCreatedResponse response = ShelterCreatedResponse.builder().id(SHELTER_ID).shelterName(SHELTER_NAME).build();
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        };
+    }
+
+    private ResponseEntity<ShelterCreatedResponse> execute(String idempotencyKey, ReceiveDonationRequest request) {
+        return this.service.execute(idempotencyKey, OPERATION, request, ShelterCreatedResponse.class, this.action());
+    }
+
+    @Test
+    void shouldReplayStoredResponseWhenRequestIsRepeatedWithTheSameKey() {
+        ResponseEntity<ShelterCreatedResponse> first = this.execute(IDEMPOTENCY_KEY, request(1));
+        ResponseEntity<ShelterCreatedResponse> second = this.execute(IDEMPOTENCY_KEY, request(1));
+
+        assertEquals(1, this.executions.get());
+        assertNull(first.getHeaders().getFirst(IdempotencyServiceImpl.REPLAYED_HEADER));
+        assertEquals(HttpStatus.CREATED, second.getStatusCode());
+        assertEquals(Boolean.TRUE.toString(), second.getHeaders().getFirst(IdempotencyServiceImpl.REPLAYED_HEADER));
+        assertEquals(SHELTER_ID, second.getBody().getId());
+        assertEquals(SHELTER_NAME, second.getBody().getShelterName());
+    }
+
+    @Test
+    void shouldAlwaysExecuteWhenKeyIsNotInformed() {
+        this.execute(null, request(1));
+        this.execute(" ", request(1));
+
+        assertEquals(2, this.executions.get());
+    }
+
+    @Test
+    void shouldExecuteEachDistinctKey() {
+        this.execute(IDEMPOTENCY_KEY, request(1));
+        this.execute(OTHER_IDEMPOTENCY_KEY, request(1));
+
+        assertEquals(2, this.executions.get());
+    }
+
+    @Test
+    void shouldRejectKeyReusedWithDifferentRequest() {
+        this.execute(IDEMPOTENCY_KEY, request(1));
+        ReceiveDonationRequest otherRequest = request(2);
+
+        ShelterEntityFailuresException exception = assertThrows(ShelterEntityFailuresException.class,
+                () -> this.execute(IDEMPOTENCY_KEY, otherRequest));
+
+        assertEquals(1, this.executions.get());
+        assertEquals(ExceptionDetails.getExceptionDetails(IdempotencyServiceImpl.IDEMPOTENCY_KEY_REUSED).formatErrorMessage(IDEMPOTENCY_KEY), exception.getMessage());
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, exception.getErrorDetails().getHttpStatusCode());
+    }
+
+    @Test
+    void shouldRejectRepeatedRequestWhileOriginalIsInProgress() {
+        ReceiveDonationRequest request = request(1);
+
+        ShelterEntityFailuresException exception = assertThrows(ShelterEntityFailuresException.class,
+                () -> this.service.execute(IDEMPOTENCY_KEY, OPERATION, request, ShelterCreatedResponse.class,
+                        () -> this.execute(IDEMPOTENCY_KEY, request)));
+
+        assertEquals(0, this.executions.get());
+        assertEquals(ExceptionDetails.getExceptionDetails(IdempotencyServiceImpl.IDEMPOTENT_REQUEST_IN_PROGRESS).formatErrorMessage(IDEMPOTENCY_KEY), exception.getMessage());
+        assertEquals(HttpStatus.CONFLICT, exception.getErrorDetails().getHttpStatusCode());
+    }
+
+    @Test
+    void shouldReleaseKeyWhenActionFails() {
+        ReceiveDonationRequest request = request(1);
+        ShelterEntityFailuresException failure = new ShelterEntityFailuresException(DonationIntakeServiceImpl.DONATION_VALIDATION_ERROR);
+
+        assertThrows(ShelterEntityFailuresException.class, () -> this.service.execute(IDEMPOTENCY_KEY, OPERATION, request,
+                ShelterCreatedResponse.class, () -> {
+                    throw failure;
+                }));
+        this.execute(IDEMPOTENCY_KEY, request);
+
+        assertEquals(1, this.executions.get());
+    }
+
+    @Test
+    void shouldExecuteAgainAfterKeyExpires() {
+        this.execute(IDEMPOTENCY_KEY, request(1));
+        this.clock.advance(TIME_TO_LIVE.plusSeconds(1));
+        this.execute(IDEMPOTENCY_KEY, request(1));
+
+        assertEquals(2, this.executions.get());
+    }
+
+    @Test
+    void shouldDiscardOldestKeyBeyondMaximumEntries() {
+        this.execute(IDEMPOTENCY_KEY, request(1));
+        this.execute(OTHER_IDEMPOTENCY_KEY, request(1));
+        this.execute("third-key", request(1));
+        this.execute(OTHER_IDEMPOTENCY_KEY, request(1));
+        this.execute(IDEMPOTENCY_KEY, request(1));
+
+        assertEquals(4, this.executions.get());
+    }
+
+    @Test
+    void shouldNeverDiscardKeysInProgressBeyondMaximumEntries() {
+        ReceiveDonationRequest request = request(1);
+
+        ShelterEntityFailuresException exception = assertThrows(ShelterEntityFailuresException.class,
+                () -> this.service.execute(IDEMPOTENCY_KEY, OPERATION, request, ShelterCreatedResponse.class, () -> {
+                    this.execute(OTHER_IDEMPOTENCY_KEY, request);
+                    this.execute("third-key", request);
+                    this.execute("fourth-key", request);
+                    return this.execute(IDEMPOTENCY_KEY, request);
+                }));
+
+        assertEquals(3, this.executions.get());
+        assertEquals(ExceptionDetails.getExceptionDetails(IdempotencyServiceImpl.IDEMPOTENT_REQUEST_IN_PROGRESS).formatErrorMessage(IDEMPOTENCY_KEY), exception.getMessage());
+    }
+
+    @Test
+    void shouldScopeKeysByAuthenticatedUser() {
+        authenticatedAs(USER_EMAIL);
+        this.execute(IDEMPOTENCY_KEY, request(1));
+        authenticatedAs(OTHER_USER_EMAIL);
+        ResponseEntity<ShelterCreatedResponse> otherUser = this.execute(IDEMPOTENCY_KEY, request(2));
+        authenticatedAs(USER_EMAIL);
+        ResponseEntity<ShelterCreatedResponse> replayed = this.execute(IDEMPOTENCY_KEY, request(1));
+
+        assertEquals(2, this.executions.get());
+        assertNull(otherUser.getHeaders().getFirst(IdempotencyServiceImpl.REPLAYED_HEADER));
+        assertEquals(Boolean.TRUE.toString(), replayed.getHeaders().getFirst(IdempotencyServiceImpl.REPLAYED_HEADER));
+    }
+
+    @Test
+    void shouldReplayRetryOfAnonymousClientFromAnotherAddress() {
+        requestFrom(CLIENT_ADDRESS);
+        this.execute(IDEMPOTENCY_KEY, request(1));
+        requestFrom(OTHER_CLIENT_ADDRESS);
+        ResponseEntity<ShelterCreatedResponse> replayed = this.execute(IDEMPOTENCY_KEY, request(1));
+
+        assertEquals(1, this.executions.get());
+        assertEquals(Boolean.TRUE.toString(), replayed.getHeaders().getFirst(IdempotencyServiceImpl.REPLAYED_HEADER));
+    }
+
+    @Test
+    void shouldTakeOverReservationInMemoryAfterLeaseExpires() {
+        ReceiveDonationRequest request = request(1);
+
+        ResponseEntity<ShelterCreatedResponse> original = this.service.execute(IDEMPOTENCY_KEY, OPERATION, request, ShelterCreatedResponse.class, () -> {
+            this.clock.advance(RESERVATION_LEASE.plusSeconds(1));
+            ResponseEntity<ShelterCreatedResponse> retry = this.execute(IDEMPOTENCY_KEY, request);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(retry.getBody());
+        });
+        ResponseEntity<ShelterCreatedResponse> replayed = this.execute(IDEMPOTENCY_KEY, request);
+
+        assertEquals(1, this.executions.get());
+        assertEquals(HttpStatus.ACCEPTED, original.getStatusCode());
+        assertEquals(HttpStatus.CREATED, replayed.getStatusCode());
+        assertEquals(Boolean.TRUE.toString(), replayed.getHeaders().getFirst(IdempotencyServiceImpl.REPLAYED_HEADER));
+    }
+
+    @Test
+    void shouldReserveKeyInStoreAndCompleteItWhenPersistenceIsEnabled() {
+        this.service = this.persistentService();
+
+        this.execute(IDEMPOTENCY_KEY, request(1));
+
+        verify(this.recordRepository, times(1)).save(this.recordCaptor.capture());
+        IdempotencyRecordEntity reservation = this.recordCaptor.getValue();
+        assertNotEquals(IDEMPOTENCY_KEY, reservation.getId());
+        assertNull(reservation.getStatusCode());
+        assertEquals(this.clock.instant(), reservation.getCreatedAt());
+        assertEquals(this.clock.instant(), reservation.getReservedAt());
+        verify(this.recordRepository, times(1)).complete(eq(reservation.getId()), eq(this.clock.instant()), eq(HttpStatus.CREATED.value()),
+                anyString(), eq(this.clock.instant()));
+        verify(this.recordRepository, never()).deleteExpired(any(Instant.class));
+        verify(this.recordRepository, never()).findById(anyString());
+    }
+
+    @Test
+    void shouldReplayPersistedResponseWhenKeyWasReservedByAnotherInstance() {
+        this.service = this.persistentService();
+        IdempotencyRecordEntity completed = IdempotencyRecordEntity.builder()
+                .fingerprint(this.fingerprintOf(request(1)))
+                .statusCode(HttpStatus.CREATED.value())
+                .responseBody("{\"id\":\"" + SHELTER_ID + "\",\"shelterName\":\"" + SHELTER_NAME + "\"}")
+                .createdAt(this.clock.instant())
+                .build();
+        when(this.recordRepository.save(any(IdempotencyRecordEntity.class))).thenThrow(new DataIntegrityViolationException(IDEMPOTENCY_KEY));
+        when(this.recordRepository.findById(anyString())).thenReturn(Optional.of(completed));
+
+        ResponseEntity<ShelterCreatedResponse> replayed = this.execute(IDEMPOTENCY_KEY, request(1));
+
+        assertEquals(0, this.executions.get());
+        assertEquals(HttpStatus.CREATED, replayed.getStatusCode());
+        assertEquals(SHELTER_ID, replayed.getBody().getId());
+        verify(this.recordRepository, never()).complete(anyString(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldRejectRequestWhileKeyIsReservedInStoreByAnotherInstance() {
+        this.service = this.persistentService();
+        IdempotencyRecordEntity inProgress = IdempotencyRecordEntity.builder()
+                .fingerprint(this.fingerprintOf(request(1)))
+                .createdAt(this.clock.instant().minus(RESERVATION_LEASE))
+                .reservedAt(this.clock.instant().minus(RESERVATION_LEASE))
+                .build();
+        when(this.recordRepository.save(any(IdempotencyRecordEntity.class))).thenThrow(new DataIntegrityViolationException(IDEMPOTENCY_KEY));
+        when(this.recordRepository.findById(anyString())).thenReturn(Optional.of(inProgress));
+
+        ShelterEntityFailuresException exception = assertThrows(ShelterEntityFailuresException.class,
+                () -> this.execute(IDEMPOTENCY_KEY, request(1)));
+
+        assertEquals(0, this.executions.get());
+        assertEquals(HttpStatus.CONFLICT, exception.getErrorDetails().getHttpStatusCode());
+        verify(this.recordRepository, never()).deleteStaleReservation(anyString(), any(Instant.class));
+    }
+
+    @Test
+    void shouldTakeOverReservationInStoreAfterLeaseExpires() {
+        this.service = this.persistentService();
+        Instant abandonedAt = this.clock.instant().minus(RESERVATION_LEASE).minusSeconds(1);
+        IdempotencyRecordEntity abandoned = IdempotencyRecordEntity.builder()
+                .fingerprint(this.fingerprintOf(request(1)))
+                .createdAt(abandonedAt)
+                .reservedAt(abandonedAt)
+                .build();
+        when(this.recordRepository.save(any(IdempotencyRecordEntity.class)))
+                .thenThrow(new DataIntegrityViolationException(IDEMPOTENCY_KEY))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(this.recordRepository.findById(anyString())).thenReturn(Optional.of(abandoned));
+
+        ResponseEntity<ShelterCreatedResponse> response = this.execute(IDEMPOTENCY_KEY, request(1));
+
+        assertEquals(1, this.executions.get());
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        verify(this.recordRepository, times(1)).deleteStaleReservation(anyString(), eq(this.clock.instant().minus(RESERVATION_LEASE)));
+        verify(this.recordRepository, never()).deleteIfExpired(anyString(), any(Instant.class));
+        verify(this.recordRepository, times(2)).save(any(IdempotencyRecordEntity.class));
+    }
+
+    @Test
+    void shouldReplaceExpiredRecordInStore() {
+        this.service = this.persistentService();
+        IdempotencyRecordEntity expired = IdempotencyRecordEntity.builder()
+                .fingerprint(this.fingerprintOf(request(2)))
+                .statusCode(HttpStatus.CREATED.value())
+                .createdAt(this.clock.instant().minus(TIME_TO_LIVE).minusSeconds(1))
+                .build();
+        when(this.recordRepository.save(any(IdempotencyRecordEntity.class)))
+                .thenThrow(new DataIntegrityViolationException(IDEMPOTENCY_KEY))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(this.recordRepository.findById(anyString())).thenReturn(Optional.of(expired));
+
+        this.execute(IDEMPOTENCY_KEY, request(1));
+
+        assertEquals(1, this.executions.get());
+        verify(this.recordRepository, times(1)).deleteIfExpired(anyString(), eq(this.clock.instant().minus(TIME_TO_LIVE)));
+        verify(this.recordRepository, times(2)).save(any(IdempotencyRecordEntity.class));
+    }
+
+    @Test
+    void shouldReleaseReservationInStoreWhenActionFails() {
+        this.service = this.persistentService();
+        ReceiveDonationRequest request = request(1);
+        ShelterEntityFailuresException failure = new ShelterEntityFailuresException(DonationIntakeServiceImpl.DONATION_VALIDATION_ERROR);
+
+        assertThrows(ShelterEntityFailuresException.class, () -> this.service.execute(IDEMPOTENCY_KEY, OPERATION, request,
+                ShelterCreatedResponse.class, () -> {
+                    throw failure;
+                }));
+
+        verify(this.recordRepository, times(1)).save(this.recordCaptor.capture());
+        verify(this.recordRepository, times(1)).deleteInProgress(this.recordCaptor.getValue().getId(), this.clock.instant());
+        verify(this.recordRepository, never()).complete(anyString(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldRemoveExpiredRecordsOnSchedule() {
+        this.service = this.persistentService();
+
+        this.service.removeExpired();
+
+        verify(this.recordRepository, times(1)).deleteExpired(this.clock.instant().minus(TIME_TO_LIVE));
+    }
+
+    @Test
+    void shouldNotAccessRepositoryWhenPersistenceIsDisabled() {
+        this.execute(IDEMPOTENCY_KEY, request(1));
+
+        this.service.removeExpired();
+
+        verify(this.recordRepository, never()).findById(anyString());
+        verify(this.recordRepository, never()).save(any(IdempotencyRecordEntity.class));
+        verify(this.recordRepository, never()).deleteExpired(any(Instant.class));
+    }
+
+    @SneakyThrows
+    private String fingerprintOf(Object request) {
+        byte[] digest = MessageDigest.getInstance(IdempotencyServiceImpl.FINGERPRINT_ALGORITHM).digest(this.objectMapper.writeValueAsBytes(request));
+        return Base64.getEncoder().encodeToString(digest);
+    }
+
+    /**
+     * Relógio ajustável manualmente, para simular a passagem do tempo de expiração das chaves.
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            this.instant = this.instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return this.instant;
+        }
+
+    }
+
+}
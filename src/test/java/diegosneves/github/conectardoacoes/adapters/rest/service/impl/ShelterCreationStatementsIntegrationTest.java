@@ -0,0 +1,116 @@
+package diegosneves.github.conectardoacoes.adapters.rest.service.impl;
+
+import diegosneves.github.conectardoacoes.adapters.rest.dto.AddressDTO;
+import diegosneves.github.conectardoacoes.adapters.rest.enums.UserProfileType;
+import diegosneves.github.conectardoacoes.adapters.rest.repository.AddressRepository;
+import diegosneves.github.conectardoacoes.adapters.rest.repository.DonationRepository;
+import diegosneves.github.conectardoacoes.adapters.rest.repository.ShelterInventoryRepository;
+import diegosneves.github.conectardoacoes.adapters.rest.repository.ShelterRepository;
+import diegosneves.github.conectardoacoes.adapters.rest.repository.UserRepository;
+import diegosneves.github.conectardoacoes.adapters.rest.request.ShelterCreationRequest;
+import diegosneves.github.conectardoacoes.adapters.rest.request.UserEntityCreationRequest;
+import diegosneves.github.conectardoacoes.adapters.rest.response.ShelterCreatedResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Conta as instruções SQL emitidas pelo fluxo real de criação de abrigos, sem a transação de teste, para que o usuário
+ * responsável e o endereço estejam desanexados no momento da inserção do abrigo, como ocorre nas requisições.
+ */
+@DataJpaTest
+@ExtendWith(SpringExtension.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ShelterCreationStatementsIntegrationTest {
+
+    public static final String SHELTER_NAME = "Abrigo";
+    public static final String USER_NAME = "Fulano";
+    public static final String USER_EMAIL = "responsavel@teste.com";
+    public static final String USER_PASSWORD = "Senha";
+
+    @Autowired
+    private ShelterRepository shelterRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private DonationRepository donationRepository;
+
+    @Autowired
+    private ShelterInventoryRepository inventoryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private ShelterEntityServiceImpl shelterEntityService;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        UserEntityServiceImpl userEntityService = new UserEntityServiceImpl(this.userRepository);
+        DonationEntityServiceImpl donationEntityService = new DonationEntityServiceImpl(this.donationRepository);
+        this.shelterEntityService = new ShelterEntityServiceImpl(this.shelterRepository,
+                new AddressEntityServiceImpl(this.addressRepository, null),
+                userEntityService,
+                donationEntityService,
+                new ShelterInventoryServiceImpl(this.inventoryRepository));
+        userEntityService.createUserEntity(UserEntityCreationRequest.builder()
+                .userName(USER_NAME)
+                .email(USER_EMAIL)
+                .userProfile(UserProfileType.BENEFICIARY)
+                .userPassword(USER_PASSWORD)
+                .build());
+        this.statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.statistics.setStatisticsEnabled(true);
+        this.statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.shelterRepository.deleteAll();
+        this.inventoryRepository.deleteAll();
+        this.donationRepository.deleteAll();
+        this.addressRepository.deleteAll();
+        this.userRepository.deleteAll();
+    }
+
+    @Test
+    void shouldCreateShelterWithOnlyTheValidationQueriesAndTheInserts() {
+        ShelterCreatedResponse response = this.shelterEntityService.createShelter(ShelterCreationRequest.builder()
+                .shelterName(SHELTER_NAME)
+                .address(AddressDTO.builder()
+                        .street("Rua")
+                        .number("123")
+                        .neighborhood("Bairro")
+                        .city("Cidade")
+                        .state("Estado")
+                        .zip("92123456")
+                        .build())
+                .responsibleUserEmail(USER_EMAIL)
+                .build());
+
+        // Consulta do usuário responsável, verificação de abrigo existente e os INSERTs do endereço e do abrigo.
+        assertEquals(4, this.statistics.getPrepareStatementCount());
+        assertEquals(2, this.statistics.getEntityInsertCount());
+        assertEquals(1, this.statistics.getEntityLoadCount());
+        assertEquals(USER_EMAIL, response.getResponsibleUser().getEmail());
+        assertTrue(this.shelterRepository.existsById(response.getId()));
+    }
+
+}
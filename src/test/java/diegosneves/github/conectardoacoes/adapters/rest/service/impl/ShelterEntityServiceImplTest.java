@@ -2,6 +2,7 @@ package diegosneves.github.conectardoacoes.adapters.rest.service.impl;
 
 import diegosneves.github.conectardoacoes.adapters.rest.dto.AddressDTO;
 import diegosneves.github.conectardoacoes.adapters.rest.dto.DonationDTO;
+import diegosneves.github.conectardoacoes.adapters.rest.dto.ShelterSummaryDTO;
 import diegosneves.github.conectardoacoes.adapters.rest.enums.ExceptionDetails;
 import diegosneves.github.conectardoacoes.adapters.rest.enums.UserProfileType;
 import diegosneves.github.conectardoacoes.adapters.rest.exception.AddressEntityFailuresException;
@@ -15,14 +16,19 @@ import diegosneves.github.conectardoacoes.adapters.rest.model.UserEntity;
 import diegosneves.github.conectardoacoes.adapters.rest.repository.ShelterRepository;
 import diegosneves.github.conectardoacoes.adapters.rest.request.ReceiveDonationRequest;
 import diegosneves.github.conectardoacoes.adapters.rest.request.ShelterCreationRequest;
+import diegosneves.github.conectardoacoes.adapters.rest.response.DonationPageResponse;
 import diegosneves.github.conectardoacoes.adapters.rest.response.ShelterCreatedResponse;
 import diegosneves.github.conectardoacoes.adapters.rest.response.ShelterInformationResponse;
+import diegosneves.github.conectardoacoes.adapters.rest.response.ShelterPageResponse;
 import diegosneves.github.conectardoacoes.adapters.rest.service.AddressEntityService;
 import diegosneves.github.conectardoacoes.adapters.rest.service.DonationEntityService;
+import diegosneves.github.conectardoacoes.adapters.rest.service.ShelterInventoryService;
 import diegosneves.github.conectardoacoes.adapters.rest.service.UserEntityService;
+import diegosneves.github.conectardoacoes.adapters.rest.utils.CursorUtils;
 import diegosneves.github.conectardoacoes.core.domain.shelter.entity.Shelter;
 import diegosneves.github.conectardoacoes.core.domain.shelter.entity.ShelterContract;
 import diegosneves.github.conectardoacoes.core.domain.shelter.entity.value.Address;
+import diegosneves.github.conectardoacoes.core.domain.shelter.entity.value.Donation;
 import diegosneves.github.conectardoacoes.core.domain.user.entity.User;
 import diegosneves.github.conectardoacoes.core.domain.user.entity.value.UserProfile;
 import diegosneves.github.conectardoacoes.core.exception.ShelterCreationFailureException;
@@ -45,6 +51,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -53,6 +60,8 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mockStatic;
@@ -83,6 +92,8 @@ class ShelterEntityServiceImplTest {
     public static final String DONATION_ID = "b6d38f1a-22a2-4d49-938f-1a22a22d4966";
     public static final String DESCRIPTION = "Mochila";
     public static final int AMOUNT = 2;
+    public static final String SECOND_DONATION_ID = "ca73cd2e-7e50-42ea-b3cd-2e7e5022ea72";
+    public static final String THIRD_DONATION_ID = "bf9b8d38-c6b3-4fd6-9b8d-38c6b3bfd69f";
 
 
     @InjectMocks
@@ -100,9 +111,15 @@ class ShelterEntityServiceImplTest {
     @Mock
     private DonationEntityService donationEntityService;
 
+    @Mock
+    private ShelterInventoryService inventoryService;
+
     @Captor
     private ArgumentCaptor<ShelterContract> shelterCaptor;
 
+    @Captor
+    private ArgumentCaptor<List<Donation>> donationListCaptor;
+
 
     private ShelterCreationRequest request;
     private User user;
@@ -137,13 +154,13 @@ class ShelterEntityServiceImplTest {
     void shouldCreateShelter() {
         when(this.userEntityService.searchUserByEmail(USER_EMAIL)).thenReturn(this.user);
         when(this.addressService.createAndSaveAddressFromDto(any(AddressDTO.class))).thenReturn(this.address);
-        when(this.repository.persist(any(ShelterContract.class))).thenReturn(this.shelter);
+        when(this.repository.persistNew(any(ShelterContract.class))).thenReturn(this.shelter);
 
         ShelterCreatedResponse response = this.service.createShelter(this.request);
 
         verify(this.userEntityService, times(1)).searchUserByEmail(USER_EMAIL);
         verify(this.addressService, times(1)).createAndSaveAddressFromDto(any(AddressDTO.class));
-        verify(this.repository, times(1)).persist(this.shelterCaptor.capture());
+        verify(this.repository, times(1)).persistNew(this.shelterCaptor.capture());
 
         assertNotNull(response);
         assertEquals(SHELTER_ID, response.getId());
@@ -187,7 +204,7 @@ class ShelterEntityServiceImplTest {
 
         ShelterEntityFailuresException exception = assertThrows(ShelterEntityFailuresException.class, () -> this.service.createShelter(this.request));
 
-        verify(this.repository, never()).persist(any(ShelterContract.class));
+        verify(this.repository, never()).persistNew(any(ShelterContract.class));
         verify(this.userEntityService, times(1)).searchUserByEmail(USER_EMAIL);
 
         assertNotNull(exception);
@@ -203,7 +220,7 @@ class ShelterEntityServiceImplTest {
 
         ShelterEntityFailuresException exception = assertThrows(ShelterEntityFailuresException.class, () -> this.service.createShelter(this.request));
 
-        verify(this.repository, never()).persist(any(ShelterContract.class));
+        verify(this.repository, never()).persistNew(any(ShelterContract.class));
         verify(this.userEntityService, times(1)).searchUserByEmail(USER_EMAIL);
 
         assertNotNull(exception);
@@ -221,7 +238,7 @@ class ShelterEntityServiceImplTest {
 
         ShelterEntityFailuresException exception = assertThrows(ShelterEntityFailuresException.class, () -> this.service.createShelter(this.request));
 
-        verify(this.repository, never()).persist(any(ShelterContract.class));
+        verify(this.repository, never()).persistNew(any(ShelterContract.class));
 
         assertNotNull(exception);
         assertEquals(ExceptionDetails.getExceptionDetails(ShelterEntityServiceImpl.USER_RESPONSIBLE_EMAIL_NOT_FOUND_ERROR).formatErrorMessage(), exception.getMessage());
@@ -236,7 +253,7 @@ class ShelterEntityServiceImplTest {
 
         ShelterEntityFailuresException exception = assertThrows(ShelterEntityFailuresException.class, () -> this.service.createShelter(this.request));
 
-        verify(this.repository, never()).persist(any(ShelterContract.class));
+        verify(this.repository, never()).persistNew(any(ShelterContract.class));
 
         assertNotNull(exception);
         assertEquals(ExceptionDetails.getExceptionDetails(ShelterEntityServiceImpl.USER_RESPONSIBLE_EMAIL_NOT_FOUND_ERROR).formatErrorMessage(), exception.getMessage());
@@ -253,12 +270,12 @@ class ShelterEntityServiceImplTest {
 
         when(this.userEntityService.searchUserByEmail(anyString())).thenReturn(this.user);
         when(this.addressService.createAndSaveAddressFromDto(null)).thenThrow(AddressEntityFailuresException.class);
-        when(this.repository.persist(any(ShelterContract.class))).thenReturn(null);
+        when(this.repository.persistNew(any(ShelterContract.class))).thenReturn(null);
 
         ShelterEntityFailuresException exception = assertThrows(ShelterEntityFailuresException.class, () -> this.service.createShelter(this.request));
 
         verify(this.addressService, times(1)).createAndSaveAddressFromDto(null);
-        verify(this.repository, never()).persist(any(ShelterContract.class));
+        verify(this.repository, never()).persistNew(any(ShelterContract.class));
 
         assertNotNull(exception);
         assertEquals(ExceptionDetails.getExceptionDetails(ShelterEntityServiceImpl.SHELTER_CREATION_ERROR_MESSAGE).formatErrorMessage(), exception.getMessage());
@@ -272,7 +289,7 @@ class ShelterEntityServiceImplTest {
         ShelterEntityFailuresException exception = assertThrows(ShelterEntityFailuresException.class, () -> this.service.createShelter(null));
 
         verify(this.addressService, never()).createAndSaveAddressFromDto(any(AddressDTO.class));
-        verify(this.repository, never()).persist(any(ShelterContract.class));
+        verify(this.repository, never()).persistNew(any(ShelterContract.class));
 
         assertNotNull(exception);
         assertEquals(ExceptionDetails.getExceptionDetails(ShelterEntityServiceImpl.REQUEST_VALIDATION_ERROR_MESSAGE).formatErrorMessage(), exception.getMessage());
@@ -283,7 +300,7 @@ class ShelterEntityServiceImplTest {
     void mapShelterEntityFromShelterContractThrowsExceptionWhenShelterContractIsNull() {
         when(this.userEntityService.searchUserByEmail(USER_EMAIL)).thenReturn(this.user);
         when(this.addressService.createAndSaveAddressFromDto(any(AddressDTO.class))).thenReturn(this.address);
-        when(this.repository.persist(any(ShelterContract.class))).thenReturn(null);
+        when(this.repository.persistNew(any(ShelterContract.class))).thenReturn(null);
 
         try (MockedStatic<BuilderMapper> mockedBuilder = mockStatic(BuilderMapper.class)) {
 
@@ -292,7 +309,7 @@ class ShelterEntityServiceImplTest {
             ShelterEntityFailuresException exception = assertThrows(ShelterEntityFailuresException.class, () -> this.service.createShelter(this.request));
 
             verify(this.addressService, times(1)).createAndSaveAddressFromDto(any(AddressDTO.class));
-            verify(this.repository, times(1)).persist(any(ShelterContract.class));
+            verify(this.repository, times(1)).persistNew(any(ShelterContract.class));
 
             assertNotNull(exception);
             assertEquals(ExceptionDetails.getExceptionDetails(ShelterEntityServiceImpl.SHELTER_CREATION_ERROR_MESSAGE).formatErrorMessage(), exception.getMessage());
@@ -309,7 +326,7 @@ class ShelterEntityServiceImplTest {
         ShelterEntityFailuresException exception = assertThrows(ShelterEntityFailuresException.class, () -> this.service.createShelter(this.request));
 
         verify(this.addressService, never()).createAndSaveAddressFromDto(any(AddressDTO.class));
-        verify(this.repository, never()).persist(any(ShelterContract.class));
+        verify(this.repository, never()).persistNew(any(ShelterContract.class));
         verify(this.userEntityService, times(1)).searchUserByEmail(USER_EMAIL);
 
         assertNotNull(exception);
@@ -326,7 +343,7 @@ class ShelterEntityServiceImplTest {
         ShelterEntityFailuresException exception = assertThrows(ShelterEntityFailuresException.class, () -> this.service.createShelter(this.request));
 
         verify(this.addressService, never()).createAndSaveAddressFromDto(any(AddressDTO.class));
-        verify(this.repository, never()).persist(any(ShelterContract.class));
+        verify(this.repository, never()).persistNew(any(ShelterContract.class));
         verify(this.userEntityService, times(1)).searchUserByEmail(USER_EMAIL);
         verify(this.repository, times(1)).findShelterEntitiesByResponsibleUser_Email(USER_EMAIL);
 
@@ -337,18 +354,28 @@ class ShelterEntityServiceImplTest {
 
     @Test
     void shouldReceiveDonationForSpecificShelter() {
-        ShelterEntity shelterEntity = generateShelterEntity();
         ReceiveDonationRequest donationRequest = generateReceiveDonationRequest();
 
-        when(this.donationEntityService.convertAndSaveDonationDTO(any(DonationDTO.class))).thenReturn(this.donation);
-        when(this.repository.findShelterEntitiesByResponsibleUser_Email(USER_EMAIL)).thenReturn(Optional.of(shelterEntity));
-        when(this.repository.findEntityById(SHELTER_ID)).thenReturn(this.shelter);
+        when(this.donationEntityService.convertDonationDTOs(anyList())).thenReturn(List.of(new Donation(DONATION_ID, DESCRIPTION, AMOUNT)));
+        when(this.repository.findShelterSummaryByResponsibleUserEmail(USER_EMAIL)).thenReturn(Optional.of(generateShelterSummary()));
+        when(this.inventoryService.getInventory(SHELTER_ID)).thenReturn(List.of(new DonationDTO(DESCRIPTION, AMOUNT)));
 
         ShelterInformationResponse response = this.service.receiveDonation(donationRequest);
 
-        verify(this.donationEntityService, times(1)).convertAndSaveDonationDTO(any(DonationDTO.class));
-        verify(this.repository, times(1)).findShelterEntitiesByResponsibleUser_Email(USER_EMAIL);
-        verify(this.repository, times(1)).persist(any(ShelterContract.class));
+        verify(this.donationEntityService, times(1)).convertDonationDTOs(anyList());
+        verify(this.inventoryService, times(1)).registerDonations(eq(SHELTER_ID), anyList());
+        verify(this.inventoryService, times(1)).getInventory(SHELTER_ID);
+        verify(this.repository, never()).findById(anyString());
+        verify(this.donationEntityService, never()).convertAndSaveDonationDTO(any(DonationDTO.class));
+        verify(this.repository, times(1)).findShelterSummaryByResponsibleUserEmail(USER_EMAIL);
+        verify(this.repository, never()).findShelterEntitiesByResponsibleUser_Email(anyString());
+        verify(this.repository, times(1)).appendDonations(eq(SHELTER_ID), this.donationListCaptor.capture());
+        verify(this.repository, never()).save(any(ShelterEntity.class));
+        verify(this.repository, never()).findEntityById(anyString());
+        verify(this.repository, never()).persist(any(ShelterContract.class));
+
+        assertEquals(1, this.donationListCaptor.getValue().size());
+        assertEquals(DONATION_ID, this.donationListCaptor.getValue().get(0).getId());
 
         assertNotNull(response);
         assertEquals(SHELTER_NAME, response.getShelterName());
@@ -378,6 +405,10 @@ class ShelterEntityServiceImplTest {
                 .build();
     }
 
+    private static ShelterSummaryDTO generateShelterSummary() {
+        return new ShelterSummaryDTO(SHELTER_ID, SHELTER_NAME, USER_NAME, USER_EMAIL);
+    }
+
     private static DonationDTO generateDonationDTO() {
         return new DonationDTO(DESCRIPTION, AMOUNT);
     }
@@ -401,17 +432,16 @@ class ShelterEntityServiceImplTest {
 
     @Test
     void shouldThrowExceptionWhenReceiveDonationDTOListIsNull() {
-        ShelterEntity shelterEntity = generateShelterEntity();
         ReceiveDonationRequest donationRequest = generateReceiveDonationRequest();
         donationRequest.setDonationDTOS(null);
 
-        when(this.repository.findShelterEntitiesByResponsibleUser_Email(USER_EMAIL)).thenReturn(Optional.of(shelterEntity));
+        when(this.repository.findShelterSummaryByResponsibleUserEmail(USER_EMAIL)).thenReturn(Optional.of(generateShelterSummary()));
 
         ShelterEntityFailuresException exception = assertThrows(ShelterEntityFailuresException.class, () -> this.service.receiveDonation(donationRequest));
 
         verify(this.repository, never()).save(any(ShelterEntity.class));
         verify(this.donationEntityService, never()).convertAndSaveDonationDTO(any(DonationDTO.class));
-        verify(this.repository, times(1)).findShelterEntitiesByResponsibleUser_Email(USER_EMAIL);
+        verify(this.repository, times(1)).findShelterSummaryByResponsibleUserEmail(USER_EMAIL);
 
         assertNotNull(exception);
         assertEquals(ExceptionDetails.getExceptionDetails(ShelterEntityServiceImpl.EMPTY_DONATION_LIST).formatErrorMessage(), exception.getMessage());
@@ -420,17 +450,16 @@ class ShelterEntityServiceImplTest {
 
     @Test
     void shouldThrowExceptionWhenReceiveDonationDTOListIsEmpty() {
-        ShelterEntity shelterEntity = generateShelterEntity();
         ReceiveDonationRequest donationRequest = generateReceiveDonationRequest();
         donationRequest.setDonationDTOS(new ArrayList<>());
 
-        when(this.repository.findShelterEntitiesByResponsibleUser_Email(USER_EMAIL)).thenReturn(Optional.of(shelterEntity));
+        when(this.repository.findShelterSummaryByResponsibleUserEmail(USER_EMAIL)).thenReturn(Optional.of(generateShelterSummary()));
 
         ShelterEntityFailuresException exception = assertThrows(ShelterEntityFailuresException.class, () -> this.service.receiveDonation(donationRequest));
 
         verify(this.repository, never()).save(any(ShelterEntity.class));
         verify(this.donationEntityService, never()).convertAndSaveDonationDTO(any(DonationDTO.class));
-        verify(this.repository, times(1)).findShelterEntitiesByResponsibleUser_Email(USER_EMAIL);
+        verify(this.repository, times(1)).findShelterSummaryByResponsibleUserEmail(USER_EMAIL);
 
         assertNotNull(exception);
         assertEquals(ExceptionDetails.getExceptionDetails(ShelterEntityServiceImpl.EMPTY_DONATION_LIST).formatErrorMessage(), exception.getMessage());
@@ -441,13 +470,13 @@ class ShelterEntityServiceImplTest {
     void shouldThrowExceptionWhen() {
         ReceiveDonationRequest donationRequest = generateReceiveDonationRequest();
 
-        when(this.repository.findShelterEntitiesByResponsibleUser_Email(USER_EMAIL)).thenReturn(Optional.empty());
+        when(this.repository.findShelterSummaryByResponsibleUserEmail(USER_EMAIL)).thenReturn(Optional.empty());
 
         ShelterEntityFailuresException exception = assertThrows(ShelterEntityFailuresException.class, () -> this.service.receiveDonation(donationRequest));
 
         verify(this.repository, never()).save(any(ShelterEntity.class));
         verify(this.donationEntityService, never()).convertAndSaveDonationDTO(any(DonationDTO.class));
-        verify(this.repository, times(1)).findShelterEntitiesByResponsibleUser_Email(USER_EMAIL);
+        verify(this.repository, times(1)).findShelterSummaryByResponsibleUserEmail(USER_EMAIL);
 
         assertNotNull(exception);
         assertEquals(ExceptionDetails.getExceptionDetails(ShelterEntityServiceImpl.RESPONSIBLE_EMAIL_NOT_ASSOCIATED_WITH_SHELTER).formatErrorMessage(), exception.getMessage());
@@ -457,27 +486,15 @@ class ShelterEntityServiceImplTest {
     @Test
     void testFindShelterByResponsibleEmail_WhenEmailIsValid_ShouldReturnShelterInformationResponse() {
 
-        DonationEntity firstDonation = new DonationEntity();
-        firstDonation.setDescription(DESCRIPTION);
-        firstDonation.setAmount(AMOUNT);
-
-        List<DonationEntity> donations = List.of(firstDonation);
-
-        UserEntity responsibleUser = new UserEntity();
-        responsibleUser.setUserName(USER_NAME);
-        responsibleUser.setEmail(USER_EMAIL);
-
-        ShelterEntity shelterEntity = new ShelterEntity();
-        shelterEntity.setShelterName(SHELTER_NAME);
-        shelterEntity.setResponsibleUser(responsibleUser);
-        shelterEntity.setDonations(donations);
-
-        when(repository.findShelterEntitiesByResponsibleUser_Email(anyString()))
-                .thenReturn(Optional.of(shelterEntity));
+        when(repository.findShelterSummaryByResponsibleUserEmail(anyString()))
+                .thenReturn(Optional.of(generateShelterSummary()));
+        when(inventoryService.getInventory(SHELTER_ID)).thenReturn(List.of(new DonationDTO(DESCRIPTION, AMOUNT)));
 
         ShelterInformationResponse shelterByUserResponsibleEmail = service.findShelterByUserResponsibleEmail(USER_EMAIL);
 
-        verify(repository, times(1)).findShelterEntitiesByResponsibleUser_Email(anyString());
+        verify(repository, times(1)).findShelterSummaryByResponsibleUserEmail(anyString());
+        verify(repository, never()).findShelterEntitiesByResponsibleUser_Email(anyString());
+        verify(inventoryService, times(1)).getInventory(SHELTER_ID);
 
         assertNotNull(shelterByUserResponsibleEmail);
         assertNotNull(shelterByUserResponsibleEmail.getDonationDTOS());
@@ -520,24 +537,126 @@ class ShelterEntityServiceImplTest {
     }
 
     @Test
-    void testFindAll_When_WithPageable_ShouldReturnAPageableOfAllShelterInformationResponse(){
+    void shouldOmitDonationsWhenIncludeDonationsIsFalse() {
+        when(repository.findShelterSummaryByResponsibleUserEmail(USER_EMAIL)).thenReturn(Optional.of(generateShelterSummary()));
+
+        ShelterInformationResponse response = service.findShelterByUserResponsibleEmail(USER_EMAIL, false);
+
+        verify(repository, times(1)).findShelterSummaryByResponsibleUserEmail(USER_EMAIL);
+        verify(inventoryService, never()).getInventory(anyString());
+
+        assertNotNull(response);
+        assertEquals(SHELTER_NAME, response.getShelterName());
+        assertEquals(USER_NAME, response.getResponsibleName());
+        assertEquals(USER_EMAIL, response.getResponsibleEmail());
+        assertNull(response.getDonationDTOS());
+    }
+
+    @Test
+    void shouldReturnFirstDonationPageWithNextCursor() {
+        DonationEntity secondDonation = new DonationEntity(SECOND_DONATION_ID, "Arroz", 5);
+        DonationEntity thirdDonation = new DonationEntity(THIRD_DONATION_ID, "Feijão", 3);
+
+        when(this.repository.existsById(SHELTER_ID)).thenReturn(true);
+        when(this.donationEntityService.findShelterDonationsAfter(SHELTER_ID, "", 3))
+                .thenReturn(List.of(this.donation, secondDonation, thirdDonation));
+
+        DonationPageResponse page = this.service.findDonations(SHELTER_ID, null, 2);
+
+        verify(this.donationEntityService, times(1)).findShelterDonationsAfter(SHELTER_ID, "", 3);
+
+        assertNotNull(page);
+        assertEquals(2, page.getDonations().size());
+        assertEquals(DESCRIPTION, page.getDonations().get(0).getDescription());
+        assertEquals(AMOUNT, page.getDonations().get(0).getAmount());
+        assertEquals("Arroz", page.getDonations().get(1).getDescription());
+        assertEquals(SECOND_DONATION_ID, CursorUtils.decode(page.getNextCursor()));
+    }
 
-        DonationEntity firstDonation = new DonationEntity();
-        firstDonation.setDescription(DESCRIPTION);
-        firstDonation.setAmount(AMOUNT);
+    @Test
+    void shouldReturnLastDonationPageWithoutNextCursor() {
+        DonationEntity thirdDonation = new DonationEntity(THIRD_DONATION_ID, "Feijão", 3);
+
+        when(this.repository.existsById(SHELTER_ID)).thenReturn(true);
+        when(this.donationEntityService.findShelterDonationsAfter(SHELTER_ID, SECOND_DONATION_ID, 3))
+                .thenReturn(List.of(thirdDonation));
+
+        DonationPageResponse page = this.service.findDonations(SHELTER_ID, CursorUtils.encode(SECOND_DONATION_ID), 2);
 
-        List<DonationEntity> donations = List.of(firstDonation);
+        assertNotNull(page);
+        assertEquals(1, page.getDonations().size());
+        assertEquals("Feijão", page.getDonations().get(0).getDescription());
+        assertNull(page.getNextCursor());
+    }
 
-        ShelterEntity shelterEntity = generateShelterEntity();
-        shelterEntity.setDonations(donations);
+    @Test
+    void shouldUseDefaultAndMaximumDonationPageSize() {
+        when(this.repository.existsById(SHELTER_ID)).thenReturn(true);
+        when(this.donationEntityService.findShelterDonationsAfter(eq(SHELTER_ID), eq(""), anyInt())).thenReturn(List.of());
 
-        List<ShelterEntity> shelterEntityList = List.of(shelterEntity);
+        this.service.findDonations(SHELTER_ID, null, null);
+        this.service.findDonations(SHELTER_ID, "", 1000);
 
-        when(repository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(shelterEntityList));
+        verify(this.donationEntityService, times(1))
+                .findShelterDonationsAfter(SHELTER_ID, "", ShelterEntityServiceImpl.DEFAULT_PAGE_SIZE + 1);
+        verify(this.donationEntityService, times(1))
+                .findShelterDonationsAfter(SHELTER_ID, "", ShelterEntityServiceImpl.MAX_PAGE_SIZE + 1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"%%%", "bm90LWEtdXVpZA"})
+    void shouldThrowShelterEntityFailuresExceptionWhenDonationCursorIsInvalid(String cursor) {
+        when(this.repository.existsById(SHELTER_ID)).thenReturn(true);
+
+        ShelterEntityFailuresException exception = assertThrows(ShelterEntityFailuresException.class,
+                () -> this.service.findDonations(SHELTER_ID, cursor, 2));
+
+        verify(this.donationEntityService, never()).findShelterDonationsAfter(anyString(), anyString(), anyInt());
+
+        assertNotNull(exception);
+        assertEquals(ExceptionDetails.getExceptionDetails(ShelterEntityServiceImpl.INVALID_PAGINATION_CURSOR).formatErrorMessage(), exception.getMessage());
+        assertNotNull(exception.getCause());
+    }
+
+    @Test
+    void shouldThrowShelterEntityFailuresExceptionWhenShelterOfDonationListingIsNotFound() {
+        when(this.repository.existsById(SHELTER_ID)).thenReturn(false);
+
+        ShelterEntityFailuresException exception = assertThrows(ShelterEntityFailuresException.class,
+                () -> this.service.findDonations(SHELTER_ID, null, 2));
+
+        verify(this.donationEntityService, never()).findShelterDonationsAfter(anyString(), anyString(), anyInt());
+
+        assertNotNull(exception);
+        assertEquals(ExceptionDetails.getExceptionDetails(ShelterEntityServiceImpl.SHELTER_NOT_FOUND).formatErrorMessage(SHELTER_ID), exception.getMessage());
+        assertNull(exception.getCause());
+    }
+
+    @Test
+    void shouldThrowShelterEntityFailuresExceptionWhenShelterIdOfDonationListingIsInvalid() {
+        String invalidId = "id-invalido";
+
+        ShelterEntityFailuresException exception = assertThrows(ShelterEntityFailuresException.class,
+                () -> this.service.findDonations(invalidId, null, 2));
+
+        verify(this.repository, never()).existsById(anyString());
+
+        assertNotNull(exception);
+        assertEquals(ExceptionDetails.getExceptionDetails(ShelterEntityServiceImpl.INVALID_UUID_FORMAT_MESSAGE).formatErrorMessage(invalidId), exception.getMessage());
+        assertNotNull(exception.getCause());
+    }
+
+    @Test
+    void testFindAll_When_WithPageable_ShouldReturnAPageableOfAllShelterInformationResponse(){
+        when(repository.findShelterSummaries(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(generateShelterSummary())));
+        when(inventoryService.getInventories(List.of(SHELTER_ID))).thenReturn(Map.of(SHELTER_ID, List.of(new DonationDTO(DESCRIPTION, AMOUNT))));
 
         Page<ShelterInformationResponse> allShelters = service.findAll(PageRequest.of(0, 10));
 
-        verify(repository,times(1)).findAll(any(Pageable.class));
+        verify(repository, times(1)).findShelterSummaries(any(Pageable.class));
+        verify(repository, never()).findAll(any(Pageable.class));
+        verify(inventoryService, times(1)).getInventories(List.of(SHELTER_ID));
+        verify(inventoryService, never()).getInventory(anyString());
 
         ShelterInformationResponse shelterInformationResponse = allShelters.getContent().get(0);
 
@@ -553,5 +672,66 @@ class ShelterEntityServiceImplTest {
 
     }
 
+    @Test
+    void shouldReturnEmptyShelterPageWithoutReadingInventories() {
+        when(this.repository.findShelterSummaries(any(Pageable.class))).thenReturn(Page.empty());
+
+        Page<ShelterInformationResponse> allShelters = this.service.findAll(PageRequest.of(3, 10));
+
+        assertTrue(allShelters.getContent().isEmpty());
+        verify(this.inventoryService, never()).getInventories(anyList());
+    }
+
+    @Test
+    void shouldReturnShelterPageWithNextCursorWithoutCounting() {
+        ShelterSummaryDTO secondShelter = new ShelterSummaryDTO(SECOND_DONATION_ID, SHELTER_NAME, USER_NAME, USER_EMAIL);
+        ShelterSummaryDTO thirdShelter = new ShelterSummaryDTO(THIRD_DONATION_ID, SHELTER_NAME, USER_NAME, USER_EMAIL);
+
+        when(this.repository.findShelterSummariesAfter("", 3)).thenReturn(List.of(generateShelterSummary(), secondShelter, thirdShelter));
+        when(this.inventoryService.getInventories(List.of(SHELTER_ID, SECOND_DONATION_ID)))
+                .thenReturn(Map.of(SHELTER_ID, List.of(new DonationDTO(DESCRIPTION, AMOUNT)), SECOND_DONATION_ID, List.of()));
+
+        ShelterPageResponse page = this.service.findAllAfter(null, 2);
+
+        verify(this.repository, times(1)).findShelterSummariesAfter("", 3);
+        verify(this.repository, never()).findShelterSummaries(any(Pageable.class));
+        verify(this.repository, never()).count();
+        verify(this.inventoryService, times(1)).getInventories(List.of(SHELTER_ID, SECOND_DONATION_ID));
+
+        assertNotNull(page);
+        assertEquals(2, page.getShelters().size());
+        assertEquals(SHELTER_NAME, page.getShelters().get(0).getShelterName());
+        assertEquals(USER_EMAIL, page.getShelters().get(0).getResponsibleEmail());
+        assertEquals(DESCRIPTION, page.getShelters().get(0).getDonationDTOS().get(0).getDescription());
+        assertTrue(page.getShelters().get(1).getDonationDTOS().isEmpty());
+        assertEquals(SECOND_DONATION_ID, CursorUtils.decode(page.getNextCursor()));
+    }
+
+    @Test
+    void shouldReturnLastShelterPageWithoutNextCursor() {
+        when(this.repository.findShelterSummariesAfter(SHELTER_ID, ShelterEntityServiceImpl.DEFAULT_PAGE_SIZE + 1))
+                .thenReturn(List.of(generateShelterSummary()));
+
+        ShelterPageResponse page = this.service.findAllAfter(CursorUtils.encode(SHELTER_ID), null);
+
+        assertNotNull(page);
+        assertEquals(1, page.getShelters().size());
+        assertTrue(page.getShelters().get(0).getDonationDTOS().isEmpty());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void shouldThrowShelterEntityFailuresExceptionWhenShelterCursorIsInvalid() {
+        String cursor = "%%%";
+
+        ShelterEntityFailuresException exception = assertThrows(ShelterEntityFailuresException.class,
+                () -> this.service.findAllAfter(cursor, 2));
+
+        verify(this.repository, never()).findShelterSummariesAfter(anyString(), anyInt());
+
+        assertNotNull(exception);
+        assertEquals(ExceptionDetails.getExceptionDetails(ShelterEntityServiceImpl.INVALID_PAGINATION_CURSOR).formatErrorMessage(), exception.getMessage());
+        assertNotNull(exception.getCause());
+    }
 
 }
@@ -0,0 +1,166 @@
+package diegosneves.github.conectardoacoes.adapters.rest.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import diegosneves.github.conectardoacoes.adapters.rest.enums.ExportFormat;
+import diegosneves.github.conectardoacoes.adapters.rest.model.AddressEntity;
+import diegosneves.github.conectardoacoes.adapters.rest.model.DonationEntity;
+import diegosneves.github.conectardoacoes.adapters.rest.model.ShelterEntity;
+import diegosneves.github.conectardoacoes.adapters.rest.model.UserEntity;
+import diegosneves.github.conectardoacoes.adapters.rest.repository.ShelterRepository;
+import jakarta.persistence.EntityManager;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+class ShelterExportServiceImplTest {
+
+    public static final String SHELTER_ID = "1229ed8f-76d3-4fbd-a9ed-8f76d3ffbdf5";
+    public static final String SHELTER_NAME = "Abrigo";
+    public static final String EMPTY_SHELTER_ID = "b7a89acb-c03f-4f87-a89a-cbc03fef8755";
+    public static final String EMPTY_SHELTER_NAME = "Abrigo, Centro";
+
+    public static final String USER_NAME = "Fulano";
+    public static final String USER_EMAIL = "email@email.com";
+
+    public static final String FIRST_DONATION_ID = "b6d38f1a-22a2-4d49-938f-1a22a22d4966";
+    public static final String SECOND_DONATION_ID = "ca73cd2e-7e50-42ea-b3cd-2e7e5022ea72";
+
+
+    private ShelterExportServiceImpl service;
+
+    @Mock
+    private ShelterRepository repository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private ShelterEntity shelterWithDonations;
+    private ShelterEntity shelterWithoutDonations;
+    private UserEntity user;
+    private AddressEntity address;
+
+    @BeforeEach
+    void setUp() {
+        this.service = new ShelterExportServiceImpl(this.repository, this.entityManager, new ObjectMapper());
+
+        this.user = UserEntity.builder().userName(USER_NAME).email(USER_EMAIL).build();
+        this.address = AddressEntity.builder().build();
+
+        List<DonationEntity> donations = new ArrayList<>();
+        donations.add(new DonationEntity(FIRST_DONATION_ID, "Água", 2));
+        donations.add(new DonationEntity(SECOND_DONATION_ID, "Roupa \"infantil\"", 3));
+
+        this.shelterWithDonations = ShelterEntity.builder()
+                .id(SHELTER_ID)
+                .shelterName(SHELTER_NAME)
+                .address(this.address)
+                .responsibleUser(this.user)
+                .donations(donations)
+                .build();
+
+        this.shelterWithoutDonations = ShelterEntity.builder()
+                .id(EMPTY_SHELTER_ID)
+                .shelterName(EMPTY_SHELTER_NAME)
+                .responsibleUser(this.user)
+                .donations(new ArrayList<>())
+                .build();
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldExportOneJsonObjectPerShelter() {
+        when(this.repository.streamAllForExport()).thenReturn(Stream.of(this.shelterWithDonations, this.shelterWithoutDonations));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        this.service.exportShelters(ExportFormat.NDJSON, outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals(SHELTER_NAME, first.get("shelterName").asText());
+        assertEquals(USER_EMAIL, first.get("responsibleEmail").asText());
+        assertEquals(2, first.get("donationDTOS").size());
+        assertEquals("Água", first.get("donationDTOS").get(0).get("description").asText());
+
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertEquals(EMPTY_SHELTER_NAME, second.get("shelterName").asText());
+        assertEquals(0, second.get("donationDTOS").size());
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldExportOneCsvRowPerDonationEscapingValues() {
+        when(this.repository.streamAllForExport()).thenReturn(Stream.of(this.shelterWithDonations, this.shelterWithoutDonations));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        this.service.exportShelters(ExportFormat.CSV, outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(4, lines.length);
+        assertEquals(ShelterExportServiceImpl.CSV_HEADER, lines[0]);
+        assertEquals(SHELTER_ID + ",Abrigo,Fulano,email@email.com,Água,2", lines[1]);
+        assertEquals(SHELTER_ID + ",Abrigo,Fulano,email@email.com,\"Roupa \"\"infantil\"\"\",3", lines[2]);
+        assertEquals(EMPTY_SHELTER_ID + ",\"Abrigo, Centro\",Fulano,email@email.com,,", lines[3]);
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldDetachEachExportedShelterAndCloseTheStream() {
+        AtomicBoolean closed = new AtomicBoolean(false);
+        when(this.repository.streamAllForExport()).thenReturn(Stream.of(this.shelterWithDonations).onClose(() -> closed.set(true)));
+
+        this.service.exportShelters(ExportFormat.NDJSON, new ByteArrayOutputStream());
+
+        verify(this.entityManager, times(1)).detach(this.shelterWithDonations);
+        verify(this.entityManager, times(1)).detach(this.shelterWithDonations.getDonations().get(0));
+        verify(this.entityManager, times(1)).detach(this.shelterWithDonations.getDonations().get(1));
+        verify(this.entityManager, times(1)).detach(this.address);
+        verify(this.entityManager, times(1)).detach(this.user);
+        verify(this.repository, times(1)).findAllWithDonationsByIdIn(List.of(SHELTER_ID));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldLoadDonationsOncePerChunkOfShelters() {
+        List<ShelterEntity> shelters = new ArrayList<>();
+        for (int i = 0; i <= ShelterExportServiceImpl.EXPORT_CHUNK_SIZE; i++) {
+            shelters.add(ShelterEntity.builder().id(String.valueOf(i)).shelterName(SHELTER_NAME).donations(new ArrayList<>()).build());
+        }
+        when(this.repository.streamAllForExport()).thenReturn(shelters.stream());
+
+        this.service.exportShelters(ExportFormat.CSV, new ByteArrayOutputStream());
+
+        verify(this.repository, times(1)).findAllWithDonationsByIdIn(shelters.subList(0, ShelterExportServiceImpl.EXPORT_CHUNK_SIZE).stream().map(ShelterEntity::getId).toList());
+        verify(this.repository, times(1)).findAllWithDonationsByIdIn(List.of(String.valueOf(ShelterExportServiceImpl.EXPORT_CHUNK_SIZE)));
+    }
+
+    @Test
+    void shouldEscapeCsvValues() {
+        assertEquals("", ShelterExportServiceImpl.escapeCsv(null));
+        assertEquals("Abrigo", ShelterExportServiceImpl.escapeCsv("Abrigo"));
+        assertEquals("\"a,b\"", ShelterExportServiceImpl.escapeCsv("a,b"));
+        assertEquals("\"linha\nquebrada\"", ShelterExportServiceImpl.escapeCsv("linha\nquebrada"));
+    }
+
+}
@@ -0,0 +1,107 @@
+package diegosneves.github.conectardoacoes.adapters.rest.service.impl;
+
+import diegosneves.github.conectardoacoes.adapters.rest.dto.DonationDTO;
+import diegosneves.github.conectardoacoes.adapters.rest.model.ShelterInventoryEntity;
+import diegosneves.github.conectardoacoes.adapters.rest.model.converter.UuidBinaryConverter;
+import diegosneves.github.conectardoacoes.adapters.rest.repository.ShelterInventoryRepository;
+import diegosneves.github.conectardoacoes.core.domain.shelter.entity.value.Donation;
+import diegosneves.github.conectardoacoes.core.utils.UuidUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Doações concorrentes para o mesmo abrigo, cada uma em sua própria transação confirmada no banco, disputando o
+ * incremento de um item existente e a criação do mesmo item novo.
+ */
+@DataJpaTest
+@ExtendWith(SpringExtension.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ShelterInventoryServiceImplConcurrencyIntegrationTest {
+
+    public static final String SHELTER_ID = "1229ed8f-76d3-4fbd-a9ed-8f76d3ffbdf5";
+    public static final String WATER = "Água";
+    public static final String RICE = "Arroz";
+    public static final int PREVIOUS_WATER = 5;
+    public static final int DONORS = 8;
+    public static final String INSERT_SHELTER = "INSERT INTO shelters (id, shelter_name) VALUES (?, ?)";
+    public static final String DELETE_SHELTER = "DELETE FROM shelters WHERE id = ?";
+    public static final String SHELTER_NAME = "Abrigo";
+
+    @Autowired
+    private ShelterInventoryRepository inventoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ShelterInventoryServiceImpl inventoryService;
+    private TransactionTemplate transactionTemplate;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        this.inventoryService = new ShelterInventoryServiceImpl(this.inventoryRepository);
+        this.transactionTemplate = new TransactionTemplate(this.transactionManager);
+        this.executor = Executors.newFixedThreadPool(DONORS);
+        this.jdbcTemplate.update(INSERT_SHELTER, UuidBinaryConverter.toBytes(SHELTER_ID), SHELTER_NAME);
+        this.inventoryRepository.addToItems(List.of(new ShelterInventoryEntity(UuidUtils.generateTimeOrderedUuid(), SHELTER_ID,
+                ShelterInventoryServiceImpl.normalizeItemKey(WATER), WATER, PREVIOUS_WATER)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.executor.shutdownNow();
+        this.jdbcTemplate.update(DELETE_SHELTER, (Object) UuidBinaryConverter.toBytes(SHELTER_ID));
+    }
+
+    @Test
+    void shouldSumEveryConcurrentDonationWithoutLosingUpdates() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> donations = new ArrayList<>();
+        for (int i = 0; i < DONORS; i++) {
+            donations.add(this.executor.submit(() -> {
+                start.await();
+                this.transactionTemplate.executeWithoutResult(status -> this.inventoryService.registerDonations(SHELTER_ID, List.of(
+                        new Donation(UuidUtils.generateUuid(), WATER, 1),
+                        new Donation(UuidUtils.generateUuid(), RICE, 2))));
+                return null;
+            }));
+        }
+        start.countDown();
+
+        for (Future<?> donation : donations) {
+            donation.get(30, TimeUnit.SECONDS);
+        }
+
+        List<DonationDTO> inventory = this.inventoryService.getInventory(SHELTER_ID);
+
+        assertEquals(2, inventory.size());
+        assertEquals(RICE, inventory.get(0).getDescription());
+        assertEquals(DONORS * 2, inventory.get(0).getAmount());
+        assertEquals(WATER, inventory.get(1).getDescription());
+        assertEquals(PREVIOUS_WATER + DONORS, inventory.get(1).getAmount());
+    }
+
+}
@@ -0,0 +1,234 @@
+package diegosneves.github.conectardoacoes.adapters.rest.service.impl;
+
+import diegosneves.github.conectardoacoes.adapters.rest.dto.DonationDTO;
+import diegosneves.github.conectardoacoes.adapters.rest.enums.ExceptionDetails;
+import diegosneves.github.conectardoacoes.adapters.rest.exception.ShelterEntityFailuresException;
+import diegosneves.github.conectardoacoes.adapters.rest.model.ShelterEntity;
+import diegosneves.github.conectardoacoes.adapters.rest.model.ShelterInventoryEntity;
+import diegosneves.github.conectardoacoes.adapters.rest.repository.ShelterInventoryRepository;
+import diegosneves.github.conectardoacoes.core.domain.shelter.entity.value.Donation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+class ShelterInventoryServiceImplTest {
+
+    public static final String SHELTER_ID = "1229ed8f-76d3-4fbd-a9ed-8f76d3ffbdf5";
+    public static final String SHELTER_NAME = "Abrigo";
+    public static final String OTHER_SHELTER_ID = "574371b9-ae17-4f07-8371-b9ae175f0721";
+    public static final String EMPTY_SHELTER_ID = "8b3ae36c-5bd4-4c4a-bae3-6c5bd44c4a6e";
+
+    public static final String FIRST_DONATION_ID = "b6d38f1a-22a2-4d49-938f-1a22a22d4966";
+    public static final String SECOND_DONATION_ID = "ca73cd2e-7e50-42ea-b3cd-2e7e5022ea72";
+    public static final String THIRD_DONATION_ID = "bf9b8d38-c6b3-4fd6-9b8d-38c6b3bfd69f";
+
+    public static final String WATER = "Água";
+    public static final String WATER_KEY = "agua";
+    public static final String RICE = "Arroz";
+    public static final String RICE_KEY = "arroz";
+
+
+    @InjectMocks
+    private ShelterInventoryServiceImpl service;
+
+    @Mock
+    private ShelterInventoryRepository repository;
+
+    @Captor
+    private ArgumentCaptor<List<ShelterInventoryEntity>> inventoryCaptor;
+
+    private ShelterEntity shelterEntity;
+
+    @BeforeEach
+    void setUp() {
+        this.shelterEntity = ShelterEntity.builder()
+                .id(SHELTER_ID)
+                .shelterName(SHELTER_NAME)
+                .donations(new ArrayList<>())
+                .build();
+    }
+
+    @Test
+    void shouldIncrementExistingItemsAndCreateOnlyTheMissingOnes() {
+        List<Donation> donations = List.of(
+                new Donation(FIRST_DONATION_ID, WATER, 2),
+                new Donation(SECOND_DONATION_ID, " agua ", 3),
+                new Donation(THIRD_DONATION_ID, RICE, 4));
+
+        this.service.registerDonations(this.shelterEntity, donations);
+
+        verify(this.repository, times(1)).addToItems(this.inventoryCaptor.capture());
+        verify(this.repository, never()).save(any(ShelterInventoryEntity.class));
+
+        List<ShelterInventoryEntity> items = this.inventoryCaptor.getValue();
+        assertEquals(2, items.size());
+
+        ShelterInventoryEntity water = items.get(0);
+        assertNotNull(water.getId());
+        assertEquals(SHELTER_ID, water.getShelterId());
+        assertEquals(WATER_KEY, water.getItemKey());
+        assertEquals(WATER, water.getDescription());
+        assertEquals(5, water.getAmount());
+
+        ShelterInventoryEntity rice = items.get(1);
+        assertNotNull(rice.getId());
+        assertEquals(RICE_KEY, rice.getItemKey());
+        assertEquals(RICE, rice.getDescription());
+        assertEquals(4, rice.getAmount());
+    }
+
+    @Test
+    void shouldSendItemsInASingleBatchOrderedByItemKey() {
+        this.service.registerDonations(SHELTER_ID, List.of(
+                new Donation(FIRST_DONATION_ID, RICE, 1),
+                new Donation(SECOND_DONATION_ID, WATER, 2)));
+
+        verify(this.repository, times(1)).addToItems(this.inventoryCaptor.capture());
+        assertEquals(List.of(WATER_KEY, RICE_KEY), this.inventoryCaptor.getValue().stream().map(ShelterInventoryEntity::getItemKey).toList());
+    }
+
+    @Test
+    void shouldReturnInventoryItemsAsDonationDTOs() {
+        List<ShelterInventoryEntity> inventory = List.of(
+                new ShelterInventoryEntity(FIRST_DONATION_ID, SHELTER_ID, WATER_KEY, WATER, 120),
+                new ShelterInventoryEntity(SECOND_DONATION_ID, SHELTER_ID, RICE_KEY, RICE, 40));
+
+        when(this.repository.findAllByShelterIdOrderByDescriptionAsc(SHELTER_ID)).thenReturn(inventory);
+
+        List<DonationDTO> actual = this.service.getInventory(this.shelterEntity);
+
+        verify(this.repository, never()).saveAll(anyList());
+
+        assertEquals(2, actual.size());
+        assertEquals(WATER, actual.get(0).getDescription());
+        assertEquals(120, actual.get(0).getAmount());
+        assertEquals(RICE, actual.get(1).getDescription());
+        assertEquals(40, actual.get(1).getAmount());
+    }
+
+    @Test
+    void shouldReturnEmptyInventoryWhenShelterHasNoDonations() {
+        when(this.repository.findAllByShelterIdOrderByDescriptionAsc(SHELTER_ID)).thenReturn(List.of());
+
+        List<DonationDTO> actual = this.service.getInventory(this.shelterEntity);
+
+        verify(this.repository, never()).saveAll(anyList());
+
+        assertNotNull(actual);
+        assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    void shouldThrowShelterEntityFailuresExceptionWhenShelterIsNull() {
+
+        ShelterEntityFailuresException exception = assertThrows(ShelterEntityFailuresException.class,
+                () -> this.service.registerDonations((ShelterEntity) null, List.of()));
+
+        verify(this.repository, never()).addToItems(anyList());
+
+        assertNotNull(exception);
+        assertEquals(ExceptionDetails.getExceptionDetails(ShelterInventoryServiceImpl.SHELTER_ERROR_MESSAGE).formatErrorMessage(), exception.getMessage());
+        assertNull(exception.getCause());
+    }
+
+    @Test
+    void shouldRegisterDonationsByShelterIdWithoutReadingTheInventory() {
+        this.service.registerDonations(SHELTER_ID, List.of(new Donation(FIRST_DONATION_ID, WATER, 2)));
+
+        verify(this.repository, times(1)).addToItems(anyList());
+        verify(this.repository, never()).findAllByShelterIdOrderByDescriptionAsc(anyString());
+    }
+
+    @Test
+    void shouldReturnInventoryByShelterIdWithoutLoadingDonations() {
+        when(this.repository.findAllByShelterIdOrderByDescriptionAsc(SHELTER_ID))
+                .thenReturn(List.of(new ShelterInventoryEntity(FIRST_DONATION_ID, SHELTER_ID, WATER_KEY, WATER, 120)));
+
+        List<DonationDTO> actual = this.service.getInventory(SHELTER_ID);
+
+        assertEquals(1, actual.size());
+        assertEquals(WATER, actual.get(0).getDescription());
+        assertEquals(120, actual.get(0).getAmount());
+    }
+
+    @Test
+    void shouldThrowShelterEntityFailuresExceptionWhenShelterIdIsNull() {
+        String shelterId = null;
+
+        ShelterEntityFailuresException exception = assertThrows(ShelterEntityFailuresException.class,
+                () -> this.service.getInventory(shelterId));
+
+        verify(this.repository, never()).findAllByShelterIdOrderByDescriptionAsc(anyString());
+
+        assertEquals(ExceptionDetails.getExceptionDetails(ShelterInventoryServiceImpl.SHELTER_ERROR_MESSAGE).formatErrorMessage(), exception.getMessage());
+    }
+
+    @Test
+    void shouldReturnInventoriesOfSeveralSheltersInASingleQuery() {
+        when(this.repository.findAllByShelterIdInOrderByDescriptionAsc(List.of(SHELTER_ID, OTHER_SHELTER_ID, EMPTY_SHELTER_ID)))
+                .thenReturn(List.of(
+                        new ShelterInventoryEntity(FIRST_DONATION_ID, OTHER_SHELTER_ID, RICE_KEY, RICE, 15),
+                        new ShelterInventoryEntity(SECOND_DONATION_ID, SHELTER_ID, WATER_KEY, WATER, 120),
+                        new ShelterInventoryEntity(THIRD_DONATION_ID, OTHER_SHELTER_ID, WATER_KEY, WATER, 2)));
+
+        Map<String, List<DonationDTO>> actual = this.service.getInventories(List.of(SHELTER_ID, OTHER_SHELTER_ID, EMPTY_SHELTER_ID));
+
+        verify(this.repository, never()).findAllByShelterIdOrderByDescriptionAsc(anyString());
+
+        assertEquals(3, actual.size());
+        assertEquals(1, actual.get(SHELTER_ID).size());
+        assertEquals(120, actual.get(SHELTER_ID).get(0).getAmount());
+        assertEquals(2, actual.get(OTHER_SHELTER_ID).size());
+        assertEquals(RICE, actual.get(OTHER_SHELTER_ID).get(0).getDescription());
+        assertEquals(15, actual.get(OTHER_SHELTER_ID).get(0).getAmount());
+        assertEquals(WATER, actual.get(OTHER_SHELTER_ID).get(1).getDescription());
+        assertEquals(2, actual.get(OTHER_SHELTER_ID).get(1).getAmount());
+        assertTrue(actual.get(EMPTY_SHELTER_ID).isEmpty());
+    }
+
+    @Test
+    void shouldReturnNoInventoriesWithoutQueryingWhenNoShelterIsInformed() {
+        assertTrue(this.service.getInventories(List.of()).isEmpty());
+
+        verify(this.repository, never()).findAllByShelterIdInOrderByDescriptionAsc(anyCollection());
+    }
+
+    @Test
+    void shouldThrowShelterEntityFailuresExceptionWhenShelterIdsAreNull() {
+        ShelterEntityFailuresException exception = assertThrows(ShelterEntityFailuresException.class, () -> this.service.getInventories(null));
+
+        assertEquals(ExceptionDetails.getExceptionDetails(ShelterInventoryServiceImpl.SHELTER_ERROR_MESSAGE).formatErrorMessage(), exception.getMessage());
+    }
+
+    @Test
+    void shouldNormalizeDescriptionIgnoringAccentsCaseAndExtraSpaces() {
+        assertEquals("arroz integral", ShelterInventoryServiceImpl.normalizeItemKey("  Arroz   INTEGRAL "));
+        assertEquals(WATER_KEY, ShelterInventoryServiceImpl.normalizeItemKey("ÁGUA"));
+        assertEquals(ShelterInventoryServiceImpl.normalizeItemKey(WATER), ShelterInventoryServiceImpl.normalizeItemKey(" agua"));
+    }
+
+}
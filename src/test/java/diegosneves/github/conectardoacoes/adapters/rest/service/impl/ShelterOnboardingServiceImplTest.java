@@ -0,0 +1,246 @@
+package diegosneves.github.conectardoacoes.adapters.rest.service.impl;
+
+import diegosneves.github.conectardoacoes.adapters.rest.dto.AddressDTO;
+import diegosneves.github.conectardoacoes.adapters.rest.enums.ExceptionDetails;
+import diegosneves.github.conectardoacoes.adapters.rest.enums.ShelterOnboardingStatus;
+import diegosneves.github.conectardoacoes.adapters.rest.enums.UserProfileType;
+import diegosneves.github.conectardoacoes.adapters.rest.exception.ShelterEntityFailuresException;
+import diegosneves.github.conectardoacoes.adapters.rest.model.ShelterEntity;
+import diegosneves.github.conectardoacoes.adapters.rest.model.UserEntity;
+import diegosneves.github.conectardoacoes.adapters.rest.repository.ShelterRepository;
+import diegosneves.github.conectardoacoes.adapters.rest.repository.UserRepository;
+import diegosneves.github.conectardoacoes.adapters.rest.request.ShelterCreationRequest;
+import diegosneves.github.conectardoacoes.adapters.rest.response.ShelterOnboardingItemResponse;
+import diegosneves.github.conectardoacoes.adapters.rest.response.ShelterOnboardingResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+class ShelterOnboardingServiceImplTest {
+
+    public static final String SHELTER_NAME = "Abrigo";
+    public static final String USER_PASSWORD = "Senha";
+
+    public static final String FIRST_USER_ID = "574371b9-ae17-4f07-8371-b9ae175f0721";
+    public static final String FIRST_USER_EMAIL = "primeiro@teste.com";
+    public static final String SECOND_USER_ID = "0ea4bb31-6ef3-4c95-8de1-1fce0c5e7b2d";
+    public static final String SECOND_USER_EMAIL = "segundo@teste.com";
+    public static final String DONOR_USER_ID = "9f3928bc-3985-4035-b928-bc3985f035c9";
+    public static final String DONOR_USER_EMAIL = "doador@teste.com";
+    public static final String IN_USE_USER_ID = "b7a89acb-c03f-4f87-a89a-cbc03fef8755";
+    public static final String IN_USE_USER_EMAIL = "ocupado@teste.com";
+    public static final String UNKNOWN_USER_EMAIL = "desconhecido@teste.com";
+
+    public static final String STREET = "Rua";
+    public static final String NUMBER = "123";
+    public static final String NEIGHBORHOOD = "Bairro";
+    public static final String CITY = "Cidade";
+    public static final String STATE = "Estado";
+    public static final String ZIP = "92123456";
+
+
+    private ShelterOnboardingServiceImpl service;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ShelterRepository shelterRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Captor
+    private ArgumentCaptor<List<ShelterEntity>> sheltersCaptor;
+
+    private AddressDTO address;
+
+    @BeforeEach
+    void setUp() {
+        this.service = new ShelterOnboardingServiceImpl(this.userRepository, this.shelterRepository, this.transactionManager);
+        this.address = AddressDTO.builder()
+                .street(STREET)
+                .number(NUMBER)
+                .neighborhood(NEIGHBORHOOD)
+                .city(CITY)
+                .state(STATE)
+                .zip(ZIP)
+                .build();
+
+        when(this.userRepository.findAllByEmailIn(anyCollection())).thenReturn(List.of(
+                user(FIRST_USER_ID, FIRST_USER_EMAIL, UserProfileType.BENEFICIARY),
+                user(SECOND_USER_ID, SECOND_USER_EMAIL, UserProfileType.BENEFICIARY),
+                user(DONOR_USER_ID, DONOR_USER_EMAIL, UserProfileType.DONOR),
+                user(IN_USE_USER_ID, IN_USE_USER_EMAIL, UserProfileType.BENEFICIARY)));
+        when(this.shelterRepository.findResponsibleUserEmailsIn(anyCollection())).thenReturn(List.of(IN_USE_USER_EMAIL));
+    }
+
+    private static UserEntity user(String id, String email, UserProfileType profile) {
+        return UserEntity.builder()
+                .id(id)
+                .userName(SHELTER_NAME)
+                .email(email)
+                .userProfile(profile)
+                .userPassword(USER_PASSWORD)
+                .build();
+    }
+
+    private ShelterCreationRequest request(String email) {
+        return new ShelterCreationRequest(SHELTER_NAME, this.address, email);
+    }
+
+    @Test
+    void shouldCreateAllValidSheltersWithASingleInsert() {
+        ShelterOnboardingResponse response = this.service.createShelters(List.of(request(FIRST_USER_EMAIL), request(SECOND_USER_EMAIL)));
+
+        assertEquals(2, response.getCreated());
+        assertEquals(0, response.getFailed());
+        assertEquals(2, response.getResults().size());
+
+        ShelterOnboardingItemResponse first = response.getResults().get(0);
+        assertEquals(0, first.getIndex());
+        assertEquals(FIRST_USER_EMAIL, first.getResponsibleUserEmail());
+        assertEquals(ShelterOnboardingStatus.CREATED, first.getStatus());
+        assertNotNull(first.getShelter().getId());
+        assertEquals(SHELTER_NAME, first.getShelter().getShelterName());
+        assertEquals(ZIP, first.getShelter().getAddress().getZip());
+        assertEquals(FIRST_USER_ID, first.getShelter().getResponsibleUser().getId());
+        assertNull(first.getMessage());
+
+        verify(this.userRepository, times(1)).findAllByEmailIn(anyCollection());
+        verify(this.shelterRepository, times(1)).findResponsibleUserEmailsIn(anyCollection());
+
+        verify(this.shelterRepository, times(1)).insertAll(this.sheltersCaptor.capture());
+        List<ShelterEntity> inserted = this.sheltersCaptor.getValue();
+        assertEquals(2, inserted.size());
+        assertEquals(first.getShelter().getId(), inserted.get(0).getId());
+        assertNotNull(inserted.get(0).getAddress());
+        assertEquals(FIRST_USER_ID, inserted.get(0).getResponsibleUser().getId());
+    }
+
+    @Test
+    void shouldReportEachInvalidRequestWithoutInterruptingTheBatch() {
+        List<ShelterCreationRequest> requests = Arrays.asList(
+                request(FIRST_USER_EMAIL),
+                request(UNKNOWN_USER_EMAIL),
+                request(DONOR_USER_EMAIL),
+                request(IN_USE_USER_EMAIL),
+                request(FIRST_USER_EMAIL),
+                new ShelterCreationRequest(SHELTER_NAME, null, SECOND_USER_EMAIL),
+                null);
+
+        ShelterOnboardingResponse response = this.service.createShelters(requests);
+
+        assertEquals(1, response.getCreated());
+        assertEquals(6, response.getFailed());
+        List<ShelterOnboardingItemResponse> results = response.getResults();
+        assertEquals(ShelterOnboardingStatus.CREATED, results.get(0).getStatus());
+        assertFailure(results.get(1), 1, ShelterOnboardingServiceImpl.USER_RESPONSIBLE_EMAIL_NOT_FOUND_ERROR);
+        assertFailure(results.get(2), 2, ShelterOnboardingServiceImpl.RESPONSIBLE_USER_PROFILE_INVALID);
+        assertFailure(results.get(3), 3, ShelterOnboardingServiceImpl.RESPONSIBLE_USER_ALREADY_IN_USE);
+        assertFailure(results.get(4), 4, ShelterOnboardingServiceImpl.RESPONSIBLE_USER_ALREADY_IN_USE);
+        assertFailure(results.get(5), 5, ShelterOnboardingServiceImpl.ADDRESS_CREATION_ERROR);
+        assertFailure(results.get(6), 6, ShelterOnboardingServiceImpl.REQUEST_VALIDATION_ERROR_MESSAGE);
+        assertNull(results.get(6).getResponsibleUserEmail());
+
+        verify(this.shelterRepository, times(1)).insertAll(this.sheltersCaptor.capture());
+        assertEquals(1, this.sheltersCaptor.getValue().size());
+    }
+
+    @Test
+    void shouldProcessBatchAgainWhenConcurrentShelterTakesResponsibleUser() {
+        doThrow(new DataIntegrityViolationException(FIRST_USER_EMAIL)).doNothing().when(this.shelterRepository).insertAll(anyList());
+        when(this.shelterRepository.findResponsibleUserEmailsIn(anyCollection()))
+                .thenReturn(List.of(IN_USE_USER_EMAIL))
+                .thenReturn(List.of(IN_USE_USER_EMAIL, FIRST_USER_EMAIL));
+
+        ShelterOnboardingResponse response = this.service.createShelters(List.of(request(FIRST_USER_EMAIL), request(SECOND_USER_EMAIL)));
+
+        assertEquals(1, response.getCreated());
+        assertEquals(1, response.getFailed());
+        assertEquals(2, response.getResults().size());
+        assertFailure(response.getResults().get(0), 0, ShelterOnboardingServiceImpl.RESPONSIBLE_USER_ALREADY_IN_USE);
+        assertEquals(ShelterOnboardingStatus.CREATED, response.getResults().get(1).getStatus());
+        verify(this.userRepository, times(2)).findAllByEmailIn(anyCollection());
+        verify(this.shelterRepository, times(2)).insertAll(this.sheltersCaptor.capture());
+        assertEquals(1, this.sheltersCaptor.getValue().size());
+        assertEquals(SECOND_USER_EMAIL, this.sheltersCaptor.getValue().get(0).getResponsibleUser().getEmail());
+    }
+
+    @Test
+    void shouldReportCreatableRequestsAsFailedWhenConflictPersists() {
+        doThrow(new DataIntegrityViolationException(FIRST_USER_EMAIL)).when(this.shelterRepository).insertAll(anyList());
+
+        ShelterOnboardingResponse response = this.service.createShelters(List.of(request(FIRST_USER_EMAIL), request(UNKNOWN_USER_EMAIL)));
+
+        assertEquals(0, response.getCreated());
+        assertEquals(2, response.getFailed());
+        assertFailure(response.getResults().get(0), 0, ShelterOnboardingServiceImpl.RESPONSIBLE_USER_ALREADY_IN_USE);
+        assertEquals(FIRST_USER_EMAIL, response.getResults().get(0).getResponsibleUserEmail());
+        assertFailure(response.getResults().get(1), 1, ShelterOnboardingServiceImpl.USER_RESPONSIBLE_EMAIL_NOT_FOUND_ERROR);
+        verify(this.shelterRepository, times(ShelterOnboardingServiceImpl.MAX_ONBOARDING_ATTEMPTS)).insertAll(anyList());
+    }
+
+    private static void assertFailure(ShelterOnboardingItemResponse result, int index, Integer term) {
+        assertEquals(index, result.getIndex());
+        assertEquals(ShelterOnboardingStatus.FAILED, result.getStatus());
+        assertNull(result.getShelter());
+        assertEquals(ExceptionDetails.getExceptionDetails(term).formatErrorMessage(), result.getMessage());
+    }
+
+    @Test
+    void shouldRejectShelterWithInvalidName() {
+        ShelterOnboardingResponse response = this.service.createShelters(List.of(new ShelterCreationRequest("", this.address, FIRST_USER_EMAIL)));
+
+        assertEquals(0, response.getCreated());
+        assertFailure(response.getResults().get(0), 0, ShelterOnboardingServiceImpl.SHELTER_CREATION_ERROR_MESSAGE);
+        verify(this.shelterRepository, never()).insertAll(anyList());
+    }
+
+    @Test
+    void shouldRejectEmptyBatch() {
+        List<ShelterCreationRequest> requests = Collections.emptyList();
+
+        ShelterEntityFailuresException exception = assertThrows(ShelterEntityFailuresException.class, () -> this.service.createShelters(requests));
+
+        assertEquals(ExceptionDetails.getExceptionDetails(ShelterOnboardingServiceImpl.SHELTER_ONBOARDING_SIZE_INVALID)
+                .formatErrorMessage(String.valueOf(ShelterOnboardingServiceImpl.MAX_ONBOARDING_SIZE)), exception.getMessage());
+        verify(this.userRepository, never()).findAllByEmailIn(anyCollection());
+    }
+
+    @Test
+    void shouldRejectBatchLargerThanTheLimit() {
+        List<ShelterCreationRequest> requests = new ArrayList<>();
+        for (int i = 0; i <= ShelterOnboardingServiceImpl.MAX_ONBOARDING_SIZE; i++) {
+            requests.add(request(FIRST_USER_EMAIL));
+        }
+
+        assertThrows(ShelterEntityFailuresException.class, () -> this.service.createShelters(requests));
+        verify(this.shelterRepository, never()).insertAll(anyList());
+    }
+
+}
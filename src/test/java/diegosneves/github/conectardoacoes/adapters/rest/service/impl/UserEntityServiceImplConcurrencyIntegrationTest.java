@@ -0,0 +1,103 @@
+package diegosneves.github.conectardoacoes.adapters.rest.service.impl;
+
+import diegosneves.github.conectardoacoes.adapters.rest.enums.ExceptionDetails;
+import diegosneves.github.conectardoacoes.adapters.rest.enums.UserProfileType;
+import diegosneves.github.conectardoacoes.adapters.rest.exception.UserEntityFailuresException;
+import diegosneves.github.conectardoacoes.adapters.rest.repository.UserRepository;
+import diegosneves.github.conectardoacoes.adapters.rest.request.UserEntityCreationRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Cadastros concorrentes com o mesmo e-mail, sem a transação de teste, para que cada inserção seja confirmada no banco.
+ */
+@DataJpaTest
+@ExtendWith(SpringExtension.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserEntityServiceImplConcurrencyIntegrationTest {
+
+    public static final String USERNAME = "Fulano";
+    public static final String USER_EMAIL = "concorrente@teste.com";
+    public static final String USER_PASSWORD = "Senha";
+    public static final int SIGNUPS = 8;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private UserEntityServiceImpl userEntityService;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        this.userEntityService = new UserEntityServiceImpl(this.userRepository);
+        this.executor = Executors.newFixedThreadPool(SIGNUPS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.executor.shutdownNow();
+        this.userRepository.deleteAll();
+    }
+
+    @Test
+    void shouldRegisterOnlyOneUserWhenSignupsWithSameEmailRace() throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> signups = new ArrayList<>();
+        for (int i = 0; i < SIGNUPS; i++) {
+            signups.add(this.executor.submit(() -> {
+                start.await();
+                return this.userEntityService.createUserEntity(UserEntityCreationRequest.builder()
+                        .userName(USERNAME)
+                        .email(USER_EMAIL)
+                        .userProfile(UserProfileType.DONOR)
+                        .userPassword(USER_PASSWORD)
+                        .build());
+            }));
+        }
+        start.countDown();
+
+        int created = 0;
+        List<Throwable> failures = new ArrayList<>();
+        for (Future<?> signup : signups) {
+            try {
+                signup.get(30, TimeUnit.SECONDS);
+                created++;
+            } catch (ExecutionException e) {
+                failures.add(e.getCause());
+            } catch (TimeoutException e) {
+                failures.add(e);
+            }
+        }
+
+        assertEquals(1, created);
+        assertEquals(SIGNUPS - 1, failures.size());
+        String expectedMessage = ExceptionDetails.getExceptionDetails(UserEntityServiceImpl.EMAIL_ALREADY_IN_USE).formatErrorMessage(USER_EMAIL);
+        failures.forEach(failure -> {
+            UserEntityFailuresException exception = assertInstanceOf(UserEntityFailuresException.class, failure);
+            assertEquals(expectedMessage, exception.getMessage());
+        });
+        assertTrue(this.userRepository.findByEmail(USER_EMAIL).isPresent());
+    }
+
+}
@@ -12,6 +12,7 @@ import diegosneves.github.conectardoacoes.core.domain.user.entity.UserContract;
 import diegosneves.github.conectardoacoes.core.domain.user.entity.value.UserProfile;
 import diegosneves.github.conectardoacoes.core.exception.UserCreationFailureException;
 import diegosneves.github.conectardoacoes.core.utils.UuidUtils;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,8 +22,10 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.sql.SQLException;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -141,12 +144,12 @@ class UserEntityServiceImplTest {
         this.userEntity.setUserProfile(UserProfileType.DONOR);
         UserContract userContract = getUserContract(UserProfile.DONOR);
         when(this.userRepository.findUserEntityByUserEmail(USER_EMAIL)).thenReturn(null);
-        when(this.userRepository.persist(any(UserContract.class))).thenReturn(userContract);
+        when(this.userRepository.persistNew(any(UserContract.class))).thenReturn(userContract);
 
         UserEntityCreatedResponse actual = this.userEntityService.createUserEntity(this.request);
 
-        verify(this.userRepository, times(1)).findUserEntityByUserEmail(USER_EMAIL);
-        verify(this.userRepository, times(1)).persist(this.userContractCaptor.capture());
+        verify(this.userRepository, never()).findUserEntityByUserEmail(anyString());
+        verify(this.userRepository, times(1)).persistNew(this.userContractCaptor.capture());
 
         assertNotNull(actual);
         UserContract captorValue = this.userContractCaptor.getValue();
@@ -169,19 +172,34 @@ class UserEntityServiceImplTest {
 
     @Test
     void shouldThrowExceptionWhenEmailAlreadyExists() {
-        UserContract userContract = this.getUserContract(UserProfile.BENEFICIARY);
-        when(this.userRepository.findUserEntityByUserEmail(USER_EMAIL)).thenReturn(userContract);
+        when(this.userRepository.persistNew(any(UserContract.class))).thenThrow(integrityViolation(UserEntity.EMAIL_UNIQUE_CONSTRAINT));
 
         UserEntityFailuresException exception = assertThrows(UserEntityFailuresException.class, () -> this.userEntityService.createUserEntity(this.request));
 
-        verify(this.userRepository, times(1)).findUserEntityByUserEmail(USER_EMAIL);
-        verify(this.userRepository, never()).save(any(UserEntity.class));
+        verify(this.userRepository, never()).findUserEntityByUserEmail(anyString());
+        verify(this.userRepository, times(1)).persistNew(any(UserContract.class));
 
         assertNotNull(exception);
         assertEquals(ExceptionDetails.getExceptionDetails(UserEntityServiceImpl.EMAIL_ALREADY_IN_USE).formatErrorMessage(USER_EMAIL), exception.getMessage());
         assertNull(exception.getCause());
     }
 
+    @Test
+    void shouldThrowCreationFailureWhenAnotherConstraintIsViolated() {
+        DataIntegrityViolationException violation = integrityViolation("pk_users");
+        when(this.userRepository.persistNew(any(UserContract.class))).thenThrow(violation);
+
+        UserEntityFailuresException exception = assertThrows(UserEntityFailuresException.class, () -> this.userEntityService.createUserEntity(this.request));
+
+        assertEquals(ExceptionDetails.getExceptionDetails(UserEntityServiceImpl.USER_CREATION_FAILURE_MESSAGE).formatErrorMessage(), exception.getMessage());
+        assertEquals(violation, exception.getCause());
+    }
+
+    private static DataIntegrityViolationException integrityViolation(String constraintName) {
+        ConstraintViolationException cause = new ConstraintViolationException("Violação de restrição", new SQLException("Violação de restrição"), constraintName);
+        return new DataIntegrityViolationException(cause.getMessage(), cause);
+    }
+
     @Test
     void shouldThrowExceptionWhenRequestUserEmailIsNull() {
         this.request.setEmail(null);
@@ -216,11 +234,11 @@ class UserEntityServiceImplTest {
     @Test
     void shouldThrowExceptionWhenRequestUsernameIsNull() {
         this.request.setUserName(null);
-        when(this.userRepository.findUserEntityByUserEmail(USER_EMAIL)).thenReturn(null);
 
         UserEntityFailuresException exception = assertThrows(UserEntityFailuresException.class, () -> this.userEntityService.createUserEntity(this.request));
 
-        verify(this.userRepository, times(1)).findUserEntityByUserEmail(anyString());
+        verify(this.userRepository, never()).findUserEntityByUserEmail(anyString());
+        verify(this.userRepository, never()).persistNew(any(UserContract.class));
         verify(this.userRepository, never()).save(any(UserEntity.class));
 
         assertNotNull(exception);
@@ -233,11 +251,11 @@ class UserEntityServiceImplTest {
     @ValueSource(strings = {"", "   "})
     void shouldThrowExceptionWhenRequestUsernameIsBlank(String requestUserValue) {
         this.request.setUserName(requestUserValue);
-        when(this.userRepository.findUserEntityByUserEmail(USER_EMAIL)).thenReturn(null);
 
         UserEntityFailuresException exception = assertThrows(UserEntityFailuresException.class, () -> this.userEntityService.createUserEntity(this.request));
 
-        verify(this.userRepository, times(1)).findUserEntityByUserEmail(anyString());
+        verify(this.userRepository, never()).findUserEntityByUserEmail(anyString());
+        verify(this.userRepository, never()).persistNew(any(UserContract.class));
         verify(this.userRepository, never()).save(any(UserEntity.class));
 
         assertNotNull(exception);
@@ -249,11 +267,11 @@ class UserEntityServiceImplTest {
     @Test
     void shouldThrowExceptionWhenRequestUserPasswordIsNull() {
         this.request.setUserPassword(null);
-        when(this.userRepository.findUserEntityByUserEmail(USER_EMAIL)).thenReturn(null);
 
         UserEntityFailuresException exception = assertThrows(UserEntityFailuresException.class, () -> this.userEntityService.createUserEntity(this.request));
 
-        verify(this.userRepository, times(1)).findUserEntityByUserEmail(anyString());
+        verify(this.userRepository, never()).findUserEntityByUserEmail(anyString());
+        verify(this.userRepository, never()).persistNew(any(UserContract.class));
         verify(this.userRepository, never()).save(any(UserEntity.class));
 
         assertNotNull(exception);
@@ -266,11 +284,11 @@ class UserEntityServiceImplTest {
     @ValueSource(strings = {"", "   "})
     void shouldThrowExceptionWhenRequestUserPasswordIsBlank(String requestUserValue) {
         this.request.setUserPassword(requestUserValue);
-        when(this.userRepository.findUserEntityByUserEmail(USER_EMAIL)).thenReturn(null);
 
         UserEntityFailuresException exception = assertThrows(UserEntityFailuresException.class, () -> this.userEntityService.createUserEntity(this.request));
 
-        verify(this.userRepository, times(1)).findUserEntityByUserEmail(anyString());
+        verify(this.userRepository, never()).findUserEntityByUserEmail(anyString());
+        verify(this.userRepository, never()).persistNew(any(UserContract.class));
         verify(this.userRepository, never()).save(any(UserEntity.class));
 
         assertNotNull(exception);
@@ -282,11 +300,11 @@ class UserEntityServiceImplTest {
     @Test
     void shouldThrowExceptionWhenRequestUserProfileIsNull() {
         this.request.setUserProfile(null);
-        when(this.userRepository.findUserEntityByUserEmail(USER_EMAIL)).thenReturn(null);
 
         UserEntityFailuresException exception = assertThrows(UserEntityFailuresException.class, () -> this.userEntityService.createUserEntity(this.request));
 
-        verify(this.userRepository, times(1)).findUserEntityByUserEmail(anyString());
+        verify(this.userRepository, never()).findUserEntityByUserEmail(anyString());
+        verify(this.userRepository, never()).persistNew(any(UserContract.class));
         verify(this.userRepository, never()).save(any(UserEntity.class));
 
         assertNotNull(exception);
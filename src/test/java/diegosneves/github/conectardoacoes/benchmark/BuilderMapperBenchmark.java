@@ -0,0 +1,144 @@
+package diegosneves.github.conectardoacoes.benchmark;
+
+import diegosneves.github.conectardoacoes.adapters.rest.dto.DonationDTO;
+import diegosneves.github.conectardoacoes.adapters.rest.dto.UserEntityDTO;
+import diegosneves.github.conectardoacoes.adapters.rest.enums.UserProfileType;
+import diegosneves.github.conectardoacoes.adapters.rest.mapper.BuilderMapper;
+import diegosneves.github.conectardoacoes.adapters.rest.model.DonationEntity;
+import diegosneves.github.conectardoacoes.adapters.rest.model.UserEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o {@link BuilderMapper#mapTo(Class, Object)} com planos de mapeamento em cache com a implementação anterior,
+ * que consultava os campos e construtores por reflexão a cada chamada.
+ * <p>
+ * Para executar: {@code mvn test-compile} e, em seguida, o método {@link #main(String[])} com o classpath de testes.
+ *
+ * @author diegoneves
+ * @since 1.3.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BuilderMapperBenchmark {
+
+    private UserEntity user;
+    private DonationEntity donation;
+
+    @Setup
+    public void setUp() {
+        this.user = UserEntity.builder()
+                .id("574371b9-ae17-4f07-8371-b9ae175f0721")
+                .userName("Fulano")
+                .email("email@teste.com")
+                .userProfile(UserProfileType.BENEFICIARY)
+                .userPassword("Senha")
+                .build();
+        this.donation = new DonationEntity("bf9b8d38-c6b3-4fd6-9b8d-38c6b3bfd69f", "Mochila", 3);
+    }
+
+    @Benchmark
+    public UserEntityDTO cachedPlanUser() {
+        return BuilderMapper.mapTo(UserEntityDTO.class, this.user);
+    }
+
+    @Benchmark
+    public UserEntityDTO reflectionUser() throws ReflectiveOperationException {
+        return ReflectionMapper.mapTo(UserEntityDTO.class, this.user);
+    }
+
+    @Benchmark
+    public DonationDTO cachedPlanDonation() {
+        return BuilderMapper.mapTo(DonationDTO.class, this.donation);
+    }
+
+    @Benchmark
+    public DonationDTO reflectionDonation() throws ReflectiveOperationException {
+        return ReflectionMapper.mapTo(DonationDTO.class, this.donation);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(BuilderMapperBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    /**
+     * Cópia da implementação anterior de {@link BuilderMapper#mapTo(Class, Object)}, mantida apenas como referência
+     * para a comparação.
+     */
+    static final class ReflectionMapper {
+
+        private ReflectionMapper() {
+        }
+
+        @SuppressWarnings("unchecked")
+        static <T> T mapTo(Class<T> destinationClass, Object source) throws ReflectiveOperationException {
+            var destinationFields = destinationClass.getDeclaredFields();
+            T mappedInstance;
+            Constructor<?>[] constructors = destinationClass.getConstructors();
+            Constructor<?> defaultConstructor = null;
+            for (Constructor<?> constructor : constructors) {
+                if (constructor.getParameterCount() == 0) {
+                    defaultConstructor = constructor;
+                    break;
+                }
+            }
+            if (defaultConstructor != null) {
+                mappedInstance = (T) defaultConstructor.newInstance();
+            } else {
+                Constructor<?> nextConstructor = constructors[0];
+                var params = nextConstructor.getParameters();
+                Object[] paramValues = new Object[params.length];
+                for (int i = 0; i < params.length; i++) {
+                    Field field = findFieldWithName(source, params[i].getName(), params[i].getType());
+                    if (field == null) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    paramValues[i] = field.get(source);
+                }
+                mappedInstance = (T) nextConstructor.newInstance(paramValues);
+            }
+            for (Field field : destinationFields) {
+                field.setAccessible(true);
+                try {
+                    var sourceField = source.getClass().getDeclaredField(field.getName());
+                    sourceField.setAccessible(true);
+                    field.set(mappedInstance, sourceField.get(source));
+                } catch (Exception ignored) {
+                    // Mesmo comportamento da implementação original.
+                }
+            }
+            return mappedInstance;
+        }
+
+        private static Field findFieldWithName(Object source, String name, Class<?> paramType) {
+            for (Field field : source.getClass().getDeclaredFields()) {
+                if (field.getName().equalsIgnoreCase(name) && field.getType().isAssignableFrom(paramType)) {
+                    return field;
+                }
+            }
+            return null;
+        }
+
+    }
+
+}
@@ -0,0 +1,95 @@
+package diegosneves.github.conectardoacoes.benchmark;
+
+import diegosneves.github.conectardoacoes.core.utils.RandomUuidGenerator;
+import diegosneves.github.conectardoacoes.core.utils.TimeOrderedUuidGenerator;
+import diegosneves.github.conectardoacoes.core.utils.UuidGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a vazão de inserção em uma tabela com a mesma estrutura de {@code donations}, com chave primária textual, usando
+ * IDs aleatórios (versão 4) e IDs ordenados pelo tempo (versão 7).
+ * <p>
+ * A tabela é criada em um banco H2 em memória, no modo de compatibilidade com o MySQL, e cresce ao longo de todo o
+ * teste, de modo que as inserções com IDs aleatórios se espalham por um índice cada vez maior.
+ * <p>
+ * Para executar: {@code mvn test-compile} e, em seguida, o método {@link #main(String[])} com o classpath de testes.
+ *
+ * @author diegoneves
+ * @since 1.3.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UuidInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String CREATE_TABLE = "CREATE TABLE donations (id VARCHAR(255) NOT NULL PRIMARY KEY, description VARCHAR(255), amount INT)";
+    private static final String INSERT_DONATION = "INSERT INTO donations (id, description, amount) VALUES (?, ?, ?)";
+
+    @Param({"RANDOM", "TIME_ORDERED"})
+    private String generatorType;
+
+    private UuidGenerator generator;
+    private Connection connection;
+    private PreparedStatement insert;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        this.generator = "RANDOM".equals(this.generatorType) ? RandomUuidGenerator.SECURE : new TimeOrderedUuidGenerator();
+        this.connection = DriverManager.getConnection("jdbc:h2:mem:uuid_insert_" + this.generatorType + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        try (Statement statement = this.connection.createStatement()) {
+            statement.execute(CREATE_TABLE);
+        }
+        this.insert = this.connection.prepareStatement(INSERT_DONATION);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        this.insert.close();
+        try (Statement statement = this.connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        this.connection.close();
+    }
+
+    @Benchmark
+    public int[] insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            this.insert.setString(1, this.generator.generate());
+            this.insert.setString(2, "Doação");
+            this.insert.setInt(3, i);
+            this.insert.addBatch();
+        }
+        return this.insert.executeBatch();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(UuidInsertBenchmark.class.getSimpleName()).build()).run();
+    }
+
+}
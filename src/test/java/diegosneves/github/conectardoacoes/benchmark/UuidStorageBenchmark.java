@@ -0,0 +1,162 @@
+package diegosneves.github.conectardoacoes.benchmark;
+
+import diegosneves.github.conectardoacoes.adapters.rest.model.converter.UuidBinaryConverter;
+import diegosneves.github.conectardoacoes.core.utils.UuidUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o armazenamento dos IDs das entidades como texto ({@code VARCHAR(255)}) e como binário ({@code BINARY(16)}).
+ * <p>
+ * Em um banco H2 em arquivo, no modo de compatibilidade com o MySQL, são criadas as tabelas {@code donations} e
+ * {@code shelters_donations}, com chave primária e chave estrangeira no tipo avaliado, e ambas são populadas com
+ * {@value #ROWS} linhas. Ao final da preparação, o espaço em disco ocupado pelas tabelas e seus índices é impresso na
+ * saída padrão; a latência é medida nas buscas pela chave primária e pela chave estrangeira da tabela de junção.
+ * <p>
+ * Para executar: {@code mvn test-compile} e, em seguida, o método {@link #main(String[])} com o classpath de testes.
+ *
+ * @author diegoneves
+ * @since 1.3.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UuidStorageBenchmark {
+
+    private static final int ROWS = 200_000;
+    private static final int BATCH_SIZE = 1000;
+    private static final String SHELTER_ID = "0190a3f2-7b4c-7d1e-8f00-0123456789ab";
+    private static final String CREATE_DONATIONS = "CREATE TABLE donations (id %s NOT NULL PRIMARY KEY, description VARCHAR(255), amount INT)";
+    private static final String CREATE_SHELTERS_DONATIONS = "CREATE TABLE shelters_donations (shelter_entity_id %1$s NOT NULL, donations_id %1$s NOT NULL UNIQUE, "
+            + "FOREIGN KEY (donations_id) REFERENCES donations (id))";
+    private static final String INSERT_DONATION = "INSERT INTO donations (id, description, amount) VALUES (?, ?, ?)";
+    private static final String INSERT_SHELTER_DONATION = "INSERT INTO shelters_donations (shelter_entity_id, donations_id) VALUES (?, ?)";
+    private static final String FIND_DONATION = "SELECT description, amount FROM donations WHERE id = ?";
+    private static final String FIND_SHELTER = "SELECT shelter_entity_id FROM shelters_donations WHERE donations_id = ?";
+
+    @Param({"VARCHAR", "BINARY"})
+    private String storageType;
+
+    private Connection connection;
+    private PreparedStatement findDonation;
+    private PreparedStatement findShelter;
+    private String[] ids;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        Path directory = Files.createTempDirectory("uuid-storage");
+        this.connection = DriverManager.getConnection("jdbc:h2:file:" + directory.resolve(this.storageType) + ";MODE=MySQL");
+        String columnType = "BINARY".equals(this.storageType) ? "BINARY(16)" : "VARCHAR(255)";
+        try (Statement statement = this.connection.createStatement()) {
+            statement.execute(String.format(CREATE_DONATIONS, columnType));
+            statement.execute(String.format(CREATE_SHELTERS_DONATIONS, columnType));
+        }
+        this.ids = new String[ROWS];
+        try (PreparedStatement insertDonation = this.connection.prepareStatement(INSERT_DONATION);
+             PreparedStatement insertShelterDonation = this.connection.prepareStatement(INSERT_SHELTER_DONATION)) {
+            for (int i = 0; i < ROWS; i++) {
+                this.ids[i] = UuidUtils.generateUuid();
+                this.bindId(insertDonation, 1, this.ids[i]);
+                insertDonation.setString(2, "Doação");
+                insertDonation.setInt(3, i);
+                insertDonation.addBatch();
+                this.bindId(insertShelterDonation, 1, SHELTER_ID);
+                this.bindId(insertShelterDonation, 2, this.ids[i]);
+                insertShelterDonation.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insertDonation.executeBatch();
+                    insertShelterDonation.executeBatch();
+                }
+            }
+        }
+        this.printDiskSpace();
+        this.findDonation = this.connection.prepareStatement(FIND_DONATION);
+        this.findShelter = this.connection.prepareStatement(FIND_SHELTER);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        this.findDonation.close();
+        this.findShelter.close();
+        try (Statement statement = this.connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS DELETE FILES");
+        }
+        this.connection.close();
+    }
+
+    @Benchmark
+    public int findByPrimaryKey() throws SQLException {
+        return this.count(this.findDonation);
+    }
+
+    @Benchmark
+    public int findByForeignKey() throws SQLException {
+        return this.count(this.findShelter);
+    }
+
+    private int count(PreparedStatement query) throws SQLException {
+        this.bindId(query, 1, this.ids[this.next]);
+        this.next = (this.next + 1) % ROWS;
+        int rows = 0;
+        try (ResultSet resultSet = query.executeQuery()) {
+            while (resultSet.next()) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private void bindId(PreparedStatement statement, int index, String id) throws SQLException {
+        if ("BINARY".equals(this.storageType)) {
+            statement.setBytes(index, UuidBinaryConverter.toBytes(id));
+        } else {
+            statement.setString(index, id);
+        }
+    }
+
+    private void printDiskSpace() throws SQLException {
+        try (Statement statement = this.connection.createStatement()) {
+            statement.execute("CHECKPOINT SYNC");
+            for (String table : new String[]{"DONATIONS", "SHELTERS_DONATIONS"}) {
+                try (ResultSet resultSet = statement.executeQuery("CALL DISK_SPACE_USED('" + table + "')")) {
+                    resultSet.next();
+                    System.out.printf("%n[%s] Espaço em disco de %s (tabela e índices): %d KiB%n", this.storageType, table, resultSet.getLong(1) / 1024);
+                }
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(UuidStorageBenchmark.class.getSimpleName()).build()).run();
+    }
+
+}
@@ -0,0 +1,76 @@
+package diegosneves.github.conectardoacoes.benchmark;
+
+import diegosneves.github.conectardoacoes.core.utils.RandomUuidGenerator;
+import diegosneves.github.conectardoacoes.core.utils.UuidUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a validação e a geração de IDs do {@link UuidUtils} com as implementações anteriores, baseadas em
+ * {@link UUID#fromString(String)} e {@link UUID#randomUUID()}, com várias threads executando ao mesmo tempo.
+ * <p>
+ * Para executar: {@code mvn test-compile} e, em seguida, o método {@link #main(String[])} com o classpath de testes.
+ *
+ * @author diegoneves
+ * @since 1.3.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class UuidUtilsBenchmark {
+
+    private String id = "5515cf68-f172-4b6f-95cf-68f1725b6f9c";
+
+    @Benchmark
+    public boolean singlePassValidation() {
+        return UuidUtils.isValidUUID(this.id);
+    }
+
+    @Benchmark
+    public boolean fromStringValidation() {
+        try {
+            UUID.fromString(this.id);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public String sharedSecureRandomGeneration() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public String threadLocalSecureRandomGeneration() {
+        return RandomUuidGenerator.SECURE.generate();
+    }
+
+    @Benchmark
+    public String timeOrderedGeneration() {
+        return UuidUtils.generateTimeOrderedUuid();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(UuidUtilsBenchmark.class.getSimpleName()).build()).run();
+    }
+
+}
@@ -0,0 +1,79 @@
+package diegosneves.github.conectardoacoes.benchmark;
+
+import diegosneves.github.conectardoacoes.core.exception.ShelterCreationFailureException;
+import diegosneves.github.conectardoacoes.core.utils.ValidationUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o caminho de falha do {@link ValidationUtils} usando a API baseada em {@link Class}, com construtores em
+ * cache, a API baseada em fábricas e a implementação anterior, que localizava o construtor por reflexão a cada falha.
+ * <p>
+ * Para executar: {@code mvn test-compile} e, em seguida, o método {@link #main(String[])} com o classpath de testes.
+ *
+ * @author diegoneves
+ * @since 1.3.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationUtilsBenchmark {
+
+    private static final String ERROR_MESSAGE = "O nome do abrigo é obrigatório";
+
+    private String input = " ";
+
+    @Benchmark
+    public RuntimeException cachedConstructorFailure() {
+        try {
+            ValidationUtils.validateNotNullOrEmpty(this.input, ERROR_MESSAGE, ShelterCreationFailureException.class);
+            return null;
+        } catch (ShelterCreationFailureException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public RuntimeException factoryFailure() {
+        try {
+            ValidationUtils.validateNotNullOrEmpty(this.input, ERROR_MESSAGE, ShelterCreationFailureException::new);
+            return null;
+        } catch (ShelterCreationFailureException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public RuntimeException reflectionFailure() {
+        try {
+            if (this.input == null || this.input.trim().isEmpty()) {
+                throw ShelterCreationFailureException.class.getConstructor(String.class).newInstance(ERROR_MESSAGE);
+            }
+            return null;
+        } catch (ShelterCreationFailureException e) {
+            return e;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ValidationUtilsBenchmark.class.getSimpleName()).build()).run();
+    }
+
+}
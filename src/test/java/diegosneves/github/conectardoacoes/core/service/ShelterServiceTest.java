@@ -32,6 +32,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -83,11 +84,11 @@ class ShelterServiceTest {
 
     @Test
     void shouldReturnShelterContract() {
-        when(this.repository.persist(any(ShelterContract.class))).thenReturn(this.shelter);
+        when(this.repository.persistNew(any(ShelterContract.class))).thenReturn(this.shelter);
 
         ShelterContract actual = this.service.createShelter(SHELTER_NAME, this.address, this.user);
 
-        verify(this.repository, times(AMOUNT)).persist(this.shelterCaptor.capture());
+        verify(this.repository, times(AMOUNT)).persistNew(this.shelterCaptor.capture());
 
         assertNotNull(actual);
         assertNotNull(this.shelterCaptor.getValue());
@@ -105,7 +106,7 @@ class ShelterServiceTest {
         Exception actual = assertThrows(Exception.class,
                 () -> this.service.createShelter(null, this.address, this.user));
 
-        verify(this.repository, never()).persist(any(ShelterContract.class));
+        verify(this.repository, never()).persistNew(any(ShelterContract.class));
 
         assertNotNull(actual);
         assertEquals(ShelterCreationFailureException.class, actual.getClass());
@@ -117,7 +118,7 @@ class ShelterServiceTest {
         Exception actual = assertThrows(Exception.class,
                 () -> this.service.createShelter("", this.address, this.user));
 
-        verify(this.repository, never()).persist(any(ShelterContract.class));
+        verify(this.repository, never()).persistNew(any(ShelterContract.class));
 
         assertNotNull(actual);
         assertEquals(ShelterCreationFailureException.class, actual.getClass());
@@ -129,7 +130,7 @@ class ShelterServiceTest {
         Exception actual = assertThrows(Exception.class,
                 () -> this.service.createShelter(SHELTER_NAME, null, this.user));
 
-        verify(this.repository, never()).persist(any(ShelterContract.class));
+        verify(this.repository, never()).persistNew(any(ShelterContract.class));
 
         assertNotNull(actual);
         assertEquals(ShelterCreationFailureException.class, actual.getClass());
@@ -141,7 +142,7 @@ class ShelterServiceTest {
         Exception actual = assertThrows(Exception.class,
                 () -> this.service.createShelter(SHELTER_NAME, this.address, null));
 
-        verify(this.repository, never()).persist(any(ShelterContract.class));
+        verify(this.repository, never()).persistNew(any(ShelterContract.class));
 
         assertNotNull(actual);
         assertEquals(ShelterCreationFailureException.class, actual.getClass());
@@ -412,6 +413,44 @@ class ShelterServiceTest {
         assertEquals(ShelterServiceFailureException.ERROR.buildMessage(ShelterService.DONATION_REQUIRED_ERROR_MESSAGE), exception.getMessage());
     }
 
+    @Test
+    void shouldAppendDonationsToShelterWithoutReloadingIt() {
+        Donation donation = new Donation(DONATION_ID, DONATED_ITEM, AMOUNT);
+
+        this.service.addDonations(SHELTER_IDENTIFIER, List.of(donation));
+
+        verify(this.repository, times(1)).appendDonations(SHELTER_IDENTIFIER, List.of(donation));
+        verify(this.repository, never()).findEntityById(anyString());
+        verify(this.repository, never()).persist(any(ShelterContract.class));
+    }
+
+    @Test
+    void shouldThrowShelterServiceFailureExceptionWhenDonationListIsEmptyOnAddDonations() {
+        List<Donation> donations = List.of();
+
+        ShelterServiceFailureException exception = assertThrows(ShelterServiceFailureException.class,
+                () -> this.service.addDonations(SHELTER_IDENTIFIER, donations));
+
+        verify(this.repository, never()).appendDonations(anyString(), anyList());
+
+        assertNotNull(exception);
+        assertEquals(ShelterServiceFailureException.ERROR.buildMessage(ShelterService.DONATION_LIST_REQUIRED_ERROR_MESSAGE), exception.getMessage());
+    }
+
+    @Test
+    void shouldThrowShelterServiceFailureExceptionWhenShelterIdIsInvalidOnAddDonations() {
+        List<Donation> donations = List.of(new Donation(DONATION_ID, DONATED_ITEM, AMOUNT));
+
+        ShelterServiceFailureException exception = assertThrows(ShelterServiceFailureException.class,
+                () -> this.service.addDonations("SHELTER_IDENTIFIER", donations));
+
+        verify(this.repository, never()).appendDonations(anyString(), anyList());
+
+        assertNotNull(exception);
+        assertEquals(ShelterServiceFailureException.ERROR.buildMessage(ShelterService.INVALID_SHELTER_ID_MESSAGE), exception.getMessage());
+        assertEquals(UuidUtilsException.class, exception.getCause().getClass());
+    }
+
     @Test
     void shouldReturnListOfDonations() {
         Donation donation = new Donation(DONATION_ID, DONATED_ITEM, AMOUNT);
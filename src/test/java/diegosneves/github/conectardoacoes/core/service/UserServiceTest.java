@@ -56,11 +56,11 @@ class UserServiceTest {
 
     @Test
     void shouldCreateUserAndReturnCreatedUser() {
-        when(this.userContractRepository.persist(any(UserContract.class))).thenReturn(this.user);
+        when(this.userContractRepository.persistNew(any(UserContract.class))).thenReturn(this.user);
 
         UserContract actual = this.userService.createUser(USERNAME, USER_EMAIL, UserProfile.BENEFICIARY, USER_PASSWORD);
 
-        verify(this.userContractRepository, times(1)).persist(this.userCaptor.capture());
+        verify(this.userContractRepository, times(1)).persistNew(this.userCaptor.capture());
 
         assertNotNull(this.userCaptor.getValue());
         User returnedUser = this.userCaptor.getValue();
@@ -83,7 +83,7 @@ class UserServiceTest {
         Exception actual = assertThrows(Exception.class,
                 () -> this.userService.createUser(null, USER_EMAIL, UserProfile.BENEFICIARY, USER_PASSWORD));
 
-        verify(this.userContractRepository, never()).persist(any(UserContract.class));
+        verify(this.userContractRepository, never()).persistNew(any(UserContract.class));
 
         assertNotNull(actual);
         assertEquals(UserCreationFailureException.class, actual.getClass());
@@ -95,7 +95,7 @@ class UserServiceTest {
         Exception actual = assertThrows(Exception.class,
                 () -> this.userService.createUser(" ", USER_EMAIL, UserProfile.BENEFICIARY, USER_PASSWORD));
 
-        verify(this.userContractRepository, never()).persist(any(UserContract.class));
+        verify(this.userContractRepository, never()).persistNew(any(UserContract.class));
 
         assertNotNull(actual);
         assertEquals(UserCreationFailureException.class, actual.getClass());
@@ -107,7 +107,7 @@ class UserServiceTest {
         Exception actual = assertThrows(Exception.class,
                 () -> this.userService.createUser(USERNAME, null, UserProfile.BENEFICIARY, USER_PASSWORD));
 
-        verify(this.userContractRepository, never()).persist(any(UserContract.class));
+        verify(this.userContractRepository, never()).persistNew(any(UserContract.class));
 
         assertNotNull(actual);
         assertEquals(UserCreationFailureException.class, actual.getClass());
@@ -119,7 +119,7 @@ class UserServiceTest {
         Exception actual = assertThrows(Exception.class,
                 () -> this.userService.createUser(USERNAME, "", UserProfile.BENEFICIARY, USER_PASSWORD));
 
-        verify(this.userContractRepository, never()).persist(any(UserContract.class));
+        verify(this.userContractRepository, never()).persistNew(any(UserContract.class));
 
         assertNotNull(actual);
         assertEquals(UserCreationFailureException.class, actual.getClass());
@@ -131,7 +131,7 @@ class UserServiceTest {
         Exception actual = assertThrows(Exception.class,
                 () -> this.userService.createUser(USERNAME, USER_EMAIL, null, USER_PASSWORD));
 
-        verify(this.userContractRepository, never()).persist(any(UserContract.class));
+        verify(this.userContractRepository, never()).persistNew(any(UserContract.class));
 
         assertNotNull(actual);
         assertEquals(UserCreationFailureException.class, actual.getClass());
@@ -143,7 +143,7 @@ class UserServiceTest {
         Exception actual = assertThrows(Exception.class,
                 () -> this.userService.createUser(USERNAME, USER_EMAIL, UserProfile.BENEFICIARY, null));
 
-        verify(this.userContractRepository, never()).persist(any(UserContract.class));
+        verify(this.userContractRepository, never()).persistNew(any(UserContract.class));
 
         assertNotNull(actual);
         assertEquals(UserCreationFailureException.class, actual.getClass());
@@ -155,7 +155,7 @@ class UserServiceTest {
         Exception actual = assertThrows(Exception.class,
                 () -> this.userService.createUser(USERNAME, USER_EMAIL, UserProfile.BENEFICIARY, " "));
 
-        verify(this.userContractRepository, never()).persist(any(UserContract.class));
+        verify(this.userContractRepository, never()).persistNew(any(UserContract.class));
 
         assertNotNull(actual);
         assertEquals(UserCreationFailureException.class, actual.getClass());
@@ -167,7 +167,7 @@ class UserServiceTest {
         UserCreationFailureException actual = assertThrows(UserCreationFailureException.class,
                 () -> this.userService.createUser(null, USER_EMAIL, UserProfile.BENEFICIARY, USER_PASSWORD));
 
-        verify(this.userContractRepository, never()).persist(any(UserContract.class));
+        verify(this.userContractRepository, never()).persistNew(any(UserContract.class));
 
         assertNotNull(actual);
         assertEquals(UserCreationFailureException.ERROR.buildMessage(String.format(User.USERNAME_REQUIRED, UserProfile.BENEFICIARY)), actual.getMessage());
@@ -179,7 +179,7 @@ class UserServiceTest {
         UserCreationFailureException actual = assertThrows(UserCreationFailureException.class,
                 () -> this.userService.createUser(" ", USER_EMAIL, UserProfile.BENEFICIARY, USER_PASSWORD));
 
-        verify(this.userContractRepository, never()).persist(any(UserContract.class));
+        verify(this.userContractRepository, never()).persistNew(any(UserContract.class));
 
         assertNotNull(actual);
         assertEquals(UserCreationFailureException.ERROR.buildMessage(String.format(User.USERNAME_REQUIRED, UserProfile.BENEFICIARY)), actual.getMessage());
@@ -191,7 +191,7 @@ class UserServiceTest {
         UserCreationFailureException actual = assertThrows(UserCreationFailureException.class,
                 () -> this.userService.createUser(USERNAME, null, UserProfile.BENEFICIARY, USER_PASSWORD));
 
-        verify(this.userContractRepository, never()).persist(any(UserContract.class));
+        verify(this.userContractRepository, never()).persistNew(any(UserContract.class));
 
         assertNotNull(actual);
         assertEquals(UserCreationFailureException.ERROR.buildMessage(User.EMAIL_NOT_PROVIDED), actual.getMessage());
@@ -203,7 +203,7 @@ class UserServiceTest {
         UserCreationFailureException actual = assertThrows(UserCreationFailureException.class,
                 () -> this.userService.createUser(USERNAME, "", UserProfile.BENEFICIARY, USER_PASSWORD));
 
-        verify(this.userContractRepository, never()).persist(any(UserContract.class));
+        verify(this.userContractRepository, never()).persistNew(any(UserContract.class));
 
         assertNotNull(actual);
         assertEquals(UserCreationFailureException.ERROR.buildMessage(User.EMAIL_NOT_PROVIDED), actual.getMessage());
@@ -215,7 +215,7 @@ class UserServiceTest {
         UserCreationFailureException actual = assertThrows(UserCreationFailureException.class,
                 () -> this.userService.createUser(USERNAME, USER_EMAIL, null, USER_PASSWORD));
 
-        verify(this.userContractRepository, never()).persist(any(UserContract.class));
+        verify(this.userContractRepository, never()).persistNew(any(UserContract.class));
 
         assertNotNull(actual);
         assertEquals(UserCreationFailureException.ERROR.buildMessage(User.PROFILE_NOT_PROVIDED), actual.getMessage());
@@ -227,7 +227,7 @@ class UserServiceTest {
         UserCreationFailureException actual = assertThrows(UserCreationFailureException.class,
                 () -> this.userService.createUser(USERNAME, USER_EMAIL, UserProfile.BENEFICIARY, null));
 
-        verify(this.userContractRepository, never()).persist(any(UserContract.class));
+        verify(this.userContractRepository, never()).persistNew(any(UserContract.class));
 
         assertNotNull(actual);
         assertEquals(UserCreationFailureException.ERROR.buildMessage(User.PASSWORD_NOT_PROVIDED), actual.getMessage());
@@ -239,7 +239,7 @@ class UserServiceTest {
         UserCreationFailureException actual = assertThrows(UserCreationFailureException.class,
                 () -> this.userService.createUser(USERNAME, USER_EMAIL, UserProfile.BENEFICIARY, "   "));
 
-        verify(this.userContractRepository, never()).persist(any(UserContract.class));
+        verify(this.userContractRepository, never()).persistNew(any(UserContract.class));
 
         assertNotNull(actual);
         assertEquals(UserCreationFailureException.ERROR.buildMessage(User.PASSWORD_NOT_PROVIDED), actual.getMessage());
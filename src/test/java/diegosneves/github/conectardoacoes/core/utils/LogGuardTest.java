@@ -0,0 +1,105 @@
+package diegosneves.github.conectardoacoes.core.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class LogGuardTest {
+
+    public static final String LOGGER_NAME = "diegosneves.github.conectardoacoes.Teste";
+    public static final String FORMAT = "Falha ao processar [{}]";
+    public static final String OTHER_FORMAT = "Outra falha ao processar [{}]";
+    public static final String VALUE = "valor";
+    public static final Duration WINDOW = Duration.ofSeconds(60);
+    public static final int SAMPLE_RATE = 3;
+
+    private final AtomicLong clock = new AtomicLong();
+    private Logger logger;
+    private LogGuard logGuard;
+
+    @BeforeEach
+    void setUp() {
+        this.logger = mock(Logger.class);
+        when(this.logger.getName()).thenReturn(LOGGER_NAME);
+        when(this.logger.isErrorEnabled()).thenReturn(true);
+        this.logGuard = new LogGuard(WINDOW, SAMPLE_RATE, this.clock::get);
+    }
+
+    @Test
+    void shouldLogFirstOccurrenceWithStackTraceAndSampleRepeatedOnesWithoutIt() {
+        IllegalStateException exception = new IllegalStateException("erro");
+
+        for (int i = 0; i < 6; i++) {
+            this.logGuard.record(this.logger, Level.ERROR, FORMAT, FORMAT, new Object[]{VALUE, exception});
+        }
+
+        verify(this.logger, times(1)).error(FORMAT, new Object[]{VALUE, exception});
+        verify(this.logger, times(2)).error(FORMAT, new Object[]{VALUE, exception.toString()});
+    }
+
+    @Test
+    void shouldEmitSummaryAndLogInFullAgainWhenWindowEnds() {
+        for (int i = 0; i < 2; i++) {
+            this.logGuard.record(this.logger, Level.ERROR, FORMAT, FORMAT, new Object[]{VALUE});
+        }
+        this.clock.addAndGet(WINDOW.toNanos());
+
+        this.logGuard.record(this.logger, Level.ERROR, FORMAT, FORMAT, new Object[]{VALUE});
+
+        verify(this.logger).error(LogGuard.SUMMARY_LOG, new Object[]{1L, 2L, FORMAT, 60L});
+        verify(this.logger, times(2)).error(FORMAT, new Object[]{VALUE});
+    }
+
+    @Test
+    void shouldFlushSummariesOnlyForExpiredWindows() {
+        this.logGuard.record(this.logger, Level.ERROR, FORMAT, FORMAT, new Object[]{VALUE});
+        this.logGuard.record(this.logger, Level.ERROR, FORMAT, FORMAT, new Object[]{VALUE});
+
+        this.logGuard.flush();
+        verify(this.logger, never()).error(LogGuard.SUMMARY_LOG, new Object[]{1L, 2L, FORMAT, 60L});
+
+        this.clock.addAndGet(WINDOW.toNanos());
+        this.logGuard.flush();
+        this.logGuard.flush();
+        verify(this.logger, times(1)).error(LogGuard.SUMMARY_LOG, new Object[]{1L, 2L, FORMAT, 60L});
+    }
+
+    @Test
+    void shouldTrackEachKeySeparately() {
+        this.logGuard.record(this.logger, Level.ERROR, FORMAT, FORMAT, new Object[]{VALUE});
+        this.logGuard.record(this.logger, Level.ERROR, OTHER_FORMAT, OTHER_FORMAT, new Object[]{VALUE});
+
+        verify(this.logger).error(FORMAT, new Object[]{VALUE});
+        verify(this.logger).error(OTHER_FORMAT, new Object[]{VALUE});
+    }
+
+    @Test
+    void shouldIgnoreEventsWhenLevelIsDisabled() {
+        this.logGuard.record(this.logger, Level.DEBUG, FORMAT, FORMAT, new Object[]{VALUE});
+
+        verify(this.logger).isDebugEnabled();
+        verify(this.logger, never()).debug(anyString(), any(Object[].class));
+        verifyNoMoreInteractions(this.logger);
+    }
+
+    @Test
+    void shouldRejectInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new LogGuard(Duration.ZERO, SAMPLE_RATE, this.clock::get));
+        assertThrows(IllegalArgumentException.class, () -> new LogGuard(WINDOW, 0, this.clock::get));
+    }
+
+}
@@ -0,0 +1,70 @@
+package diegosneves.github.conectardoacoes.core.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimeOrderedUuidGeneratorTest {
+
+    public static final long NOW = 1_718_000_000_000L;
+
+    private final AtomicLong clock = new AtomicLong(NOW);
+    private TimeOrderedUuidGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(42);
+        this.generator = new TimeOrderedUuidGenerator(this.clock::get, () -> random);
+    }
+
+    @Test
+    void shouldGenerateVersion7UuidWithCurrentTimestamp() {
+        UUID uuid = UUID.fromString(this.generator.generate());
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertEquals(NOW, uuid.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void shouldGenerateIdsInAscendingOrderWithinTheSameMillisecond() {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            ids.add(this.generator.generate());
+        }
+
+        List<String> sorted = new ArrayList<>(ids);
+        sorted.sort(String::compareTo);
+        assertEquals(sorted, ids);
+        ids.forEach(id -> assertTrue(UuidUtils.hasUuidFormat(id)));
+    }
+
+    @Test
+    void shouldKeepAscendingOrderWhenClockMovesBackwards() {
+        String first = this.generator.generate();
+        this.clock.set(NOW - 1000);
+
+        String second = this.generator.generate();
+
+        assertTrue(second.compareTo(first) > 0);
+    }
+
+    @Test
+    void shouldCarryIntoTimestampWhenCounterIsExhausted() {
+        String last = null;
+        for (int i = 0; i <= 4096; i++) {
+            last = this.generator.generate();
+        }
+
+        assertEquals(NOW + 1, UUID.fromString(last).getMostSignificantBits() >>> 16);
+    }
+
+}
@@ -0,0 +1,65 @@
+package diegosneves.github.conectardoacoes.core.utils;
+
+import diegosneves.github.conectardoacoes.core.exception.UuidUtilsException;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UuidUtilsTest {
+
+    public static final String VALID_UUID = "5515cf68-f172-4b6f-95cf-68f1725b6f9c";
+
+    @Test
+    void shouldAcceptCanonicalUuidInAnyCase() {
+        assertTrue(UuidUtils.isValidUUID(VALID_UUID));
+        assertTrue(UuidUtils.isValidUUID(VALID_UUID.toUpperCase()));
+        assertTrue(UuidUtils.hasUuidFormat(UUID.randomUUID().toString()));
+    }
+
+    @Test
+    void shouldRejectMalformedUuids() {
+        assertFalse(UuidUtils.hasUuidFormat(null));
+        assertFalse(UuidUtils.hasUuidFormat(""));
+        assertFalse(UuidUtils.hasUuidFormat("1-1-1-1-1"));
+        assertFalse(UuidUtils.hasUuidFormat(VALID_UUID.substring(1)));
+        assertFalse(UuidUtils.hasUuidFormat(VALID_UUID + "0"));
+        assertFalse(UuidUtils.hasUuidFormat(VALID_UUID.replace('-', '0')));
+        assertFalse(UuidUtils.hasUuidFormat(VALID_UUID.replace('c', 'g')));
+        assertFalse(UuidUtils.hasUuidFormat("5515cf68f-172-4b6f-95cf-68f1725b6f9c"));
+    }
+
+    @Test
+    void shouldThrowUuidUtilsExceptionForInvalidUuid() {
+        UuidUtilsException nullUuid = assertThrows(UuidUtilsException.class, () -> UuidUtils.isValidUUID(null));
+        UuidUtilsException invalidUuid = assertThrows(UuidUtilsException.class, () -> UuidUtils.isValidUUID("abc"));
+
+        assertEquals(UuidUtilsException.ERROR.buildMessage(UuidUtils.UUID_REQUIRED), nullUuid.getMessage());
+        assertEquals(UuidUtilsException.ERROR.buildMessage("abc"), invalidUuid.getMessage());
+    }
+
+    @Test
+    void shouldGenerateRandomVersion4Uuids() {
+        UUID uuid = UUID.fromString(UuidUtils.generateUuid());
+
+        assertEquals(4, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertNotEquals(UuidUtils.generateUuid(), UuidUtils.generateUuid());
+    }
+
+    @Test
+    void shouldGenerateTimeOrderedVersion7Uuids() {
+        String first = UuidUtils.generateTimeOrderedUuid();
+        String second = UuidUtils.generateTimeOrderedUuid();
+
+        assertTrue(UuidUtils.isValidUUID(first));
+        assertEquals(7, UUID.fromString(first).version());
+        assertTrue(second.compareTo(first) > 0);
+    }
+
+}
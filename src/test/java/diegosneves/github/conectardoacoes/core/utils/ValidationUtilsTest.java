@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -88,6 +89,107 @@ class ValidationUtilsTest {
         assertEquals(ValidationUtilsException.ERROR.buildMessage(NoMethodFoundException.class.getSimpleName()), exception.getTargetException().getMessage());
     }
 
+    @Test
+    void shouldCreateExceptionWithCachedConstructorOnRepeatedFailures() {
+        IllegalArgumentException first = assertThrows(IllegalArgumentException.class,
+                () -> ValidationUtils.validateNotNullOrEmpty(this.value, EMPTY_VALUE_ERROR, IllegalArgumentException.class));
+        IllegalArgumentException second = assertThrows(IllegalArgumentException.class,
+                () -> ValidationUtils.validateNotNullOrEmpty(null, NULL_VALUE_ERROR_MESSAGE, IllegalArgumentException.class));
+
+        assertEquals(EMPTY_VALUE_ERROR, first.getMessage());
+        assertEquals(NULL_VALUE_ERROR_MESSAGE, second.getMessage());
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void shouldThrowValidationUtilsExceptionOnEveryCallWhenConstructorIsMissing() {
+        for (int i = 0; i < 2; i++) {
+            ValidationUtilsException exception = assertThrows(ValidationUtilsException.class,
+                    () -> ValidationUtils.validateNotNullOrEmpty(this.value, EMPTY_VALUE_ERROR, NoMethodFoundException.class));
+
+            assertInstanceOf(NoSuchMethodException.class, exception.getCause());
+        }
+    }
+
+    @Test
+    void shouldNotCallFactoryWhenInputIsValid() {
+        this.value = "Teste";
+
+        ValidationUtils.validateNotNullOrEmpty(this.value, () -> fail(UNEXPECTED_EXCEPTION));
+        ValidationUtils.ensureListIsNotNullOrEmpty(List.of(this.value), () -> fail(UNEXPECTED_EXCEPTION));
+    }
+
+    @Test
+    void shouldThrowExceptionFromSupplierWhenInputIsEmpty() {
+        IllegalStateException expected = new IllegalStateException(EMPTY_VALUE_ERROR);
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> ValidationUtils.validateNotNullOrEmpty(this.value, () -> expected));
+
+        assertSame(expected, exception);
+    }
+
+    @Test
+    void shouldThrowExceptionFromMessageFactoryWhenInputIsNull() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> ValidationUtils.validateNotNullOrEmpty(null, NULL_VALUE_ERROR_MESSAGE, IllegalArgumentException::new));
+
+        assertEquals(NULL_VALUE_ERROR_MESSAGE, exception.getMessage());
+    }
+
+    @Test
+    void shouldThrowExceptionFromTermFactoryWhenInputIsEmpty() {
+        TermException exception = assertThrows(TermException.class,
+                () -> ValidationUtils.validateNotNullOrEmpty(this.value, 7, TermException::new));
+
+        assertEquals(7, exception.getTerm());
+    }
+
+    @Test
+    void shouldThrowExceptionFromTermAndMessageFactoryWhenInputIsEmpty() {
+        TermException exception = assertThrows(TermException.class,
+                () -> ValidationUtils.validateNotNullOrEmpty(this.value, 7, EMPTY_VALUE_ERROR, TermException::new));
+
+        assertEquals(7, exception.getTerm());
+        assertEquals(EMPTY_VALUE_ERROR, exception.getMessage());
+    }
+
+    @Test
+    void shouldThrowExceptionFromFactoriesWhenListIsNullOrEmpty() {
+        IllegalStateException fromSupplier = assertThrows(IllegalStateException.class,
+                () -> ValidationUtils.ensureListIsNotNullOrEmpty(null, () -> new IllegalStateException(NULL_VALUE_ERROR_MESSAGE)));
+        IllegalArgumentException fromMessage = assertThrows(IllegalArgumentException.class,
+                () -> ValidationUtils.ensureListIsNotNullOrEmpty(List.of(), EMPTY_VALUE_ERROR, IllegalArgumentException::new));
+        TermException fromTerm = assertThrows(TermException.class,
+                () -> ValidationUtils.ensureListIsNotNullOrEmpty(List.of(), 7, TermException::new));
+        TermException fromTermAndMessage = assertThrows(TermException.class,
+                () -> ValidationUtils.ensureListIsNotNullOrEmpty(null, 7, EMPTY_VALUE_ERROR, TermException::new));
+
+        assertEquals(NULL_VALUE_ERROR_MESSAGE, fromSupplier.getMessage());
+        assertEquals(EMPTY_VALUE_ERROR, fromMessage.getMessage());
+        assertEquals(7, fromTerm.getTerm());
+        assertEquals(7, fromTermAndMessage.getTerm());
+        assertEquals(EMPTY_VALUE_ERROR, fromTermAndMessage.getMessage());
+    }
+
+    static class TermException extends RuntimeException {
+
+        private final Integer term;
+
+        public TermException(Integer term) {
+            this.term = term;
+        }
+
+        public TermException(Integer term, String message) {
+            super(message);
+            this.term = term;
+        }
+
+        public Integer getTerm() {
+            return this.term;
+        }
+    }
+
     static class NoMethodFoundException extends RuntimeException {
 
         public NoMethodFoundException(Throwable cause) {